@@ -0,0 +1,72 @@
+package com.tracker.job_application_tracker.benchmark;
+
+import com.tracker.job_application_tracker.dto.ApplicationDTO;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.service.ApplicationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading and converting a page of applications to ApplicationDTO
+ * (page query + documents + status history) against H2
+ *
+ * convertToDTO is private, so the benchmark goes through the paged
+ * ApplicationService method that wraps it
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApplicationConversionBenchmark {
+
+    private static final int APPLICATION_COUNT = 1000;
+
+    @Param({"20", "100", "1000"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private ApplicationService applicationService;
+    private User user;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        applicationService = context.getBean(ApplicationService.class);
+
+        user = BenchmarkContext.seedUser(context, "conversion@bench.local");
+        BenchmarkContext.seedApplications(context, user, APPLICATION_COUNT, 2, 3);
+
+        pageable = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "applicationDate"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ApplicationDTO> convertPage() {
+        return applicationService.getAllApplications(user, pageable);
+    }
+}
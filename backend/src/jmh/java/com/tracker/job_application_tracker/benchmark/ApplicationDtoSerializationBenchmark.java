@@ -0,0 +1,76 @@
+package com.tracker.job_application_tracker.benchmark;
+
+import com.tracker.job_application_tracker.dto.ApplicationDTO;
+import com.tracker.job_application_tracker.dto.DocumentDTO;
+import com.tracker.job_application_tracker.dto.StatusHistoryDTO;
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a single ApplicationDTO with a growing status history
+ * Uses the same Jackson 3 JsonMapper family as the web layer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApplicationDtoSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int historySize;
+
+    private JsonMapper jsonMapper;
+    private ApplicationDTO dto;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 9, 0);
+        List<StatusHistoryDTO> history = new ArrayList<>();
+        for (int i = 0; i < historySize; i++) {
+            history.add(new StatusHistoryDTO((long) i, ApplicationStatus.INTERVIEW, now.plusHours(i),
+                    "Status changed from SENT to INTERVIEW"));
+        }
+
+        dto = new ApplicationDTO();
+        dto.setId(1L);
+        dto.setCompany("Company");
+        dto.setPosition("Backend Developer");
+        dto.setApplicationDate(LocalDate.of(2026, 1, 1));
+        dto.setCurrentStatus(ApplicationStatus.INTERVIEW);
+        dto.setNotes("Referred by a former colleague");
+        dto.setDocuments(List.of(
+                new DocumentDTO(1L, "cv.pdf", "application/pdf", 120_000L, now),
+                new DocumentDTO(2L, "cover-letter.pdf", "application/pdf", 80_000L, now)
+        ));
+        dto.setDocumentCount(2);
+        dto.setStatusHistory(history);
+        dto.setCreatedAt(now);
+        dto.setUpdatedAt(now);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return jsonMapper.writeValueAsBytes(dto);
+    }
+}
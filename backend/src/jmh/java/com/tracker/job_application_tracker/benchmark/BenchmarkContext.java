@@ -0,0 +1,86 @@
+package com.tracker.job_application_tracker.benchmark;
+
+import com.tracker.job_application_tracker.JobApplicationTrackerApplication;
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+import com.tracker.job_application_tracker.model.Application;
+import com.tracker.job_application_tracker.model.Document;
+import com.tracker.job_application_tracker.model.StatusHistory;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.repository.ApplicationRepository;
+import com.tracker.job_application_tracker.repository.DocumentRepository;
+import com.tracker.job_application_tracker.repository.StatusHistoryRepository;
+import com.tracker.job_application_tracker.repository.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Boots the application against the in-memory H2 database of the "test" profile
+ * and seeds benchmark data through the regular repositories
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * @param overrides "key=value" properties taking precedence over the test profile
+     */
+    static ConfigurableApplicationContext start(String... overrides) {
+        try {
+            return new SpringApplicationBuilder(JobApplicationTrackerApplication.class)
+                    .profiles("test")
+                    .properties(
+                            "server.port=0",
+                            "spring.jpa.show-sql=false",
+                            "logging.level.root=WARN",
+                            "file.upload-dir=" + Files.createTempDirectory("jmh-uploads")
+                    )
+                    .run(Arrays.stream(overrides).map(override -> "--" + override).toArray(String[]::new));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    static User seedUser(ConfigurableApplicationContext context, String email) {
+        return context.getBean(UserRepository.class).save(new User(email, "hashed", "Bench", "Mark"));
+    }
+
+    /**
+     * Seed applications with the given number of documents and history entries each
+     */
+    static void seedApplications(ConfigurableApplicationContext context, User user,
+                                 int count, int documentsPerApplication, int historyPerApplication) {
+        List<Application> applications = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Application application = new Application(
+                    "Company " + i, "Developer", LocalDate.of(2026, 1, 1).plusDays(i % 365), ApplicationStatus.INTERVIEW
+            );
+            application.setUser(user);
+            application.setNotes("Notes for application " + i);
+            applications.add(application);
+        }
+        applications = context.getBean(ApplicationRepository.class).saveAll(applications);
+
+        List<Document> documents = new ArrayList<>();
+        List<StatusHistory> history = new ArrayList<>();
+        for (Application application : applications) {
+            for (int d = 0; d < documentsPerApplication; d++) {
+                documents.add(new Document(application, "cv-" + d + ".pdf",
+                        application.getId() + "_" + d + "_cv.pdf", "application/pdf", 1024L));
+            }
+            for (int h = 0; h < historyPerApplication; h++) {
+                history.add(new StatusHistory(application, ApplicationStatus.SENT, "Status change " + h));
+            }
+        }
+        context.getBean(DocumentRepository.class).saveAll(documents);
+        context.getBean(StatusHistoryRepository.class).saveAll(history);
+    }
+}
@@ -0,0 +1,95 @@
+package com.tracker.job_application_tracker.benchmark;
+
+import com.tracker.job_application_tracker.config.FileStorageProperties;
+import com.tracker.job_application_tracker.service.FileStorageService;
+import com.tracker.job_application_tracker.service.FileStorageService.StagedFile;
+import com.tracker.job_application_tracker.service.impl.LocalStorageBackend;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FileStorageService.stageFile (multipart) and stageStream (raw body), published, for 1 KB, 1 MB and 10 MB uploads
+ *
+ * Each invocation deletes the file it stored, so the disk does not fill up
+ * during long runs; the delete is part of the measured time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileStorageBenchmark {
+
+    private static final byte[] PDF_HEADER = "%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII);
+
+    @Param({"1024", "1048576", "10485760"})
+    private int fileSize;
+
+    private Path uploadDir;
+    private FileStorageService fileStorageService;
+    private MockMultipartFile file;
+    private byte[] content;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        uploadDir = Files.createTempDirectory("jmh-storage");
+
+        FileStorageProperties properties = new FileStorageProperties();
+        properties.setUploadDir(uploadDir.toString());
+        fileStorageService = new FileStorageService(properties, new LocalStorageBackend(properties));
+        fileStorageService.init();
+
+        // Random bytes behind a PDF header, so the magic-byte check accepts them
+        content = new byte[fileSize];
+        new Random(42).nextBytes(content);
+        System.arraycopy(PDF_HEADER, 0, content, 0, PDF_HEADER.length);
+        file = new MockMultipartFile("file", "cv.pdf", "application/pdf", content);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(uploadDir);
+    }
+
+    @Benchmark
+    public String storeFile() {
+        return storeAndDelete(fileStorageService.stageFile(file));
+    }
+
+    @Benchmark
+    public String storeStream() {
+        return storeAndDelete(fileStorageService.stageStream(new ByteArrayInputStream(content), "cv.pdf"));
+    }
+
+    // Published under its key as for a new blob (DocumentServiceImpl), then removed
+    private String storeAndDelete(StagedFile stagedFile) {
+        try (stagedFile) {
+            String filename = stagedFile.storedFile().filename();
+            stagedFile.publish(filename);
+            fileStorageService.deleteFile(filename);
+            return filename;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.tracker.job_application_tracker.benchmark;
+
+import com.tracker.job_application_tracker.controller.InterviewPrepStatsController;
+import com.tracker.job_application_tracker.dto.InterviewPrepStatsDTO;
+import com.tracker.job_application_tracker.enums.Category;
+import com.tracker.job_application_tracker.enums.ChallengeStatus;
+import com.tracker.job_application_tracker.enums.Difficulty;
+import com.tracker.job_application_tracker.model.CodingChallenge;
+import com.tracker.job_application_tracker.model.FlashCard;
+import com.tracker.job_application_tracker.model.Skill;
+import com.tracker.job_application_tracker.model.StudySession;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.repository.CodingChallengeRepository;
+import com.tracker.job_application_tracker.repository.FlashCardRepository;
+import com.tracker.job_application_tracker.repository.SkillRepository;
+import com.tracker.job_application_tracker.repository.StudySessionRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/interview-prep/stats for a user with a realistic amount of prep data
+ * Calls the controller method directly (no HTTP layer)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InterviewPrepStatsBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private InterviewPrepStatsController controller;
+    private Authentication authentication;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        controller = context.getBean(InterviewPrepStatsController.class);
+
+        User user = BenchmarkContext.seedUser(context, "stats@bench.local");
+        seed(user);
+        authentication = new UsernamePasswordAuthenticationToken(user, null, List.of());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<InterviewPrepStatsDTO> getStats() {
+        return controller.getStats(authentication);
+    }
+
+    private void seed(User user) {
+        Category[] categories = Category.values();
+        ChallengeStatus[] statuses = ChallengeStatus.values();
+
+        List<FlashCard> flashCards = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            FlashCard flashCard = new FlashCard();
+            flashCard.setQuestion("Question " + i);
+            flashCard.setAnswer("Answer " + i);
+            flashCard.setCategory(categories[i % categories.length]);
+            flashCard.setDifficulty(Difficulty.MEDIUM);
+            flashCard.setLastReviewed(i % 5 == 0 ? LocalDateTime.now() : null);
+            flashCard.setUser(user);
+            flashCards.add(flashCard);
+        }
+        context.getBean(FlashCardRepository.class).saveAll(flashCards);
+
+        List<CodingChallenge> challenges = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            CodingChallenge challenge = new CodingChallenge();
+            challenge.setName("Challenge " + i);
+            challenge.setPlatform("LeetCode");
+            challenge.setDifficulty(Difficulty.EASY);
+            challenge.setStatus(statuses[i % statuses.length]);
+            challenge.setUser(user);
+            challenges.add(challenge);
+        }
+        context.getBean(CodingChallengeRepository.class).saveAll(challenges);
+
+        List<StudySession> sessions = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            StudySession session = new StudySession();
+            session.setDate(LocalDate.now().minusDays(i % 60));
+            session.setTopic(categories[i % categories.length]);
+            session.setDurationMinutes(45);
+            session.setUser(user);
+            sessions.add(session);
+        }
+        context.getBean(StudySessionRepository.class).saveAll(sessions);
+
+        List<Skill> skills = new ArrayList<>();
+        for (int i = 0; i < categories.length; i++) {
+            Skill skill = new Skill();
+            skill.setName("Skill " + i);
+            skill.setCategory(categories[i]);
+            skill.setLevel(i % 6);
+            skill.setUser(user);
+            skills.add(skill);
+        }
+        context.getBean(SkillRepository.class).saveAll(skills);
+    }
+}
@@ -0,0 +1,97 @@
+package com.tracker.job_application_tracker.benchmark;
+
+import com.tracker.job_application_tracker.config.JwtProperties;
+import com.tracker.job_application_tracker.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verify throughput: current JwtService (key and parser built once)
+ * against the previous implementation (key and parser rebuilt on every call)
+ *
+ * Run: mvn -P benchmark test-compile exec:exec -Djmh.include=JwtServiceBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-0123456789abcdef-0123456789abcdef";
+    private static final String SUBJECT = "thomas@example.com";
+    private static final long EXPIRATION = 3600000;
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpiration(EXPIRATION);
+
+        jwtService = new JwtService(properties);
+        token = jwtService.generateToken(SUBJECT);
+    }
+
+    @Benchmark
+    public String issue() {
+        return jwtService.generateToken(SUBJECT);
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return jwtService.parseToken(token);
+    }
+
+    @Benchmark
+    public String issueLegacy() {
+        return Jwts.builder()
+                .subject(SUBJECT)
+                .issuedAt(new Date(System.currentTimeMillis()))
+                .expiration(new Date(System.currentTimeMillis() + EXPIRATION))
+                .signWith(legacySigningKey())
+                .compact();
+    }
+
+    /**
+     * Previous verification path: extractUsername and validateToken each rebuilt
+     * the key and the parser and parsed the token (three parses per request)
+     */
+    @Benchmark
+    public boolean verifyLegacy() {
+        String username = legacyClaims(token).getSubject();
+        boolean sameUser = legacyClaims(token).getSubject().equals(username);
+        return sameUser && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    private static Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(legacySigningKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private static SecretKey legacySigningKey() {
+        return Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    }
+}
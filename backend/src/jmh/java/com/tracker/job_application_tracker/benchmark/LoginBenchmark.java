@@ -0,0 +1,115 @@
+package com.tracker.job_application_tracker.benchmark;
+
+import com.tracker.job_application_tracker.controller.AuthController;
+import com.tracker.job_application_tracker.dto.AuthResponse;
+import com.tracker.job_application_tracker.dto.LoginRequest;
+import com.tracker.job_application_tracker.exception.PasswordHashingBusyException;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.repository.UserRepository;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * POST /api/auth/login under a burst: 32 concurrent callers, BCrypt cost 12 (H2)
+ * Calls the controller method directly (no HTTP layer)
+ *
+ * Calls per second ("login"), split into "succeeded" and "rejected" auxiliary counters:
+ * rejected calls were answered 503 at once by the bounded hashing pool instead of
+ * queueing on request threads
+ *
+ * Run: mvn -P benchmark test-compile exec:exec -Djmh.include=LoginBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(LoginBenchmark.CALLERS)
+public class LoginBenchmark {
+
+    static final int CALLERS = 32;
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @State(Scope.Benchmark)
+    public static class Backend {
+
+        private ConfigurableApplicationContext context;
+        private AuthController authController;
+        private final List<String> emails = new ArrayList<>();
+        private final AtomicInteger nextCaller = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = BenchmarkContext.start("security.password.bcrypt-strength=12");
+            authController = context.getBean(AuthController.class);
+
+            // One account per caller: refresh token rotation deletes the user's previous token
+            String hash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+            UserRepository userRepository = context.getBean(UserRepository.class);
+            for (int i = 0; i < CALLERS; i++) {
+                User user = new User("login-" + i + "@bench.local", hash, "Bench", "Mark");
+                user.setEnabled(true);
+                emails.add(userRepository.save(user).getEmail());
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Caller {
+
+        public long succeeded;
+        public long rejected;
+
+        private LoginRequest request;
+
+        @Setup(Level.Trial)
+        public void setUp(Backend backend) {
+            request = new LoginRequest(backend.emails.get(backend.nextCaller.getAndIncrement() % CALLERS), PASSWORD);
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            succeeded = 0;
+            rejected = 0;
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<AuthResponse> login(Backend backend, Caller caller) {
+        try {
+            ResponseEntity<AuthResponse> response = backend.authController.login(caller.request);
+            caller.succeeded++;
+            return response;
+        } catch (PasswordHashingBusyException ex) {
+            caller.rejected++;
+            return null;
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.tracker.job_application_tracker;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class JobApplicationTrackerApplication {
 
 	public static void main(String[] args) {
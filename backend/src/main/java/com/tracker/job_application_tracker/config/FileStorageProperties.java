@@ -3,21 +3,302 @@ package com.tracker.job_application_tracker.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * Configuration properties for file storage
- * Reads values from application.properties (file.upload-dir)
+ * Reads values from application.properties (file.*)
+ *
+ * file.backend selects where documents live: "local" (file.upload-dir, the default)
+ * or "s3" (file.s3.*, any S3-compatible store), so that every node behind a load
+ * balancer can serve every document. file.upload-dir is still used as scratch space
+ * for uploads in progress with the s3 backend.
+ *
+ * file.links.* configures the signed download links (/files/...), verified without
+ * a database lookup or the JWT filter.
+ *
+ * file.chunked.* configures resumable chunked uploads (/uploads), for files above
+ * the 10MB single-request limit.
+ *
+ * file.gc.* configures the storage garbage collector, which deletes files no document
+ * uses any more.
  */
 @Component
 @ConfigurationProperties(prefix = "file")
 public class FileStorageProperties {
-    
+
     private String uploadDir = "./uploads";
-    
+
+    private String backend = "local";
+
+    private S3 s3 = new S3();
+
+    private Links links = new Links();
+
+    private Chunked chunked = new Chunked();
+
+    private Gc gc = new Gc();
+
     public String getUploadDir() {
         return uploadDir;
     }
-    
+
     public void setUploadDir(String uploadDir) {
         this.uploadDir = uploadDir;
     }
-}
\ No newline at end of file
+
+    public String getBackend() {
+        return backend;
+    }
+
+    public void setBackend(String backend) {
+        this.backend = backend;
+    }
+
+    public S3 getS3() {
+        return s3;
+    }
+
+    public void setS3(S3 s3) {
+        this.s3 = s3;
+    }
+
+    public Links getLinks() {
+        return links;
+    }
+
+    public void setLinks(Links links) {
+        this.links = links;
+    }
+
+    public Chunked getChunked() {
+        return chunked;
+    }
+
+    public void setChunked(Chunked chunked) {
+        this.chunked = chunked;
+    }
+
+    public Gc getGc() {
+        return gc;
+    }
+
+    public void setGc(Gc gc) {
+        this.gc = gc;
+    }
+
+    /**
+     * Deferred deletion of unused files (StorageGarbageCollector)
+     */
+    public static class Gc {
+
+        // A released blob, or a file no row points to, is only deleted once it is this old:
+        // long enough for any transaction that could still reference it to have ended
+        private Duration gracePeriod = Duration.ofHours(1);
+
+        // Upper bound on file deletions, to keep the storage (disk or S3 API) available for users
+        private int deletesPerSecond = 50;
+
+        public Duration getGracePeriod() {
+            return gracePeriod;
+        }
+
+        public void setGracePeriod(Duration gracePeriod) {
+            this.gracePeriod = gracePeriod;
+        }
+
+        public int getDeletesPerSecond() {
+            return deletesPerSecond;
+        }
+
+        public void setDeletesPerSecond(int deletesPerSecond) {
+            this.deletesPerSecond = deletesPerSecond;
+        }
+    }
+
+    /**
+     * Resumable uploads sent in fixed-size chunks, written at their offset in a preallocated file
+     */
+    public static class Chunked {
+
+        private long maxSize = 500L * 1024 * 1024;
+
+        // Every chunk but the last has exactly this size; a lost chunk costs at most this much again
+        private int chunkSize = 5 * 1024 * 1024;
+
+        // Unfinished uploads are dropped (file and row) after this long
+        private Duration expiry = Duration.ofHours(24);
+
+        // Per user, among unexpired uploads: each one reserves its full size on disk up front
+        private int maxActivePerUser = 3;
+        private long maxReservedPerUser = 1024L * 1024 * 1024;
+
+        public long getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public Duration getExpiry() {
+            return expiry;
+        }
+
+        public void setExpiry(Duration expiry) {
+            this.expiry = expiry;
+        }
+
+        public int getMaxActivePerUser() {
+            return maxActivePerUser;
+        }
+
+        public void setMaxActivePerUser(int maxActivePerUser) {
+            this.maxActivePerUser = maxActivePerUser;
+        }
+
+        public long getMaxReservedPerUser() {
+            return maxReservedPerUser;
+        }
+
+        public void setMaxReservedPerUser(long maxReservedPerUser) {
+            this.maxReservedPerUser = maxReservedPerUser;
+        }
+    }
+
+    /**
+     * HMAC-signed download links served by the application (local backend)
+     */
+    public static class Links {
+
+        private String secret;
+
+        // A link stays valid between ttl and 2 x ttl: expiries are rounded so that
+        // links issued within the same window are identical and cacheable by the browser
+        private Duration ttl = Duration.ofMinutes(5);
+
+        public String getSecret() {
+            return secret;
+        }
+
+        public void setSecret(String secret) {
+            this.secret = secret;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+
+    /**
+     * S3-compatible object store (AWS S3, MinIO, ...)
+     */
+    public static class S3 {
+
+        // Empty for AWS; the server URL for MinIO and other compatible stores
+        private String endpoint;
+
+        private String region = "us-east-1";
+
+        private String bucket;
+
+        private String accessKey;
+
+        private String secretKey;
+
+        // MinIO and most self-hosted stores need http://host/bucket/key rather than bucket subdomains
+        private boolean pathStyleAccess = true;
+
+        // Files above this size are sent as a multipart upload, parts in parallel (S3 minimum: 5MB)
+        private long partSize = 5 * 1024 * 1024;
+
+        private int uploadConcurrency = 4;
+
+        // Lifetime of the presigned download links
+        private Duration presignTtl = Duration.ofMinutes(5);
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public void setEndpoint(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        public String getRegion() {
+            return region;
+        }
+
+        public void setRegion(String region) {
+            this.region = region;
+        }
+
+        public String getBucket() {
+            return bucket;
+        }
+
+        public void setBucket(String bucket) {
+            this.bucket = bucket;
+        }
+
+        public String getAccessKey() {
+            return accessKey;
+        }
+
+        public void setAccessKey(String accessKey) {
+            this.accessKey = accessKey;
+        }
+
+        public String getSecretKey() {
+            return secretKey;
+        }
+
+        public void setSecretKey(String secretKey) {
+            this.secretKey = secretKey;
+        }
+
+        public boolean isPathStyleAccess() {
+            return pathStyleAccess;
+        }
+
+        public void setPathStyleAccess(boolean pathStyleAccess) {
+            this.pathStyleAccess = pathStyleAccess;
+        }
+
+        public long getPartSize() {
+            return partSize;
+        }
+
+        public void setPartSize(long partSize) {
+            this.partSize = partSize;
+        }
+
+        public int getUploadConcurrency() {
+            return uploadConcurrency;
+        }
+
+        public void setUploadConcurrency(int uploadConcurrency) {
+            this.uploadConcurrency = uploadConcurrency;
+        }
+
+        public Duration getPresignTtl() {
+            return presignTtl;
+        }
+
+        public void setPresignTtl(Duration presignTtl) {
+            this.presignTtl = presignTtl;
+        }
+    }
+}
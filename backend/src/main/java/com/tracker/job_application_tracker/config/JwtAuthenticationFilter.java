@@ -2,7 +2,9 @@ package com.tracker.job_application_tracker.config;
 
 import com.tracker.job_application_tracker.model.User;
 import com.tracker.job_application_tracker.repository.UserRepository;
+import com.tracker.job_application_tracker.service.FileLinkService;
 import com.tracker.job_application_tracker.service.JwtService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,10 +24,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserRepository userRepository) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserRepository userRepository, PrincipalCache principalCache) {
         this.jwtService = jwtService;
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
+    }
+
+    /**
+     * Also registered as a plain servlet filter (it is a @Component): keep it off the signed file links
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + FileLinkService.PATH_PREFIX);
     }
 
     @Override
@@ -43,12 +55,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String jwt = authHeader.substring(7);
 
         try {
-            String userEmail = jwtService.extractUsername(jwt);
+            // Signature and expiration are checked by this single parse
+            Claims claims = jwtService.parseToken(jwt);
+            String userEmail = claims.getSubject();
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                User user = userRepository.findByEmail(userEmail).orElse(null);
+                User user = principalCache.get(userEmail, email -> userRepository.findByEmail(email).orElse(null));
 
-                if (user != null && jwtService.validateToken(jwt, userEmail)) {
+                if (user != null) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             user,
                             null,
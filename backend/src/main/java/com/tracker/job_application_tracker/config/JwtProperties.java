@@ -0,0 +1,61 @@
+package com.tracker.job_application_tracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for JWT signing
+ * Reads values from application.properties (jwt.*)
+ *
+ * Key rotation: tokens are signed with the active secret and carry its key id
+ * in the "kid" header. To rotate, move the current secret to
+ * jwt.retired-keys.<old-kid>, then set a new jwt.secret and jwt.key-id.
+ * Retired keys are only used to verify tokens issued before the rotation.
+ */
+@Component
+@ConfigurationProperties(prefix = "jwt")
+public class JwtProperties {
+
+    private String secret;
+
+    private long expiration = 3600000;
+
+    private String keyId = "primary";
+
+    private Map<String, String> retiredKeys = new HashMap<>();
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+
+    public long getExpiration() {
+        return expiration;
+    }
+
+    public void setExpiration(long expiration) {
+        this.expiration = expiration;
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    public void setKeyId(String keyId) {
+        this.keyId = keyId;
+    }
+
+    public Map<String, String> getRetiredKeys() {
+        return retiredKeys;
+    }
+
+    public void setRetiredKeys(Map<String, String> retiredKeys) {
+        this.retiredKeys = retiredKeys;
+    }
+}
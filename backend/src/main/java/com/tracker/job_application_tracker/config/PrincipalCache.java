@@ -0,0 +1,62 @@
+package com.tracker.job_application_tracker.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tracker.job_application_tracker.model.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-based cache of authenticated users, keyed by email (the JWT subject)
+ *
+ * Avoids one SELECT on users per authenticated request. Entries are evicted
+ * by UserServiceImpl when the password or the enabled flag changes; the TTL
+ * bounds staleness for any other change (or on other instances).
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, User> cache;
+
+    public PrincipalCache(
+            @Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${security.principal-cache.max-size:10000}") long maxSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Return the cached user, or load it with the given function
+     * A null result is not cached
+     */
+    public User get(String email, Function<String, User> loader) {
+        return cache.get(email, loader);
+    }
+
+    /**
+     * Evict a user now and again once the current transaction has committed,
+     * so a concurrent request cannot reload and cache the old row in between
+     */
+    public void evict(String email) {
+        cache.invalidate(email);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(email);
+            }
+        });
+    }
+}
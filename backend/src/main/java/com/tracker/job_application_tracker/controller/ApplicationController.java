@@ -1,29 +1,44 @@
 package com.tracker.job_application_tracker.controller;
 
 import com.tracker.job_application_tracker.dto.ApplicationDTO;
+import com.tracker.job_application_tracker.dto.ApplicationSummaryDTO;
 import com.tracker.job_application_tracker.dto.CreateApplicationRequest;
+import com.tracker.job_application_tracker.dto.CursorPage;
 import com.tracker.job_application_tracker.dto.UpdateApplicationRequest;
 import com.tracker.job_application_tracker.enums.ApplicationStatus;
 import com.tracker.job_application_tracker.model.User;
 import com.tracker.job_application_tracker.service.ApplicationService;
+import com.tracker.job_application_tracker.service.DocumentArchiveService;
+import com.tracker.job_application_tracker.service.DocumentService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/applications")
 public class ApplicationController {
 
     private final ApplicationService applicationService;
+    private final DocumentService documentService;
+    private final DocumentArchiveService documentArchiveService;
 
-    public ApplicationController(ApplicationService applicationService) {
+    public ApplicationController(ApplicationService applicationService, DocumentService documentService,
+                                 DocumentArchiveService documentArchiveService) {
         this.applicationService = applicationService;
+        this.documentService = documentService;
+        this.documentArchiveService = documentArchiveService;
     }
 
     @GetMapping
@@ -44,6 +59,80 @@ public class ApplicationController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * GET /api/applications?view=summary
+     * Lightweight list: id, company, position, date, status and document count only.
+     * Full detail (notes, documents, history) stays on GET /api/applications/{id}
+     */
+    @GetMapping(params = "view=summary")
+    public ResponseEntity<Page<ApplicationSummaryDTO>> getApplicationSummaries(
+            @RequestParam(required = false) ApplicationStatus status,
+            @PageableDefault(size = 20, sort = "applicationDate", direction = Sort.Direction.DESC) Pageable pageable,
+            Authentication authentication
+    ) {
+        User user = (User) authentication.getPrincipal();
+        Page<ApplicationSummaryDTO> result;
+
+        if (status != null) {
+            result = applicationService.getApplicationSummariesByStatus(user, status, pageable);
+        } else {
+            result = applicationService.getApplicationSummaries(user, pageable);
+        }
+
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * GET /api/applications/scroll?cursor=...&size=20
+     * Keyset pagination: no total count, follow nextCursor until hasNext is false
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<ApplicationDTO>> getApplicationsPage(
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication
+    ) {
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(applicationService.getApplicationsPage(user, status, cursor, size));
+    }
+
+    /**
+     * GET /api/applications/search?q=...&size=20
+     * Searches company, position, notes and document filenames, best matches first.
+     * Each word must match the start of an indexed word ("acm dev" finds "Acme", "Developer")
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<ApplicationSummaryDTO>> searchApplications(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication
+    ) {
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(applicationService.searchApplications(user, query, size));
+    }
+
+    /**
+     * GET /api/applications/documents/archive
+     * Every document of the account as one ZIP (a folder per application), streamed as it is built
+     */
+    @GetMapping("/documents/archive")
+    public void downloadAllDocuments(
+            Authentication authentication,
+            HttpServletResponse response
+    ) throws IOException {
+        User user = (User) authentication.getPrincipal();
+        List<DocumentService.ArchiveEntry> entries = documentService.getArchiveEntries(user);
+
+        response.setContentType(DocumentArchiveService.CONTENT_TYPE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("documents.zip")
+                .build()
+                .toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        documentArchiveService.writeZip(entries, response.getOutputStream());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApplicationDTO> getApplicationById(
             @PathVariable Long id,
@@ -20,28 +20,34 @@ import java.util.Map;
 public class AuthController {
 
     private final UserService userService;
+    private final AccountService accountService;
+    private final PasswordHasher passwordHasher;
     private final JwtService jwtService;
-    private final EmailService emailService;
     private final ConfirmationTokenService confirmationTokenService;
     private final RefreshTokenService refreshTokenService;
 
     public AuthController(UserService userService,
+                          AccountService accountService,
+                          PasswordHasher passwordHasher,
                           JwtService jwtService,
-                          EmailService emailService,
                           ConfirmationTokenService confirmationTokenService,
                           RefreshTokenService refreshTokenService) {
         this.userService = userService;
+        this.accountService = accountService;
+        this.passwordHasher = passwordHasher;
         this.jwtService = jwtService;
-        this.emailService = emailService;
         this.confirmationTokenService = confirmationTokenService;
         this.refreshTokenService = refreshTokenService;
     }
 
+    /**
+     * Password hashed first, then user, token and confirmation email (outbox) written in one
+     * transaction (AccountService): the hash never holds a database connection
+     */
     @PostMapping("/register")
     public ResponseEntity<Map<String, String>> register(@Valid @RequestBody RegisterRequest request) {
-        User user = userService.createUser(request);
-        ConfirmationToken token = confirmationTokenService.createToken(user);
-        emailService.sendConfirmationEmail(user.getEmail(), token.getToken());
+        String passwordHash = passwordHasher.encode(request.getPassword());
+        accountService.register(request, passwordHash);
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(Map.of("message", "Registration successful. Please check your email to confirm your account."));
@@ -92,15 +98,20 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Token and reset email (outbox) written in one transaction (AccountService)
+     */
     @PostMapping("/forgot-password")
     public ResponseEntity<Map<String, String>> forgotPassword(@Valid @RequestBody ForgotPasswordRequest request) {
-        User user = userService.findByEmail(request.getEmail());
-        ConfirmationToken token = confirmationTokenService.createToken(user);
-        emailService.sendPasswordResetEmail(user.getEmail(), token.getToken());
+        accountService.requestPasswordReset(request.getEmail());
 
         return ResponseEntity.ok(Map.of("message", "Password reset email sent."));
     }
 
+    /**
+     * Token checked first (no hash for a bad token), password hashed outside any transaction,
+     * then password and token updated together (AccountService)
+     */
     @PostMapping("/reset-password")
     public ResponseEntity<Map<String, String>> resetPassword(@Valid @RequestBody ResetPasswordRequest request) {
         ConfirmationToken token = confirmationTokenService.getToken(request.getToken());
@@ -113,8 +124,8 @@ public class AuthController {
             throw new TokenExpiredException("Token has expired");
         }
 
-        userService.updatePassword(token.getUser().getEmail(), request.getNewPassword());
-        confirmationTokenService.confirmToken(request.getToken());
+        String passwordHash = passwordHasher.encode(request.getNewPassword());
+        accountService.resetPassword(request.getToken(), passwordHash);
 
         return ResponseEntity.ok(Map.of("message", "Password reset successfully."));
     }
@@ -2,6 +2,7 @@ package com.tracker.job_application_tracker.controller;
 
 import com.tracker.job_application_tracker.dto.CodingChallengeDTO;
 import com.tracker.job_application_tracker.dto.CreateCodingChallengeRequest;
+import com.tracker.job_application_tracker.dto.CursorPage;
 import com.tracker.job_application_tracker.dto.UpdateCodingChallengeRequest;
 import com.tracker.job_application_tracker.enums.ChallengeStatus;
 import com.tracker.job_application_tracker.model.User;
@@ -30,6 +31,15 @@ public class CodingChallengeController {
         return ResponseEntity.ok(codingChallengeService.getAllByUser(user));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<CodingChallengeDTO>> getPageByUser(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(codingChallengeService.getPageByUser(user, cursor, size));
+    }
+
     @GetMapping("/status/{status}")
     public ResponseEntity<List<CodingChallengeDTO>> getByStatus(
             @PathVariable ChallengeStatus status,
@@ -0,0 +1,39 @@
+package com.tracker.job_application_tracker.controller;
+
+import com.tracker.job_application_tracker.dto.DashboardDTO;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.service.UserStatsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final UserStatsService userStatsService;
+
+    public DashboardController(UserStatsService userStatsService) {
+        this.userStatsService = userStatsService;
+    }
+
+    @GetMapping
+    public ResponseEntity<DashboardDTO> getDashboard(Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(userStatsService.getDashboard(user));
+    }
+
+    /**
+     * POST /api/dashboard/rebuild
+     * Recompute the current user's counters from their applications
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<DashboardDTO> rebuild(Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        userStatsService.rebuild(user.getId());
+        return ResponseEntity.ok(userStatsService.getDashboard(user));
+    }
+}
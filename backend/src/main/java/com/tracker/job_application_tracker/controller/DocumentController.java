@@ -1,15 +1,26 @@
 package com.tracker.job_application_tracker.controller;
 
 import com.tracker.job_application_tracker.dto.DocumentDTO;
+import com.tracker.job_application_tracker.dto.DocumentLinkDTO;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.service.DocumentArchiveService;
 import com.tracker.job_application_tracker.service.DocumentService;
-import org.springframework.core.io.Resource;
+import com.tracker.job_application_tracker.service.DocumentService.ArchiveEntry;
+import com.tracker.job_application_tracker.service.DocumentService.DocumentFile;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -22,9 +33,11 @@ import java.util.List;
 public class DocumentController {
     
     private final DocumentService documentService;
+    private final DocumentArchiveService documentArchiveService;
     
-    public DocumentController(DocumentService documentService) {
+    public DocumentController(DocumentService documentService, DocumentArchiveService documentArchiveService) {
         this.documentService = documentService;
+        this.documentArchiveService = documentArchiveService;
     }
     
     /**
@@ -44,27 +57,134 @@ public class DocumentController {
     @PostMapping
     public ResponseEntity<DocumentDTO> uploadDocument(
             @PathVariable Long applicationId,
-            @RequestParam("file") MultipartFile file
+            @RequestParam("file") MultipartFile file,
+            Authentication authentication
     ) {
-        DocumentDTO document = documentService.uploadDocument(applicationId, file);
+        User user = (User) authentication.getPrincipal();
+        DocumentDTO document = documentService.uploadDocument(user, applicationId, file);
+        return ResponseEntity.status(HttpStatus.CREATED).body(document);
+    }
+    
+    /**
+     * POST /api/applications/{applicationId}/documents?filename=cv.pdf
+     * Content-Type: application/octet-stream
+     * Streaming upload: the raw body goes straight to disk, without multipart spooling
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<DocumentDTO> uploadDocumentStream(
+            @PathVariable Long applicationId,
+            @RequestParam("filename") String filename,
+            InputStream body,
+            Authentication authentication
+    ) {
+        User user = (User) authentication.getPrincipal();
+        DocumentDTO document = documentService.uploadDocument(user, applicationId, filename, body);
+        return ResponseEntity.status(HttpStatus.CREATED).body(document);
+    }
+    
+    /**
+     * POST /api/applications/{applicationId}/documents/attach?documentId=...
+     * Attach one of the user's existing documents to this application, without re-uploading it
+     */
+    @PostMapping("/attach")
+    public ResponseEntity<DocumentDTO> attachDocument(
+            @PathVariable Long applicationId,
+            @RequestParam Long documentId,
+            Authentication authentication
+    ) {
+        User user = (User) authentication.getPrincipal();
+        DocumentDTO document = documentService.attachDocument(user, applicationId, documentId);
         return ResponseEntity.status(HttpStatus.CREATED).body(document);
     }
     
     /**
      * GET /api/applications/{applicationId}/documents/{documentId}/download
      * Download a specific document
+     * Supports Range (206, multipart/byteranges), ETag / Last-Modified and 304 Not Modified
      */
     @GetMapping("/{documentId}/download")
-    public ResponseEntity<Resource> downloadDocument(
+    public void downloadDocument(
             @PathVariable Long applicationId,
-            @PathVariable Long documentId
-    ) {
-        Resource resource = documentService.downloadDocument(documentId);
+            @PathVariable Long documentId,
+            Authentication authentication,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        User user = (User) authentication.getPrincipal();
+        DocumentFile file = documentService.getDocumentFile(user, applicationId, documentId);
+        FileResponseWriter.write(file, request, response);
+    }
+    
+    /**
+     * GET /api/applications/{applicationId}/documents/{documentId}/preview
+     * PNG preview (first PDF page, downscaled image); 404 until the background rendering is done
+     */
+    @GetMapping("/{documentId}/preview")
+    public void getDocumentPreview(
+            @PathVariable Long applicationId,
+            @PathVariable Long documentId,
+            Authentication authentication,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        User user = (User) authentication.getPrincipal();
+        DocumentFile preview = documentService.getDocumentPreview(user, applicationId, documentId);
+        // Derived from immutable content: the browser never needs to ask again
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable");
+        FileResponseWriter.write(preview, ContentDisposition.inline(), request, response);
+    }
+    
+    /**
+     * GET /api/applications/{applicationId}/documents/archive
+     * All the documents of the application as one ZIP, streamed as it is built
+     */
+    @GetMapping("/archive")
+    public void downloadArchive(
+            @PathVariable Long applicationId,
+            Authentication authentication,
+            HttpServletResponse response
+    ) throws IOException {
+        User user = (User) authentication.getPrincipal();
+        List<ArchiveEntry> entries = documentService.getArchiveEntries(user, applicationId);
         
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + resource.getFilename() + "\"")
-                .body(resource);
+        response.setContentType(DocumentArchiveService.CONTENT_TYPE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("application-" + applicationId + "-documents.zip")
+                .build()
+                .toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        documentArchiveService.writeZip(entries, response.getOutputStream());
+    }
+    
+    /**
+     * GET /api/applications/{applicationId}/documents/{documentId}/link
+     * Short-lived signed URL of a document, for links and previews that cannot send the JWT
+     */
+    @GetMapping("/{documentId}/link")
+    public ResponseEntity<DocumentLinkDTO> getDocumentLink(
+            @PathVariable Long applicationId,
+            @PathVariable Long documentId,
+            Authentication authentication
+    ) {
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(absolute(documentService.getDocumentLink(user, applicationId, documentId)));
+    }
+    
+    /**
+     * GET /api/applications/{applicationId}/documents/links
+     * Signed URLs of all the documents of an application, in one call
+     */
+    @GetMapping("/links")
+    public ResponseEntity<List<DocumentLinkDTO>> getDocumentLinks(
+            @PathVariable Long applicationId,
+            Authentication authentication
+    ) {
+        User user = (User) authentication.getPrincipal();
+        List<DocumentLinkDTO> links = documentService.getDocumentLinks(user, applicationId)
+                .stream()
+                .map(this::absolute)
+                .toList();
+        return ResponseEntity.ok(links);
     }
     
     /**
@@ -74,9 +194,23 @@ public class DocumentController {
     @DeleteMapping("/{documentId}")
     public ResponseEntity<Void> deleteDocument(
             @PathVariable Long applicationId,
-            @PathVariable Long documentId
+            @PathVariable Long documentId,
+            Authentication authentication
     ) {
-        documentService.deleteDocument(documentId);
+        User user = (User) authentication.getPrincipal();
+        documentService.deleteDocument(user, applicationId, documentId);
         return ResponseEntity.noContent().build();
     }
+    
+    // Links served by this application are relative to its root; presigned store URLs are already absolute
+    private DocumentLinkDTO absolute(DocumentLinkDTO link) {
+        String root = ServletUriComponentsBuilder.fromCurrentContextPath().toUriString();
+        if (link.getUrl().startsWith("/")) {
+            link.setUrl(root + link.getUrl());
+        }
+        if (link.getPreviewUrl() != null && link.getPreviewUrl().startsWith("/")) {
+            link.setPreviewUrl(root + link.getPreviewUrl());
+        }
+        return link;
+    }
 }
\ No newline at end of file
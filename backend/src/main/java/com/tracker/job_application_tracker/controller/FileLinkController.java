@@ -0,0 +1,86 @@
+package com.tracker.job_application_tracker.controller;
+
+import com.tracker.job_application_tracker.service.DocumentService.DocumentFile;
+import com.tracker.job_application_tracker.service.FileLinkService;
+import com.tracker.job_application_tracker.service.FileStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+/**
+ * Serves signed download links issued by FileLinkService
+ *
+ * Base URL: /files (outside /api: no JWT, ignored by the security filter chain)
+ * The signature is the only authorization; nothing is read from the database
+ */
+@RestController
+public class FileLinkController {
+
+    private final FileLinkService fileLinkService;
+    private final FileStorageService fileStorageService;
+
+    public FileLinkController(FileLinkService fileLinkService, FileStorageService fileStorageService) {
+        this.fileLinkService = fileLinkService;
+        this.fileStorageService = fileStorageService;
+    }
+
+    /**
+     * GET /files/{key}?n=&t=&v=&m=&e=&s=
+     * Same Range / ETag / 304 handling as the authenticated download
+     */
+    @GetMapping("/files/{*key}")
+    public void getFile(
+            @PathVariable String key,
+            @RequestParam(name = "n", defaultValue = "") String filename,
+            @RequestParam(name = "t", defaultValue = "") String contentType,
+            @RequestParam(name = "v", defaultValue = "") String sha256,
+            @RequestParam(name = "m", defaultValue = "0") long modified,
+            @RequestParam(name = "e", defaultValue = "0") long expires,
+            @RequestParam(name = "s", defaultValue = "") String signature,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        // {*key} captures the leading slash
+        String storageKey = key.substring(1);
+
+        if (!fileLinkService.verify(storageKey, filename, contentType, sha256, modified, expires, signature)) {
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        Optional<Path> path = fileStorageService.localPath(storageKey);
+        if (path.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // The URL is immutable until it expires: let the browser keep the file that long
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=" + fileLinkService.remainingSeconds(expires));
+
+        DocumentFile file = new DocumentFile(
+                path.get(),
+                null,
+                filename,
+                contentType.isEmpty() ? null : contentType,
+                sha256,
+                LocalDateTime.ofInstant(Instant.ofEpochSecond(modified), ZoneId.systemDefault())
+        );
+        // Previews are shown in <img>, documents downloaded
+        ContentDisposition.Builder disposition = storageKey.endsWith(FileStorageService.previewName(""))
+                ? ContentDisposition.inline()
+                : ContentDisposition.attachment();
+        FileResponseWriter.write(file, disposition, request, response);
+    }
+}
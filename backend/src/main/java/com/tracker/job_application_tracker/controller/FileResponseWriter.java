@@ -0,0 +1,205 @@
+package com.tracker.job_application_tracker.controller;
+
+import com.tracker.job_application_tracker.service.DocumentService.DocumentFile;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Writes a stored file to the response with HTTP caching and byte-range support
+ *
+ * - Strong ETag from the content SHA-256 and Last-Modified from the upload date,
+ *   If-None-Match / If-Modified-Since answered with 304 (If-Match / If-Unmodified-Since with 412)
+ * - Range: single range as 206 + Content-Range, several ranges as multipart/byteranges,
+ *   If-Range honoured, unsatisfiable ranges answered with 416
+ * - Body sent with FileChannel.transferTo; for a full or single-range response on Tomcat,
+ *   the connector's sendfile is used instead and the bytes never enter the JVM
+ * - File on a remote store (no local path): 302 to its presigned URL, the store handles ranges
+ */
+final class FileResponseWriter {
+
+    // Tomcat sendfile request attributes (org.apache.coyote.Constants)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String CRLF = "\r\n";
+
+    private FileResponseWriter() {
+    }
+
+    static void write(DocumentFile file, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        write(file, ContentDisposition.attachment(), request, response);
+    }
+
+    /**
+     * @param disposition attachment for downloads, inline for images shown in the page
+     */
+    static void write(DocumentFile file, ContentDisposition.Builder disposition,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String etag = "\"" + file.sha256() + "\"";
+        long lastModified = file.uploadedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        // Sets ETag / Last-Modified and the 304 or 412 status when a precondition applies
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        if (file.path() == null) {
+            response.setStatus(HttpServletResponse.SC_FOUND);
+            response.setHeader(HttpHeaders.LOCATION, file.url().toString());
+            // The link expires: caches must not keep the redirect
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            return;
+        }
+
+        String contentType = file.contentType() != null ? file.contentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition
+                .filename(file.originalFilename(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            long length = channel.size();
+            List<HttpRange> ranges = requestedRanges(request, etag, length);
+
+            if (ranges == null) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+
+            boolean head = "HEAD".equals(request.getMethod());
+
+            if (ranges.isEmpty()) {
+                response.setStatus(HttpServletResponse.SC_OK);
+                response.setContentType(contentType);
+                response.setContentLengthLong(length);
+                if (!head) {
+                    send(channel, file, 0, length, request, response);
+                }
+                return;
+            }
+
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+
+            if (ranges.size() == 1) {
+                long start = ranges.get(0).getRangeStart(length);
+                long end = ranges.get(0).getRangeEnd(length);
+                response.setContentType(contentType);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(start, end, length));
+                response.setContentLengthLong(end - start + 1);
+                if (!head) {
+                    send(channel, file, start, end - start + 1, request, response);
+                }
+                return;
+            }
+
+            String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+            response.setContentType("multipart/byteranges; boundary=" + boundary);
+            if (!head) {
+                writeMultipart(channel, contentType, boundary, ranges, length, response.getOutputStream());
+            }
+        }
+    }
+
+    /**
+     * Ranges to send: empty for the whole file, null when the Range header cannot be satisfied
+     * A Range with a non-matching If-Range, or a malformed Range, is ignored (whole file, RFC 9110)
+     */
+    private static List<HttpRange> requestedRanges(HttpServletRequest request, String etag, long length) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return List.of();
+        }
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return List.of();
+        }
+
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException ex) {
+            return List.of();
+        }
+
+        long total = 0;
+        for (HttpRange range : ranges) {
+            try {
+                total += range.getRangeEnd(length) - range.getRangeStart(length) + 1;
+            } catch (IllegalArgumentException ex) {
+                // Start beyond the end of the file
+                return null;
+            }
+        }
+
+        // Overlapping ranges adding up to more than the file: refuse rather than amplify
+        return total > length && ranges.size() > 1 ? null : ranges;
+    }
+
+    private static void send(FileChannel channel, DocumentFile file, long start, long count,
+                             HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        transfer(channel, start, count, Channels.newChannel(response.getOutputStream()));
+    }
+
+    private static void writeMultipart(FileChannel channel, String contentType, String boundary,
+                                       List<HttpRange> ranges, long length, OutputStream out) throws IOException {
+        WritableByteChannel target = Channels.newChannel(out);
+
+        for (HttpRange range : ranges) {
+            long start = range.getRangeStart(length);
+            long end = range.getRangeEnd(length);
+
+            String partHeaders = CRLF + "--" + boundary + CRLF
+                    + HttpHeaders.CONTENT_TYPE + ": " + contentType + CRLF
+                    + HttpHeaders.CONTENT_RANGE + ": " + contentRange(start, end, length) + CRLF
+                    + CRLF;
+            out.write(partHeaders.getBytes(StandardCharsets.US_ASCII));
+
+            transfer(channel, start, end - start + 1, target);
+        }
+
+        out.write((CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void transfer(FileChannel channel, long position, long count, WritableByteChannel target)
+            throws IOException {
+        long sent = 0;
+        while (sent < count) {
+            long transferred = channel.transferTo(position + sent, count - sent, target);
+            if (transferred <= 0) {
+                throw new IOException("File truncated while sending");
+            }
+            sent += transferred;
+        }
+    }
+
+    private static String contentRange(long start, long end, long length) {
+        return "bytes " + start + "-" + end + "/" + length;
+    }
+}
@@ -1,6 +1,7 @@
 package com.tracker.job_application_tracker.controller;
 
 import com.tracker.job_application_tracker.dto.CreateFlashCardRequest;
+import com.tracker.job_application_tracker.dto.CursorPage;
 import com.tracker.job_application_tracker.dto.FlashCardDTO;
 import com.tracker.job_application_tracker.dto.UpdateFlashCardRequest;
 import com.tracker.job_application_tracker.enums.Category;
@@ -31,6 +32,15 @@ public class FlashCardController {
         return ResponseEntity.ok(flashCardService.getAllByUser(user));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<FlashCardDTO>> getPageByUser(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(flashCardService.getPageByUser(user, cursor, size));
+    }
+
     @GetMapping("/category/{category}")
     public ResponseEntity<List<FlashCardDTO>> getByCategory(
             @PathVariable Category category,
@@ -0,0 +1,86 @@
+package com.tracker.job_application_tracker.controller;
+
+import com.tracker.job_application_tracker.dto.InterviewDTO;
+import com.tracker.job_application_tracker.dto.InterviewRequest;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.service.InterviewService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for the interview appointments of an application
+ * A reminder email is sent before each interview (interview.reminder.lead)
+ * 
+ * Base URL: /api/applications/{applicationId}/interviews
+ */
+@RestController
+@RequestMapping("/api/applications/{applicationId}/interviews")
+public class InterviewController {
+    
+    private final InterviewService interviewService;
+    
+    public InterviewController(InterviewService interviewService) {
+        this.interviewService = interviewService;
+    }
+    
+    /**
+     * GET /api/applications/{applicationId}/interviews
+     * Interviews of the application, soonest first
+     */
+    @GetMapping
+    public ResponseEntity<List<InterviewDTO>> getInterviews(
+            @PathVariable Long applicationId,
+            Authentication authentication
+    ) {
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(interviewService.getInterviews(user, applicationId));
+    }
+    
+    /**
+     * POST /api/applications/{applicationId}/interviews
+     */
+    @PostMapping
+    public ResponseEntity<InterviewDTO> createInterview(
+            @PathVariable Long applicationId,
+            @Valid @RequestBody InterviewRequest request,
+            Authentication authentication
+    ) {
+        User user = (User) authentication.getPrincipal();
+        InterviewDTO created = interviewService.createInterview(user, applicationId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+    
+    /**
+     * PUT /api/applications/{applicationId}/interviews/{interviewId}
+     * Moving the interview schedules a new reminder
+     */
+    @PutMapping("/{interviewId}")
+    public ResponseEntity<InterviewDTO> updateInterview(
+            @PathVariable Long applicationId,
+            @PathVariable Long interviewId,
+            @Valid @RequestBody InterviewRequest request,
+            Authentication authentication
+    ) {
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(interviewService.updateInterview(user, applicationId, interviewId, request));
+    }
+    
+    /**
+     * DELETE /api/applications/{applicationId}/interviews/{interviewId}
+     */
+    @DeleteMapping("/{interviewId}")
+    public ResponseEntity<Void> deleteInterview(
+            @PathVariable Long applicationId,
+            @PathVariable Long interviewId,
+            Authentication authentication
+    ) {
+        User user = (User) authentication.getPrincipal();
+        interviewService.deleteInterview(user, applicationId, interviewId);
+        return ResponseEntity.noContent().build();
+    }
+}
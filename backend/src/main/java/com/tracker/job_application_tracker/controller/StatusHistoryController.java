@@ -0,0 +1,34 @@
+package com.tracker.job_application_tracker.controller;
+
+import com.tracker.job_application_tracker.dto.CursorPage;
+import com.tracker.job_application_tracker.dto.StatusHistoryDTO;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.service.StatusHistoryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Status history of an application, paginated with a cursor
+ */
+@RestController
+@RequestMapping("/api/applications/{applicationId}/history")
+public class StatusHistoryController {
+
+    private final StatusHistoryService statusHistoryService;
+
+    public StatusHistoryController(StatusHistoryService statusHistoryService) {
+        this.statusHistoryService = statusHistoryService;
+    }
+
+    @GetMapping
+    public ResponseEntity<CursorPage<StatusHistoryDTO>> getHistoryPage(
+            @PathVariable Long applicationId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication
+    ) {
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(statusHistoryService.getHistoryPage(user, applicationId, cursor, size));
+    }
+}
@@ -1,6 +1,7 @@
 package com.tracker.job_application_tracker.controller;
 
 import com.tracker.job_application_tracker.dto.CreateStudySessionRequest;
+import com.tracker.job_application_tracker.dto.CursorPage;
 import com.tracker.job_application_tracker.dto.StudySessionDTO;
 import com.tracker.job_application_tracker.model.User;
 import com.tracker.job_application_tracker.service.StudySessionService;
@@ -28,6 +29,15 @@ public class StudySessionController {
         return ResponseEntity.ok(studySessionService.getAllByUser(user));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<StudySessionDTO>> getPageByUser(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(studySessionService.getPageByUser(user, cursor, size));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<StudySessionDTO> getById(
             @PathVariable Long id,
@@ -1,6 +1,7 @@
 package com.tracker.job_application_tracker.controller;
 
 import com.tracker.job_application_tracker.dto.CreateTechnicalQuestionRequest;
+import com.tracker.job_application_tracker.dto.CursorPage;
 import com.tracker.job_application_tracker.dto.TechnicalQuestionDTO;
 import com.tracker.job_application_tracker.dto.UpdateTechnicalQuestionRequest;
 import com.tracker.job_application_tracker.enums.Category;
@@ -31,6 +32,15 @@ public class TechnicalQuestionController {
         return ResponseEntity.ok(technicalQuestionService.getAllByUser(user));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<TechnicalQuestionDTO>> getPageByUser(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(technicalQuestionService.getPageByUser(user, cursor, size));
+    }
+
     @GetMapping("/category/{category}")
     public ResponseEntity<List<TechnicalQuestionDTO>> getByCategory(
             @PathVariable Category category,
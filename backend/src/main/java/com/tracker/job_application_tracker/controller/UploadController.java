@@ -0,0 +1,123 @@
+package com.tracker.job_application_tracker.controller;
+
+import com.tracker.job_application_tracker.dto.DocumentDTO;
+import com.tracker.job_application_tracker.dto.UploadSessionDTO;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.service.ChunkedUploadService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.InputStream;
+import java.net.URI;
+
+/**
+ * REST Controller for resumable (chunked) uploads, for files above the 10MB single-request limit
+ * 
+ * Base URL: /api/applications/{applicationId}/uploads
+ * 
+ * 1. POST   ?filename=portfolio.pdf&size=...   -> upload id, chunk size, chunks to send
+ * 2. PATCH  /{uploadId}  Upload-Offset: n      -> one chunk per request, any order, in parallel
+ * 3. GET    /{uploadId}                        -> chunks still missing, to resume after a failure
+ * 4. POST   /{uploadId}/complete               -> the Document, as with a single-request upload
+ */
+@RestController
+@RequestMapping("/api/applications/{applicationId}/uploads")
+public class UploadController {
+    
+    public static final String UPLOAD_OFFSET = "Upload-Offset";
+    
+    private final ChunkedUploadService chunkedUploadService;
+    
+    public UploadController(ChunkedUploadService chunkedUploadService) {
+        this.chunkedUploadService = chunkedUploadService;
+    }
+    
+    /**
+     * POST /api/applications/{applicationId}/uploads?filename=...&size=...
+     * Start an upload; the file is preallocated at its final size
+     */
+    @PostMapping
+    public ResponseEntity<UploadSessionDTO> createUpload(
+            @PathVariable Long applicationId,
+            @RequestParam("filename") String filename,
+            @RequestParam("size") long size,
+            Authentication authentication
+    ) {
+        User user = (User) authentication.getPrincipal();
+        UploadSessionDTO upload = chunkedUploadService.createUpload(user, applicationId, filename, size);
+        
+        URI location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .path("/{uploadId}")
+                .buildAndExpand(upload.getId())
+                .toUri();
+        return ResponseEntity.created(location).body(upload);
+    }
+    
+    /**
+     * GET /api/applications/{applicationId}/uploads/{uploadId}
+     * State of an upload
+     */
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<UploadSessionDTO> getUpload(
+            @PathVariable Long applicationId,
+            @PathVariable String uploadId,
+            Authentication authentication
+    ) {
+        User user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(chunkedUploadService.getUpload(user, applicationId, uploadId));
+    }
+    
+    /**
+     * PATCH /api/applications/{applicationId}/uploads/{uploadId}
+     * Upload-Offset: byte offset of the chunk (a multiple of the chunk size)
+     * Content-Type: application/octet-stream, body written straight to its place in the file
+     */
+    @PatchMapping(value = "/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Void> writeChunk(
+            @PathVariable Long applicationId,
+            @PathVariable String uploadId,
+            @RequestHeader(UPLOAD_OFFSET) long offset,
+            InputStream body,
+            Authentication authentication
+    ) {
+        User user = (User) authentication.getPrincipal();
+        long end = chunkedUploadService.writeChunk(user, applicationId, uploadId, offset, body);
+        return ResponseEntity.noContent()
+                .header(UPLOAD_OFFSET, Long.toString(end))
+                .build();
+    }
+    
+    /**
+     * POST /api/applications/{applicationId}/uploads/{uploadId}/complete
+     * Store the file and create its document, once every chunk is written
+     */
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<DocumentDTO> completeUpload(
+            @PathVariable Long applicationId,
+            @PathVariable String uploadId,
+            Authentication authentication
+    ) {
+        User user = (User) authentication.getPrincipal();
+        DocumentDTO document = chunkedUploadService.completeUpload(user, applicationId, uploadId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(document);
+    }
+    
+    /**
+     * DELETE /api/applications/{applicationId}/uploads/{uploadId}
+     * Abandon an upload
+     */
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> abortUpload(
+            @PathVariable Long applicationId,
+            @PathVariable String uploadId,
+            Authentication authentication
+    ) {
+        User user = (User) authentication.getPrincipal();
+        chunkedUploadService.abortUpload(user, applicationId, uploadId);
+        return ResponseEntity.noContent().build();
+    }
+}
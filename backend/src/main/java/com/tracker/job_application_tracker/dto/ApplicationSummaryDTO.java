@@ -0,0 +1,87 @@
+package com.tracker.job_application_tracker.dto;
+
+import java.time.LocalDate;
+
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+
+/**
+ * Lightweight projection of an application for list views
+ * (GET /api/applications?view=summary)
+ *
+ * Built directly by a JPQL constructor expression: no notes,
+ * no documents and no status history are loaded
+ */
+public class ApplicationSummaryDTO {
+
+    private Long id;
+    private String company;
+    private String position;
+    private LocalDate applicationDate;
+    private ApplicationStatus currentStatus;
+    private long documentCount;
+
+    // === CONSTRUCTORS ===
+
+    public ApplicationSummaryDTO() {
+    }
+
+    public ApplicationSummaryDTO(Long id, String company, String position, LocalDate applicationDate,
+                                 ApplicationStatus currentStatus, Long documentCount) {
+        this.id = id;
+        this.company = company;
+        this.position = position;
+        this.applicationDate = applicationDate;
+        this.currentStatus = currentStatus;
+        this.documentCount = documentCount != null ? documentCount : 0;
+    }
+
+    // === GETTERS AND SETTERS ===
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public void setCompany(String company) {
+        this.company = company;
+    }
+
+    public String getPosition() {
+        return position;
+    }
+
+    public void setPosition(String position) {
+        this.position = position;
+    }
+
+    public LocalDate getApplicationDate() {
+        return applicationDate;
+    }
+
+    public void setApplicationDate(LocalDate applicationDate) {
+        this.applicationDate = applicationDate;
+    }
+
+    public ApplicationStatus getCurrentStatus() {
+        return currentStatus;
+    }
+
+    public void setCurrentStatus(ApplicationStatus currentStatus) {
+        this.currentStatus = currentStatus;
+    }
+
+    public long getDocumentCount() {
+        return documentCount;
+    }
+
+    public void setDocumentCount(long documentCount) {
+        this.documentCount = documentCount;
+    }
+}
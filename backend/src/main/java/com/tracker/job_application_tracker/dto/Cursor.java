@@ -0,0 +1,78 @@
+package com.tracker.job_application_tracker.dto;
+
+import com.tracker.job_application_tracker.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination
+ *
+ * A cursor holds the sort key and the id of the last row of a page,
+ * encoded as base64url("sortKey|id"). The next page is fetched with
+ * WHERE (sortKey, id) < (:sortKey, :id), which stays an index range scan
+ * at any depth, unlike OFFSET.
+ *
+ * A missing cursor means "first page": the keys are then the maximum values,
+ * so every row matches the keyset condition.
+ */
+public final class Cursor {
+
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+    private static final LocalDateTime MAX_DATE_TIME = MAX_DATE.atTime(23, 59, 59);
+    private static final char SEPARATOR = '|';
+
+    private final String key;
+    private final long id;
+
+    private Cursor(String key, long id) {
+        this.key = key;
+        this.id = id;
+    }
+
+    public static String encode(Object key, Long id) {
+        String raw = key + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return new Cursor(null, Long.MAX_VALUE);
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new InvalidCursorException("Invalid cursor: " + token);
+            }
+            return new Cursor(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException ex) {
+            // Also covers NumberFormatException
+            throw new InvalidCursorException("Invalid cursor: " + token);
+        }
+    }
+
+    public LocalDate dateKey() {
+        try {
+            return key == null ? MAX_DATE : LocalDate.parse(key);
+        } catch (DateTimeParseException ex) {
+            throw new InvalidCursorException("Invalid cursor key: " + key);
+        }
+    }
+
+    public LocalDateTime dateTimeKey() {
+        try {
+            return key == null ? MAX_DATE_TIME : LocalDateTime.parse(key);
+        } catch (DateTimeParseException ex) {
+            throw new InvalidCursorException("Invalid cursor key: " + key);
+        }
+    }
+
+    public long getId() {
+        return id;
+    }
+}
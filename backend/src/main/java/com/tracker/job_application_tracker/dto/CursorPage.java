@@ -0,0 +1,92 @@
+package com.tracker.job_application_tracker.dto;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keyset (cursor) page returned by every /scroll endpoint
+ *
+ * No total count is computed: the client follows nextCursor
+ * until hasNext is false
+ */
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    // === CONSTRUCTORS ===
+
+    public CursorPage() {
+    }
+
+    public CursorPage(List<T> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * Build a page from rows fetched with a limit of size + 1
+     * The extra row only tells whether another page exists and is not returned
+     *
+     * @param rows The rows fetched from the database (at most size + 1)
+     * @param size The requested page size
+     * @param mapper Converts a row into its DTO
+     * @param cursorOf Encodes the cursor pointing after a row
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, T> mapper, Function<E, String> cursorOf) {
+        return ofBatch(rows, size, pageRows -> pageRows.stream().map(mapper).collect(Collectors.toList()), cursorOf);
+    }
+
+    /**
+     * Same as {@link #of}, but the rows of the page are converted in one call
+     * (used when the conversion batch-loads associations)
+     */
+    public static <E, T> CursorPage<T> ofBatch(List<E> rows, int size, Function<List<E>, List<T>> converter,
+                                               Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null;
+
+        return new CursorPage<>(converter.apply(pageRows), nextCursor, hasNext);
+    }
+
+    /**
+     * Keep the requested page size between 1 and MAX_SIZE
+     */
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    // === GETTERS AND SETTERS ===
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,75 @@
+package com.tracker.job_application_tracker.dto;
+
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Job search dashboard (GET /api/dashboard)
+ * Read from the user_stats / user_monthly_stats counters, never from applications
+ */
+public class DashboardDTO {
+
+    private long totalApplications;
+    private long totalResponses;
+    private double responseRate;
+    private Map<ApplicationStatus, Long> statusBreakdown;
+    private Map<ApplicationStatus, Long> statusReached;
+    private List<MonthlyStatsDTO> applicationsPerMonth;
+
+    // === CONSTRUCTORS ===
+
+    public DashboardDTO() {
+    }
+
+    // === GETTERS AND SETTERS ===
+
+    public long getTotalApplications() {
+        return totalApplications;
+    }
+
+    public void setTotalApplications(long totalApplications) {
+        this.totalApplications = totalApplications;
+    }
+
+    public long getTotalResponses() {
+        return totalResponses;
+    }
+
+    public void setTotalResponses(long totalResponses) {
+        this.totalResponses = totalResponses;
+    }
+
+    public double getResponseRate() {
+        return responseRate;
+    }
+
+    public void setResponseRate(double responseRate) {
+        this.responseRate = responseRate;
+    }
+
+    public Map<ApplicationStatus, Long> getStatusBreakdown() {
+        return statusBreakdown;
+    }
+
+    public void setStatusBreakdown(Map<ApplicationStatus, Long> statusBreakdown) {
+        this.statusBreakdown = statusBreakdown;
+    }
+
+    public Map<ApplicationStatus, Long> getStatusReached() {
+        return statusReached;
+    }
+
+    public void setStatusReached(Map<ApplicationStatus, Long> statusReached) {
+        this.statusReached = statusReached;
+    }
+
+    public List<MonthlyStatsDTO> getApplicationsPerMonth() {
+        return applicationsPerMonth;
+    }
+
+    public void setApplicationsPerMonth(List<MonthlyStatsDTO> applicationsPerMonth) {
+        this.applicationsPerMonth = applicationsPerMonth;
+    }
+}
@@ -0,0 +1,62 @@
+package com.tracker.job_application_tracker.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Short-lived download link of a document
+ * The urls need no Authorization header: they can go straight into an <a href> or <img src>
+ * previewUrl is null for types without a preview (Word documents)
+ */
+public class DocumentLinkDTO {
+
+    private Long documentId;
+    private String url;
+    private String previewUrl;
+    private LocalDateTime expiresAt;
+
+    // === CONSTRUCTORS ===
+
+    public DocumentLinkDTO() {
+    }
+
+    public DocumentLinkDTO(Long documentId, String url, String previewUrl, LocalDateTime expiresAt) {
+        this.documentId = documentId;
+        this.url = url;
+        this.previewUrl = previewUrl;
+        this.expiresAt = expiresAt;
+    }
+
+    // === GETTERS AND SETTERS ===
+
+    public Long getDocumentId() {
+        return documentId;
+    }
+
+    public void setDocumentId(Long documentId) {
+        this.documentId = documentId;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getPreviewUrl() {
+        return previewUrl;
+    }
+
+    public void setPreviewUrl(String previewUrl) {
+        this.previewUrl = previewUrl;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,81 @@
+package com.tracker.job_application_tracker.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for an interview appointment
+ */
+public class InterviewDTO {
+    
+    private Long id;
+    private Long applicationId;
+    private LocalDateTime scheduledAt;
+    private String location;
+    private String notes;
+    private LocalDateTime reminderSentAt;
+    
+    // === CONSTRUCTORS ===
+    
+    public InterviewDTO() {
+    }
+    
+    public InterviewDTO(Long id, Long applicationId, LocalDateTime scheduledAt, String location, String notes,
+                        LocalDateTime reminderSentAt) {
+        this.id = id;
+        this.applicationId = applicationId;
+        this.scheduledAt = scheduledAt;
+        this.location = location;
+        this.notes = notes;
+        this.reminderSentAt = reminderSentAt;
+    }
+    
+    // === GETTERS AND SETTERS ===
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getApplicationId() {
+        return applicationId;
+    }
+    
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
+    
+    public LocalDateTime getScheduledAt() {
+        return scheduledAt;
+    }
+    
+    public void setScheduledAt(LocalDateTime scheduledAt) {
+        this.scheduledAt = scheduledAt;
+    }
+    
+    public String getLocation() {
+        return location;
+    }
+    
+    public void setLocation(String location) {
+        this.location = location;
+    }
+    
+    public String getNotes() {
+        return notes;
+    }
+    
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+    
+    public LocalDateTime getReminderSentAt() {
+        return reminderSentAt;
+    }
+    
+    public void setReminderSentAt(LocalDateTime reminderSentAt) {
+        this.reminderSentAt = reminderSentAt;
+    }
+}
@@ -0,0 +1,59 @@
+package com.tracker.job_application_tracker.dto;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for scheduling or moving an interview
+ */
+public class InterviewRequest {
+    
+    @NotNull(message = "Interview date and time are required")
+    @Future(message = "Interview must be in the future")
+    private LocalDateTime scheduledAt;
+    
+    @Size(max = 255, message = "Location must be at most 255 characters")
+    private String location; // Optional: address or video call link
+    
+    @Size(max = 2000, message = "Notes must be at most 2000 characters")
+    private String notes; // Optional field
+    
+    // === CONSTRUCTORS ===
+    
+    public InterviewRequest() {
+    }
+    
+    public InterviewRequest(LocalDateTime scheduledAt, String location, String notes) {
+        this.scheduledAt = scheduledAt;
+        this.location = location;
+        this.notes = notes;
+    }
+    
+    // === GETTERS AND SETTERS ===
+    
+    public LocalDateTime getScheduledAt() {
+        return scheduledAt;
+    }
+    
+    public void setScheduledAt(LocalDateTime scheduledAt) {
+        this.scheduledAt = scheduledAt;
+    }
+    
+    public String getLocation() {
+        return location;
+    }
+    
+    public void setLocation(String location) {
+        this.location = location;
+    }
+    
+    public String getNotes() {
+        return notes;
+    }
+    
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+}
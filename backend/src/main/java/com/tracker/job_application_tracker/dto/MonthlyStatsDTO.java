@@ -0,0 +1,50 @@
+package com.tracker.job_application_tracker.dto;
+
+import java.time.YearMonth;
+
+/**
+ * Applications and responses for one month of the dashboard
+ */
+public class MonthlyStatsDTO {
+
+    private YearMonth month;
+    private long applications;
+    private long responses;
+
+    // === CONSTRUCTORS ===
+
+    public MonthlyStatsDTO() {
+    }
+
+    public MonthlyStatsDTO(YearMonth month, long applications, long responses) {
+        this.month = month;
+        this.applications = applications;
+        this.responses = responses;
+    }
+
+    // === GETTERS AND SETTERS ===
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    public void setMonth(YearMonth month) {
+        this.month = month;
+    }
+
+    public long getApplications() {
+        return applications;
+    }
+
+    public void setApplications(long applications) {
+        this.applications = applications;
+    }
+
+    public long getResponses() {
+        return responses;
+    }
+
+    public void setResponses(long responses) {
+        this.responses = responses;
+    }
+}
@@ -0,0 +1,84 @@
+package com.tracker.job_application_tracker.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * State of a resumable upload
+ * Chunk i covers bytes [i * chunkSize, min((i + 1) * chunkSize, totalSize)); the client sends
+ * the chunks listed in missingChunks, in any order and in parallel, then completes the upload
+ */
+public class UploadSessionDTO {
+    
+    private String id;
+    private String originalFilename;
+    private long totalSize;
+    private int chunkSize;
+    private List<Integer> missingChunks;
+    private LocalDateTime expiresAt;
+    
+    // === CONSTRUCTORS ===
+    
+    public UploadSessionDTO() {
+    }
+    
+    public UploadSessionDTO(String id, String originalFilename, long totalSize, int chunkSize,
+                            List<Integer> missingChunks, LocalDateTime expiresAt) {
+        this.id = id;
+        this.originalFilename = originalFilename;
+        this.totalSize = totalSize;
+        this.chunkSize = chunkSize;
+        this.missingChunks = missingChunks;
+        this.expiresAt = expiresAt;
+    }
+    
+    // === GETTERS AND SETTERS ===
+    
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+    
+    public void setOriginalFilename(String originalFilename) {
+        this.originalFilename = originalFilename;
+    }
+    
+    public long getTotalSize() {
+        return totalSize;
+    }
+    
+    public void setTotalSize(long totalSize) {
+        this.totalSize = totalSize;
+    }
+    
+    public int getChunkSize() {
+        return chunkSize;
+    }
+    
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+    
+    public List<Integer> getMissingChunks() {
+        return missingChunks;
+    }
+    
+    public void setMissingChunks(List<Integer> missingChunks) {
+        this.missingChunks = missingChunks;
+    }
+    
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+    
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,14 @@
+package com.tracker.job_application_tracker.enums;
+
+/**
+ * Delivery state of an email in the outbox
+ * 
+ * PENDING = Waiting for its first or next attempt
+ * SENT = Accepted by the SMTP server
+ * DEAD = Given up after the last attempt, kept for inspection
+ */
+public enum EmailStatus {
+    PENDING,
+    SENT,
+    DEAD
+}
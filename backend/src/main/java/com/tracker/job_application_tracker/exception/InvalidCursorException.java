@@ -0,0 +1,12 @@
+package com.tracker.job_application_tracker.exception;
+
+/**
+ * Thrown when a pagination cursor cannot be decoded
+ * This will be mapped to HTTP 400 Bad Request
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.tracker.job_application_tracker.exception;
+
+/**
+ * Thrown when an uploaded file is rejected (empty, too large, type not allowed)
+ * Mapped to 400 Bad Request, unlike I/O failures which stay 500
+ */
+public class InvalidFileException extends FileStorageException {
+    
+    public InvalidFileException(String message) {
+        super(message);
+    }
+}
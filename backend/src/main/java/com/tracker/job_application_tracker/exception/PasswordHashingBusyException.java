@@ -0,0 +1,12 @@
+package com.tracker.job_application_tracker.exception;
+
+/**
+ * Thrown when the password hashing pool is saturated (queue full or wait too long)
+ * This will be mapped to HTTP 503 Service Unavailable, with a Retry-After header
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("Too many sign-in requests at the moment, please retry shortly");
+    }
+}
@@ -1,6 +1,8 @@
 package com.tracker.job_application_tracker.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -34,12 +36,20 @@ public class Application {
     private LocalDate applicationDate;
     
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(name = "current_status", nullable = false)
     private ApplicationStatus currentStatus;
     
     @Column(columnDefinition = "TEXT")
     private String notes;
     
+    /**
+     * Company, position, notes and document filenames in one FULLTEXT-indexed column
+     * Maintained by the service layer on every write, never exposed by the API
+     */
+    @Column(name = "search_text", columnDefinition = "TEXT")
+    private String searchText;
+    
     // === AUTOMATIC TIMESTAMPS ===
     
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -135,6 +145,14 @@ public class Application {
         this.notes = notes;
     }
 
+    public String getSearchText() {
+        return searchText;
+    }
+
+    public void setSearchText(String searchText) {
+        this.searchText = searchText;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -194,6 +212,20 @@ public class Application {
         this.documents = documents;
     }
 
+    // === RELATION WITH INTERVIEWS ===
+
+    @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("scheduledAt ASC")
+    private List<Interview> interviews = new ArrayList<>();
+
+    public List<Interview> getInterviews() {
+        return interviews;
+    }
+
+    public void setInterviews(List<Interview> interviews) {
+        this.interviews = interviews;
+    }
+
     // === RELATION WITH STATUS HISTORY ===
 
     @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true)
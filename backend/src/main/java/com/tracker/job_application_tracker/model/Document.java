@@ -19,6 +19,13 @@ public class Document {
     @JoinColumn(name = "application_id", nullable = false)
     private Application application;
     
+    /**
+     * Shared physical file (null for documents uploaded before content-addressed storage)
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blob_id")
+    private DocumentBlob blob;
+    
     @Column(name = "original_filename", nullable = false)
     private String originalFilename;
     
@@ -31,6 +38,12 @@ public class Document {
     @Column(name = "file_size")
     private Long fileSize;
     
+    /**
+     * Hex SHA-256 of the stored content, computed while the upload is written
+     */
+    @Column(name = "sha256", length = 64)
+    private String sha256;
+    
     @Column(name = "uploaded_at", nullable = false)
     private LocalDateTime uploadedAt;
     
@@ -73,6 +86,14 @@ public class Document {
         this.application = application;
     }
 
+    public DocumentBlob getBlob() {
+        return blob;
+    }
+
+    public void setBlob(DocumentBlob blob) {
+        this.blob = blob;
+    }
+
     public String getOriginalFilename() {
         return originalFilename;
     }
@@ -105,6 +126,14 @@ public class Document {
         this.fileSize = fileSize;
     }
 
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
     public LocalDateTime getUploadedAt() {
         return uploadedAt;
     }
@@ -0,0 +1,133 @@
+package com.tracker.job_application_tracker.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One physical file in the upload directory, shared by every document with the same content
+ * Identified by the SHA-256 of its content; ref_count is the number of documents pointing to it
+ *
+ * Table: document_blobs
+ */
+@Entity
+@Table(name = "document_blobs")
+public class DocumentBlob {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "sha256", nullable = false, unique = true, length = 64)
+    private String sha256;
+    
+    @Column(name = "stored_filename", nullable = false)
+    private String storedFilename;
+    
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+    
+    @Column(name = "content_type")
+    private String contentType;
+    
+    /**
+     * Changed only through DocumentBlobRepository relative updates, never through this field
+     */
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    /**
+     * Set when the last reference goes, cleared when a new upload of the same content revives the blob
+     * The row and its file are removed by StorageGarbageCollector once this is older than the grace period
+     */
+    @Column(name = "released_at")
+    private LocalDateTime releasedAt;
+    
+    // === HIBERNATE CALLBACK ===
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+    
+    // === CONSTRUCTORS ===
+    
+    public DocumentBlob() {
+    }
+    
+    public DocumentBlob(String sha256, String storedFilename, long fileSize, String contentType, int refCount) {
+        this.sha256 = sha256;
+        this.storedFilename = storedFilename;
+        this.fileSize = fileSize;
+        this.contentType = contentType;
+        this.refCount = refCount;
+    }
+    
+    // === GETTERS AND SETTERS ===
+    
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    public String getStoredFilename() {
+        return storedFilename;
+    }
+
+    public void setStoredFilename(String storedFilename) {
+        this.storedFilename = storedFilename;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public int getRefCount() {
+        return refCount;
+    }
+
+    public void setRefCount(int refCount) {
+        this.refCount = refCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getReleasedAt() {
+        return releasedAt;
+    }
+
+    public void setReleasedAt(LocalDateTime releasedAt) {
+        this.releasedAt = releasedAt;
+    }
+}
@@ -3,6 +3,8 @@ package com.tracker.job_application_tracker.model;
 import com.tracker.job_application_tracker.enums.Category;
 import com.tracker.job_application_tracker.enums.Difficulty;
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.LocalDateTime;
 
 @Entity
@@ -20,10 +22,12 @@ public class FlashCard {
     private String answer;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false)
     private Category category;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false)
     private Difficulty difficulty;
 
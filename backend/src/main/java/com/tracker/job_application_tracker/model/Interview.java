@@ -0,0 +1,116 @@
+package com.tracker.job_application_tracker.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * An interview appointment of an application
+ * A reminder email is sent interview.reminder.lead before scheduledAt (InterviewReminderJob);
+ * reminderSentAt is set once it is on its way, and cleared when the interview is moved
+ *
+ * Table: interviews
+ */
+@Entity
+@Table(name = "interviews")
+public class Interview {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "application_id", nullable = false)
+    private Application application;
+    
+    @Column(name = "scheduled_at", nullable = false)
+    private LocalDateTime scheduledAt;
+    
+    @Column
+    private String location;
+    
+    @Column(length = 2000)
+    private String notes;
+    
+    @Column(name = "reminder_sent_at")
+    private LocalDateTime reminderSentAt;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    // === HIBERNATE CALLBACK ===
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+    
+    // === CONSTRUCTORS ===
+    
+    public Interview() {
+    }
+    
+    public Interview(Application application, LocalDateTime scheduledAt, String location, String notes) {
+        this.application = application;
+        this.scheduledAt = scheduledAt;
+        this.location = location;
+        this.notes = notes;
+    }
+    
+    // === GETTERS AND SETTERS ===
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Application getApplication() {
+        return application;
+    }
+    
+    public void setApplication(Application application) {
+        this.application = application;
+    }
+    
+    public LocalDateTime getScheduledAt() {
+        return scheduledAt;
+    }
+    
+    public void setScheduledAt(LocalDateTime scheduledAt) {
+        this.scheduledAt = scheduledAt;
+    }
+    
+    public String getLocation() {
+        return location;
+    }
+    
+    public void setLocation(String location) {
+        this.location = location;
+    }
+    
+    public String getNotes() {
+        return notes;
+    }
+    
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+    
+    public LocalDateTime getReminderSentAt() {
+        return reminderSentAt;
+    }
+    
+    public void setReminderSentAt(LocalDateTime reminderSentAt) {
+        this.reminderSentAt = reminderSentAt;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
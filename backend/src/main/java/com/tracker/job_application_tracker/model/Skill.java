@@ -2,6 +2,8 @@ package com.tracker.job_application_tracker.model;
 
 import com.tracker.job_application_tracker.enums.Category;
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.LocalDateTime;
 
 @Entity
@@ -16,6 +18,7 @@ public class Skill {
     private String name;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false)
     private Category category;
 
@@ -2,6 +2,8 @@ package com.tracker.job_application_tracker.model;
 
 import com.tracker.job_application_tracker.enums.ApplicationStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.LocalDateTime;
 
 /**
@@ -21,6 +23,7 @@ public class StatusHistory {
     private Application application;
     
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(name = "status", nullable = false, length = 20)
     private ApplicationStatus status;
     
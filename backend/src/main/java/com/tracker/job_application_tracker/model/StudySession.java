@@ -2,6 +2,8 @@ package com.tracker.job_application_tracker.model;
 
 import com.tracker.job_application_tracker.enums.Category;
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -17,6 +19,7 @@ public class StudySession {
     private LocalDate date;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false)
     private Category topic;
 
@@ -2,6 +2,8 @@ package com.tracker.job_application_tracker.model;
 
 import com.tracker.job_application_tracker.enums.Category;
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.LocalDateTime;
 
 @Entity
@@ -19,6 +21,7 @@ public class TechnicalQuestion {
     private String answer;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false)
     private Category category;
 
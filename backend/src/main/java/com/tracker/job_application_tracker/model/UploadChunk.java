@@ -0,0 +1,82 @@
+package com.tracker.job_application_tracker.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A chunk of a resumable upload that has been written and flushed to disk
+ * Only ever inserted: concurrent chunks of one upload never update a shared row
+ *
+ * Table: upload_chunks
+ */
+@Entity
+@Table(name = "upload_chunks")
+@IdClass(UploadChunk.Key.class)
+public class UploadChunk {
+    
+    @Id
+    @Column(name = "upload_id", length = 36)
+    private String uploadId;
+    
+    @Id
+    @Column(name = "chunk_index")
+    private int chunkIndex;
+    
+    // === CONSTRUCTORS ===
+    
+    public UploadChunk() {
+    }
+    
+    public UploadChunk(String uploadId, int chunkIndex) {
+        this.uploadId = uploadId;
+        this.chunkIndex = chunkIndex;
+    }
+    
+    // === GETTERS AND SETTERS ===
+    
+    public String getUploadId() {
+        return uploadId;
+    }
+    
+    public void setUploadId(String uploadId) {
+        this.uploadId = uploadId;
+    }
+    
+    public int getChunkIndex() {
+        return chunkIndex;
+    }
+    
+    public void setChunkIndex(int chunkIndex) {
+        this.chunkIndex = chunkIndex;
+    }
+    
+    /**
+     * Composite primary key (upload_id, chunk_index)
+     */
+    public static class Key implements Serializable {
+        
+        private String uploadId;
+        private int chunkIndex;
+        
+        public Key() {
+        }
+        
+        public Key(String uploadId, int chunkIndex) {
+            this.uploadId = uploadId;
+            this.chunkIndex = chunkIndex;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return chunkIndex == key.chunkIndex && Objects.equals(uploadId, key.uploadId);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(uploadId, chunkIndex);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.tracker.job_application_tracker.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A resumable upload in progress, for one application
+ * The file is cut into fixed-size chunks (the last one may be shorter); the chunks
+ * already written are recorded as UploadChunk rows
+ *
+ * Table: upload_sessions
+ */
+@Entity
+@Table(name = "upload_sessions")
+public class UploadSession {
+    
+    /**
+     * Random UUID, also part of the name of the file receiving the chunks
+     */
+    @Id
+    @Column(length = 36)
+    private String id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "application_id", nullable = false)
+    private Application application;
+    
+    @Column(name = "original_filename", nullable = false)
+    private String originalFilename;
+    
+    @Column(name = "total_size", nullable = false)
+    private long totalSize;
+    
+    @Column(name = "chunk_size", nullable = false)
+    private int chunkSize;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    // === HIBERNATE CALLBACK ===
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+    
+    // === CONSTRUCTORS ===
+    
+    public UploadSession() {
+    }
+    
+    public UploadSession(String id, Application application, String originalFilename, long totalSize,
+                         int chunkSize, LocalDateTime expiresAt) {
+        this.id = id;
+        this.application = application;
+        this.originalFilename = originalFilename;
+        this.totalSize = totalSize;
+        this.chunkSize = chunkSize;
+        this.expiresAt = expiresAt;
+    }
+    
+    // === HELPER METHODS ===
+    
+    public int getChunkCount() {
+        return (int) ((totalSize + chunkSize - 1) / chunkSize);
+    }
+    
+    // === GETTERS AND SETTERS ===
+    
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public Application getApplication() {
+        return application;
+    }
+    
+    public void setApplication(Application application) {
+        this.application = application;
+    }
+    
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+    
+    public void setOriginalFilename(String originalFilename) {
+        this.originalFilename = originalFilename;
+    }
+    
+    public long getTotalSize() {
+        return totalSize;
+    }
+    
+    public void setTotalSize(long totalSize) {
+        this.totalSize = totalSize;
+    }
+    
+    public int getChunkSize() {
+        return chunkSize;
+    }
+    
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+    
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
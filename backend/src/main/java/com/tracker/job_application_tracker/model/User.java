@@ -2,6 +2,9 @@ package com.tracker.job_application_tracker.model;
 
 import com.tracker.job_application_tracker.enums.Role;
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -30,6 +33,7 @@ public class User {
     private boolean enabled = false;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false)
     private Role role = Role.USER;
 
@@ -39,6 +43,10 @@ public class User {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Monday of the last week whose digest was queued (WeeklyDigestJob)
+    @Column(name = "digest_sent_week")
+    private LocalDate digestSentWeek;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Application> applications = new ArrayList<>();
 
@@ -137,6 +145,14 @@ public class User {
         this.updatedAt = updatedAt;
     }
 
+    public LocalDate getDigestSentWeek() {
+        return digestSentWeek;
+    }
+
+    public void setDigestSentWeek(LocalDate digestSentWeek) {
+        this.digestSentWeek = digestSentWeek;
+    }
+
     public List<Application> getApplications() {
         return applications;
     }
@@ -0,0 +1,93 @@
+package com.tracker.job_application_tracker.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * Dashboard counters of a user for one calendar month of application date
+ * Maintained incrementally by UserStatsService
+ *
+ * Table: user_monthly_stats (one row per user and month)
+ */
+@Entity
+@Table(name = "user_monthly_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_monthly_stats_user_month", columnNames = {"user_id", "month_start"}))
+public class UserMonthlyStats {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    /**
+     * First day of the month
+     */
+    @Column(name = "month_start", nullable = false)
+    private LocalDate month;
+    
+    @Column(name = "applications", nullable = false)
+    private long applications;
+    
+    /**
+     * Applications of this month that got an answer (current status other than SENT)
+     */
+    @Column(name = "responses", nullable = false)
+    private long responses;
+    
+    // === CONSTRUCTORS ===
+    
+    public UserMonthlyStats() {
+    }
+    
+    public UserMonthlyStats(User user, LocalDate month, long applications, long responses) {
+        this.user = user;
+        this.month = month;
+        this.applications = applications;
+        this.responses = responses;
+    }
+    
+    // === GETTERS AND SETTERS ===
+    
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public LocalDate getMonth() {
+        return month;
+    }
+
+    public void setMonth(LocalDate month) {
+        this.month = month;
+    }
+
+    public long getApplications() {
+        return applications;
+    }
+
+    public void setApplications(long applications) {
+        this.applications = applications;
+    }
+
+    public long getResponses() {
+        return responses;
+    }
+
+    public void setResponses(long responses) {
+        this.responses = responses;
+    }
+}
@@ -0,0 +1,97 @@
+package com.tracker.job_application_tracker.model;
+
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Dashboard counters of a user for one application status
+ * Maintained incrementally by UserStatsService
+ *
+ * Table: user_stats (one row per user and status)
+ */
+@Entity
+@Table(name = "user_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_stats_user_status", columnNames = {"user_id", "status"}))
+public class UserStats {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "status", nullable = false, length = 20)
+    private ApplicationStatus status;
+    
+    /**
+     * Number of applications whose current status is this one
+     */
+    @Column(name = "application_count", nullable = false)
+    private long applicationCount;
+    
+    /**
+     * Number of status history entries with this status (how many times an application reached it)
+     */
+    @Column(name = "status_entries", nullable = false)
+    private long statusEntries;
+    
+    // === CONSTRUCTORS ===
+    
+    public UserStats() {
+    }
+    
+    public UserStats(User user, ApplicationStatus status, long applicationCount, long statusEntries) {
+        this.user = user;
+        this.status = status;
+        this.applicationCount = applicationCount;
+        this.statusEntries = statusEntries;
+    }
+    
+    // === GETTERS AND SETTERS ===
+    
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ApplicationStatus status) {
+        this.status = status;
+    }
+
+    public long getApplicationCount() {
+        return applicationCount;
+    }
+
+    public void setApplicationCount(long applicationCount) {
+        this.applicationCount = applicationCount;
+    }
+
+    public long getStatusEntries() {
+        return statusEntries;
+    }
+
+    public void setStatusEntries(long statusEntries) {
+        this.statusEntries = statusEntries;
+    }
+}
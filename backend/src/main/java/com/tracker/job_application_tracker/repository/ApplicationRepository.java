@@ -1,13 +1,19 @@
 package com.tracker.job_application_tracker.repository;
 
+import com.tracker.job_application_tracker.dto.ApplicationSummaryDTO;
 import com.tracker.job_application_tracker.enums.ApplicationStatus;
 import com.tracker.job_application_tracker.model.Application;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,20 +48,173 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
      */
     List<Application> findAllByOrderByApplicationDateDesc();
     
-    /**
-     * Find applications by company name (case-insensitive)
-     * 
-     * Generated SQL: SELECT * FROM applications WHERE LOWER(company) LIKE LOWER(?)
-     */
-    List<Application> findByCompanyContainingIgnoreCase(String company);
-
     List<Application> findByUserIdOrderByApplicationDateDesc(Long userId);
 
     List<Application> findByUserIdAndCurrentStatus(Long userId, ApplicationStatus status);
 
     Optional<Application> findByIdAndUserId(Long id, Long userId);
 
+    boolean existsByIdAndUserId(Long id, Long userId);
+
     Page<Application> findByUserId(Long userId, Pageable pageable);
 
     Page<Application> findByUserIdAndCurrentStatus(Long userId, ApplicationStatus status, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Summary projection for list views
+     * Only the list columns are selected and the document count comes from
+     * the same aggregate query (LEFT JOIN documents + GROUP BY)
+     */
+    @Query(value = "SELECT new com.tracker.job_application_tracker.dto.ApplicationSummaryDTO("
+            + "a.id, a.company, a.position, a.applicationDate, a.currentStatus, COUNT(d.id)) "
+            + "FROM Application a LEFT JOIN a.documents d "
+            + "WHERE a.user.id = :userId "
+            + "GROUP BY a.id, a.company, a.position, a.applicationDate, a.currentStatus",
+            countQuery = "SELECT COUNT(a) FROM Application a WHERE a.user.id = :userId")
+    Page<ApplicationSummaryDTO> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = "SELECT new com.tracker.job_application_tracker.dto.ApplicationSummaryDTO("
+            + "a.id, a.company, a.position, a.applicationDate, a.currentStatus, COUNT(d.id)) "
+            + "FROM Application a LEFT JOIN a.documents d "
+            + "WHERE a.user.id = :userId AND a.currentStatus = :status "
+            + "GROUP BY a.id, a.company, a.position, a.applicationDate, a.currentStatus",
+            countQuery = "SELECT COUNT(a) FROM Application a WHERE a.user.id = :userId AND a.currentStatus = :status")
+    Page<ApplicationSummaryDTO> findSummariesByUserIdAndCurrentStatus(@Param("userId") Long userId,
+                                                                      @Param("status") ApplicationStatus status,
+                                                                      Pageable pageable);
+
+    /**
+     * Full-text search over company, position, notes and document filenames (FULLTEXT on search_text)
+     * query is a MySQL boolean-mode expression; ids are returned by relevance, most recent first on ties
+     */
+    @Query(value = "SELECT a.id FROM applications a "
+            + "WHERE a.user_id = :userId AND MATCH (a.search_text) AGAINST (:query IN BOOLEAN MODE) "
+            + "ORDER BY MATCH (a.search_text) AGAINST (:query IN BOOLEAN MODE) DESC, "
+            + "a.application_date DESC, a.id DESC "
+            + "LIMIT :limit",
+            nativeQuery = true)
+    List<Long> searchIds(@Param("userId") Long userId,
+                         @Param("query") String query,
+                         @Param("limit") int limit);
+
+    /**
+     * searchIds restricted to the rows whose search_text also matches pattern (see searchIdsByPattern)
+     */
+    @Query(value = "SELECT a.id FROM applications a "
+            + "WHERE a.user_id = :userId AND MATCH (a.search_text) AGAINST (:query IN BOOLEAN MODE) "
+            + "AND REGEXP_LIKE(a.search_text, :pattern, 'in') "
+            + "ORDER BY MATCH (a.search_text) AGAINST (:query IN BOOLEAN MODE) DESC, "
+            + "a.application_date DESC, a.id DESC "
+            + "LIMIT :limit",
+            nativeQuery = true)
+    List<Long> searchIdsMatchingPattern(@Param("userId") Long userId,
+                                        @Param("query") String query,
+                                        @Param("pattern") String pattern,
+                                        @Param("limit") int limit);
+
+    /**
+     * Search for words the FULLTEXT index does not hold (shorter than innodb_ft_min_token_size, stopwords)
+     * pattern is a regular expression matched case-insensitively against search_text; the user's
+     * applications are walked most recent first through idx_applications_user_date
+     */
+    @Query(value = "SELECT a.id FROM applications a "
+            + "WHERE a.user_id = :userId AND REGEXP_LIKE(a.search_text, :pattern, 'in') "
+            + "ORDER BY a.application_date DESC, a.id DESC "
+            + "LIMIT :limit",
+            nativeQuery = true)
+    List<Long> searchIdsByPattern(@Param("userId") Long userId,
+                                  @Param("pattern") String pattern,
+                                  @Param("limit") int limit);
+
+    @Query("SELECT new com.tracker.job_application_tracker.dto.ApplicationSummaryDTO("
+            + "a.id, a.company, a.position, a.applicationDate, a.currentStatus, COUNT(d.id)) "
+            + "FROM Application a LEFT JOIN a.documents d "
+            + "WHERE a.id IN :ids "
+            + "GROUP BY a.id, a.company, a.position, a.applicationDate, a.currentStatus")
+    List<ApplicationSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Keyset page: applications strictly after (date, id) in (applicationDate DESC, id DESC) order
+     * No OFFSET and no COUNT, so the cost does not grow with the page depth
+     */
+    @Query("SELECT a FROM Application a "
+            + "WHERE a.user.id = :userId "
+            + "AND (a.applicationDate < :date OR (a.applicationDate = :date AND a.id < :id)) "
+            + "ORDER BY a.applicationDate DESC, a.id DESC")
+    List<Application> findPageByUserId(@Param("userId") Long userId,
+                                       @Param("date") LocalDate date,
+                                       @Param("id") Long id,
+                                       Limit limit);
+
+    @Query("SELECT a FROM Application a "
+            + "WHERE a.user.id = :userId AND a.currentStatus = :status "
+            + "AND (a.applicationDate < :date OR (a.applicationDate = :date AND a.id < :id)) "
+            + "ORDER BY a.applicationDate DESC, a.id DESC")
+    List<Application> findPageByUserIdAndCurrentStatus(@Param("userId") Long userId,
+                                                       @Param("status") ApplicationStatus status,
+                                                       @Param("date") LocalDate date,
+                                                       @Param("id") Long id,
+                                                       Limit limit);
+
+    /**
+     * Number of applications per current status, used to rebuild the dashboard counters
+     */
+    @Query("SELECT a.currentStatus AS status, COUNT(a) AS total FROM Application a "
+            + "WHERE a.user.id = :userId GROUP BY a.currentStatus")
+    List<StatusCount> countByStatusForUser(@Param("userId") Long userId);
+
+    /**
+     * Applications and responses (status other than :pending) per month of application date
+     */
+    @Query("SELECT YEAR(a.applicationDate) AS applicationYear, MONTH(a.applicationDate) AS applicationMonth, "
+            + "COUNT(a) AS applications, "
+            + "SUM(CASE WHEN a.currentStatus <> :pending THEN 1 ELSE 0 END) AS responses "
+            + "FROM Application a WHERE a.user.id = :userId "
+            + "GROUP BY YEAR(a.applicationDate), MONTH(a.applicationDate)")
+    List<MonthlyCount> countByMonthForUser(@Param("userId") Long userId,
+                                           @Param("pending") ApplicationStatus pending);
+
+    /**
+     * Applications dated in [from, to) per user, for a batch of users (weekly digest)
+     */
+    @Query("SELECT a.user.id AS userId, COUNT(a) AS total FROM Application a "
+            + "WHERE a.user.id IN :userIds AND a.applicationDate >= :from AND a.applicationDate < :to "
+            + "GROUP BY a.user.id")
+    List<UserCount> countByUserInPeriod(@Param("userIds") Collection<Long> userIds,
+                                        @Param("from") LocalDate from,
+                                        @Param("to") LocalDate to);
+
+    interface StatusCount {
+
+        ApplicationStatus getStatus();
+
+        long getTotal();
+    }
+
+    interface UserCount {
+
+        Long getUserId();
+
+        long getTotal();
+    }
+
+    interface UserStatusCount {
+
+        Long getUserId();
+
+        ApplicationStatus getStatus();
+
+        long getTotal();
+    }
+
+    interface MonthlyCount {
+
+        int getApplicationYear();
+
+        int getApplicationMonth();
+
+        long getApplications();
+
+        long getResponses();
+    }
+}
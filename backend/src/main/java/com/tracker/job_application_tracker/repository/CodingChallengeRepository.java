@@ -2,9 +2,13 @@ package com.tracker.job_application_tracker.repository;
 
 import com.tracker.job_application_tracker.enums.ChallengeStatus;
 import com.tracker.job_application_tracker.model.CodingChallenge;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -15,4 +19,31 @@ public interface CodingChallengeRepository extends JpaRepository<CodingChallenge
     List<CodingChallenge> findByUserIdAndStatus(Long userId, ChallengeStatus status);
 
     Long countByUserIdAndStatus(Long userId, ChallengeStatus status);
+
+    /**
+     * Keyset page ordered by (createdAt DESC, id DESC)
+     */
+    @Query("SELECT c FROM CodingChallenge c "
+            + "WHERE c.user.id = :userId "
+            + "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CodingChallenge> findPageByUserId(@Param("userId") Long userId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Limit limit);
+
+    /**
+     * Number of challenges per status in one GROUP BY query
+     * Statuses without any challenge are absent from the result
+     */
+    @Query("SELECT c.status AS status, COUNT(c) AS total FROM CodingChallenge c "
+            + "WHERE c.user.id = :userId GROUP BY c.status")
+    List<StatusCount> countByStatusForUser(@Param("userId") Long userId);
+
+    interface StatusCount {
+
+        ChallengeStatus getStatus();
+
+        long getTotal();
+    }
 }
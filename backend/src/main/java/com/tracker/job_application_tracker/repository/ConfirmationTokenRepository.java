@@ -1,13 +1,40 @@
 package com.tracker.job_application_tracker.repository;
 
 import com.tracker.job_application_tracker.model.ConfirmationToken;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ConfirmationTokenRepository extends JpaRepository<ConfirmationToken, Long> {
 
     Optional<ConfirmationToken> findByToken(String token);
+
+    /**
+     * Tokens expired before the given time, oldest first, locked FOR UPDATE SKIP LOCKED:
+     * purges running on several nodes take disjoint batches (lock timeout -2 = skip locked rows)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM ConfirmationToken t WHERE t.expiresAt < :expiredBefore ORDER BY t.expiresAt")
+    List<ConfirmationToken> findExpiredForUpdate(@Param("expiredBefore") LocalDateTime expiredBefore, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM ConfirmationToken t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT MIN(t.expiresAt) FROM ConfirmationToken t")
+    Optional<LocalDateTime> findOldestExpiry();
 }
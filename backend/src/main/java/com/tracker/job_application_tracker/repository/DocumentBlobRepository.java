@@ -0,0 +1,107 @@
+package com.tracker.job_application_tracker.repository;
+
+import com.tracker.job_application_tracker.model.DocumentBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for DocumentBlob entity
+ *
+ * Reference counts are changed with relative statements (ref_count = ref_count + :delta, or an upsert
+ * adding one reference), so concurrent uploads and deletes never overwrite each other
+ */
+@Repository
+public interface DocumentBlobRepository extends JpaRepository<DocumentBlob, Long> {
+
+    Optional<DocumentBlob> findBySha256(String sha256);
+
+    /**
+     * Add one reference to the blob with this content, creating it with initialRefCount when missing
+     * (and reviving it if it was released)
+     * Rendered as INSERT ... ON DUPLICATE KEY UPDATE on MySQL: two first uploads of the same
+     * content meet on uk_document_blobs_sha256 and the second one becomes an update
+     */
+    @Modifying
+    @Query("INSERT INTO DocumentBlob (sha256, storedFilename, fileSize, contentType, refCount, createdAt) "
+            + "VALUES (:sha256, :storedFilename, :fileSize, :contentType, :initialRefCount, :now) "
+            + "ON CONFLICT (sha256) DO UPDATE SET refCount = refCount + 1, releasedAt = NULL")
+    void upsertReference(@Param("sha256") String sha256,
+                         @Param("storedFilename") String storedFilename,
+                         @Param("fileSize") long fileSize,
+                         @Param("contentType") String contentType,
+                         @Param("initialRefCount") int initialRefCount,
+                         @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE DocumentBlob b SET b.refCount = b.refCount + :delta WHERE b.id = :id")
+    int addReferences(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * Drop the references held by the documents of an application, in one statement
+     * whatever the number of documents (to run before those documents are deleted)
+     */
+    @Modifying
+    @Query("UPDATE DocumentBlob b SET b.refCount = b.refCount - "
+            + "(SELECT COUNT(d) FROM Document d WHERE d.blob = b AND d.application.id = :applicationId) "
+            + "WHERE b.id IN (SELECT d.blob.id FROM Document d WHERE d.application.id = :applicationId)")
+    int releaseReferencesOfApplication(@Param("applicationId") Long applicationId);
+
+    /**
+     * Mark the blob for deletion once nothing points to it any more
+     * @return 1 when the blob was marked, 0 when it is still referenced (or already marked)
+     */
+    @Modifying
+    @Query("UPDATE DocumentBlob b SET b.releasedAt = :now "
+            + "WHERE b.id = :id AND b.refCount <= 0 AND b.releasedAt IS NULL")
+    int markReleasedIfUnreferenced(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Same as markReleasedIfUnreferenced, for every blob used by the documents of an application
+     */
+    @Modifying
+    @Query("UPDATE DocumentBlob b SET b.releasedAt = :now "
+            + "WHERE b.refCount <= 0 AND b.releasedAt IS NULL "
+            + "AND b.id IN (SELECT d.blob.id FROM Document d WHERE d.application.id = :applicationId)")
+    int markReleasedForApplication(@Param("applicationId") Long applicationId, @Param("now") LocalDateTime now);
+
+    /**
+     * Blobs released before the cutoff, oldest first
+     */
+    @Query("SELECT b FROM DocumentBlob b WHERE b.refCount <= 0 AND b.releasedAt < :cutoff ORDER BY b.releasedAt")
+    List<DocumentBlob> findReleasedBefore(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    /**
+     * Remove a released blob row, unless an upload of the same content revived it meanwhile
+     * @return 1 when the row was deleted
+     */
+    @Modifying
+    @Query("DELETE FROM DocumentBlob b WHERE b.id = :id AND b.refCount <= 0 AND b.releasedAt IS NOT NULL")
+    int deleteIfReleased(@Param("id") Long id);
+
+    @Query("SELECT b.storedFilename FROM DocumentBlob b WHERE b.storedFilename IN :filenames")
+    List<String> findStoredFilenamesIn(@Param("filenames") Collection<String> filenames);
+
+    /**
+     * Blobs stored under these filenames, locked FOR UPDATE
+     * On MySQL an absent name is gap-locked through idx_document_blobs_stored_filename:
+     * a blob inserted under it by a concurrent upload waits for this transaction
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM DocumentBlob b WHERE b.storedFilename IN :filenames")
+    List<DocumentBlob> findByStoredFilenameInForUpdate(@Param("filenames") Collection<String> filenames);
+
+    @Modifying
+    @Query("UPDATE DocumentBlob b SET b.storedFilename = :newName WHERE b.storedFilename = :oldName")
+    int renameStoredFile(@Param("oldName") String oldName, @Param("newName") String newName);
+}
@@ -1,10 +1,16 @@
 package com.tracker.job_application_tracker.repository;
 
 import com.tracker.job_application_tracker.model.Document;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for Document entity
@@ -18,7 +24,51 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
     List<Document> findByApplicationId(Long applicationId);
     
     /**
-     * Delete all documents for a specific application
+     * A document of the given application, only if that application belongs to the user
      */
-    void deleteByApplicationId(Long applicationId);
-}
\ No newline at end of file
+    Optional<Document> findByIdAndApplicationIdAndApplicationUserId(Long id, Long applicationId, Long userId);
+    
+    /**
+     * Find all documents for several applications in a single IN (...) query
+     */
+    List<Document> findByApplicationIdIn(Collection<Long> applicationIds);
+    
+    /**
+     * Delete all documents for a specific application, in one statement
+     * (the persistence context is flushed before and cleared after)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Document d WHERE d.application.id = :applicationId")
+    int deleteByApplicationId(@Param("applicationId") Long applicationId);
+    
+    /**
+     * All documents of a user with their application, in one query (archive export)
+     */
+    @Query("SELECT d FROM Document d JOIN FETCH d.application a "
+            + "WHERE a.user.id = :userId ORDER BY a.applicationDate DESC, a.id, d.id")
+    List<Document> findByUserIdWithApplication(@Param("userId") Long userId);
+    
+    /**
+     * Stored filenames still in the flat upload directory, by keyset batches of names
+     * (a name shared by several documents is returned once)
+     */
+    @Query("SELECT DISTINCT d.storedFilename FROM Document d "
+            + "WHERE d.storedFilename > :after AND d.storedFilename NOT LIKE '%/%' "
+            + "ORDER BY d.storedFilename")
+    List<String> findFlatStoredFilenamesAfter(@Param("after") String after, Limit limit);
+    
+    @Query("SELECT d.storedFilename FROM Document d WHERE d.storedFilename IN :filenames")
+    List<String> findStoredFilenamesIn(@Param("filenames") Collection<String> filenames);
+    
+    /**
+     * Documents by keyset batches of ids (stored file checks)
+     */
+    List<Document> findByIdGreaterThanOrderById(Long afterId, Limit limit);
+    
+    /**
+     * Point every document stored under oldName to newName
+     */
+    @Modifying
+    @Query("UPDATE Document d SET d.storedFilename = :newName WHERE d.storedFilename = :oldName")
+    int renameStoredFile(@Param("oldName") String oldName, @Param("newName") String newName);
+}
@@ -0,0 +1,41 @@
+package com.tracker.job_application_tracker.repository;
+
+import com.tracker.job_application_tracker.enums.EmailStatus;
+import com.tracker.job_application_tracker.model.EmailOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for EmailOutbox entity
+ */
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+    
+    /**
+     * Emails due for an attempt, oldest first, locked FOR UPDATE SKIP LOCKED:
+     * dispatchers running on several nodes claim disjoint batches without waiting for each other
+     * (lock timeout -2 = skip locked rows)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM EmailOutbox e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt")
+    List<EmailOutbox> findDueForUpdate(@Param("status") EmailStatus status, @Param("now") LocalDateTime now,
+                                       Limit limit);
+    
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = com.tracker.job_application_tracker.enums.EmailStatus.SENT, "
+            + "e.sentAt = :now, e.lastError = NULL WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
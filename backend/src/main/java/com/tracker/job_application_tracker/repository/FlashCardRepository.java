@@ -2,9 +2,14 @@ package com.tracker.job_application_tracker.repository;
 
 import com.tracker.job_application_tracker.enums.Category;
 import com.tracker.job_application_tracker.model.FlashCard;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,4 +20,41 @@ public interface FlashCardRepository extends JpaRepository<FlashCard, Long> {
     List<FlashCard> findByUserIdAndCategory(Long userId, Category category);
 
     Long countByUserId(Long userId);
+
+    /**
+     * Keyset page ordered by (createdAt DESC, id DESC)
+     */
+    @Query("SELECT f FROM FlashCard f "
+            + "WHERE f.user.id = :userId "
+            + "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) "
+            + "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FlashCard> findPageByUserId(@Param("userId") Long userId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Limit limit);
+
+    /**
+     * Total number of cards and number of cards reviewed since the given instant,
+     * computed by a single aggregate query (conditional SUM on last_reviewed)
+     */
+    @Query("SELECT COUNT(f) AS total, "
+            + "COALESCE(SUM(CASE WHEN f.lastReviewed >= :since THEN 1 ELSE 0 END), 0) AS reviewedSince "
+            + "FROM FlashCard f WHERE f.user.id = :userId")
+    ReviewCounts countReviewsForUser(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    /**
+     * Cards never reviewed or not reviewed since reviewedBefore, per user, for a batch of users (weekly digest)
+     */
+    @Query("SELECT f.user.id AS userId, COUNT(f) AS total FROM FlashCard f "
+            + "WHERE f.user.id IN :userIds AND (f.lastReviewed IS NULL OR f.lastReviewed < :reviewedBefore) "
+            + "GROUP BY f.user.id")
+    List<ApplicationRepository.UserCount> countDueByUser(@Param("userIds") Collection<Long> userIds,
+                                                         @Param("reviewedBefore") LocalDateTime reviewedBefore);
+
+    interface ReviewCounts {
+
+        long getTotal();
+
+        long getReviewedSince();
+    }
 }
@@ -0,0 +1,53 @@
+package com.tracker.job_application_tracker.repository;
+
+import com.tracker.job_application_tracker.model.Interview;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for Interview entity
+ */
+@Repository
+public interface InterviewRepository extends JpaRepository<Interview, Long> {
+    
+    List<Interview> findByApplicationIdAndApplicationUserIdOrderByScheduledAt(Long applicationId, Long userId);
+    
+    /**
+     * An interview of the given application, only if that application belongs to the user
+     */
+    Optional<Interview> findByIdAndApplicationIdAndApplicationUserId(Long id, Long applicationId, Long userId);
+    
+    /**
+     * Interviews still waiting for their reminder, up to :until, by keyset batches on (scheduledAt, id)
+     * Index: (reminder_sent_at, scheduled_at)
+     */
+    @Query("SELECT i FROM Interview i WHERE i.reminderSentAt IS NULL AND i.scheduledAt <= :until "
+            + "AND (i.scheduledAt > :afterScheduledAt OR (i.scheduledAt = :afterScheduledAt AND i.id > :afterId)) "
+            + "ORDER BY i.scheduledAt, i.id")
+    List<Interview> findAwaitingReminder(@Param("afterScheduledAt") LocalDateTime afterScheduledAt,
+                                         @Param("afterId") Long afterId,
+                                         @Param("until") LocalDateTime until,
+                                         Limit limit);
+    
+    /**
+     * Interviews with their application and user, in one query (reminder emails)
+     */
+    @Query("SELECT i FROM Interview i JOIN FETCH i.application a JOIN FETCH a.user WHERE i.id IN :ids")
+    List<Interview> findWithApplicationAndUserByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Claim the reminder of an interview: only one node (or one run) gets 1 for a given interview
+     */
+    @Modifying
+    @Query("UPDATE Interview i SET i.reminderSentAt = :now WHERE i.id = :id AND i.reminderSentAt IS NULL")
+    int markReminderSent(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
@@ -2,9 +2,20 @@ package com.tracker.job_application_tracker.repository;
 
 import com.tracker.job_application_tracker.model.RefreshToken;
 import com.tracker.job_application_tracker.model.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +24,20 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     Optional<RefreshToken> findByToken(String token);
 
     void deleteByUser(User user);
+
+    /**
+     * Tokens expired before the given time, oldest first, locked FOR UPDATE SKIP LOCKED
+     * (see ConfirmationTokenRepository.findExpiredForUpdate)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM RefreshToken t WHERE t.expiryDate < :expiredBefore ORDER BY t.expiryDate")
+    List<RefreshToken> findExpiredForUpdate(@Param("expiredBefore") LocalDateTime expiredBefore, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT MIN(t.expiryDate) FROM RefreshToken t")
+    Optional<LocalDateTime> findOldestExpiry();
 }
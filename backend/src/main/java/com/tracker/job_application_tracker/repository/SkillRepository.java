@@ -2,6 +2,8 @@ package com.tracker.job_application_tracker.repository;
 
 import com.tracker.job_application_tracker.model.Skill;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +15,10 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     List<Skill> findByUserIdOrderByCategoryAsc(Long userId);
 
     Optional<Skill> findByUserIdAndId(Long userId, Long id);
+
+    /**
+     * Average skill level, null when the user has no skill
+     */
+    @Query("SELECT AVG(s.level) FROM Skill s WHERE s.user.id = :userId")
+    Double averageLevel(@Param("userId") Long userId);
 }
@@ -1,9 +1,14 @@
 package com.tracker.job_application_tracker.repository;
 
 import com.tracker.job_application_tracker.model.StatusHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -17,4 +22,47 @@ public interface StatusHistoryRepository extends JpaRepository<StatusHistory, Lo
      * Ordered by changedAt DESC (most recent first)
      */
     List<StatusHistory> findByApplicationIdOrderByChangedAtDesc(Long applicationId);
-}
\ No newline at end of file
+    
+    /**
+     * Find the status history of several applications in a single IN (...) query
+     * Ordered by changedAt DESC (most recent first)
+     */
+    List<StatusHistory> findByApplicationIdInOrderByChangedAtDesc(Collection<Long> applicationIds);
+    
+    /**
+     * Keyset page: history entries strictly after (changedAt, id) in (changedAt DESC, id DESC) order
+     */
+    @Query("SELECT h FROM StatusHistory h "
+            + "WHERE h.application.id = :applicationId "
+            + "AND (h.changedAt < :changedAt OR (h.changedAt = :changedAt AND h.id < :id)) "
+            + "ORDER BY h.changedAt DESC, h.id DESC")
+    List<StatusHistory> findPageByApplicationId(@Param("applicationId") Long applicationId,
+                                                @Param("changedAt") LocalDateTime changedAt,
+                                                @Param("id") Long id,
+                                                Limit limit);
+    
+    /**
+     * Number of history entries per status over all applications of a user
+     */
+    @Query("SELECT h.status AS status, COUNT(h) AS total FROM StatusHistory h "
+            + "WHERE h.application.user.id = :userId GROUP BY h.status")
+    List<ApplicationRepository.StatusCount> countByStatusForUser(@Param("userId") Long userId);
+    
+    /**
+     * Number of history entries per status for one application
+     */
+    @Query("SELECT h.status AS status, COUNT(h) AS total FROM StatusHistory h "
+            + "WHERE h.application.id = :applicationId GROUP BY h.status")
+    List<ApplicationRepository.StatusCount> countByStatusForApplication(@Param("applicationId") Long applicationId);
+    
+    /**
+     * History entries in [from, to) per user and status, for a batch of users (weekly digest)
+     */
+    @Query("SELECT a.user.id AS userId, h.status AS status, COUNT(h) AS total FROM StatusHistory h "
+            + "JOIN h.application a "
+            + "WHERE a.user.id IN :userIds AND h.changedAt >= :from AND h.changedAt < :to "
+            + "GROUP BY a.user.id, h.status")
+    List<ApplicationRepository.UserStatusCount> countByUserAndStatusInPeriod(@Param("userIds") Collection<Long> userIds,
+                                                                             @Param("from") LocalDateTime from,
+                                                                             @Param("to") LocalDateTime to);
+}
@@ -1,10 +1,14 @@
 package com.tracker.job_application_tracker.repository;
 
 import com.tracker.job_application_tracker.model.StudySession;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,4 +17,32 @@ public interface StudySessionRepository extends JpaRepository<StudySession, Long
     List<StudySession> findByUserIdOrderByDateDesc(Long userId);
 
     List<StudySession> findByUserIdAndDateBetween(Long userId, LocalDate start, LocalDate end);
+
+    /**
+     * Keyset page ordered by (date DESC, id DESC)
+     */
+    @Query("SELECT s FROM StudySession s "
+            + "WHERE s.user.id = :userId "
+            + "AND (s.date < :date OR (s.date = :date AND s.id < :id)) "
+            + "ORDER BY s.date DESC, s.id DESC")
+    List<StudySession> findPageByUserId(@Param("userId") Long userId,
+                                        @Param("date") LocalDate date,
+                                        @Param("id") Long id,
+                                        Limit limit);
+
+    @Query("SELECT COALESCE(SUM(s.durationMinutes), 0) FROM StudySession s "
+            + "WHERE s.user.id = :userId AND s.date BETWEEN :start AND :end")
+    long sumDurationMinutes(@Param("userId") Long userId,
+                            @Param("start") LocalDate start,
+                            @Param("end") LocalDate end);
+
+    /**
+     * Study minutes in [from, to) per user, for a batch of users (weekly digest)
+     */
+    @Query("SELECT s.user.id AS userId, SUM(s.durationMinutes) AS total FROM StudySession s "
+            + "WHERE s.user.id IN :userIds AND s.date >= :from AND s.date < :to "
+            + "GROUP BY s.user.id")
+    List<ApplicationRepository.UserCount> sumDurationMinutesByUser(@Param("userIds") Collection<Long> userIds,
+                                                                   @Param("from") LocalDate from,
+                                                                   @Param("to") LocalDate to);
 }
@@ -2,9 +2,13 @@ package com.tracker.job_application_tracker.repository;
 
 import com.tracker.job_application_tracker.enums.Category;
 import com.tracker.job_application_tracker.model.TechnicalQuestion;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -13,4 +17,16 @@ public interface TechnicalQuestionRepository extends JpaRepository<TechnicalQues
     List<TechnicalQuestion> findByUserIdOrderByCreatedAtDesc(Long userId);
 
     List<TechnicalQuestion> findByUserIdAndCategory(Long userId, Category category);
+
+    /**
+     * Keyset page ordered by (createdAt DESC, id DESC)
+     */
+    @Query("SELECT q FROM TechnicalQuestion q "
+            + "WHERE q.user.id = :userId "
+            + "AND (q.createdAt < :createdAt OR (q.createdAt = :createdAt AND q.id < :id)) "
+            + "ORDER BY q.createdAt DESC, q.id DESC")
+    List<TechnicalQuestion> findPageByUserId(@Param("userId") Long userId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Limit limit);
 }
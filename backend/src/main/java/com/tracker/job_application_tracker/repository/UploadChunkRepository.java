@@ -0,0 +1,26 @@
+package com.tracker.job_application_tracker.repository;
+
+import com.tracker.job_application_tracker.model.UploadChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for UploadChunk entity
+ */
+@Repository
+public interface UploadChunkRepository extends JpaRepository<UploadChunk, UploadChunk.Key> {
+    
+    long countByUploadId(String uploadId);
+    
+    @Query("SELECT c.chunkIndex FROM UploadChunk c WHERE c.uploadId = :uploadId ORDER BY c.chunkIndex")
+    List<Integer> findChunkIndexes(@Param("uploadId") String uploadId);
+    
+    @Modifying
+    @Query("DELETE FROM UploadChunk c WHERE c.uploadId = :uploadId")
+    int deleteByUploadId(@Param("uploadId") String uploadId);
+}
@@ -0,0 +1,41 @@
+package com.tracker.job_application_tracker.repository;
+
+import com.tracker.job_application_tracker.model.UploadSession;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for UploadSession entity
+ */
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+    
+    /**
+     * An upload of the given application, only if that application belongs to the user
+     */
+    Optional<UploadSession> findByIdAndApplicationIdAndApplicationUserId(String id, Long applicationId, Long userId);
+    
+    /**
+     * Number of the user's uploads not expired yet
+     */
+    long countByApplicationUserIdAndExpiresAtAfter(Long userId, LocalDateTime now);
+    
+    /**
+     * Bytes reserved on disk by the user's uploads not expired yet
+     */
+    @Query("SELECT COALESCE(SUM(s.totalSize), 0) FROM UploadSession s "
+            + "WHERE s.application.user.id = :userId AND s.expiresAt > :now")
+    long sumTotalSizeOfActiveUploads(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+    
+    /**
+     * Abandoned uploads, oldest first, by batches
+     */
+    List<UploadSession> findByExpiresAtBeforeOrderByExpiresAt(LocalDateTime now, Limit limit);
+}
@@ -0,0 +1,39 @@
+package com.tracker.job_application_tracker.repository;
+
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.model.UserMonthlyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for UserMonthlyStats entity
+ */
+@Repository
+public interface UserMonthlyStatsRepository extends JpaRepository<UserMonthlyStats, Long> {
+
+    List<UserMonthlyStats> findByUserIdOrderByMonthAsc(Long userId);
+
+    /**
+     * Add the deltas to the counters, creating the row (negative deltas floored at 0) when missing
+     * Single upsert on uk_user_monthly_stats_user_month, safe against concurrent first writes
+     */
+    @Modifying
+    @Query("INSERT INTO UserMonthlyStats (user, month, applications, responses) "
+            + "VALUES (:user, :month, greatest(:applicationsDelta, 0), greatest(:responsesDelta, 0)) "
+            + "ON CONFLICT (user, month) DO UPDATE SET applications = applications + :applicationsDelta, "
+            + "responses = responses + :responsesDelta")
+    void increment(@Param("user") User user,
+                   @Param("month") LocalDate month,
+                   @Param("applicationsDelta") long applicationsDelta,
+                   @Param("responsesDelta") long responsesDelta);
+
+    @Modifying
+    @Query("DELETE FROM UserMonthlyStats s WHERE s.user.id = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+}
@@ -1,9 +1,21 @@
 package com.tracker.job_application_tracker.repository;
 
 import com.tracker.job_application_tracker.model.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +24,36 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    /**
+     * Replace a password hash only if it is still the one that was verified (rehash on login):
+     * a password reset committed meanwhile is never overwritten
+     * Own transaction: the login path runs without one, so as not to hold a connection while hashing
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int updatePasswordIfUnchanged(@Param("id") Long id, @Param("oldHash") String oldHash,
+                                  @Param("newHash") String newHash);
+
+    /**
+     * Keyset batch of user ids, used by background jobs that walk all users
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Enabled users of the batch whose digest for the week is not queued yet, locked FOR UPDATE
+     * SKIP LOCKED: a second run (or node) skips the users being processed instead of waiting
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT u FROM User u WHERE u.id IN :ids AND u.enabled = true "
+            + "AND (u.digestSentWeek IS NULL OR u.digestSentWeek < :weekStart)")
+    List<User> findAwaitingDigestForUpdate(@Param("ids") Collection<Long> ids,
+                                           @Param("weekStart") LocalDate weekStart);
+
+    @Modifying
+    @Query("UPDATE User u SET u.digestSentWeek = :weekStart WHERE u.id IN :ids")
+    int markDigestSent(@Param("ids") Collection<Long> ids, @Param("weekStart") LocalDate weekStart);
 }
@@ -0,0 +1,43 @@
+package com.tracker.job_application_tracker.repository;
+
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.model.UserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for UserStats entity
+ *
+ * Counters are changed with a single upsert adding the deltas to the stored values,
+ * so concurrent writers never overwrite each other's increments
+ */
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    List<UserStats> findByUserId(Long userId);
+
+    /**
+     * Add the deltas to the counters, creating the row (negative deltas floored at 0) when missing
+     * Rendered as INSERT ... ON DUPLICATE KEY UPDATE on MySQL: two first writes of the same
+     * user and status meet on uk_user_stats_user_status and the second one becomes an update
+     */
+    @Modifying
+    @Query("INSERT INTO UserStats (user, status, applicationCount, statusEntries) "
+            + "VALUES (:user, :status, greatest(:delta, 0), greatest(:entriesDelta, 0)) "
+            + "ON CONFLICT (user, status) DO UPDATE SET applicationCount = applicationCount + :delta, "
+            + "statusEntries = statusEntries + :entriesDelta")
+    void increment(@Param("user") User user,
+                   @Param("status") ApplicationStatus status,
+                   @Param("delta") long delta,
+                   @Param("entriesDelta") long entriesDelta);
+
+    @Modifying
+    @Query("DELETE FROM UserStats s WHERE s.user.id = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+}
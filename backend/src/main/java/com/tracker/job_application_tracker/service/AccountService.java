@@ -0,0 +1,35 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.dto.RegisterRequest;
+
+/**
+ * Service interface for the account flows that write a user, a confirmation token
+ * and an email (outbox) together, each in one transaction
+ *
+ * Passwords arrive already hashed: the caller hashes them (PasswordHasher, ~250 ms of CPU)
+ * before the transaction opens, so no database connection is held meanwhile
+ */
+public interface AccountService {
+
+    /**
+     * Create the user (disabled until confirmed), its confirmation token and the confirmation email
+     *
+     * @throws com.tracker.job_application_tracker.exception.UserAlreadyExistsException when the email is taken
+     */
+    void register(RegisterRequest request, String passwordHash);
+
+    /**
+     * Create a reset token for the user and queue the password reset email
+     *
+     * @throws com.tracker.job_application_tracker.exception.ResourceNotFoundException when no user has this email
+     */
+    void requestPasswordReset(String email);
+
+    /**
+     * Set the new password of the token's user and use up the token, together
+     *
+     * @throws com.tracker.job_application_tracker.exception.InvalidTokenException when the token is unknown or used
+     * @throws com.tracker.job_application_tracker.exception.TokenExpiredException when the token has expired
+     */
+    void resetPassword(String token, String passwordHash);
+}
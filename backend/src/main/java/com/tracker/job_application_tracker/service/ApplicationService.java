@@ -1,7 +1,9 @@
 package com.tracker.job_application_tracker.service;
 
 import com.tracker.job_application_tracker.dto.ApplicationDTO;
+import com.tracker.job_application_tracker.dto.ApplicationSummaryDTO;
 import com.tracker.job_application_tracker.dto.CreateApplicationRequest;
+import com.tracker.job_application_tracker.dto.CursorPage;
 import com.tracker.job_application_tracker.dto.UpdateApplicationRequest;
 import com.tracker.job_application_tracker.enums.ApplicationStatus;
 import com.tracker.job_application_tracker.model.User;
@@ -21,6 +23,22 @@ public interface ApplicationService {
 
     Page<ApplicationDTO> getApplicationsByStatus(User user, ApplicationStatus status, Pageable pageable);
 
+    /**
+     * Keyset page ordered by (applicationDate DESC, id DESC)
+     * status is optional, cursor is null for the first page
+     */
+    CursorPage<ApplicationDTO> getApplicationsPage(User user, ApplicationStatus status, String cursor, int size);
+
+    Page<ApplicationSummaryDTO> getApplicationSummaries(User user, Pageable pageable);
+
+    Page<ApplicationSummaryDTO> getApplicationSummariesByStatus(User user, ApplicationStatus status, Pageable pageable);
+
+    /**
+     * Full-text search over company, position, notes and document filenames
+     * Every term must match (as a prefix), results ordered by relevance
+     */
+    List<ApplicationSummaryDTO> searchApplications(User user, String query, int size);
+
     ApplicationDTO getApplicationById(User user, Long id);
 
     ApplicationDTO createApplication(User user, CreateApplicationRequest request);
@@ -0,0 +1,52 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.dto.DocumentDTO;
+import com.tracker.job_application_tracker.dto.UploadSessionDTO;
+import com.tracker.job_application_tracker.model.User;
+
+import java.io.InputStream;
+
+/**
+ * Service interface for resumable (chunked) uploads
+ * 
+ * create -> write chunks at their offset (any order, in parallel, again after a failure) -> complete
+ * Completing creates the Document exactly like a single-request upload
+ */
+public interface ChunkedUploadService {
+    
+    /**
+     * Start an upload of totalSize bytes for one of the user's applications
+     * Refused beyond the per-user caps on uploads in progress (file.chunked.max-active-per-user,
+     * file.chunked.max-reserved-per-user)
+     */
+    UploadSessionDTO createUpload(User user, Long applicationId, String originalFilename, long totalSize);
+    
+    /**
+     * Current state of an upload, with the chunks still to send (to resume after a failure)
+     */
+    UploadSessionDTO getUpload(User user, Long applicationId, String uploadId);
+    
+    /**
+     * Write the chunk starting at offset (a multiple of the chunk size)
+     * 
+     * @return The offset right after the chunk
+     */
+    long writeChunk(User user, Long applicationId, String uploadId, long offset, InputStream content);
+    
+    /**
+     * Store the file once every chunk is written and create its document
+     */
+    DocumentDTO completeUpload(User user, Long applicationId, String uploadId);
+    
+    /**
+     * Abandon an upload and drop what was written
+     */
+    void abortUpload(User user, Long applicationId, String uploadId);
+    
+    /**
+     * Drop one batch of expired uploads
+     * 
+     * @return The number of uploads dropped (fewer than batchSize at the end)
+     */
+    int deleteExpiredUploads(int batchSize);
+}
@@ -2,6 +2,7 @@ package com.tracker.job_application_tracker.service;
 
 import com.tracker.job_application_tracker.dto.CodingChallengeDTO;
 import com.tracker.job_application_tracker.dto.CreateCodingChallengeRequest;
+import com.tracker.job_application_tracker.dto.CursorPage;
 import com.tracker.job_application_tracker.dto.UpdateCodingChallengeRequest;
 import com.tracker.job_application_tracker.enums.ChallengeStatus;
 import com.tracker.job_application_tracker.model.User;
@@ -12,6 +13,8 @@ public interface CodingChallengeService {
 
     List<CodingChallengeDTO> getAllByUser(User user);
 
+    CursorPage<CodingChallengeDTO> getPageByUser(User user, String cursor, int size);
+
     List<CodingChallengeDTO> getByStatus(User user, ChallengeStatus status);
 
     CodingChallengeDTO getById(Long id, User user);
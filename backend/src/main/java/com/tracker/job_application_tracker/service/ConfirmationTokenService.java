@@ -3,6 +3,9 @@ package com.tracker.job_application_tracker.service;
 import com.tracker.job_application_tracker.model.ConfirmationToken;
 import com.tracker.job_application_tracker.model.User;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 public interface ConfirmationTokenService {
 
     ConfirmationToken createToken(User user);
@@ -10,4 +13,16 @@ public interface ConfirmationTokenService {
     ConfirmationToken getToken(String token);
 
     void confirmToken(String token);
+
+    /**
+     * Delete one batch of tokens expired before expiredBefore, in its own transaction
+     *
+     * @return The number of tokens deleted; less than batchSize when none are left
+     */
+    int purgeExpiredTokens(LocalDateTime expiredBefore, int batchSize);
+
+    /**
+     * Earliest expiry among the stored tokens, empty when there are none
+     */
+    Optional<LocalDateTime> findOldestExpiry();
 }
@@ -0,0 +1,103 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.service.DocumentService.ArchiveEntry;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes stored documents as a ZIP archive, built while it is sent
+ *
+ * - One 64 KB buffer for the whole archive: heap use does not depend on the number or size of files,
+ *   and nothing is spooled to disk (ZIP64 is switched on by ZipOutputStream when needed)
+ * - Already-compressed types (PDF, JPEG, PNG, MP4) are STORED: deflating them again costs CPU for nothing.
+ *   A STORED entry needs its CRC-32 before its data, so local files are read twice (the second read
+ *   comes from the page cache); files on a remote store are read once, deflated at level 0
+ * - Other types (Word documents) are deflated
+ */
+@Service
+public class DocumentArchiveService {
+
+    public static final String CONTENT_TYPE = "application/zip";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileStorageService fileStorageService;
+
+    public DocumentArchiveService(FileStorageService fileStorageService) {
+        this.fileStorageService = fileStorageService;
+    }
+
+    public static boolean isCompressed(String contentType) {
+        return "application/pdf".equals(contentType)
+                || "image/jpeg".equals(contentType)
+                || "image/jpg".equals(contentType)
+                || "image/png".equals(contentType)
+                || "video/mp4".equals(contentType);
+    }
+
+    /**
+     * Write the archive to out; out is left open (it belongs to the servlet container)
+     */
+    public void writeZip(List<ArchiveEntry> entries, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        for (ArchiveEntry entry : entries) {
+            Optional<Path> localPath = fileStorageService.localPath(entry.key());
+            ZipEntry zipEntry = new ZipEntry(entry.name());
+            zipEntry.setTimeLocal(entry.uploadedAt());
+
+            if (isCompressed(entry.contentType()) && localPath.isPresent()) {
+                long size = Files.size(localPath.get());
+                zipEntry.setMethod(ZipEntry.STORED);
+                zipEntry.setSize(size);
+                zipEntry.setCompressedSize(size);
+                zipEntry.setCrc(crc32(localPath.get(), buffer));
+            } else {
+                zipEntry.setMethod(ZipEntry.DEFLATED);
+                zip.setLevel(isCompressed(entry.contentType()) ? Deflater.NO_COMPRESSION : Deflater.DEFAULT_COMPRESSION);
+            }
+
+            zip.putNextEntry(zipEntry);
+            try (InputStream content = localPath.isPresent()
+                    ? Files.newInputStream(localPath.get())
+                    : fileStorageService.open(entry.key())) {
+                copy(content, zip, buffer);
+            }
+            zip.closeEntry();
+        }
+
+        // Central directory; closing would also close the response stream
+        zip.finish();
+        zip.flush();
+    }
+
+    private static long crc32(Path path, byte[] buffer) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream content = Files.newInputStream(path)) {
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static void copy(InputStream in, OutputStream out, byte[] buffer) throws IOException {
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package com.tracker.job_application_tracker.service;
 
 import com.tracker.job_application_tracker.dto.DocumentDTO;
+import com.tracker.job_application_tracker.dto.DocumentLinkDTO;
+import com.tracker.job_application_tracker.model.User;
 import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Service interface for Document management
@@ -17,9 +26,35 @@ public interface DocumentService {
     List<DocumentDTO> getDocumentsByApplicationId(Long applicationId);
     
     /**
-     * Upload a document for an application
+     * Get the documents of several applications at once, grouped by application id
+     * Applications without documents are absent from the map
      */
-    DocumentDTO uploadDocument(Long applicationId, MultipartFile file);
+    Map<Long, List<DocumentDTO>> getDocumentsByApplicationIds(Collection<Long> applicationIds);
+    
+    /**
+     * Upload a document for one of the user's applications
+     */
+    DocumentDTO uploadDocument(User user, Long applicationId, MultipartFile file);
+    
+    /**
+     * Upload a document for one of the user's applications from a raw stream (no multipart),
+     * written to disk in a single pass
+     * @throws com.tracker.job_application_tracker.exception.ResourceNotFoundException when the application
+     *         is not the user's, before the body is read
+     */
+    DocumentDTO uploadDocument(User user, Long applicationId, String originalFilename, InputStream content);
+    
+    /**
+     * Create the document of a file already staged (completed chunked upload)
+     * The staged file is published here when its content is new; closing it stays with the caller
+     */
+    DocumentDTO createDocument(Long applicationId, String originalFilename, FileStorageService.StagedFile stagedFile);
+    
+    /**
+     * Attach an existing document of the user to another of their applications
+     * The file is shared, not copied
+     */
+    DocumentDTO attachDocument(User user, Long applicationId, Long sourceDocumentId);
     
     /**
      * Download a specific document
@@ -27,12 +62,118 @@ public interface DocumentService {
     Resource downloadDocument(Long documentId);
     
     /**
-     * Delete a specific document
+     * Stored file and validators (SHA-256, upload date) of one of the user's documents,
+     * for ranged and conditional downloads
+     * @throws com.tracker.job_application_tracker.exception.ResourceNotFoundException when the document
+     *         is not in that application, or the application is not the user's
+     */
+    DocumentFile getDocumentFile(User user, Long applicationId, Long documentId);
+    
+    /**
+     * Preview image of one of the user's documents (PNG), generated in the background after upload
+     * @throws com.tracker.job_application_tracker.exception.ResourceNotFoundException while it is not ready yet,
+     *         or when the document is not in that application or the application is not the user's
      */
-    void deleteDocument(Long documentId);
+    DocumentFile getDocumentPreview(User user, Long applicationId, Long documentId);
+    
+    /**
+     * Short-lived download link of one of the user's documents, usable without the Authorization header
+     * @throws com.tracker.job_application_tracker.exception.ResourceNotFoundException when the document
+     *         is not in that application, or the application is not the user's
+     */
+    DocumentLinkDTO getDocumentLink(User user, Long applicationId, Long documentId);
+    
+    /**
+     * Download links of all the documents of one of the user's applications, in one call
+     */
+    List<DocumentLinkDTO> getDocumentLinks(User user, Long applicationId);
+    
+    /**
+     * Files of an application's documents, as ZIP entries named after their original filename
+     */
+    List<ArchiveEntry> getArchiveEntries(User user, Long applicationId);
+    
+    /**
+     * Files of all the user's documents, one folder per application ("Company - Position/cv.pdf")
+     */
+    List<ArchiveEntry> getArchiveEntries(User user);
+    
+    /**
+     * Delete one of the user's documents
+     * @throws com.tracker.job_application_tracker.exception.ResourceNotFoundException when the document
+     *         is not in that application, or the application is not the user's
+     */
+    void deleteDocument(User user, Long applicationId, Long documentId);
     
     /**
      * Delete all documents for an application
      */
     void deleteAllDocumentsByApplicationId(Long applicationId);
+    
+    /**
+     * Delete one batch of blob rows released before the cutoff
+     * A blob revived meanwhile by an upload of the same content is kept
+     * 
+     * @return The stored filenames of the deleted blobs, whose files are left to deleteFileIfUnreferenced
+     */
+    List<String> purgeReleasedBlobs(LocalDateTime releasedBefore, int batchSize);
+    
+    /**
+     * Delete a stored file and its previews, unless a document or blob points to it again
+     * The check locks the blob rows of that name: an upload inserting one meanwhile waits for
+     * the delete, then writes the file again
+     * 
+     * @return Whether the file was deleted
+     */
+    boolean deleteFileIfUnreferenced(String filename);
+    
+    /**
+     * Delete exactly this key (a file or a preview found by a storage listing), under the same check
+     * as deleteFileIfUnreferenced on the file it belongs to
+     * 
+     * @return Whether the key was deleted
+     */
+    boolean deleteKeyIfUnreferenced(String key);
+    
+    /**
+     * The given stored filenames that a document or a blob still points to
+     */
+    Set<String> findReferencedFilenames(Collection<String> filenames);
+    
+    /**
+     * Check one keyset batch of documents against the storage
+     * 
+     * @param afterId Keyset: last id of the previous batch (0 to start)
+     */
+    DanglingScan findDanglingDocuments(Long afterId, int batchSize);
+    
+    /**
+     * Move one batch of files from the flat upload directory into the sharded layout
+     * and point their documents (and blobs) to the new location
+     * 
+     * @param afterFilename Keyset: last flat filename of the previous batch ("" to start)
+     * @return The flat filenames handled by this batch, in order (fewer than batchSize at the end)
+     */
+    List<String> moveFilesToShardedLayout(String afterFilename, int batchSize);
+    
+    /**
+     * A stored document as served by the download endpoints
+     * path is set when the file is on local storage; url (a presigned link) otherwise
+     */
+    record DocumentFile(Path path, URI url, String originalFilename, String contentType, String sha256,
+                        LocalDateTime uploadedAt) {
+    }
+    
+    /**
+     * Result of findDanglingDocuments: ids whose file is missing, and the keyset for the next batch
+     * (null after the last batch)
+     */
+    record DanglingScan(List<Long> danglingIds, Long lastId) {
+    }
+    
+    /**
+     * A stored file to put in a ZIP export, under a name unique within the archive
+     */
+    record ArchiveEntry(String name, String key, String contentType, LocalDateTime uploadedAt) {
+    }
 }
\ No newline at end of file
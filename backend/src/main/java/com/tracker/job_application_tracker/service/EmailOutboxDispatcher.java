@@ -0,0 +1,91 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.service.EmailOutboxService.OutgoingEmail;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Drains the email outbox in the background
+ *
+ * Each batch is claimed in a short transaction (SKIP LOCKED, so several nodes can run this job),
+ * sent outside any transaction over a single SMTP connection (JavaMailSender.send(MimeMessage...)
+ * opens one connection for the whole batch), then its results are recorded
+ */
+@Component
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxService emailOutboxService;
+    private final JavaMailSender mailSender;
+    private final int batchSize;
+
+    public EmailOutboxDispatcher(EmailOutboxService emailOutboxService, JavaMailSender mailSender,
+                                 @Value("${mail.outbox.batch-size:50}") int batchSize) {
+        this.emailOutboxService = emailOutboxService;
+        this.mailSender = mailSender;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-delay:PT5S}")
+    public void dispatch() {
+        List<OutgoingEmail> batch;
+        do {
+            batch = emailOutboxService.claimBatch(batchSize);
+            if (!batch.isEmpty()) {
+                send(batch);
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    private void send(List<OutgoingEmail> batch) {
+        Map<MimeMessage, Long> idsByMessage = new IdentityHashMap<>();
+        Map<Long, String> failures = new HashMap<>();
+
+        for (OutgoingEmail email : batch) {
+            try {
+                idsByMessage.put(toMessage(email), email.id());
+            } catch (MessagingException ex) {
+                failures.put(email.id(), ex.getMessage());
+            }
+        }
+
+        if (!idsByMessage.isEmpty()) {
+            try {
+                mailSender.send(idsByMessage.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException ex) {
+                // Only the listed messages failed (all of them when the connection could not be opened)
+                ex.getFailedMessages().forEach((message, error) ->
+                        failures.put(idsByMessage.get(message), error.getMessage()));
+            } catch (MailException ex) {
+                idsByMessage.values().forEach(id -> failures.put(id, ex.getMessage()));
+            }
+        }
+
+        List<Long> sentIds = new ArrayList<>(idsByMessage.values());
+        sentIds.removeAll(failures.keySet());
+        emailOutboxService.recordResults(sentIds, failures);
+    }
+
+    private MimeMessage toMessage(OutgoingEmail email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+        helper.setTo(email.to());
+        helper.setSubject(email.subject());
+        helper.setText(email.htmlContent(), true);
+
+        return message;
+    }
+}
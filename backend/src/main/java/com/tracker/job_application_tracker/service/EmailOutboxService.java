@@ -0,0 +1,39 @@
+package com.tracker.job_application_tracker.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service interface for the transactional email outbox
+ * 
+ * enqueue (in the caller's transaction) -> claimBatch -> SMTP (EmailOutboxDispatcher) -> recordResults
+ * A failed email is retried with exponential backoff, then marked DEAD after the last attempt
+ */
+public interface EmailOutboxService {
+    
+    /**
+     * Write an email to send, in the current transaction: it is only sent if that transaction commits
+     */
+    void enqueue(String to, String subject, String htmlContent);
+    
+    /**
+     * Lease up to batchSize due emails to the calling dispatcher
+     * A claimed email counts as attempted; it becomes due again if no result is recorded before the lease ends
+     */
+    List<OutgoingEmail> claimBatch(int batchSize);
+    
+    /**
+     * Record the outcome of a claimed batch
+     * 
+     * @param sentIds Emails accepted by the SMTP server
+     * @param failures Error message by email id, for the others
+     */
+    void recordResults(Collection<Long> sentIds, Map<Long, String> failures);
+    
+    /**
+     * A claimed email, detached from the persistence context
+     */
+    record OutgoingEmail(Long id, String to, String subject, String htmlContent) {
+    }
+}
@@ -1,8 +1,17 @@
 package com.tracker.job_application_tracker.service;
 
+import com.tracker.job_application_tracker.service.WeeklyDigestService.WeeklyDigest;
+
+import java.time.LocalDateTime;
+
 public interface EmailService {
 
     void sendConfirmationEmail(String to, String token);
 
     void sendPasswordResetEmail(String to, String token);
+
+    void sendInterviewReminderEmail(String to, String company, String position, LocalDateTime scheduledAt,
+                                    String location);
+
+    void sendWeeklyDigestEmail(WeeklyDigest digest);
 }
@@ -0,0 +1,179 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.config.FileStorageProperties;
+import com.tracker.job_application_tracker.dto.DocumentLinkDTO;
+import com.tracker.job_application_tracker.exception.FileStorageException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Issues and verifies short-lived download links
+ *
+ * A link carries everything needed to serve the file: storage key, download name, content type,
+ * SHA-256 (ETag), upload time (Last-Modified) and expiry, all covered by an HMAC-SHA256 signature.
+ * Verifying it is one HMAC: no database lookup, no JWT, no user.
+ *
+ * Expiries are rounded up to the next ttl boundary (plus one ttl), so a page rendering the same
+ * documents twice within a window gets the same URLs and the browser cache keeps working.
+ * With the s3 backend the store's own presigned URLs are returned instead.
+ */
+@Service
+public class FileLinkService {
+
+    public static final String PATH_PREFIX = "/files/";
+
+    private static final String HMAC = "HmacSHA256";
+
+    private final FileStorageService fileStorageService;
+    private final SecretKeySpec signingKey;
+    private final long ttlSeconds;
+    private final long presignTtlSeconds;
+    private final Clock clock;
+
+    @Autowired
+    public FileLinkService(FileStorageProperties properties, FileStorageService fileStorageService) {
+        this(properties, fileStorageService, Clock.systemUTC());
+    }
+
+    public FileLinkService(FileStorageProperties properties, FileStorageService fileStorageService, Clock clock) {
+        this.fileStorageService = fileStorageService;
+        this.signingKey = deriveKey(properties.getLinks().getSecret());
+        this.ttlSeconds = properties.getLinks().getTtl().toSeconds();
+        this.presignTtlSeconds = properties.getS3().getPresignTtl().toSeconds();
+        this.clock = clock;
+    }
+
+    /**
+     * Download link of a stored file, and of its preview when its type has one
+     * (the preview link answers 404 until the background rendering is done)
+     *
+     * @param key Storage key, as returned by FileStorageService.locate
+     * @return Links with a path relative to the application root for local files, absolute URLs otherwise
+     */
+    public DocumentLinkDTO createLink(Long documentId, String key, String filename, String contentType,
+                                      String sha256, LocalDateTime uploadedAt) {
+        long now = clock.instant().getEpochSecond();
+        Optional<Path> localPath = fileStorageService.localPath(key);
+        String previewKey = FileStorageService.previewName(key);
+        String previewFilename = filename + ".png";
+        boolean withPreview = PreviewService.supports(contentType);
+
+        if (localPath.isEmpty()) {
+            String url = presignedUrl(key, filename, contentType);
+            String previewUrl = withPreview
+                    ? presignedUrl(previewKey, previewFilename, PreviewService.PREVIEW_CONTENT_TYPE)
+                    : null;
+            return new DocumentLinkDTO(documentId, url, previewUrl, toLocalDateTime(now + presignTtlSeconds));
+        }
+
+        long modified = uploadedAt.atZone(ZoneId.systemDefault()).toEpochSecond();
+        long expires = (now / ttlSeconds + 2) * ttlSeconds;
+
+        String url = signedUrl(key, filename, contentType != null ? contentType : "", sha256, modified, expires);
+        String previewUrl = withPreview
+                ? signedUrl(previewKey, previewFilename, PreviewService.PREVIEW_CONTENT_TYPE,
+                        sha256 + "-preview", modified, expires)
+                : null;
+        return new DocumentLinkDTO(documentId, url, previewUrl, toLocalDateTime(expires));
+    }
+
+    /**
+     * Whether a link is genuine and not expired
+     * Any missing or altered parameter fails the signature check
+     */
+    public boolean verify(String key, String filename, String contentType, String sha256,
+                          long modified, long expires, String signature) {
+        if (expires < clock.instant().getEpochSecond()) {
+            return false;
+        }
+
+        byte[] actual;
+        try {
+            actual = Base64.getUrlDecoder().decode(signature);
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+        // Constant-time comparison: no timing hint on how much of a forged signature is right
+        return MessageDigest.isEqual(sign(key, filename, contentType, sha256, modified, expires), actual);
+    }
+
+    /**
+     * Seconds a link stays valid, for the Cache-Control of the response it serves
+     */
+    public long remainingSeconds(long expires) {
+        return Math.max(0, expires - clock.instant().getEpochSecond());
+    }
+
+    private String signedUrl(String key, String filename, String contentType, String sha256,
+                             long modified, long expires) {
+        return PATH_PREFIX + UriUtils.encodePath(key, StandardCharsets.UTF_8)
+                + "?n=" + UriUtils.encode(filename, StandardCharsets.UTF_8)
+                + "&t=" + UriUtils.encode(contentType, StandardCharsets.UTF_8)
+                + "&v=" + sha256
+                + "&m=" + modified
+                + "&e=" + expires
+                + "&s=" + Base64.getUrlEncoder().withoutPadding()
+                        .encodeToString(sign(key, filename, contentType, sha256, modified, expires));
+    }
+
+    private String presignedUrl(String key, String filename, String contentType) {
+        return fileStorageService.presignedUrl(key, filename, contentType)
+                .orElseThrow(() -> new FileStorageException("No way to serve file " + key))
+                .toString();
+    }
+
+    private byte[] sign(String key, String filename, String contentType, String sha256, long modified, long expires) {
+        // Length-prefixed fields: a separator inside a filename cannot shift one field into the next
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        for (String field : new String[] {key, filename, contentType, sha256,
+                Long.toString(modified), Long.toString(expires)}) {
+            byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+            payload.writeBytes((bytes.length + ":").getBytes(StandardCharsets.US_ASCII));
+            payload.writeBytes(bytes);
+        }
+
+        try {
+            // Mac instances are not thread-safe: one per signature, the key spec is shared
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(signingKey);
+            return mac.doFinal(payload.toByteArray());
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HMAC-SHA256 not available", ex);
+        }
+    }
+
+    /**
+     * Dedicated key derived from the configured secret, so sharing it with the JWT signature is harmless
+     */
+    private static SecretKeySpec deriveKey(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("file.links.secret must be set");
+        }
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC));
+            return new SecretKeySpec(mac.doFinal("document-links".getBytes(StandardCharsets.US_ASCII)), HMAC);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HMAC-SHA256 not available", ex);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochSecond) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+    }
+}
@@ -2,22 +2,38 @@ package com.tracker.job_application_tracker.service;
 
 import com.tracker.job_application_tracker.config.FileStorageProperties;
 import com.tracker.job_application_tracker.exception.FileStorageException;
+import com.tracker.job_application_tracker.exception.InvalidFileException;
 import com.tracker.job_application_tracker.exception.ResourceNotFoundException;
 import jakarta.annotation.PostConstruct;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * Service for handling file storage operations
@@ -25,11 +41,16 @@ import java.util.List;
  * - Download files
  * - Delete files
  * - File validation
+ * 
+ * Bytes are kept by the configured StorageBackend (local directory or S3-compatible store);
+ * validation, hashing and the naming of stored files happen here, whatever the backend
  */
 @Service
 public class FileStorageService {
     
+    // Local upload directory: the storage itself for the local backend, scratch space for uploads otherwise
     private final Path fileStorageLocation;
+    private final StorageBackend storageBackend;
     
     // Allowed file types (MIME types)
     private static final List<String> ALLOWED_CONTENT_TYPES = Arrays.asList(
@@ -38,19 +59,78 @@ public class FileStorageService {
             "image/png",
             "image/jpg",
             "application/msword",
-            "application/vnd.openxmlformats-officedocument.wordprocessingml.document"
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+            "video/mp4"
     );
     
     // Maximum file size: 10MB
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
     
+    private static final Pattern HEX_SHA256 = Pattern.compile("[0-9a-f]{64}");
+    
+    private static final String PREVIEW_SUFFIX = ".preview.png";
+    
+    // Copy buffer, one per upload in progress
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    // Layout: 2 levels of 256 directories, ab/cd/<name>, so no directory grows past a few thousand entries
+    private static final int SHARD_LEVELS = 2;
+    private static final int SHARD_WIDTH = 2;
+    
+    /**
+     * Result of a successful upload
+     * filename is the sharded path of the SHA-256 (ab/cd/abcd...): identical contents share one file
+     */
+    public record StoredFile(String filename, long size, String sha256, String contentType) {
+    }
+    
+    /**
+     * An upload hashed and type-checked, still in its local temp file
+     * 
+     * Nothing is visible to the storage backend until publish: the caller publishes once the
+     * blob row for the content is in place, so the file cannot be collected between the two,
+     * then closes the staged file, which drops the temp copy
+     */
+    public final class StagedFile implements AutoCloseable {
+        
+        private final StoredFile storedFile;
+        private final Path path;
+        
+        private StagedFile(StoredFile storedFile, Path path) {
+            this.storedFile = storedFile;
+            this.path = path;
+        }
+        
+        public StoredFile storedFile() {
+            return storedFile;
+        }
+        
+        /**
+         * Hand the content to the storage backend under key, replacing any copy already there
+         * (an atomic rename on local disk, after which close has nothing left to delete)
+         */
+        public void publish(String key) {
+            try {
+                storageBackend.store(key, path, storedFile.contentType());
+            } catch (IOException ex) {
+                throw new FileStorageException("Could not store file " + key, ex);
+            }
+        }
+        
+        @Override
+        public void close() {
+            deleteTempFile(path);
+        }
+    }
+    
     /**
      * Constructor - initializes file storage location
      */
-    public FileStorageService(FileStorageProperties fileStorageProperties) {
+    public FileStorageService(FileStorageProperties fileStorageProperties, StorageBackend storageBackend) {
         this.fileStorageLocation = Paths.get(fileStorageProperties.getUploadDir())
                 .toAbsolutePath()
                 .normalize();
+        this.storageBackend = storageBackend;
     }
     
     /**
@@ -67,49 +147,351 @@ public class FileStorageService {
     }
     
     /**
-     * Store a file for a specific application
+     * Stage a multipart file
      * 
      * @param file The file to upload
-     * @param applicationId The ID of the application
-     * @return The stored filename
+     * @return The staged file (name, size, SHA-256, detected content type), to be published and closed
      */
-    public String storeFile(MultipartFile file, Long applicationId) {
+    public StagedFile stageFile(MultipartFile file) {
         // Validate file is not empty
         if (file.isEmpty()) {
-            throw new FileStorageException("Failed to store empty file");
+            throw new InvalidFileException("Failed to store empty file");
         }
         
         // Validate file size
         if (file.getSize() > MAX_FILE_SIZE) {
-            throw new FileStorageException("File size exceeds maximum limit of 10MB");
+            throw new InvalidFileException("File size exceeds maximum limit of 10MB");
         }
         
-        // Validate file type
+        // Validate declared file type (the real type is checked from the content)
         String contentType = file.getContentType();
         if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType)) {
-            throw new FileStorageException("File type not allowed. Allowed types: PDF, JPG, PNG, DOC, DOCX");
+            throw new InvalidFileException("File type not allowed. Allowed types: PDF, JPG, PNG, DOC, DOCX, MP4");
+        }
+        
+        try (InputStream content = file.getInputStream()) {
+            return stageStream(content, file.getOriginalFilename());
+        } catch (IOException ex) {
+            throw new FileStorageException("Could not read uploaded file " + file.getOriginalFilename(), ex);
+        }
+    }
+    
+    /**
+     * Stage a raw stream (request body), content-addressed
+     * 
+     * Single pass over the content: each chunk is hashed (SHA-256), counted and
+     * written to a temp file in the upload directory through a FileChannel.
+     * The content type comes from the magic bytes; the key is the SHA-256 in the sharded layout.
+     * The temp file stays until the staged file is closed, so the content can still be
+     * published after the blob row is written, even if a copy was stored before.
+     * A partially written file is never visible under its final name.
+     * Memory per upload is one BUFFER_SIZE buffer, whatever the file size.
+     * 
+     * @param content The file content, read until end of stream (not closed)
+     * @param originalFilename The client-side filename (validated, used for type detection only)
+     * @return The staged file (name, size, SHA-256, detected content type), to be published and closed
+     */
+    public StagedFile stageStream(InputStream content, String originalFilename) {
+        String cleanFilename = validateFilename(originalFilename);
+        Path tempFile = null;
+        
+        try {
+            tempFile = Files.createTempFile(this.fileStorageLocation, ".upload-", ".part");
+            return new StagedFile(writeAndInspect(content, tempFile, cleanFilename), tempFile);
+        } catch (IOException ex) {
+            deleteTempFile(tempFile);
+            throw new FileStorageException("Could not store file " + cleanFilename, ex);
+        } catch (RuntimeException ex) {
+            // Partial or rejected content
+            deleteTempFile(tempFile);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Sanitized client filename, rejected when empty or containing a path
+     */
+    private String validateFilename(String originalFilename) {
+        if (originalFilename == null || originalFilename.isBlank()) {
+            throw new InvalidFileException("Filename is required");
         }
         
         // Sanitize filename
-        String originalFilename = StringUtils.cleanPath(file.getOriginalFilename());
+        String cleanFilename = StringUtils.cleanPath(originalFilename);
         
         // Check if filename contains invalid characters
-        if (originalFilename.contains("..")) {
-            throw new FileStorageException("Filename contains invalid path sequence: " + originalFilename);
+        if (cleanFilename.contains("..") || cleanFilename.contains("/")) {
+            throw new InvalidFileException("Filename contains invalid path sequence: " + cleanFilename);
         }
         
-        // Generate unique filename: {applicationId}_{timestamp}_{originalName}
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String filename = applicationId + "_" + timestamp + "_" + originalFilename;
+        return cleanFilename;
+    }
+    
+    private StoredFile writeAndInspect(InputStream content, Path tempFile, String filename) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        byte[] header = new byte[MagicBytes.HEADER_LENGTH];
+        int headerLength = 0;
+        long size = 0;
+        
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                size += read;
+                if (size > MAX_FILE_SIZE) {
+                    throw new InvalidFileException("File size exceeds maximum limit of 10MB");
+                }
+                
+                if (headerLength < header.length) {
+                    int headerBytes = Math.min(read, header.length - headerLength);
+                    System.arraycopy(buffer, 0, header, headerLength, headerBytes);
+                    headerLength += headerBytes;
+                }
+                
+                digest.update(buffer, 0, read);
+                
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    channel.write(chunk);
+                }
+            }
+            channel.force(false);
+        }
+        
+        return toStoredFile(digest, header, headerLength, size, filename);
+    }
+    
+    /**
+     * Same checks as writeAndInspect, on a file already written (chunked uploads)
+     */
+    private StoredFile inspect(Path file, String filename) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        byte[] header = new byte[MagicBytes.HEADER_LENGTH];
+        int headerLength = 0;
+        long size = 0;
+        
+        try (InputStream content = Files.newInputStream(file)) {
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                size += read;
+                if (headerLength < header.length) {
+                    int headerBytes = Math.min(read, header.length - headerLength);
+                    System.arraycopy(buffer, 0, header, headerLength, headerBytes);
+                    headerLength += headerBytes;
+                }
+                digest.update(buffer, 0, read);
+            }
+        }
+        
+        return toStoredFile(digest, header, headerLength, size, filename);
+    }
+    
+    private static StoredFile toStoredFile(MessageDigest digest, byte[] header, int headerLength, long size,
+                                           String filename) {
+        if (size == 0) {
+            throw new InvalidFileException("Failed to store empty file");
+        }
+        
+        String contentType = MagicBytes.detect(header, headerLength, filename);
+        if (contentType == null) {
+            throw new InvalidFileException("File type not allowed. Allowed types: PDF, JPG, PNG, DOC, DOCX, MP4");
+        }
+        
+        String sha256 = HexFormat.of().formatHex(digest.digest());
+        return new StoredFile(shardedName(sha256), size, sha256, contentType);
+    }
+    
+    // === CHUNKED UPLOADS ===
+    
+    /**
+     * Create the file of a resumable upload at its final size (sparse where the filesystem allows it),
+     * so that chunks can be written at their offset, in any order
+     */
+    public void createChunkedUpload(String uploadId, long size) {
+        try (RandomAccessFile file = new RandomAccessFile(chunkedUploadPath(uploadId).toFile(), "rw")) {
+            file.setLength(size);
+        } catch (IOException ex) {
+            throw new FileStorageException("Could not create upload " + uploadId, ex);
+        }
+    }
+    
+    /**
+     * Write one chunk of a resumable upload at its offset
+     * Positional writes: chunks of the same upload can be written by concurrent requests,
+     * and a chunk sent again after a failure simply overwrites the same bytes
+     * 
+     * @param content The chunk, which must hold exactly length bytes (not closed)
+     */
+    public void writeChunk(String uploadId, long offset, long length, InputStream content) {
+        Path path = chunkedUploadPath(uploadId);
+        if (!Files.isRegularFile(path)) {
+            throw new ResourceNotFoundException("Upload", "id", uploadId);
+        }
+        
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long written = 0;
+        
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                if (written + read > length) {
+                    throw new InvalidFileException("Chunk exceeds its expected size of " + length + " bytes");
+                }
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    written += channel.write(chunk, offset + written);
+                }
+            }
+            if (written != length) {
+                throw new InvalidFileException("Incomplete chunk: " + written + " of " + length + " bytes received");
+            }
+            // Acknowledged chunks must survive a crash: the client will not send them again
+            channel.force(false);
+        } catch (IOException ex) {
+            throw new FileStorageException("Could not write chunk of upload " + uploadId, ex);
+        }
+    }
+    
+    /**
+     * Stage a completed resumable upload like a single-request one: hashed and type-checked
+     * from its first bytes, keyed by its SHA-256
+     * 
+     * What is hashed and published is a private copy: a late chunk written to the upload file
+     * cannot change content already hashed, and the upload file itself stays in place
+     * (deleteChunkedUpload once the document is committed), so completing can be retried.
+     * It is only dropped here when its content is rejected
+     */
+    public StagedFile stageChunkedUpload(String uploadId, String originalFilename) {
+        String cleanFilename = validateFilename(originalFilename);
+        Path path = chunkedUploadPath(uploadId);
+        Path tempFile = null;
         
         try {
-            // Copy file to target location
-            Path targetLocation = this.fileStorageLocation.resolve(filename);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
-            
+            tempFile = Files.createTempFile(this.fileStorageLocation, ".upload-", ".part");
+            Files.copy(path, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            return new StagedFile(inspect(tempFile, cleanFilename), tempFile);
+        } catch (InvalidFileException ex) {
+            deleteTempFile(tempFile);
+            deleteTempFile(path);
+            throw ex;
+        } catch (NoSuchFileException ex) {
+            deleteTempFile(tempFile);
+            throw new ResourceNotFoundException("Upload", "id", uploadId);
+        } catch (IOException ex) {
+            deleteTempFile(tempFile);
+            throw new FileStorageException("Could not store file " + cleanFilename, ex);
+        }
+    }
+    
+    /**
+     * Drop the file of an aborted or expired resumable upload
+     */
+    public void deleteChunkedUpload(String uploadId) {
+        deleteTempFile(chunkedUploadPath(uploadId));
+    }
+    
+    /**
+     * Drop resumable upload files not written to since cutoff, whether or not their session still exists
+     * (a session row goes away with its application without touching the disk)
+     * 
+     * @return The number of files deleted
+     */
+    public int deleteStaleChunkedUploads(Instant cutoff) {
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(fileStorageLocation, ".chunked-*.part")) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff) && Files.deleteIfExists(file)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException ex) {
+            throw new FileStorageException("Could not clean up upload directory", ex);
+        }
+        return deleted;
+    }
+    
+    // Always on local disk, next to the other uploads in progress (upload ids are server-generated UUIDs)
+    private Path chunkedUploadPath(String uploadId) {
+        return fileStorageLocation.resolve(".chunked-" + uploadId + ".part");
+    }
+    
+    /**
+     * Stored filename of a file in the sharded layout (ab/cd/name)
+     * A SHA-256 name is sharded on its own first characters; any other (legacy) name
+     * on the SHA-256 of the name, which spreads files just as evenly
+     * 
+     * @param filename A flat stored filename, or one that is already sharded (returned as is)
+     */
+    public static String shardedName(String filename) {
+        if (filename.contains("/")) {
             return filename;
+        }
+        
+        String key = HEX_SHA256.matcher(filename).matches()
+                ? filename
+                : HexFormat.of().formatHex(sha256().digest(filename.getBytes(StandardCharsets.UTF_8)));
+        
+        StringBuilder name = new StringBuilder(filename.length() + SHARD_LEVELS * (SHARD_WIDTH + 1));
+        for (int level = 0; level < SHARD_LEVELS; level++) {
+            name.append(key, level * SHARD_WIDTH, (level + 1) * SHARD_WIDTH).append('/');
+        }
+        return name.append(filename).toString();
+    }
+    
+    /**
+     * Storage key of the preview image of a stored file (PreviewService), kept next to it
+     * and moved / deleted with it
+     */
+    public static String previewName(String filename) {
+        return filename + PREVIEW_SUFFIX;
+    }
+    
+    /**
+     * Stored filename a key belongs to: the file itself, or the file of a preview
+     */
+    public static String ownerName(String key) {
+        return key.endsWith(PREVIEW_SUFFIX) ? key.substring(0, key.length() - PREVIEW_SUFFIX.length()) : key;
+    }
+    
+    /**
+     * Move a file from the flat upload directory into the sharded layout
+     * Idempotent: a file already moved (or moved by a previous, interrupted run) is left alone
+     * 
+     * @param filename The flat stored filename
+     * @return The sharded filename, or null when the file exists in neither place
+     */
+    public String moveToShard(String filename) {
+        String shardedName = shardedName(filename);
+        
+        try {
+            // Replaces a copy uploaded meanwhile under the sharded name: same name, same content
+            if (storageBackend.move(filename, shardedName)) {
+                storageBackend.move(previewName(filename), previewName(shardedName));
+                return shardedName;
+            }
+            return storageBackend.exists(shardedName) ? shardedName : null;
         } catch (IOException ex) {
-            throw new FileStorageException("Could not store file " + filename, ex);
+            throw new FileStorageException("Could not move file " + filename, ex);
+        }
+    }
+    
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+    
+    private static void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException ignored) {
+            // Best effort: the original error matters more than a leftover .part file
         }
     }
     
@@ -117,21 +499,115 @@ public class FileStorageService {
      * Load a file as a Resource
      * 
      * @param filename The filename to load
-     * @return Resource object containing the file
+     * @return Resource streaming the file content
      */
     public Resource loadFileAsResource(String filename) {
         try {
-            Path filePath = this.fileStorageLocation.resolve(filename).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
-            
-            if (resource.exists()) {
-                return resource;
-            } else {
-                throw new ResourceNotFoundException("File not found: " + filename);
+            return new InputStreamResource(storageBackend.open(locate(filename)));
+        } catch (IOException ex) {
+            throw new FileStorageException("Could not read file " + filename, ex);
+        }
+    }
+    
+    /**
+     * Storage key under which a stored file can be read
+     * A flat name is also looked up in the sharded layout, so downloads keep working
+     * while the layout migration moves files ahead of the database rows
+     * 
+     * @param filename The stored filename
+     */
+    public String locate(String filename) {
+        if (storageBackend.exists(filename)) {
+            return filename;
+        }
+        if (!filename.contains("/") && storageBackend.exists(shardedName(filename))) {
+            return shardedName(filename);
+        }
+        throw new ResourceNotFoundException("File not found: " + filename);
+    }
+    
+    /**
+     * Whether something is stored under this exact key (no sharded fallback)
+     */
+    public boolean exists(String key) {
+        return storageBackend.exists(key);
+    }
+    
+    /**
+     * Whether a stored filename still has its file (sharded fallback included, like locate)
+     */
+    public boolean isStored(String filename) {
+        return storageBackend.exists(filename)
+                || (!filename.contains("/") && storageBackend.exists(shardedName(filename)));
+    }
+    
+    /**
+     * Every key of the storage backend, to be closed by the caller (StorageGarbageCollector)
+     */
+    public Stream<StorageBackend.StoredObject> listStoredFiles() {
+        try {
+            return storageBackend.list();
+        } catch (IOException ex) {
+            throw new FileStorageException("Could not list stored files", ex);
+        }
+    }
+    
+    /**
+     * Delete exactly this key (no preview, no sharded fallback), for orphans found by a listing
+     */
+    public void deleteKey(String key) {
+        try {
+            storageBackend.delete(key);
+        } catch (IOException ex) {
+            throw new FileStorageException("Could not delete file " + key, ex);
+        }
+    }
+    
+    /**
+     * Stream of a stored file, to be closed by the caller
+     * 
+     * @param key A key returned by locate
+     */
+    public InputStream open(String key) throws IOException {
+        return storageBackend.open(key);
+    }
+    
+    /**
+     * Local path of a stored file, for zero-copy reads (FileChannel.transferTo); empty for remote backends
+     * 
+     * @param key A key returned by locate
+     */
+    public Optional<Path> localPath(String key) {
+        return storageBackend.localPath(key);
+    }
+    
+    /**
+     * Time-limited direct download URL of a stored file; empty when the backend cannot issue one
+     * 
+     * @param key A key returned by locate
+     */
+    public Optional<URI> presignedUrl(String key, String downloadFilename, String contentType) {
+        return storageBackend.presignedUrl(key, downloadFilename, contentType);
+    }
+    
+    /**
+     * Hex SHA-256 of a stored file, for documents uploaded before checksums were recorded
+     * 
+     * @param filename The stored filename
+     */
+    public String sha256(String filename) {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        
+        try (InputStream content = storageBackend.open(locate(filename))) {
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
             }
-        } catch (MalformedURLException ex) {
-            throw new ResourceNotFoundException("File not found: " + filename);
+        } catch (IOException ex) {
+            throw new FileStorageException("Could not read file " + filename, ex);
         }
+        return HexFormat.of().formatHex(digest.digest());
     }
     
     /**
@@ -145,8 +621,13 @@ public class FileStorageService {
         }
         
         try {
-            Path filePath = this.fileStorageLocation.resolve(filename).normalize();
-            Files.deleteIfExists(filePath);
+            storageBackend.delete(filename);
+            storageBackend.delete(previewName(filename));
+            // A flat name may already have been moved into the sharded layout
+            if (!filename.contains("/")) {
+                storageBackend.delete(shardedName(filename));
+                storageBackend.delete(previewName(shardedName(filename)));
+            }
         } catch (IOException ex) {
             throw new FileStorageException("Could not delete file " + filename, ex);
         }
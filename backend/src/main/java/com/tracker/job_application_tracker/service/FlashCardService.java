@@ -1,6 +1,7 @@
 package com.tracker.job_application_tracker.service;
 
 import com.tracker.job_application_tracker.dto.CreateFlashCardRequest;
+import com.tracker.job_application_tracker.dto.CursorPage;
 import com.tracker.job_application_tracker.dto.FlashCardDTO;
 import com.tracker.job_application_tracker.dto.UpdateFlashCardRequest;
 import com.tracker.job_application_tracker.enums.Category;
@@ -12,6 +13,8 @@ public interface FlashCardService {
 
     List<FlashCardDTO> getAllByUser(User user);
 
+    CursorPage<FlashCardDTO> getPageByUser(User user, String cursor, int size);
+
     List<FlashCardDTO> getByCategory(User user, Category category);
 
     FlashCardDTO getById(Long id, User user);
@@ -0,0 +1,216 @@
+package com.tracker.job_application_tracker.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * In-memory timers keyed by K, on a hierarchical timing wheel (Varghese &amp; Lauck, as in Kafka's purgatory)
+ *
+ * - Level 0 has wheelSize buckets of tickMillis each; every next level has wheelSize buckets
+ *   as wide as the whole previous level. Levels are added when a timer is too far away
+ * - schedule and cancel are O(1): a timer is linked into (or unlinked from) the bucket of its expiry
+ * - advanceTo only looks at buckets that are due (priority queue of non-empty buckets, at most
+ *   wheelSize per level), never at every timer. A due bucket of an upper level is emptied by putting
+ *   its timers back into a finer level, until they land in a level 0 bucket and fire
+ *
+ * Precision is one tick. Time is given by the caller (epoch millis), which keeps the wheel testable.
+ * Thread-safe: every method holds the wheel's lock, for a few pointer operations at most per timer
+ *
+ * @param <K> Timer key; scheduling an existing key replaces its timer
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final Map<K, Timer<K>> timers = new HashMap<>();
+    private final PriorityQueue<Bucket<K>> dueBuckets = new PriorityQueue<>(
+            (first, second) -> Long.compare(first.expiration, second.expiration));
+    private final List<K> overdue = new ArrayList<>();
+    private final Level<K> wheel;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tickMillis must be > 0 and wheelSize > 1");
+        }
+        this.wheel = new Level<>(tickMillis, wheelSize, startMillis, dueBuckets);
+    }
+
+    /**
+     * Start (or move) the timer of key; a time already past fires on the next advanceTo
+     */
+    public synchronized void schedule(K key, long expirationMillis) {
+        cancel(key);
+
+        Timer<K> timer = new Timer<>(key, expirationMillis);
+        timers.put(key, timer);
+        if (!wheel.add(timer)) {
+            timers.remove(key);
+            overdue.add(key);
+        }
+    }
+
+    /**
+     * @return true when a pending timer was removed
+     */
+    public synchronized boolean cancel(K key) {
+        Timer<K> timer = timers.remove(key);
+        if (timer != null) {
+            timer.unlink();
+            return true;
+        }
+        return overdue.remove(key);
+    }
+
+    /**
+     * Move the clock forward and return the keys whose timers expired, in no particular order
+     * Expired timers are removed
+     */
+    public synchronized List<K> advanceTo(long nowMillis) {
+        List<K> expired = new ArrayList<>(overdue);
+        overdue.clear();
+
+        Bucket<K> bucket = dueBuckets.peek();
+        while (bucket != null && bucket.expiration <= nowMillis) {
+            dueBuckets.poll();
+            wheel.advanceClock(bucket.expiration);
+            for (Timer<K> timer : bucket.drain()) {
+                // Lands in a finer bucket, or fires when it is due within the current tick
+                if (!wheel.add(timer)) {
+                    timers.remove(timer.key);
+                    expired.add(timer.key);
+                }
+            }
+            bucket = dueBuckets.peek();
+        }
+        wheel.advanceClock(nowMillis);
+
+        return expired;
+    }
+
+    public synchronized int size() {
+        return timers.size() + overdue.size();
+    }
+
+    // === WHEEL LEVELS ===
+
+    private static final class Level<K> {
+
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long intervalMillis;
+        private final List<Bucket<K>> buckets;
+        private final PriorityQueue<Bucket<K>> dueBuckets;
+        private long currentTime;
+        private Level<K> overflow;
+
+        Level(long tickMillis, int wheelSize, long startMillis, PriorityQueue<Bucket<K>> dueBuckets) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.intervalMillis = tickMillis * wheelSize;
+            this.dueBuckets = dueBuckets;
+            this.currentTime = startMillis - (startMillis % tickMillis);
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new Bucket<>());
+            }
+        }
+
+        /**
+         * @return false when the timer is due within the current tick (nothing is stored)
+         */
+        boolean add(Timer<K> timer) {
+            long expiration = timer.expiration;
+
+            if (expiration < currentTime + tickMillis) {
+                return false;
+            }
+            if (expiration < currentTime + intervalMillis) {
+                long virtualId = expiration / tickMillis;
+                Bucket<K> bucket = buckets.get((int) (virtualId % wheelSize));
+                bucket.add(timer);
+                // A bucket is reused every intervalMillis: queue it again for its new expiry
+                if (bucket.setExpiration(virtualId * tickMillis)) {
+                    dueBuckets.offer(bucket);
+                }
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level<>(intervalMillis, wheelSize, currentTime, dueBuckets);
+            }
+            return overflow.add(timer);
+        }
+
+        void advanceClock(long timeMillis) {
+            if (timeMillis >= currentTime + tickMillis) {
+                currentTime = timeMillis - (timeMillis % tickMillis);
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+    }
+
+    /**
+     * Circular doubly linked list of timers sharing an expiry slot
+     */
+    private static final class Bucket<K> {
+
+        private final Timer<K> head = new Timer<>(null, -1);
+        private long expiration = -1;
+
+        Bucket() {
+            head.next = head;
+            head.previous = head;
+        }
+
+        void add(Timer<K> timer) {
+            timer.bucket = this;
+            timer.previous = head.previous;
+            timer.next = head;
+            head.previous.next = timer;
+            head.previous = timer;
+        }
+
+        boolean setExpiration(long expiration) {
+            boolean changed = this.expiration != expiration;
+            this.expiration = expiration;
+            return changed;
+        }
+
+        List<Timer<K>> drain() {
+            List<Timer<K>> drained = new ArrayList<>();
+            for (Timer<K> timer = head.next; timer != head; timer = head.next) {
+                timer.unlink();
+                drained.add(timer);
+            }
+            expiration = -1;
+            return drained;
+        }
+    }
+
+    private static final class Timer<K> {
+
+        private final K key;
+        private final long expiration;
+        private Bucket<K> bucket;
+        private Timer<K> previous;
+        private Timer<K> next;
+
+        Timer(K key, long expiration) {
+            this.key = key;
+            this.expiration = expiration;
+        }
+
+        void unlink() {
+            if (bucket == null) {
+                return;
+            }
+            previous.next = next;
+            next.previous = previous;
+            previous = null;
+            next = null;
+            bucket = null;
+        }
+    }
+}
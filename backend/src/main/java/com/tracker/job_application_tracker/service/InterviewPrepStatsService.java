@@ -0,0 +1,15 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.dto.InterviewPrepStatsDTO;
+import com.tracker.job_application_tracker.model.User;
+
+/**
+ * Service interface for the interview prep dashboard numbers
+ */
+public interface InterviewPrepStatsService {
+
+    /**
+     * Compute all interview prep stats of a user with a handful of aggregate queries
+     */
+    InterviewPrepStatsDTO getStats(User user);
+}
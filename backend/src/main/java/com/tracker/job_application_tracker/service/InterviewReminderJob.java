@@ -0,0 +1,67 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.service.InterviewService.UpcomingInterview;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drives the interview reminders
+ *
+ * - On startup, then every hour: loads the interviews whose reminder falls within the horizon
+ *   into InterviewReminderWheel, by keyset batches (an index range scan, not a table scan).
+ *   Reminders missed while the node was down are due at once
+ * - Every second: advances the wheel and hands the due reminders to InterviewService by batches,
+ *   which queues the emails in the outbox
+ */
+@Component
+public class InterviewReminderJob {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final InterviewService interviewService;
+    private final InterviewReminderWheel reminderWheel;
+
+    public InterviewReminderJob(InterviewService interviewService, InterviewReminderWheel reminderWheel) {
+        this.interviewService = interviewService;
+        this.reminderWheel = reminderWheel;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(cron = "${interview.reminder.reload-cron:0 0 * * * *}")
+    public void reload() {
+        LocalDateTime afterScheduledAt = LocalDateTime.now();
+        Long afterId = 0L;
+        LocalDateTime until = reminderWheel.loadUntil();
+        List<UpcomingInterview> batch;
+
+        do {
+            batch = interviewService.getInterviewsAwaitingReminder(afterScheduledAt, afterId, until, BATCH_SIZE);
+            for (UpcomingInterview interview : batch) {
+                reminderWheel.schedule(interview.id(), interview.scheduledAt());
+            }
+            if (!batch.isEmpty()) {
+                UpcomingInterview last = batch.get(batch.size() - 1);
+                afterScheduledAt = last.scheduledAt();
+                afterId = last.id();
+            }
+        } while (batch.size() == BATCH_SIZE);
+    }
+
+    @Scheduled(fixedDelayString = "${interview.reminder.tick:PT1S}")
+    public void sendDueReminders() {
+        List<Long> due = reminderWheel.pollDue();
+
+        for (int from = 0; from < due.size(); from += BATCH_SIZE) {
+            interviewService.sendReminders(due.subList(from, Math.min(from + BATCH_SIZE, due.size())));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.tracker.job_application_tracker.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Pending interview reminders of this node, as timers keyed by interview id
+ *
+ * Only reminders due within interview.reminder.horizon are held; later ones are loaded by the
+ * next InterviewReminderJob reload, so memory follows the number of interviews in the next
+ * few hours, not the size of the table. Wheel of 1s ticks x 60 (levels of 1 min, 1 h, 60 h)
+ */
+@Component
+public class InterviewReminderWheel {
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 60;
+
+    private final HierarchicalTimingWheel<Long> wheel =
+            new HierarchicalTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+    private final Duration lead;
+    private final Duration horizon;
+
+    public InterviewReminderWheel(@Value("${interview.reminder.lead:PT24H}") Duration lead,
+                                  @Value("${interview.reminder.horizon:PT6H}") Duration horizon) {
+        this.lead = lead;
+        this.horizon = horizon;
+    }
+
+    /**
+     * Start (or move) the reminder of an interview; ignored beyond the horizon
+     */
+    public void schedule(Long interviewId, LocalDateTime scheduledAt) {
+        LocalDateTime remindAt = scheduledAt.minus(lead);
+
+        if (remindAt.isAfter(LocalDateTime.now().plus(horizon))) {
+            // Moved beyond the horizon: the reload that reaches it will schedule it again
+            wheel.cancel(interviewId);
+            return;
+        }
+        wheel.schedule(interviewId, toEpochMillis(remindAt));
+    }
+
+    public void cancel(Long interviewId) {
+        wheel.cancel(interviewId);
+    }
+
+    /**
+     * Ids of the interviews whose reminder time has come, removed from the wheel
+     */
+    public List<Long> pollDue() {
+        return wheel.advanceTo(System.currentTimeMillis());
+    }
+
+    /**
+     * Latest interview time whose reminder falls within the horizon (reload query bound)
+     */
+    public LocalDateTime loadUntil() {
+        return LocalDateTime.now().plus(horizon).plus(lead);
+    }
+
+    /**
+     * Whether the reminder of an interview at scheduledAt is due, give or take one tick
+     * (the wheel may fire up to one tick early) and the interview still ahead
+     */
+    public boolean isDue(LocalDateTime scheduledAt, LocalDateTime now) {
+        return !scheduledAt.minus(lead).isAfter(now.plus(Duration.ofMillis(TICK_MILLIS)))
+                && scheduledAt.isAfter(now);
+    }
+
+    public int size() {
+        return wheel.size();
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,50 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.dto.InterviewDTO;
+import com.tracker.job_application_tracker.dto.InterviewRequest;
+import com.tracker.job_application_tracker.model.User;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Service interface for interview appointments and their reminder emails
+ * 
+ * Reminders are timers in memory (InterviewReminderWheel), started and cancelled after commit
+ * by the methods below, and reloaded from the database by InterviewReminderJob
+ */
+public interface InterviewService {
+    
+    List<InterviewDTO> getInterviews(User user, Long applicationId);
+    
+    InterviewDTO createInterview(User user, Long applicationId, InterviewRequest request);
+    
+    /**
+     * Move or edit an interview; a moved interview gets a new reminder
+     */
+    InterviewDTO updateInterview(User user, Long applicationId, Long interviewId, InterviewRequest request);
+    
+    void deleteInterview(User user, Long applicationId, Long interviewId);
+    
+    /**
+     * One keyset batch of interviews scheduled up to until whose reminder is not sent yet,
+     * after (afterScheduledAt, afterId) in (scheduledAt, id) order
+     */
+    List<UpcomingInterview> getInterviewsAwaitingReminder(LocalDateTime afterScheduledAt, Long afterId,
+                                                          LocalDateTime until, int batchSize);
+    
+    /**
+     * Queue the reminder emails of these interviews (email outbox)
+     * An interview already reminded (by another node), moved or deleted meanwhile is skipped
+     * 
+     * @return The number of reminders queued
+     */
+    int sendReminders(Collection<Long> interviewIds);
+    
+    /**
+     * An interview waiting for its reminder
+     */
+    record UpcomingInterview(Long id, LocalDateTime scheduledAt) {
+    }
+}
@@ -1,25 +1,52 @@
 package com.tracker.job_application_tracker.service;
 
+import com.tracker.job_application_tracker.config.JwtProperties;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
 import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
+import io.jsonwebtoken.security.SignatureException;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Issues and verifies access tokens
+ *
+ * The signing key, the keyring and the parser are built once at startup:
+ * HMAC keys and JwtParser are immutable and thread-safe, so nothing is
+ * allocated per token besides the token itself.
+ */
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final long expiration;
+    private final String activeKeyId;
+    private final SecretKey activeKey;
+    private final Map<String, SecretKey> keyring;
+    private final JwtParser parser;
 
-    @Value("${jwt.expiration}")
-    private long expiration;
+    public JwtService(JwtProperties properties) {
+        this.expiration = properties.getExpiration();
+        this.activeKeyId = properties.getKeyId();
+        this.activeKey = toKey(properties.getSecret());
+
+        Map<String, SecretKey> keys = new HashMap<>();
+        properties.getRetiredKeys().forEach((kid, secret) -> keys.put(kid, toKey(secret)));
+        keys.put(activeKeyId, activeKey);
+        this.keyring = Map.copyOf(keys);
+
+        this.parser = Jwts.parser()
+                .keyLocator(new KeyringLocator())
+                .build();
+    }
 
     public String generateToken(String username) {
         Map<String, Object> claims = new HashMap<>();
@@ -30,36 +57,57 @@ public class JwtService {
         return extractAllClaims(token).getSubject();
     }
 
+    /**
+     * Verify the signature and the expiration in a single parse and return the claims
+     * Throws a JwtException (e.g. ExpiredJwtException) when the token is not valid
+     */
+    public Claims parseToken(String token) {
+        return extractAllClaims(token);
+    }
+
     public boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return extractedUsername.equals(username) && !isTokenExpired(token);
+        Claims claims = extractAllClaims(token);
+        return claims.getSubject().equals(username) && !claims.getExpiration().before(new Date());
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
-        SecretKey key = getSigningKey();
+        long now = System.currentTimeMillis();
         return Jwts.builder()
+                .header().keyId(activeKeyId).and()
                 .claims(claims)
                 .subject(subject)
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(key)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + expiration))
+                .signWith(activeKey)
                 .compact();
     }
 
     private Claims extractAllClaims(String token) {
-        SecretKey key = getSigningKey();
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractAllClaims(token).getExpiration().before(new Date());
+    private static SecretKey toKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
     }
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    /**
+     * Picks the verification key from the "kid" header
+     * Tokens issued before key ids were introduced have no kid and use the active key
+     */
+    private class KeyringLocator extends LocatorAdapter<Key> {
+
+        @Override
+        protected Key locate(JwsHeader header) {
+            String kid = header.getKeyId();
+            if (kid == null) {
+                return activeKey;
+            }
+
+            SecretKey key = keyring.get(kid);
+            if (key == null) {
+                throw new SignatureException("Unknown signing key id: " + kid);
+            }
+            return key;
+        }
     }
 }
@@ -0,0 +1,71 @@
+package com.tracker.job_application_tracker.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Content type detection from the first bytes of a file
+ * The type declared by the client is never trusted for stored documents
+ */
+final class MagicBytes {
+
+    /**
+     * Number of leading bytes needed by detect()
+     */
+    static final int HEADER_LENGTH = 12;
+
+    private static final byte[] PDF = {'%', 'P', 'D', 'F', '-'};
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] OLE2 = {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1};
+    private static final byte[] ZIP = {'P', 'K', 0x03, 0x04};
+    // ISO base media file: a box size (4 bytes), the "ftyp" box type, then the major brand
+    private static final byte[] FTYP = {'f', 't', 'y', 'p'};
+    // Major brands of MP4 video; HEIC/AVIF images, QuickTime, 3GP and M4A audio share the container
+    private static final Set<String> MP4_BRANDS = Set.of(
+            "isom", "iso2", "iso4", "iso5", "iso6", "mp41", "mp42", "avc1", "M4V ", "dash", "mmp4");
+
+    private MagicBytes() {
+    }
+
+    /**
+     * Allowed content type matching the header, or null when the file is not a PDF, JPEG, PNG, DOC, DOCX or MP4
+     * DOCX is a ZIP container: the .docx extension is required to tell it apart from any other archive
+     */
+    static String detect(byte[] header, int length, String filename) {
+        if (startsWith(header, length, PDF)) {
+            return "application/pdf";
+        }
+        if (startsWith(header, length, PNG)) {
+            return "image/png";
+        }
+        if (startsWith(header, length, JPEG)) {
+            return "image/jpeg";
+        }
+        if (startsWith(header, length, OLE2)) {
+            return "application/msword";
+        }
+        if (startsWith(header, length, ZIP) && filename.toLowerCase(Locale.ROOT).endsWith(".docx")) {
+            return "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+        }
+        if (length >= 12 && Arrays.equals(header, 4, 8, FTYP, 0, FTYP.length)
+                && MP4_BRANDS.contains(new String(header, 8, 4, StandardCharsets.US_ASCII))) {
+            return "video/mp4";
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] header, int length, byte[] magic) {
+        if (length < magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if (header[i] != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,238 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.config.FileStorageProperties;
+import jakarta.annotation.PreDestroy;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Preview images of stored documents: first page of a PDF, downscaled JPG / PNG
+ *
+ * - Generated in the background, after the upload transaction commits, on a small bounded pool:
+ *   the upload request never waits for rendering and a burst of uploads cannot pile up threads
+ * - Stored as PNG next to the file (FileStorageService.previewName), so identical contents share
+ *   one preview and previews follow their file through moves and deletes
+ * - A preview dropped because the queue was full is generated again on its first request
+ */
+@Service
+public class PreviewService {
+
+    public static final String PREVIEW_CONTENT_TYPE = "image/png";
+
+    // Preview width in pixels, enough for the document list and a hover zoom
+    private static final int MAX_WIDTH = 320;
+
+    // Rendering is CPU-bound: a couple of threads, the rest waits in a bounded queue
+    private static final int THREADS = 2;
+    private static final int QUEUE_CAPACITY = 100;
+
+    // Larger images are not decoded at all (decompression bombs)
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+
+    private final StorageBackend storageBackend;
+    private final Path scratchDirectory;
+    private final ThreadPoolExecutor executor;
+
+    // Keys queued or rendering, so repeated requests for a missing preview queue it once
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public PreviewService(FileStorageProperties fileStorageProperties, StorageBackend storageBackend) {
+        this.storageBackend = storageBackend;
+        this.scratchDirectory = Paths.get(fileStorageProperties.getUploadDir())
+                .toAbsolutePath()
+                .normalize();
+        this.executor = new ThreadPoolExecutor(
+                THREADS, THREADS, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                Thread.ofPlatform().name("preview-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public static boolean supports(String contentType) {
+        return "application/pdf".equals(contentType)
+                || "image/jpeg".equals(contentType)
+                || "image/jpg".equals(contentType)
+                || "image/png".equals(contentType);
+    }
+
+    /**
+     * Queue the preview of a stored file once the current transaction has committed
+     * Nothing happens on rollback, nor for types without a preview
+     */
+    public void generateAfterCommit(String key, String contentType) {
+        if (!supports(contentType)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(key, contentType);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(key, contentType);
+            }
+        });
+    }
+
+    /**
+     * Queue the preview of a stored file now; dropped silently when the queue is full
+     */
+    public void submit(String key, String contentType) {
+        if (!supports(contentType) || !pending.add(key)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(key, contentType);
+                } catch (IOException | RuntimeException ignored) {
+                    // Unreadable, encrypted or truncated file: no preview, the UI keeps the file icon
+                } finally {
+                    pending.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            pending.remove(key);
+        }
+    }
+
+    /**
+     * Render and store the preview of a stored file, on the calling thread
+     *
+     * @return false when the file has no preview (unsupported, empty or oversized content)
+     */
+    public boolean generate(String key, String contentType) throws IOException {
+        String previewKey = FileStorageService.previewName(key);
+        if (storageBackend.exists(previewKey)) {
+            return true;
+        }
+
+        BufferedImage preview = "application/pdf".equals(contentType) ? renderPdf(key) : readImage(key);
+        if (preview == null) {
+            return false;
+        }
+
+        Path tempFile = Files.createTempFile(scratchDirectory, ".preview-", ".part");
+        try {
+            ImageIO.write(preview, "png", tempFile.toFile());
+            storageBackend.store(previewKey, tempFile, PREVIEW_CONTENT_TYPE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        return true;
+    }
+
+    private BufferedImage renderPdf(String key) throws IOException {
+        Optional<Path> localPath = storageBackend.localPath(key);
+        if (localPath.isPresent()) {
+            return renderFirstPage(localPath.get());
+        }
+
+        // Remote store: copied to a scratch file and read from disk like a local one, rather than
+        // buffered on the heap (a chunked upload can be hundreds of MB)
+        Path tempFile = Files.createTempFile(scratchDirectory, ".preview-", ".pdf");
+        try {
+            try (InputStream content = storageBackend.open(key)) {
+                Files.copy(content, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return renderFirstPage(tempFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private BufferedImage renderFirstPage(Path pdf) throws IOException {
+        try (PDDocument document = Loader.loadPDF(pdf.toFile())) {
+            if (document.getNumberOfPages() == 0) {
+                return null;
+            }
+            // Rendered straight at the preview size: no full-resolution page in memory
+            float pageWidth = document.getPage(0).getCropBox().getWidth();
+            float scale = Math.min(1f, MAX_WIDTH / pageWidth);
+            return new PDFRenderer(document).renderImage(0, scale, ImageType.RGB);
+        }
+    }
+
+    private BufferedImage readImage(String key) throws IOException {
+        try (InputStream content = storageBackend.open(key);
+             ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    return null;
+                }
+
+                // Subsample while decoding (every n-th pixel), keeping twice the target width
+                // for a smooth final downscale: a 24 MP photo never exists in memory at full size
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, width / (MAX_WIDTH * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return downscale(reader.read(0, param));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage downscale(BufferedImage source) {
+        int width = Math.min(MAX_WIDTH, source.getWidth());
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage preview = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = preview.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            // Transparent PNGs on white, like the page they will be shown on
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return preview;
+    }
+}
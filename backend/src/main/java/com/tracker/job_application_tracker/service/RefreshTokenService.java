@@ -3,6 +3,9 @@ package com.tracker.job_application_tracker.service;
 import com.tracker.job_application_tracker.model.RefreshToken;
 import com.tracker.job_application_tracker.model.User;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 public interface RefreshTokenService {
 
     RefreshToken createRefreshToken(User user);
@@ -12,4 +15,16 @@ public interface RefreshTokenService {
     RefreshToken verifyExpiration(RefreshToken token);
 
     void deleteByUser(User user);
+
+    /**
+     * Delete one batch of tokens expired before expiredBefore, in its own transaction
+     *
+     * @return The number of tokens deleted; less than batchSize when none are left
+     */
+    int purgeExpiredTokens(LocalDateTime expiredBefore, int batchSize);
+
+    /**
+     * Earliest expiry among the stored tokens, empty when there are none
+     */
+    Optional<LocalDateTime> findOldestExpiry();
 }
@@ -1,9 +1,13 @@
 package com.tracker.job_application_tracker.service;
 
+import com.tracker.job_application_tracker.dto.CursorPage;
 import com.tracker.job_application_tracker.dto.StatusHistoryDTO;
 import com.tracker.job_application_tracker.enums.ApplicationStatus;
+import com.tracker.job_application_tracker.model.User;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for StatusHistory management
@@ -15,6 +19,18 @@ public interface StatusHistoryService {
      */
     List<StatusHistoryDTO> getHistoryByApplicationId(Long applicationId);
     
+    /**
+     * Get the status history of several applications at once, grouped by application id
+     * Applications without history are absent from the map
+     */
+    Map<Long, List<StatusHistoryDTO>> getHistoryByApplicationIds(Collection<Long> applicationIds);
+    
+    /**
+     * Get one keyset page of the status history of an application owned by the user
+     * Ordered by (changedAt DESC, id DESC), cursor is null for the first page
+     */
+    CursorPage<StatusHistoryDTO> getHistoryPage(User user, Long applicationId, String cursor, int size);
+    
     /**
      * Create a new status history entry
      */
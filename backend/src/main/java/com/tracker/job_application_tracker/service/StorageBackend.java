@@ -0,0 +1,64 @@
+package com.tracker.job_application_tracker.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Where stored files live, selected by file.backend
+ * - local: LocalStorageBackend (a directory, possibly shared between nodes)
+ * - s3: S3StorageBackend (any S3-compatible object store)
+ *
+ * Keys are the stored filenames of FileStorageService ("ab/cd/<sha256>" or a legacy name).
+ * Validation, hashing and key naming stay in FileStorageService; a backend only moves bytes.
+ */
+public interface StorageBackend {
+
+    boolean exists(String key);
+
+    /**
+     * Store the content of a local file under key, replacing any previous content
+     * The source file belongs to the caller, which deletes it afterwards if it is still there
+     */
+    void store(String key, Path source, String contentType) throws IOException;
+
+    /**
+     * Stream the content stored under key
+     * @throws com.tracker.job_application_tracker.exception.ResourceNotFoundException when there is none
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * Delete the content stored under key, if any
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * Rename a key
+     * @return false when nothing is stored under source
+     */
+    boolean move(String source, String target) throws IOException;
+
+    /**
+     * Local file behind a key, for zero-copy downloads; empty for remote backends
+     */
+    Optional<Path> localPath(String key);
+
+    /**
+     * Time-limited URL the client can download from directly; empty when the backend has none
+     */
+    Optional<URI> presignedUrl(String key, String downloadFilename, String contentType);
+
+    /**
+     * Every stored key, lazily (directory walk, paginated listing), for reconciliation against the database
+     * The stream must be closed
+     */
+    Stream<StoredObject> list() throws IOException;
+
+    record StoredObject(String key, Instant lastModified) {
+    }
+}
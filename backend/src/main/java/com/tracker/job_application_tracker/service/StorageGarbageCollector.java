@@ -0,0 +1,171 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.config.FileStorageProperties;
+import com.tracker.job_application_tracker.service.DocumentService.DanglingScan;
+import com.tracker.job_application_tracker.service.StorageBackend.StoredObject;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Deletes the files no document uses any more, off the request path
+ *
+ * Deleting a document only releases its blob (released_at). Each run then:
+ * - purges the blobs released for longer than the grace period: row first, file once that
+ *   batch is committed, so a blob revived meanwhile by an upload of the same content keeps its file
+ * - lists the storage and deletes the files older than the grace period that no document or
+ *   blob points to (orphans left by a crash between the file write and the commit, by a
+ *   rollback, or by deletes made before blobs were released), with their previews
+ * - every file delete re-checks the rows first, under a lock on the name (DocumentService
+ *   deleteFileIfUnreferenced / deleteKeyIfUnreferenced): an upload may have inserted a new
+ *   blob for the same content since the purge or the listing
+ * - counts the documents whose file is missing (gauge storage.gc.dangling.documents); they are
+ *   reported, never deleted
+ *
+ * File deletions are capped at file.gc.deletes-per-second
+ */
+@Component
+public class StorageGarbageCollector {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final DocumentService documentService;
+    private final FileStorageService fileStorageService;
+    private final Duration gracePeriod;
+    private final long pauseBetweenDeletesNanos;
+    private final Counter blobsDeleted;
+    private final Counter orphansDeleted;
+    private final AtomicLong danglingDocuments = new AtomicLong();
+
+    private long nextDeleteAt = System.nanoTime();
+
+    public StorageGarbageCollector(DocumentService documentService, FileStorageService fileStorageService,
+                                   FileStorageProperties fileStorageProperties, MeterRegistry meterRegistry) {
+        this.documentService = documentService;
+        this.fileStorageService = fileStorageService;
+        this.gracePeriod = fileStorageProperties.getGc().getGracePeriod();
+        this.pauseBetweenDeletesNanos = Duration.ofSeconds(1).toNanos()
+                / Math.max(1, fileStorageProperties.getGc().getDeletesPerSecond());
+        this.blobsDeleted = Counter.builder("storage.gc.blobs.deleted")
+                .description("Released document blobs deleted with their file")
+                .register(meterRegistry);
+        this.orphansDeleted = Counter.builder("storage.gc.orphans.deleted")
+                .description("Stored files deleted because no document or blob pointed to them")
+                .register(meterRegistry);
+        meterRegistry.gauge("storage.gc.dangling.documents", danglingDocuments);
+    }
+
+    @Scheduled(cron = "${file.gc.cron:0 45 2 * * *}")
+    public void collect() {
+        purgeReleasedBlobs();
+        deleteOrphans();
+        countDanglingDocuments();
+    }
+
+    void purgeReleasedBlobs() {
+        LocalDateTime releasedBefore = LocalDateTime.now().minus(gracePeriod);
+        List<String> filenames;
+
+        do {
+            filenames = documentService.purgeReleasedBlobs(releasedBefore, BATCH_SIZE);
+            blobsDeleted.increment(filenames.size());
+            for (String filename : filenames) {
+                throttle(1);
+                documentService.deleteFileIfUnreferenced(filename);
+            }
+        } while (filenames.size() == BATCH_SIZE);
+    }
+
+    void deleteOrphans() {
+        Instant modifiedBefore = Instant.now().minus(gracePeriod);
+
+        try (Stream<StoredObject> objects = fileStorageService.listStoredFiles()) {
+            Iterator<String> keys = objects
+                    .filter(object -> object.lastModified().isBefore(modifiedBefore))
+                    .map(StoredObject::key)
+                    .filter(key -> !isInProgress(key))
+                    .iterator();
+
+            List<String> batch = new ArrayList<>(BATCH_SIZE);
+            while (keys.hasNext()) {
+                batch.add(keys.next());
+                if (batch.size() == BATCH_SIZE || !keys.hasNext()) {
+                    deleteUnreferenced(batch);
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    void countDanglingDocuments() {
+        long dangling = 0;
+        Long afterId = 0L;
+
+        while (afterId != null) {
+            DanglingScan scan = documentService.findDanglingDocuments(afterId, BATCH_SIZE);
+            dangling += scan.danglingIds().size();
+            afterId = scan.lastId();
+        }
+        danglingDocuments.set(dangling);
+    }
+
+    private void deleteUnreferenced(List<String> keys) {
+        // A key is in use when a row names it, its flat name (layout not migrated yet),
+        // or for a preview, the file it belongs to
+        Set<String> candidates = new HashSet<>();
+        for (String key : keys) {
+            String owner = FileStorageService.ownerName(key);
+            candidates.add(owner);
+            candidates.add(flatName(owner));
+        }
+        Set<String> referenced = documentService.findReferencedFilenames(candidates);
+
+        for (String key : keys) {
+            String owner = FileStorageService.ownerName(key);
+            if (!referenced.contains(owner) && !referenced.contains(flatName(owner))) {
+                throttle(1);
+                if (documentService.deleteKeyIfUnreferenced(key)) {
+                    orphansDeleted.increment();
+                }
+            }
+        }
+    }
+
+    // Temp files of streamed uploads (.upload-*.part) and chunked uploads (.chunked-*.part)
+    private static boolean isInProgress(String key) {
+        return flatName(key).startsWith(".");
+    }
+
+    private static String flatName(String key) {
+        return key.substring(key.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * Wait for the slots of the next deletes, spaced by 1 / deletes-per-second
+     */
+    private void throttle(int deletes) {
+        long now = System.nanoTime();
+        if (nextDeleteAt - now > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(nextDeleteAt - now));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Storage garbage collection interrupted", ex);
+            }
+            now = nextDeleteAt;
+        }
+        nextDeleteAt = now + deletes * pauseBetweenDeletesNanos;
+    }
+}
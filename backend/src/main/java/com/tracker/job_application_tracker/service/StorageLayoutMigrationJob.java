@@ -0,0 +1,37 @@
+package com.tracker.job_application_tracker.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Online migration of the upload directory from the flat layout to the sharded one (ab/cd/name)
+ * Files are walked by keyset batches of stored filenames; each batch moves its files and rewrites
+ * the matching rows in its own transaction, so downloads keep being served throughout.
+ * Once everything is sharded, a run is a single query returning nothing
+ */
+@Component
+public class StorageLayoutMigrationJob {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final DocumentService documentService;
+
+    public StorageLayoutMigrationJob(DocumentService documentService) {
+        this.documentService = documentService;
+    }
+
+    @Scheduled(cron = "${file.layout-migration-cron:0 0 4 * * *}")
+    public void migrateAll() {
+        String afterFilename = "";
+        List<String> filenames;
+
+        do {
+            filenames = documentService.moveFilesToShardedLayout(afterFilename, BATCH_SIZE);
+            if (!filenames.isEmpty()) {
+                afterFilename = filenames.get(filenames.size() - 1);
+            }
+        } while (filenames.size() == BATCH_SIZE);
+    }
+}
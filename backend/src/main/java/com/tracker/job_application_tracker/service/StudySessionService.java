@@ -1,6 +1,7 @@
 package com.tracker.job_application_tracker.service;
 
 import com.tracker.job_application_tracker.dto.CreateStudySessionRequest;
+import com.tracker.job_application_tracker.dto.CursorPage;
 import com.tracker.job_application_tracker.dto.StudySessionDTO;
 import com.tracker.job_application_tracker.model.User;
 
@@ -11,6 +12,8 @@ public interface StudySessionService {
 
     List<StudySessionDTO> getAllByUser(User user);
 
+    CursorPage<StudySessionDTO> getPageByUser(User user, String cursor, int size);
+
     List<StudySessionDTO> getByDateRange(User user, LocalDate start, LocalDate end);
 
     StudySessionDTO getById(Long id, User user);
@@ -1,6 +1,7 @@
 package com.tracker.job_application_tracker.service;
 
 import com.tracker.job_application_tracker.dto.CreateTechnicalQuestionRequest;
+import com.tracker.job_application_tracker.dto.CursorPage;
 import com.tracker.job_application_tracker.dto.TechnicalQuestionDTO;
 import com.tracker.job_application_tracker.dto.UpdateTechnicalQuestionRequest;
 import com.tracker.job_application_tracker.enums.Category;
@@ -12,6 +13,8 @@ public interface TechnicalQuestionService {
 
     List<TechnicalQuestionDTO> getAllByUser(User user);
 
+    CursorPage<TechnicalQuestionDTO> getPageByUser(User user, String cursor, int size);
+
     List<TechnicalQuestionDTO> getByCategory(User user, Category category);
 
     TechnicalQuestionDTO getById(Long id, User user);
@@ -0,0 +1,93 @@
+package com.tracker.job_application_tracker.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Deletes the confirmation and refresh tokens expired for longer than token.purge.retention
+ *
+ * A used confirmation token is never valid again and expires 15 minutes after its creation at the
+ * latest, so the expiry date alone covers expired and used tokens. Keeping them for the retention
+ * period lets a second click on a link still answer "already used" rather than "invalid".
+ *
+ * Each batch is claimed FOR UPDATE SKIP LOCKED and deleted by id in its own short transaction:
+ * several nodes can purge at once without waiting for each other. Metrics, tagged by table:
+ * token.purge.deleted (rows deleted) and token.purge.lag (seconds between the oldest token still
+ * due and the retention cutoff, 0 when the purge is up to date)
+ */
+@Component
+public class TokenPurgeJob {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ConfirmationTokenService confirmationTokenService;
+    private final RefreshTokenService refreshTokenService;
+    private final Duration retention;
+    private final Counter confirmationTokensDeleted;
+    private final Counter refreshTokensDeleted;
+    private final AtomicLong confirmationTokensLag = new AtomicLong();
+    private final AtomicLong refreshTokensLag = new AtomicLong();
+
+    public TokenPurgeJob(ConfirmationTokenService confirmationTokenService, RefreshTokenService refreshTokenService,
+                         MeterRegistry meterRegistry,
+                         @Value("${token.purge.retention:PT24H}") Duration retention) {
+        this.confirmationTokenService = confirmationTokenService;
+        this.refreshTokenService = refreshTokenService;
+        this.retention = retention;
+        this.confirmationTokensDeleted = Counter.builder("token.purge.deleted")
+                .description("Expired tokens deleted")
+                .tag("table", "confirmation_tokens")
+                .register(meterRegistry);
+        this.refreshTokensDeleted = Counter.builder("token.purge.deleted")
+                .description("Expired tokens deleted")
+                .tag("table", "refresh_tokens")
+                .register(meterRegistry);
+        Gauge.builder("token.purge.lag", confirmationTokensLag, AtomicLong::get)
+                .description("Time the oldest token due for deletion has been waiting")
+                .tag("table", "confirmation_tokens")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("token.purge.lag", refreshTokensLag, AtomicLong::get)
+                .description("Time the oldest token due for deletion has been waiting")
+                .tag("table", "refresh_tokens")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${token.purge.cron:0 30 * * * *}")
+    public void purge() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(retention);
+
+        purge(() -> confirmationTokenService.purgeExpiredTokens(expiredBefore, BATCH_SIZE), confirmationTokensDeleted);
+        purge(() -> refreshTokenService.purgeExpiredTokens(expiredBefore, BATCH_SIZE), refreshTokensDeleted);
+
+        confirmationTokensLag.set(lagSeconds(confirmationTokenService::findOldestExpiry, expiredBefore));
+        refreshTokensLag.set(lagSeconds(refreshTokenService::findOldestExpiry, expiredBefore));
+    }
+
+    private static void purge(IntSupplier batch, Counter deleted) {
+        int count;
+        do {
+            count = batch.getAsInt();
+            deleted.increment(count);
+        } while (count == BATCH_SIZE);
+    }
+
+    private static long lagSeconds(Supplier<Optional<LocalDateTime>> oldestExpiry, LocalDateTime expiredBefore) {
+        return oldestExpiry.get()
+                .filter(expiry -> expiry.isBefore(expiredBefore))
+                .map(expiry -> Duration.between(expiry, expiredBefore).toSeconds())
+                .orElse(0L);
+    }
+}
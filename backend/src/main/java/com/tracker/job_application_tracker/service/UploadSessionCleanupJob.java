@@ -0,0 +1,38 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.config.FileStorageProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Drops abandoned chunked uploads: expired sessions by batches, each in its own transaction,
+ * then any upload file left without writes for longer than the expiry (sessions removed
+ * along with their application)
+ */
+@Component
+public class UploadSessionCleanupJob {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final ChunkedUploadService chunkedUploadService;
+    private final FileStorageService fileStorageService;
+    private final Duration expiry;
+
+    public UploadSessionCleanupJob(ChunkedUploadService chunkedUploadService, FileStorageService fileStorageService,
+                                   FileStorageProperties fileStorageProperties) {
+        this.chunkedUploadService = chunkedUploadService;
+        this.fileStorageService = fileStorageService;
+        this.expiry = fileStorageProperties.getChunked().getExpiry();
+    }
+
+    @Scheduled(cron = "${file.chunked.cleanup-cron:0 15 * * * *}")
+    public void cleanUp() {
+        while (chunkedUploadService.deleteExpiredUploads(BATCH_SIZE) == BATCH_SIZE) {
+            // Next batch
+        }
+        fileStorageService.deleteStaleChunkedUploads(Instant.now().minus(expiry));
+    }
+}
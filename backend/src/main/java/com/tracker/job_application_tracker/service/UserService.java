@@ -6,13 +6,19 @@ import com.tracker.job_application_tracker.model.User;
 
 public interface UserService {
 
-    User createUser(RegisterRequest request);
+    /**
+     * @param passwordHash The password, already hashed by PasswordHasher outside any transaction
+     */
+    User createUser(RegisterRequest request, String passwordHash);
 
     User findByEmail(String email);
 
     void enableUser(String email);
 
-    void updatePassword(String email, String newPassword);
+    /**
+     * @param passwordHash The new password, already hashed by PasswordHasher outside any transaction
+     */
+    void updatePassword(String email, String passwordHash);
 
     void verifyPassword(User user, String rawPassword);
 
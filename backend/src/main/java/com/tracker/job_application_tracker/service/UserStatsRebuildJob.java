@@ -0,0 +1,46 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.repository.UserRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Nightly drift repair of the dashboard counters
+ * Users are walked by keyset batches of ids; each user is rebuilt in its own transaction
+ *
+ * The job is node-local: every node running it rebuilds every user. Rebuilds of the same user
+ * serialize on its counter rows, so the result stays right, but the work is repeated; set the cron
+ * to "-" (DASHBOARD_REBUILD_CRON=-) on all nodes but one
+ */
+@Component
+public class UserStatsRebuildJob {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final UserStatsService userStatsService;
+
+    public UserStatsRebuildJob(UserRepository userRepository, UserStatsService userStatsService) {
+        this.userRepository = userRepository;
+        this.userStatsService = userStatsService;
+    }
+
+    @Scheduled(cron = "${dashboard.stats.rebuild-cron:0 30 3 * * *}")
+    public void rebuildAll() {
+        long afterId = 0;
+        List<Long> userIds;
+
+        do {
+            userIds = userRepository.findIdsAfter(afterId, Limit.of(BATCH_SIZE));
+            for (Long userId : userIds) {
+                userStatsService.rebuild(userId);
+            }
+            if (!userIds.isEmpty()) {
+                afterId = userIds.get(userIds.size() - 1);
+            }
+        } while (userIds.size() == BATCH_SIZE);
+    }
+}
@@ -0,0 +1,42 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.dto.DashboardDTO;
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+import com.tracker.job_application_tracker.model.Application;
+import com.tracker.job_application_tracker.model.User;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for the per-user dashboard counters
+ *
+ * The on* methods are called inside the transaction that writes the application
+ * or its history, so counters and data commit (or roll back) together
+ */
+public interface UserStatsService {
+
+    void onApplicationCreated(Application application);
+
+    /**
+     * @param previousStatus Status before the update
+     * @param previousApplicationDate Application date before the update
+     */
+    void onApplicationUpdated(Application application, ApplicationStatus previousStatus, LocalDate previousApplicationDate);
+
+    /**
+     * Must be called before the application and its history are deleted
+     */
+    void onApplicationDeleted(Application application);
+
+    void onStatusHistoryCreated(Application application, ApplicationStatus status);
+
+    /**
+     * Read the dashboard from the counters: cost depends on the number of months, not of applications
+     */
+    DashboardDTO getDashboard(User user);
+
+    /**
+     * Recompute the counters of a user from applications and status_history (drift repair)
+     */
+    void rebuild(Long userId);
+}
@@ -0,0 +1,140 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Weekly digest of the previous week (Monday to Sunday) for every user
+ *
+ * Users are walked by keyset batches of ids (an index range scan per batch, whatever the number
+ * of users). Each batch is computed, rendered and queued to the email outbox on a virtual thread,
+ * in its own transaction; at most digest.weekly.concurrency batches are in flight (kept below the
+ * connection pool size), and reading the next ids waits for a free slot. Memory therefore holds at
+ * most concurrency + 1 batches at any time.
+ *
+ * A batch marks its users as done for the week in the same transaction, so a second run (or
+ * another node) skips them. A batch that fails is rolled back as a whole and retried once the walk
+ * is done, one user per transaction: a transient error gets a second chance, and a user whose digest
+ * keeps failing does not hold back the rest of the batch. Users failing again miss this week's digest
+ * (the next scheduled run covers the next week) unless run() is called again for the same week.
+ * Throughput is reported by digest.users.scanned, digest.emails.queued, digest.batches.failed,
+ * digest.users.failed and the digest.run.duration timer
+ */
+@Component
+public class WeeklyDigestJob {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final WeeklyDigestService weeklyDigestService;
+    private final int concurrency;
+    private final Counter usersWalked;
+    private final Counter emailsQueued;
+    private final Counter failedBatches;
+    private final Counter failedUsers;
+    private final Timer runTimer;
+
+    public WeeklyDigestJob(UserRepository userRepository, WeeklyDigestService weeklyDigestService,
+                           MeterRegistry meterRegistry,
+                           @Value("${digest.weekly.concurrency:4}") int concurrency) {
+        this.userRepository = userRepository;
+        this.weeklyDigestService = weeklyDigestService;
+        this.concurrency = concurrency;
+        this.usersWalked = Counter.builder("digest.users.scanned")
+                .description("Users walked by the weekly digest")
+                .register(meterRegistry);
+        this.emailsQueued = Counter.builder("digest.emails.queued")
+                .description("Weekly digests written to the email outbox")
+                .register(meterRegistry);
+        this.failedBatches = Counter.builder("digest.batches.failed")
+                .description("Weekly digest batches rolled back, retried user by user")
+                .register(meterRegistry);
+        this.failedUsers = Counter.builder("digest.users.failed")
+                .description("Users whose weekly digest failed again when retried alone")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("digest.run.duration")
+                .description("Duration of a full weekly digest run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${digest.weekly.cron:0 0 7 * * MON}")
+    public void sendWeeklyDigests() {
+        runTimer.record(() -> run(LocalDate.now()));
+    }
+
+    /**
+     * Queue the digests of the week before the one containing today
+     *
+     * @return The number of digests queued
+     */
+    public int run(LocalDate today) {
+        LocalDate weekStart = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusWeeks(1);
+        Semaphore slots = new Semaphore(concurrency);
+        AtomicInteger queued = new AtomicInteger();
+        Queue<List<Long>> failed = new ConcurrentLinkedQueue<>();
+
+        // close() waits for the batches still running
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long afterId = 0;
+            List<Long> userIds;
+
+            do {
+                userIds = userRepository.findIdsAfter(afterId, Limit.of(BATCH_SIZE));
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                slots.acquireUninterruptibly();
+
+                List<Long> batch = userIds;
+                executor.submit(() -> {
+                    try {
+                        queued.addAndGet(send(batch, weekStart));
+                    } catch (RuntimeException ex) {
+                        // Rolled back: nobody in the batch is marked, retried below
+                        failedBatches.increment();
+                        failed.add(batch);
+                    } finally {
+                        usersWalked.increment(batch.size());
+                        slots.release();
+                    }
+                });
+                afterId = userIds.get(userIds.size() - 1);
+            } while (userIds.size() == BATCH_SIZE);
+        }
+
+        // Users already marked are skipped by sendDigests, so a retry never sends twice
+        for (List<Long> batch : failed) {
+            for (Long userId : batch) {
+                try {
+                    queued.addAndGet(send(List.of(userId), weekStart));
+                } catch (RuntimeException ex) {
+                    failedUsers.increment();
+                }
+            }
+        }
+        return queued.get();
+    }
+
+    private int send(List<Long> userIds, LocalDate weekStart) {
+        int sent = weeklyDigestService.sendDigests(userIds, weekStart);
+        emailsQueued.increment(sent);
+        return sent;
+    }
+}
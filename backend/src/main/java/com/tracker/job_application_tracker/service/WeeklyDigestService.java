@@ -0,0 +1,36 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service interface for the weekly digest emails
+ */
+public interface WeeklyDigestService {
+    
+    /**
+     * Compute and queue (email outbox) the digests of a batch of users for the week starting weekStart,
+     * in one transaction and with one aggregate query per figure for the whole batch
+     * Users already done for that week, disabled, or with nothing to report get no email
+     * 
+     * @return The number of digests queued
+     */
+    int sendDigests(List<Long> userIds, LocalDate weekStart);
+    
+    /**
+     * What a user did during one week
+     * 
+     * @param statusChanges Status history entries of the week, by status
+     * @param flashcardsDue Cards not reviewed for a week or more
+     */
+    record WeeklyDigest(String email, String firstName, LocalDate weekStart, long applicationsSent,
+                        Map<ApplicationStatus, Long> statusChanges, long studyMinutes, long flashcardsDue) {
+        
+        public boolean isEmpty() {
+            return applicationsSent == 0 && statusChanges.isEmpty() && studyMinutes == 0 && flashcardsDue == 0;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.tracker.job_application_tracker.service.impl;
+
+import com.tracker.job_application_tracker.dto.RegisterRequest;
+import com.tracker.job_application_tracker.model.ConfirmationToken;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.service.AccountService;
+import com.tracker.job_application_tracker.service.ConfirmationTokenService;
+import com.tracker.job_application_tracker.service.EmailService;
+import com.tracker.job_application_tracker.service.UserService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class AccountServiceImpl implements AccountService {
+
+    private final UserService userService;
+    private final ConfirmationTokenService confirmationTokenService;
+    private final EmailService emailService;
+
+    public AccountServiceImpl(UserService userService,
+                              ConfirmationTokenService confirmationTokenService,
+                              EmailService emailService) {
+        this.userService = userService;
+        this.confirmationTokenService = confirmationTokenService;
+        this.emailService = emailService;
+    }
+
+    @Override
+    public void register(RegisterRequest request, String passwordHash) {
+        User user = userService.createUser(request, passwordHash);
+        ConfirmationToken token = confirmationTokenService.createToken(user);
+        emailService.sendConfirmationEmail(user.getEmail(), token.getToken());
+    }
+
+    @Override
+    public void requestPasswordReset(String email) {
+        User user = userService.findByEmail(email);
+        ConfirmationToken token = confirmationTokenService.createToken(user);
+        emailService.sendPasswordResetEmail(user.getEmail(), token.getToken());
+    }
+
+    @Override
+    public void resetPassword(String tokenString, String passwordHash) {
+        ConfirmationToken token = confirmationTokenService.getToken(tokenString);
+        userService.updatePassword(token.getUser().getEmail(), passwordHash);
+        // Checked again under this transaction: a used or expired token rolls the password back
+        confirmationTokenService.confirmToken(tokenString);
+    }
+}
@@ -0,0 +1,102 @@
+package com.tracker.job_application_tracker.service.impl;
+
+import com.tracker.job_application_tracker.model.Application;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Builds the FULLTEXT column content and the MySQL boolean-mode query
+ * used by GET /api/applications/search
+ *
+ * Words the FULLTEXT index never holds (shorter than innodb_ft_min_token_size, InnoDB
+ * stopwords) cannot be found by MATCH ... AGAINST: "QA" or "JS" would match nothing.
+ * They go to a regular expression matched against search_text instead
+ */
+final class ApplicationSearch {
+
+    /**
+     * Upper bound on the number of search terms
+     */
+    static final int MAX_TERMS = 10;
+
+    /**
+     * innodb_ft_min_token_size (MySQL default): shorter words are not indexed
+     */
+    static final int MIN_TOKEN_SIZE = 3;
+
+    /**
+     * InnoDB default stopwords (INFORMATION_SCHEMA.INNODB_FT_DEFAULT_STOPWORD), not indexed either
+     */
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "about", "an", "are", "as", "at", "be", "by", "com", "de", "en", "for", "from", "how",
+            "i", "in", "is", "it", "la", "of", "on", "or", "that", "the", "this", "to", "was", "what",
+            "when", "where", "who", "will", "with", "und", "www");
+
+    private static final String NON_WORD = "[^\\p{L}\\p{N}]+";
+
+    /**
+     * Search terms split by the way they can be matched; either part may be empty
+     *
+     * @param booleanQuery Boolean-mode MATCH query for the indexed words ("+java* +dev*")
+     * @param pattern      Regular expression requiring every other word at the start of a word
+     *                     ("^(?=.*\bqa)(?=.*\bjs)"), matched case-insensitively
+     */
+    record Terms(String booleanQuery, String pattern) {
+
+        boolean isEmpty() {
+            return booleanQuery.isEmpty() && pattern.isEmpty();
+        }
+    }
+
+    private ApplicationSearch() {
+    }
+
+    /**
+     * Company, position, notes and document filenames, filenames split on punctuation
+     * so that "cover-letter_acme.pdf" is indexed as "cover letter acme pdf"
+     */
+    static String searchText(Application application, Collection<String> documentFilenames) {
+        Stream<String> fields = Stream.of(application.getCompany(), application.getPosition(), application.getNotes());
+        Stream<String> filenames = documentFilenames.stream()
+                .filter(Objects::nonNull)
+                .map(filename -> filename.replaceAll(NON_WORD, " ").trim());
+
+        return Stream.concat(fields, filenames)
+                .filter(value -> value != null && !value.isBlank())
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * Every term is required and matched as a prefix: "java dev" becomes "+java* +dev*"
+     * Operators typed by the user are dropped. Both parts are empty when there is nothing to search
+     */
+    static Terms terms(String input) {
+        if (input == null) {
+            return new Terms("", "");
+        }
+        Map<Boolean, List<String>> termsByIndexed = Arrays.stream(input.split(NON_WORD))
+                .filter(term -> !term.isEmpty())
+                .limit(MAX_TERMS)
+                .collect(Collectors.partitioningBy(ApplicationSearch::isIndexed));
+
+        String booleanQuery = termsByIndexed.get(true).stream()
+                .map(term -> "+" + term + "*")
+                .collect(Collectors.joining(" "));
+        String pattern = termsByIndexed.get(false).isEmpty() ? "" : termsByIndexed.get(false).stream()
+                .map(term -> "(?=.*\\b" + term + ")")
+                .collect(Collectors.joining("", "^", ""));
+        return new Terms(booleanQuery, pattern);
+    }
+
+    private static boolean isIndexed(String term) {
+        return term.length() >= MIN_TOKEN_SIZE && !STOPWORDS.contains(term.toLowerCase(Locale.ROOT));
+    }
+}
@@ -1,24 +1,35 @@
 package com.tracker.job_application_tracker.service.impl;
 
 import com.tracker.job_application_tracker.dto.ApplicationDTO;
+import com.tracker.job_application_tracker.dto.ApplicationSummaryDTO;
 import com.tracker.job_application_tracker.dto.CreateApplicationRequest;
+import com.tracker.job_application_tracker.dto.Cursor;
+import com.tracker.job_application_tracker.dto.CursorPage;
 import com.tracker.job_application_tracker.dto.DocumentDTO;
 import com.tracker.job_application_tracker.dto.StatusHistoryDTO;
 import com.tracker.job_application_tracker.dto.UpdateApplicationRequest;
 import com.tracker.job_application_tracker.enums.ApplicationStatus;
 import com.tracker.job_application_tracker.exception.ResourceNotFoundException;
 import com.tracker.job_application_tracker.model.Application;
+import com.tracker.job_application_tracker.model.Document;
 import com.tracker.job_application_tracker.model.User;
 import com.tracker.job_application_tracker.repository.ApplicationRepository;
 import com.tracker.job_application_tracker.service.ApplicationService;
 import com.tracker.job_application_tracker.service.DocumentService;
 import com.tracker.job_application_tracker.service.StatusHistoryService;
+import com.tracker.job_application_tracker.service.UserStatsService;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,43 +39,90 @@ public class ApplicationServiceImpl implements ApplicationService {
     private final ApplicationRepository applicationRepository;
     private final DocumentService documentService;
     private final StatusHistoryService statusHistoryService;
+    private final UserStatsService userStatsService;
 
     public ApplicationServiceImpl(
             ApplicationRepository applicationRepository,
             DocumentService documentService,
-            StatusHistoryService statusHistoryService
+            StatusHistoryService statusHistoryService,
+            UserStatsService userStatsService
     ) {
         this.applicationRepository = applicationRepository;
         this.documentService = documentService;
         this.statusHistoryService = statusHistoryService;
+        this.userStatsService = userStatsService;
     }
 
     @Override
     public List<ApplicationDTO> getAllApplications(User user) {
-        return applicationRepository.findByUserIdOrderByApplicationDateDesc(user.getId())
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(applicationRepository.findByUserIdOrderByApplicationDateDesc(user.getId()));
     }
 
     @Override
     public List<ApplicationDTO> getApplicationsByStatus(User user, ApplicationStatus status) {
-        return applicationRepository.findByUserIdAndCurrentStatus(user.getId(), status)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(applicationRepository.findByUserIdAndCurrentStatus(user.getId(), status));
     }
 
     @Override
     public Page<ApplicationDTO> getAllApplications(User user, Pageable pageable) {
-        return applicationRepository.findByUserId(user.getId(), pageable)
-                .map(this::convertToDTO);
+        return convertToDTOs(applicationRepository.findByUserId(user.getId(), pageable));
     }
 
     @Override
     public Page<ApplicationDTO> getApplicationsByStatus(User user, ApplicationStatus status, Pageable pageable) {
-        return applicationRepository.findByUserIdAndCurrentStatus(user.getId(), status, pageable)
-                .map(this::convertToDTO);
+        return convertToDTOs(applicationRepository.findByUserIdAndCurrentStatus(user.getId(), status, pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ApplicationDTO> getApplicationsPage(User user, ApplicationStatus status, String cursor, int size) {
+        Cursor after = Cursor.decode(cursor);
+        int pageSize = CursorPage.clampSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Application> rows = status != null
+                ? applicationRepository.findPageByUserIdAndCurrentStatus(
+                        user.getId(), status, after.dateKey(), after.getId(), limit)
+                : applicationRepository.findPageByUserId(user.getId(), after.dateKey(), after.getId(), limit);
+
+        return CursorPage.ofBatch(rows, pageSize, this::convertToDTOs,
+                application -> Cursor.encode(application.getApplicationDate(), application.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ApplicationSummaryDTO> getApplicationSummaries(User user, Pageable pageable) {
+        return applicationRepository.findSummariesByUserId(user.getId(), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ApplicationSummaryDTO> getApplicationSummariesByStatus(User user, ApplicationStatus status, Pageable pageable) {
+        return applicationRepository.findSummariesByUserIdAndCurrentStatus(user.getId(), status, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ApplicationSummaryDTO> searchApplications(User user, String query, int size) {
+        ApplicationSearch.Terms terms = ApplicationSearch.terms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = searchIds(user.getId(), terms, CursorPage.clampSize(size));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // The IN (...) query does not keep the relevance order of the ids
+        Map<Long, ApplicationSummaryDTO> summariesById = applicationRepository.findSummariesByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(ApplicationSummaryDTO::getId, Function.identity()));
+
+        return ids.stream()
+                .map(summariesById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Override
@@ -83,8 +141,10 @@ public class ApplicationServiceImpl implements ApplicationService {
         application.setApplicationDate(request.getApplicationDate());
         application.setCurrentStatus(request.getCurrentStatus());
         application.setNotes(request.getNotes());
+        application.setSearchText(ApplicationSearch.searchText(application, List.of()));
 
         Application savedApplication = applicationRepository.save(application);
+        userStatsService.onApplicationCreated(savedApplication);
 
         statusHistoryService.createStatusHistory(
                 savedApplication.getId(),
@@ -101,6 +161,7 @@ public class ApplicationServiceImpl implements ApplicationService {
                 .orElseThrow(() -> new ResourceNotFoundException("Application", "id", id));
 
         ApplicationStatus oldStatus = application.getCurrentStatus();
+        LocalDate oldApplicationDate = application.getApplicationDate();
         boolean statusChanged = false;
 
         if (request.getCompany() != null) {
@@ -119,8 +180,14 @@ public class ApplicationServiceImpl implements ApplicationService {
         if (request.getNotes() != null) {
             application.setNotes(request.getNotes());
         }
+        if (request.getCompany() != null || request.getPosition() != null || request.getNotes() != null) {
+            application.setSearchText(ApplicationSearch.searchText(application, application.getDocuments().stream()
+                    .map(Document::getOriginalFilename)
+                    .toList()));
+        }
 
         Application updatedApplication = applicationRepository.save(application);
+        userStatsService.onApplicationUpdated(updatedApplication, oldStatus, oldApplicationDate);
 
         if (statusChanged) {
             statusHistoryService.createStatusHistory(
@@ -135,16 +202,65 @@ public class ApplicationServiceImpl implements ApplicationService {
 
     @Override
     public void deleteApplication(User user, Long id) {
-        applicationRepository.findByIdAndUserId(id, user.getId())
+        Application application = applicationRepository.findByIdAndUserId(id, user.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Application", "id", id));
 
+        userStatsService.onApplicationDeleted(application);
         documentService.deleteAllDocumentsByApplicationId(id);
         applicationRepository.deleteById(id);
     }
 
-    // === HELPER METHOD ===
+    // === HELPER METHODS ===
+
+    /**
+     * FULLTEXT for the indexed words, the pattern for the others, both when the query mixes them
+     */
+    private List<Long> searchIds(Long userId, ApplicationSearch.Terms terms, int limit) {
+        if (terms.pattern().isEmpty()) {
+            return applicationRepository.searchIds(userId, terms.booleanQuery(), limit);
+        }
+        if (terms.booleanQuery().isEmpty()) {
+            return applicationRepository.searchIdsByPattern(userId, terms.pattern(), limit);
+        }
+        return applicationRepository.searchIdsMatchingPattern(userId, terms.booleanQuery(), terms.pattern(), limit);
+    }
 
     private ApplicationDTO convertToDTO(Application application) {
+        return convertToDTOs(List.of(application)).get(0);
+    }
+
+    private Page<ApplicationDTO> convertToDTOs(Page<Application> page) {
+        return new PageImpl<>(convertToDTOs(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    /**
+     * Documents and status history are loaded for the whole list with one IN (...) query
+     * per child table, so the cost does not grow with the number of applications
+     */
+    private List<ApplicationDTO> convertToDTOs(List<Application> applications) {
+        if (applications.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = applications.stream()
+                .map(Application::getId)
+                .collect(Collectors.toList());
+
+        Map<Long, List<DocumentDTO>> documents = documentService.getDocumentsByApplicationIds(ids);
+        Map<Long, List<StatusHistoryDTO>> histories = statusHistoryService.getHistoryByApplicationIds(ids);
+
+        return applications.stream()
+                .map(application -> convertToDTO(
+                        application,
+                        documents.getOrDefault(application.getId(), List.of()),
+                        histories.getOrDefault(application.getId(), List.of())
+                ))
+                .collect(Collectors.toList());
+    }
+
+    private ApplicationDTO convertToDTO(Application application,
+                                        List<DocumentDTO> documents,
+                                        List<StatusHistoryDTO> history) {
         ApplicationDTO dto = new ApplicationDTO();
         dto.setId(application.getId());
         dto.setCompany(application.getCompany());
@@ -155,11 +271,9 @@ public class ApplicationServiceImpl implements ApplicationService {
         dto.setCreatedAt(application.getCreatedAt());
         dto.setUpdatedAt(application.getUpdatedAt());
 
-        List<DocumentDTO> documents = documentService.getDocumentsByApplicationId(application.getId());
         dto.setDocuments(documents);
         dto.setDocumentCount(documents.size());
 
-        List<StatusHistoryDTO> history = statusHistoryService.getHistoryByApplicationId(application.getId());
         dto.setStatusHistory(history);
 
         return dto;
@@ -0,0 +1,247 @@
+package com.tracker.job_application_tracker.service.impl;
+
+import com.tracker.job_application_tracker.config.FileStorageProperties;
+import com.tracker.job_application_tracker.dto.DocumentDTO;
+import com.tracker.job_application_tracker.dto.UploadSessionDTO;
+import com.tracker.job_application_tracker.exception.InvalidFileException;
+import com.tracker.job_application_tracker.exception.ResourceNotFoundException;
+import com.tracker.job_application_tracker.model.Application;
+import com.tracker.job_application_tracker.model.UploadChunk;
+import com.tracker.job_application_tracker.model.UploadSession;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.repository.ApplicationRepository;
+import com.tracker.job_application_tracker.repository.UploadChunkRepository;
+import com.tracker.job_application_tracker.repository.UploadSessionRepository;
+import com.tracker.job_application_tracker.service.ChunkedUploadService;
+import com.tracker.job_application_tracker.service.DocumentService;
+import com.tracker.job_application_tracker.service.FileStorageService;
+import com.tracker.job_application_tracker.service.FileStorageService.StagedFile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Implementation of ChunkedUploadService
+ */
+@Service
+@Transactional
+public class ChunkedUploadServiceImpl implements ChunkedUploadService {
+    
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadChunkRepository uploadChunkRepository;
+    private final ApplicationRepository applicationRepository;
+    private final FileStorageService fileStorageService;
+    private final DocumentService documentService;
+    private final FileStorageProperties.Chunked properties;
+    
+    public ChunkedUploadServiceImpl(
+            UploadSessionRepository uploadSessionRepository,
+            UploadChunkRepository uploadChunkRepository,
+            ApplicationRepository applicationRepository,
+            FileStorageService fileStorageService,
+            DocumentService documentService,
+            FileStorageProperties fileStorageProperties
+    ) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.uploadChunkRepository = uploadChunkRepository;
+        this.applicationRepository = applicationRepository;
+        this.fileStorageService = fileStorageService;
+        this.documentService = documentService;
+        this.properties = fileStorageProperties.getChunked();
+    }
+    
+    @Override
+    public UploadSessionDTO createUpload(User user, Long applicationId, String originalFilename, long totalSize) {
+        Application application = applicationRepository.findByIdAndUserId(applicationId, user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Application", "id", applicationId));
+        
+        if (originalFilename == null || originalFilename.isBlank()) {
+            throw new InvalidFileException("Filename is required");
+        }
+        if (totalSize <= 0) {
+            throw new InvalidFileException("Failed to store empty file");
+        }
+        if (totalSize > properties.getMaxSize()) {
+            throw new InvalidFileException("File size exceeds maximum limit of "
+                    + properties.getMaxSize() / (1024 * 1024) + "MB");
+        }
+        checkUserQuota(user, totalSize);
+        
+        UploadSession session = new UploadSession(
+                UUID.randomUUID().toString(),
+                application,
+                originalFilename,
+                totalSize,
+                properties.getChunkSize(),
+                LocalDateTime.now().plus(properties.getExpiry())
+        );
+        // File first: a session row never points to a missing file
+        fileStorageService.createChunkedUpload(session.getId(), totalSize);
+        
+        return convertToDTO(uploadSessionRepository.save(session), List.of());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public UploadSessionDTO getUpload(User user, Long applicationId, String uploadId) {
+        UploadSession session = findSession(user, applicationId, uploadId);
+        return convertToDTO(session, uploadChunkRepository.findChunkIndexes(uploadId));
+    }
+    
+    /**
+     * No transaction around the write: a chunk can take minutes on a slow link,
+     * and must not hold a database connection meanwhile
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long writeChunk(User user, Long applicationId, String uploadId, long offset, InputStream content) {
+        UploadSession session = findSession(user, applicationId, uploadId);
+        
+        if (offset < 0 || offset >= session.getTotalSize() || offset % session.getChunkSize() != 0) {
+            throw new InvalidFileException("Chunk offset must be a multiple of " + session.getChunkSize()
+                    + " below " + session.getTotalSize());
+        }
+        int chunkIndex = (int) (offset / session.getChunkSize());
+        long length = Math.min(session.getChunkSize(), session.getTotalSize() - offset);
+        
+        fileStorageService.writeChunk(uploadId, offset, length, content);
+        
+        // Recorded only once the bytes are on disk; a chunk sent twice is recorded once
+        if (!uploadChunkRepository.existsById(new UploadChunk.Key(uploadId, chunkIndex))) {
+            try {
+                uploadChunkRepository.saveAndFlush(new UploadChunk(uploadId, chunkIndex));
+            } catch (DataIntegrityViolationException ignored) {
+                // Same chunk recorded by a concurrent retry
+            }
+        }
+        return offset + length;
+    }
+    
+    @Override
+    public DocumentDTO completeUpload(User user, Long applicationId, String uploadId) {
+        UploadSession session = findSession(user, applicationId, uploadId);
+        
+        long received = uploadChunkRepository.countByUploadId(uploadId);
+        if (received < session.getChunkCount()) {
+            throw new InvalidFileException("Upload incomplete: " + received + " of "
+                    + session.getChunkCount() + " chunks received");
+        }
+        
+        // Same checks and content-addressed storage as a single-request upload
+        DocumentDTO document;
+        try (StagedFile stagedFile = fileStorageService.stageChunkedUpload(uploadId, session.getOriginalFilename())) {
+            document = documentService.createDocument(
+                    session.getApplication().getId(), session.getOriginalFilename(), stagedFile);
+        }
+        
+        uploadChunkRepository.deleteByUploadId(uploadId);
+        uploadSessionRepository.delete(session);
+        deleteFilesAfterCommit(List.of(uploadId));
+        return document;
+    }
+    
+    @Override
+    public void abortUpload(User user, Long applicationId, String uploadId) {
+        UploadSession session = findSession(user, applicationId, uploadId);
+        
+        uploadChunkRepository.deleteByUploadId(uploadId);
+        uploadSessionRepository.delete(session);
+        deleteFilesAfterCommit(List.of(uploadId));
+    }
+    
+    @Override
+    public int deleteExpiredUploads(int batchSize) {
+        List<UploadSession> expired = uploadSessionRepository
+                .findByExpiresAtBeforeOrderByExpiresAt(LocalDateTime.now(), Limit.of(batchSize));
+        
+        for (UploadSession session : expired) {
+            uploadChunkRepository.deleteByUploadId(session.getId());
+            uploadSessionRepository.delete(session);
+        }
+        deleteFilesAfterCommit(expired.stream().map(UploadSession::getId).toList());
+        return expired.size();
+    }
+    
+    // === HELPER METHODS ===
+    
+    /**
+     * Caps on the user's unexpired uploads: how many, and how many bytes they reserve on disk
+     * Checked without locking: concurrent creations of the same user can overshoot by one upload each
+     */
+    private void checkUserQuota(User user, long totalSize) {
+        LocalDateTime now = LocalDateTime.now();
+        
+        if (uploadSessionRepository.countByApplicationUserIdAndExpiresAtAfter(user.getId(), now)
+                >= properties.getMaxActivePerUser()) {
+            throw new InvalidFileException("Too many uploads in progress: at most "
+                    + properties.getMaxActivePerUser() + ", complete or abort one first");
+        }
+        if (uploadSessionRepository.sumTotalSizeOfActiveUploads(user.getId(), now) + totalSize
+                > properties.getMaxReservedPerUser()) {
+            throw new InvalidFileException("Uploads in progress exceed the limit of "
+                    + properties.getMaxReservedPerUser() / (1024 * 1024) + "MB, complete or abort one first");
+        }
+    }
+    
+    /**
+     * Drop the files of these uploads once their rows are gone for good: after a rollback the
+     * sessions still point to their files, and completing or aborting can be retried
+     * (a crash in between leaves files for FileStorageService.deleteStaleChunkedUploads)
+     */
+    private void deleteFilesAfterCommit(List<String> uploadIds) {
+        if (uploadIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            uploadIds.forEach(fileStorageService::deleteChunkedUpload);
+            return;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                uploadIds.forEach(fileStorageService::deleteChunkedUpload);
+            }
+        });
+    }
+    
+    /**
+     * Upload of one of the user's applications, not expired
+     */
+    private UploadSession findSession(User user, Long applicationId, String uploadId) {
+        return uploadSessionRepository.findByIdAndApplicationIdAndApplicationUserId(uploadId, applicationId, user.getId())
+                .filter(session -> session.getExpiresAt().isAfter(LocalDateTime.now()))
+                .orElseThrow(() -> new ResourceNotFoundException("Upload", "id", uploadId));
+    }
+    
+    private UploadSessionDTO convertToDTO(UploadSession session, List<Integer> receivedChunks) {
+        Set<Integer> received = new HashSet<>(receivedChunks);
+        List<Integer> missingChunks = new ArrayList<>();
+        for (int i = 0; i < session.getChunkCount(); i++) {
+            if (!received.contains(i)) {
+                missingChunks.add(i);
+            }
+        }
+        
+        return new UploadSessionDTO(
+                session.getId(),
+                session.getOriginalFilename(),
+                session.getTotalSize(),
+                session.getChunkSize(),
+                missingChunks,
+                session.getExpiresAt()
+        );
+    }
+}
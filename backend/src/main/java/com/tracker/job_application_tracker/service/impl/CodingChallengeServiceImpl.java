@@ -2,6 +2,8 @@ package com.tracker.job_application_tracker.service.impl;
 
 import com.tracker.job_application_tracker.dto.CodingChallengeDTO;
 import com.tracker.job_application_tracker.dto.CreateCodingChallengeRequest;
+import com.tracker.job_application_tracker.dto.Cursor;
+import com.tracker.job_application_tracker.dto.CursorPage;
 import com.tracker.job_application_tracker.dto.UpdateCodingChallengeRequest;
 import com.tracker.job_application_tracker.enums.ChallengeStatus;
 import com.tracker.job_application_tracker.exception.ResourceNotFoundException;
@@ -9,6 +11,7 @@ import com.tracker.job_application_tracker.model.CodingChallenge;
 import com.tracker.job_application_tracker.model.User;
 import com.tracker.job_application_tracker.repository.CodingChallengeRepository;
 import com.tracker.job_application_tracker.service.CodingChallengeService;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +38,19 @@ public class CodingChallengeServiceImpl implements CodingChallengeService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<CodingChallengeDTO> getPageByUser(User user, String cursor, int size) {
+        Cursor after = Cursor.decode(cursor);
+        int pageSize = CursorPage.clampSize(size);
+
+        List<CodingChallenge> rows = codingChallengeRepository.findPageByUserId(
+                user.getId(), after.dateTimeKey(), after.getId(), Limit.of(pageSize + 1)
+        );
+        return CursorPage.of(rows, pageSize, this::convertToDTO,
+                challenge -> Cursor.encode(challenge.getCreatedAt(), challenge.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<CodingChallengeDTO> getByStatus(User user, ChallengeStatus status) {
@@ -7,10 +7,13 @@ import com.tracker.job_application_tracker.model.User;
 import com.tracker.job_application_tracker.repository.ConfirmationTokenRepository;
 import com.tracker.job_application_tracker.service.ConfirmationTokenService;
 import com.tracker.job_application_tracker.service.UserService;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -60,4 +63,21 @@ public class ConfirmationTokenServiceImpl implements ConfirmationTokenService {
 
         userService.enableUser(token.getUser().getEmail());
     }
+
+    @Override
+    public int purgeExpiredTokens(LocalDateTime expiredBefore, int batchSize) {
+        List<Long> ids = tokenRepository.findExpiredForUpdate(expiredBefore, Limit.of(batchSize)).stream()
+                .map(ConfirmationToken::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return tokenRepository.deleteByIdIn(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findOldestExpiry() {
+        return tokenRepository.findOldestExpiry();
+    }
 }
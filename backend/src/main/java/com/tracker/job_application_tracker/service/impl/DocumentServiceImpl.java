@@ -1,19 +1,39 @@
 package com.tracker.job_application_tracker.service.impl;
 
 import com.tracker.job_application_tracker.dto.DocumentDTO;
+import com.tracker.job_application_tracker.dto.DocumentLinkDTO;
+import com.tracker.job_application_tracker.exception.FileStorageException;
 import com.tracker.job_application_tracker.exception.ResourceNotFoundException;
 import com.tracker.job_application_tracker.model.Application;
 import com.tracker.job_application_tracker.model.Document;
+import com.tracker.job_application_tracker.model.DocumentBlob;
+import com.tracker.job_application_tracker.model.User;
 import com.tracker.job_application_tracker.repository.ApplicationRepository;
+import com.tracker.job_application_tracker.repository.DocumentBlobRepository;
 import com.tracker.job_application_tracker.repository.DocumentRepository;
 import com.tracker.job_application_tracker.service.DocumentService;
+import com.tracker.job_application_tracker.service.FileLinkService;
 import com.tracker.job_application_tracker.service.FileStorageService;
+import com.tracker.job_application_tracker.service.FileStorageService.StagedFile;
+import com.tracker.job_application_tracker.service.FileStorageService.StoredFile;
+import com.tracker.job_application_tracker.service.PreviewService;
 import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -24,17 +44,26 @@ import java.util.stream.Collectors;
 public class DocumentServiceImpl implements DocumentService {
     
     private final DocumentRepository documentRepository;
+    private final DocumentBlobRepository documentBlobRepository;
     private final ApplicationRepository applicationRepository;
     private final FileStorageService fileStorageService;
+    private final FileLinkService fileLinkService;
+    private final PreviewService previewService;
     
     public DocumentServiceImpl(
             DocumentRepository documentRepository,
+            DocumentBlobRepository documentBlobRepository,
             ApplicationRepository applicationRepository,
-            FileStorageService fileStorageService
+            FileStorageService fileStorageService,
+            FileLinkService fileLinkService,
+            PreviewService previewService
     ) {
         this.documentRepository = documentRepository;
+        this.documentBlobRepository = documentBlobRepository;
         this.applicationRepository = applicationRepository;
         this.fileStorageService = fileStorageService;
+        this.fileLinkService = fileLinkService;
+        this.previewService = previewService;
     }
     
     @Override
@@ -51,25 +80,75 @@ public class DocumentServiceImpl implements DocumentService {
     }
     
     @Override
-    public DocumentDTO uploadDocument(Long applicationId, MultipartFile file) {
+    public Map<Long, List<DocumentDTO>> getDocumentsByApplicationIds(Collection<Long> applicationIds) {
+        if (applicationIds.isEmpty()) {
+            return Map.of();
+        }
+        
+        return documentRepository.findByApplicationIdIn(applicationIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        doc -> doc.getApplication().getId(),
+                        Collectors.mapping(this::convertToDTO, Collectors.toList())
+                ));
+    }
+    
+    @Override
+    public DocumentDTO uploadDocument(User user, Long applicationId, MultipartFile file) {
         // Find application
+        Application application = applicationRepository.findByIdAndUserId(applicationId, user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Application", "id", applicationId));
+        
+        // Stage file: the temp copy stays until the blob row is written
+        try (StagedFile stagedFile = fileStorageService.stageFile(file)) {
+            return saveDocument(application, file.getOriginalFilename(), stagedFile);
+        }
+    }
+    
+    @Override
+    public DocumentDTO uploadDocument(User user, Long applicationId, String originalFilename, InputStream content) {
+        // Find application before reading the body, so an unknown id or someone else's costs nothing
+        Application application = applicationRepository.findByIdAndUserId(applicationId, user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Application", "id", applicationId));
+        
+        // Stream the body straight to disk
+        try (StagedFile stagedFile = fileStorageService.stageStream(content, originalFilename)) {
+            return saveDocument(application, originalFilename, stagedFile);
+        }
+    }
+    
+    @Override
+    public DocumentDTO createDocument(Long applicationId, String originalFilename, StagedFile stagedFile) {
         Application application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application", "id", applicationId));
         
-        // Store file
-        String storedFilename = fileStorageService.storeFile(file, applicationId);
+        return saveDocument(application, originalFilename, stagedFile);
+    }
+    
+    @Override
+    public DocumentDTO attachDocument(User user, Long applicationId, Long sourceDocumentId) {
+        // Both the target application and the source document must belong to the user
+        Application application = applicationRepository.findByIdAndUserId(applicationId, user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Application", "id", applicationId));
+        Document source = documentRepository.findById(sourceDocumentId)
+                .filter(document -> document.getApplication().getUser().getId().equals(user.getId()))
+                .orElseThrow(() -> new ResourceNotFoundException("Document", "id", sourceDocumentId));
+        
+        // No file is copied: the new document is one more reference to the same blob
+        DocumentBlob blob = shareBlob(source);
         
-        // Create document entity
         Document document = new Document(
                 application,
-                file.getOriginalFilename(),
-                storedFilename,
-                file.getContentType(),
-                file.getSize()
+                source.getOriginalFilename(),
+                blob.getStoredFilename(),
+                source.getContentType(),
+                source.getFileSize()
         );
+        document.setSha256(blob.getSha256());
+        document.setBlob(blob);
         
-        // Save document
         Document savedDocument = documentRepository.save(document);
+        refreshSearchText(application);
         
         return convertToDTO(savedDocument);
     }
@@ -85,30 +164,389 @@ public class DocumentServiceImpl implements DocumentService {
     }
     
     @Override
-    public void deleteDocument(Long documentId) {
-        // Find document
-        Document document = documentRepository.findById(documentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Document", "id", documentId));
+    public DocumentFile getDocumentFile(User user, Long applicationId, Long documentId) {
+        Document document = findUserDocument(user, applicationId, documentId);
+        
+        String key = locateWithChecksum(document);
+        
+        return toDocumentFile(key, document.getOriginalFilename(), document.getContentType(),
+                document.getSha256(), document.getUploadedAt());
+    }
+    
+    @Override
+    public DocumentFile getDocumentPreview(User user, Long applicationId, Long documentId) {
+        Document document = findUserDocument(user, applicationId, documentId);
+        
+        if (!PreviewService.supports(document.getContentType())) {
+            throw new ResourceNotFoundException("Preview", "documentId", documentId);
+        }
+        
+        String key = locateWithChecksum(document);
+        String previewKey = FileStorageService.previewName(key);
+        
+        if (!fileStorageService.exists(previewKey)) {
+            // Still rendering, or dropped by a full queue at upload time: queue it, the client retries
+            previewService.submit(key, document.getContentType());
+            throw new ResourceNotFoundException("Preview", "documentId", documentId);
+        }
+        
+        // Derived from the content: its validator is the content hash, suffixed
+        return toDocumentFile(previewKey, document.getOriginalFilename() + ".png",
+                PreviewService.PREVIEW_CONTENT_TYPE, document.getSha256() + "-preview", document.getUploadedAt());
+    }
+    
+    @Override
+    public DocumentLinkDTO getDocumentLink(User user, Long applicationId, Long documentId) {
+        // The link bypasses the security filter chain: ownership is checked here, once
+        return createLink(findUserDocument(user, applicationId, documentId));
+    }
+    
+    @Override
+    public List<DocumentLinkDTO> getDocumentLinks(User user, Long applicationId) {
+        if (!applicationRepository.existsByIdAndUserId(applicationId, user.getId())) {
+            throw new ResourceNotFoundException("Application", "id", applicationId);
+        }
+        
+        return documentRepository.findByApplicationId(applicationId)
+                .stream()
+                .map(this::createLink)
+                .toList();
+    }
+    
+    @Override
+    public List<ArchiveEntry> getArchiveEntries(User user, Long applicationId) {
+        Application application = applicationRepository.findByIdAndUserId(applicationId, user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Application", "id", applicationId));
         
-        // Delete file from storage
-        fileStorageService.deleteFile(document.getStoredFilename());
+        Set<String> names = new HashSet<>();
+        return documentRepository.findByApplicationId(application.getId())
+                .stream()
+                .map(document -> toArchiveEntry(document, uniqueName(names, "", document.getOriginalFilename())))
+                .toList();
+    }
+    
+    @Override
+    public List<ArchiveEntry> getArchiveEntries(User user) {
+        Set<String> names = new HashSet<>();
+        Map<Long, String> folders = new HashMap<>();
+        
+        return documentRepository.findByUserIdWithApplication(user.getId())
+                .stream()
+                .map(document -> {
+                    Application application = document.getApplication();
+                    // Two applications with the same company and position still get a folder each
+                    String folder = folders.computeIfAbsent(application.getId(), id -> uniqueName(names, "",
+                            archiveName(application.getCompany() + " - " + application.getPosition())));
+                    return toArchiveEntry(document, uniqueName(names, folder + "/", document.getOriginalFilename()));
+                })
+                .toList();
+    }
+    
+    @Override
+    public void deleteDocument(User user, Long applicationId, Long documentId) {
+        // Checked before any reference is dropped: the blob may be shared with other users' documents
+        Document document = findUserDocument(user, applicationId, documentId);
         
         // Delete document from database
         documentRepository.delete(document);
+        refreshSearchText(document.getApplication());
+        
+        // The file goes later, with the blob's last reference (StorageGarbageCollector)
+        releaseBlob(document);
     }
     
     @Override
     public void deleteAllDocumentsByApplicationId(Long applicationId) {
-        List<Document> documents = documentRepository.findByApplicationId(applicationId);
+        // Three statements whatever the number of documents: references are released while
+        // the rows still say which blobs they use, then the rows go. No file is touched here
+        documentBlobRepository.releaseReferencesOfApplication(applicationId);
+        documentBlobRepository.markReleasedForApplication(applicationId, LocalDateTime.now());
+        documentRepository.deleteByApplicationId(applicationId);
+    }
+    
+    @Override
+    public List<String> purgeReleasedBlobs(LocalDateTime releasedBefore, int batchSize) {
+        List<String> filesToDelete = new ArrayList<>();
         
-        // Delete all files
-        documents.forEach(doc -> fileStorageService.deleteFile(doc.getStoredFilename()));
+        for (DocumentBlob blob : documentBlobRepository.findReleasedBefore(releasedBefore, Limit.of(batchSize))) {
+            // Guarded delete: an upload of the same content may have revived the blob since the query
+            if (documentBlobRepository.deleteIfReleased(blob.getId()) == 1) {
+                filesToDelete.add(blob.getStoredFilename());
+            }
+        }
         
-        // Delete all documents from database
-        documentRepository.deleteByApplicationId(applicationId);
+        return filesToDelete;
+    }
+    
+    @Override
+    public boolean deleteFileIfUnreferenced(String filename) {
+        // deleteFile also removes the sharded copy of a flat name
+        String flatName = flatName(filename);
+        if (isReferencedForUpdate(filename, flatName, FileStorageService.shardedName(flatName))) {
+            return false;
+        }
+        fileStorageService.deleteFile(filename);
+        return true;
+    }
+    
+    @Override
+    public boolean deleteKeyIfUnreferenced(String key) {
+        // A key is in use when a row names its file, or its flat name (layout not migrated yet)
+        String owner = FileStorageService.ownerName(key);
+        if (isReferencedForUpdate(owner, flatName(owner))) {
+            return false;
+        }
+        fileStorageService.deleteKey(key);
+        return true;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findReferencedFilenames(Collection<String> filenames) {
+        if (filenames.isEmpty()) {
+            return Set.of();
+        }
+        
+        Set<String> referenced = new HashSet<>(documentRepository.findStoredFilenamesIn(filenames));
+        referenced.addAll(documentBlobRepository.findStoredFilenamesIn(filenames));
+        return referenced;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public DanglingScan findDanglingDocuments(Long afterId, int batchSize) {
+        List<Document> documents = documentRepository.findByIdGreaterThanOrderById(afterId, Limit.of(batchSize));
+        
+        List<Long> danglingIds = documents.stream()
+                .filter(document -> !fileStorageService.isStored(document.getStoredFilename()))
+                .map(Document::getId)
+                .toList();
+        Long lastId = documents.size() < batchSize ? null : documents.get(documents.size() - 1).getId();
+        
+        return new DanglingScan(danglingIds, lastId);
+    }
+    
+    @Override
+    public List<String> moveFilesToShardedLayout(String afterFilename, int batchSize) {
+        List<String> filenames = documentRepository.findFlatStoredFilenamesAfter(afterFilename, Limit.of(batchSize));
+        
+        for (String filename : filenames) {
+            // File first: until this transaction commits, the flat name still resolves
+            // through the sharded fallback of FileStorageService.locate
+            String shardedName = fileStorageService.moveToShard(filename);
+            if (shardedName == null) {
+                continue; // Missing file: leave the row untouched rather than hide the problem
+            }
+            documentRepository.renameStoredFile(filename, shardedName);
+            documentBlobRepository.renameStoredFile(filename, shardedName);
+        }
+        return filenames;
+    }
+    
+    // === HELPER METHODS ===
+    
+    /**
+     * Storage key of a document's file
+     * Documents uploaded before checksums existed are hashed once here, the SHA-256 being their ETag
+     */
+    private String locateWithChecksum(Document document) {
+        String key = fileStorageService.locate(document.getStoredFilename());
+        
+        if (document.getSha256() == null) {
+            document.setSha256(fileStorageService.sha256(key));
+        }
+        return key;
+    }
+    
+    /**
+     * Local file: served by this node; remote store: the client fetches it directly
+     */
+    private DocumentFile toDocumentFile(String key, String filename, String contentType, String etag,
+                                        LocalDateTime lastModified) {
+        Path path = fileStorageService.localPath(key).orElse(null);
+        URI url = path != null ? null : fileStorageService
+                .presignedUrl(key, filename, contentType)
+                .orElseThrow(() -> new FileStorageException("No way to serve file " + key));
+        
+        return new DocumentFile(path, url, filename, contentType, etag, lastModified);
+    }
+    
+    /**
+     * Resolved before the first byte is sent: a missing file is a 404, not a truncated archive
+     */
+    private ArchiveEntry toArchiveEntry(Document document, String name) {
+        return new ArchiveEntry(
+                name,
+                fileStorageService.locate(document.getStoredFilename()),
+                document.getContentType(),
+                document.getUploadedAt()
+        );
+    }
+    
+    /**
+     * First free name among "cv.pdf", "cv (2).pdf", "cv (3).pdf"...
+     */
+    private static String uniqueName(Set<String> names, String folder, String filename) {
+        String name = archiveName(filename);
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        String extension = dot > 0 ? name.substring(dot) : "";
+        
+        String candidate = folder + name;
+        for (int i = 2; !names.add(candidate); i++) {
+            candidate = folder + base + " (" + i + ")" + extension;
+        }
+        return candidate;
+    }
+    
+    // No path separators or characters Windows refuses in a file name
+    private static String archiveName(String name) {
+        String cleaned = name.replaceAll("[\\\\/:*?\"<>|\\p{Cntrl}]", "_").strip();
+        return cleaned.isEmpty() || cleaned.equals(".") || cleaned.equals("..") ? "_" : cleaned;
+    }
+    
+    /**
+     * A document of one of the user's applications; same 404 whether it does not exist or is someone else's
+     */
+    private Document findUserDocument(User user, Long applicationId, Long documentId) {
+        return documentRepository.findByIdAndApplicationIdAndApplicationUserId(documentId, applicationId, user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Document", "id", documentId));
+    }
+    
+    private DocumentLinkDTO createLink(Document document) {
+        String key = locateWithChecksum(document);
+        
+        return fileLinkService.createLink(
+                document.getId(),
+                key,
+                document.getOriginalFilename(),
+                document.getContentType(),
+                document.getSha256(),
+                document.getUploadedAt()
+        );
+    }
+    
+    private DocumentDTO saveDocument(Application application, String originalFilename, StagedFile stagedFile) {
+        StoredFile storedFile = stagedFile.storedFile();
+        DocumentBlob blob = acquireBlob(stagedFile);
+        
+        // Create document entity, with the size and type measured on the stored content
+        // The blob's filename wins: an older blob may still sit in the flat layout
+        Document document = new Document(
+                application,
+                originalFilename,
+                blob.getStoredFilename(),
+                storedFile.contentType(),
+                storedFile.size()
+        );
+        document.setSha256(storedFile.sha256());
+        document.setBlob(blob);
+        
+        // Save document
+        Document savedDocument = documentRepository.save(document);
+        refreshSearchText(application);
+        
+        // Rendered in the background once the row is committed: the upload does not wait for it
+        previewService.generateAfterCommit(blob.getStoredFilename(), storedFile.contentType());
+        
+        return convertToDTO(savedDocument);
     }
     
-    // === HELPER METHOD ===
+    /**
+     * One more reference to the blob with this content, created on first upload
+     * One upsert statement: two first uploads of the same content at the same time both succeed,
+     * the second one adding its reference to the row of the first
+     * 
+     * The file is checked after the upsert and written when missing: first upload, a copy lost
+     * outside the application (dangling blob), or a copy the collector just deleted with a purged
+     * blob. The collector checks the name under a lock before deleting, and the upsert's row on that
+     * name waits for its transaction, so the check here comes after its delete
+     */
+    private DocumentBlob acquireBlob(StagedFile stagedFile) {
+        StoredFile storedFile = stagedFile.storedFile();
+        
+        documentBlobRepository.upsertReference(storedFile.sha256(), storedFile.filename(), storedFile.size(),
+                storedFile.contentType(), 1, LocalDateTime.now());
+        DocumentBlob blob = documentBlobRepository.findBySha256(storedFile.sha256())
+                .orElseThrow(() -> new IllegalStateException("Blob disappeared: " + storedFile.sha256()));
+        
+        if (!fileStorageService.isStored(blob.getStoredFilename())) {
+            stagedFile.publish(blob.getStoredFilename());
+        }
+        return blob;
+    }
+    
+    /**
+     * Blob of an existing document with one extra reference for the document being attached
+     * A document uploaded before content-addressed storage is turned into a blob first
+     */
+    private DocumentBlob shareBlob(Document source) {
+        if (source.getBlob() != null) {
+            documentBlobRepository.addReferences(source.getBlob().getId(), 1);
+            return source.getBlob();
+        }
+        
+        String sha256 = source.getSha256() != null
+                ? source.getSha256()
+                : fileStorageService.sha256(source.getStoredFilename());
+        source.setSha256(sha256);
+        
+        // Missing: the legacy file becomes the blob, referenced by the source and the new document
+        // Same content already stored as a blob: shared, the legacy file stays with the source
+        documentBlobRepository.upsertReference(sha256, source.getStoredFilename(),
+                source.getFileSize() != null ? source.getFileSize() : 0L, source.getContentType(), 2,
+                LocalDateTime.now());
+        DocumentBlob blob = documentBlobRepository.findBySha256(sha256)
+                .orElseThrow(() -> new IllegalStateException("Blob disappeared: " + sha256));
+        
+        if (blob.getStoredFilename().equals(source.getStoredFilename())) {
+            source.setBlob(blob);
+        }
+        return blob;
+    }
+    
+    /**
+     * Release the blob of a deleted document
+     * A blob losing its last reference is only marked: StorageGarbageCollector deletes it and its
+     * file after a grace period, so neither a rollback nor a concurrent upload of the same content
+     * can end with a row pointing to a deleted file. A legacy file (no blob) is left as an orphan
+     * for the same collector
+     */
+    private void releaseBlob(Document document) {
+        if (document.getBlob() == null) {
+            return;
+        }
+        
+        Long blobId = document.getBlob().getId();
+        documentBlobRepository.addReferences(blobId, -1);
+        documentBlobRepository.markReleasedIfUnreferenced(blobId, LocalDateTime.now());
+    }
+    
+    /**
+     * Whether a document or a blob points to one of these stored filenames
+     * The blob rows are read FOR UPDATE, so the answer holds until the end of the transaction
+     */
+    private boolean isReferencedForUpdate(String... names) {
+        Set<String> filenames = Set.copyOf(List.of(names));
+        return !documentBlobRepository.findByStoredFilenameInForUpdate(filenames).isEmpty()
+                || !documentRepository.findStoredFilenamesIn(filenames).isEmpty();
+    }
+    
+    private static String flatName(String filename) {
+        return filename.substring(filename.lastIndexOf('/') + 1);
+    }
+    
+    /**
+     * Re-index the document filenames of an application for full-text search
+     * The repository query flushes pending inserts / deletes first, so the list is up to date
+     */
+    private void refreshSearchText(Application application) {
+        List<String> filenames = documentRepository.findByApplicationId(application.getId())
+                .stream()
+                .map(Document::getOriginalFilename)
+                .toList();
+        application.setSearchText(ApplicationSearch.searchText(application, filenames));
+    }
     
     private DocumentDTO convertToDTO(Document document) {
         return new DocumentDTO(
@@ -0,0 +1,99 @@
+package com.tracker.job_application_tracker.service.impl;
+
+import com.tracker.job_application_tracker.enums.EmailStatus;
+import com.tracker.job_application_tracker.model.EmailOutbox;
+import com.tracker.job_application_tracker.repository.EmailOutboxRepository;
+import com.tracker.job_application_tracker.service.EmailOutboxService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional
+public class EmailOutboxServiceImpl implements EmailOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public EmailOutboxServiceImpl(
+            EmailOutboxRepository emailOutboxRepository,
+            @Value("${mail.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${mail.outbox.initial-backoff:PT30S}") Duration initialBackoff,
+            @Value("${mail.outbox.max-backoff:PT6H}") Duration maxBackoff,
+            @Value("${mail.outbox.lease:PT5M}") Duration lease
+    ) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+    }
+
+    @Override
+    public void enqueue(String to, String subject, String htmlContent) {
+        emailOutboxRepository.save(new EmailOutbox(to, subject, htmlContent));
+    }
+
+    @Override
+    public List<OutgoingEmail> claimBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> due = emailOutboxRepository.findDueForUpdate(EmailStatus.PENDING, now, Limit.of(batchSize));
+
+        // The row locks end with this transaction: the lease keeps other dispatchers away while sending
+        for (EmailOutbox email : due) {
+            email.setAttempts(email.getAttempts() + 1);
+            email.setNextAttemptAt(now.plus(lease));
+        }
+
+        return due.stream()
+                .map(email -> new OutgoingEmail(email.getId(), email.getRecipient(), email.getSubject(),
+                        email.getHtmlBody()))
+                .toList();
+    }
+
+    @Override
+    public void recordResults(Collection<Long> sentIds, Map<Long, String> failures) {
+        if (!sentIds.isEmpty()) {
+            emailOutboxRepository.markSent(sentIds, LocalDateTime.now());
+        }
+
+        for (EmailOutbox email : emailOutboxRepository.findAllById(failures.keySet())) {
+            email.setLastError(truncate(failures.get(email.getId())));
+            if (email.getAttempts() >= maxAttempts) {
+                email.setStatus(EmailStatus.DEAD);
+            } else {
+                email.setNextAttemptAt(LocalDateTime.now().plus(backoff(email.getAttempts())));
+            }
+        }
+    }
+
+    // === HELPER METHODS ===
+
+    /**
+     * initialBackoff x 2^(attempts - 1), capped at maxBackoff
+     */
+    private Duration backoff(int attempts) {
+        int doublings = Math.min(attempts - 1, 30);
+        Duration delay = initialBackoff.multipliedBy(1L << doublings);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return "Unknown error";
+        }
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -1,23 +1,34 @@
 package com.tracker.job_application_tracker.service.impl;
 
+import com.tracker.job_application_tracker.service.EmailOutboxService;
 import com.tracker.job_application_tracker.service.EmailService;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.tracker.job_application_tracker.service.WeeklyDigestService.WeeklyDigest;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Builds the emails and writes them to the outbox, in the caller's transaction
+ * No SMTP call on the request path: EmailOutboxDispatcher sends them
+ */
 @Service
 public class EmailServiceImpl implements EmailService {
 
-    private final JavaMailSender mailSender;
+    private static final DateTimeFormatter INTERVIEW_TIME =
+            DateTimeFormatter.ofPattern("EEEE d MMMM yyyy 'at' HH:mm", Locale.ENGLISH);
+    private static final DateTimeFormatter DIGEST_WEEK = DateTimeFormatter.ofPattern("d MMMM yyyy", Locale.ENGLISH);
+
+    private final EmailOutboxService emailOutboxService;
 
     @Value("${app.frontend.url}")
     private String frontendUrl;
 
-    public EmailServiceImpl(JavaMailSender mailSender) {
-        this.mailSender = mailSender;
+    public EmailServiceImpl(EmailOutboxService emailOutboxService) {
+        this.emailOutboxService = emailOutboxService;
     }
 
     @Override
@@ -31,7 +42,7 @@ public class EmailServiceImpl implements EmailService {
                 + "<p>This link will expire in 15 minutes.</p>"
                 + "</body></html>";
 
-        sendHtmlEmail(to, subject, htmlContent);
+        emailOutboxService.enqueue(to, subject, htmlContent);
     }
 
     @Override
@@ -46,21 +57,43 @@ public class EmailServiceImpl implements EmailService {
                 + "<p>If you did not request this, please ignore this email.</p>"
                 + "</body></html>";
 
-        sendHtmlEmail(to, subject, htmlContent);
+        emailOutboxService.enqueue(to, subject, htmlContent);
     }
 
-    private void sendHtmlEmail(String to, String subject, String htmlContent) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+    @Override
+    public void sendInterviewReminderEmail(String to, String company, String position, LocalDateTime scheduledAt,
+                                           String location) {
+        // email_outbox.subject is a VARCHAR(255), like applications.company
+        String subject = "Interview reminder: " + (company.length() > 200 ? company.substring(0, 200) : company);
+        String htmlContent = "<html><body>"
+                + "<h2>Upcoming interview</h2>"
+                + "<p><strong>" + HtmlUtils.htmlEscape(position) + "</strong> at <strong>"
+                + HtmlUtils.htmlEscape(company) + "</strong></p>"
+                + "<p>" + INTERVIEW_TIME.format(scheduledAt) + "</p>"
+                + (location == null || location.isBlank() ? "" : "<p>" + HtmlUtils.htmlEscape(location) + "</p>")
+                + "<p>Good luck!</p>"
+                + "</body></html>";
+
+        emailOutboxService.enqueue(to, subject, htmlContent);
+    }
 
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(htmlContent, true);
+    @Override
+    public void sendWeeklyDigestEmail(WeeklyDigest digest) {
+        String subject = "Your week in Job Application Tracker";
+        StringBuilder html = new StringBuilder(512)
+                .append("<html><body>")
+                .append("<h2>Hi ").append(HtmlUtils.htmlEscape(digest.firstName())).append(",</h2>")
+                .append("<p>Here is your week of ").append(DIGEST_WEEK.format(digest.weekStart())).append(":</p>")
+                .append("<ul>")
+                .append("<li>Applications sent: ").append(digest.applicationsSent()).append("</li>");
+        digest.statusChanges().forEach((status, total) -> html
+                .append("<li>Status changes to ").append(status.getDisplayName()).append(": ").append(total).append("</li>"));
+        html.append("<li>Study time: ").append(digest.studyMinutes()).append(" min</li>")
+                .append("<li>Flashcards to review: ").append(digest.flashcardsDue()).append("</li>")
+                .append("</ul>")
+                .append("<p><a href=\"").append(frontendUrl).append("\">Open your dashboard</a></p>")
+                .append("</body></html>");
 
-            mailSender.send(message);
-        } catch (MessagingException e) {
-            throw new RuntimeException("Failed to send email", e);
-        }
+        emailOutboxService.enqueue(digest.email(), subject, html.toString());
     }
 }
@@ -1,6 +1,8 @@
 package com.tracker.job_application_tracker.service.impl;
 
 import com.tracker.job_application_tracker.dto.CreateFlashCardRequest;
+import com.tracker.job_application_tracker.dto.Cursor;
+import com.tracker.job_application_tracker.dto.CursorPage;
 import com.tracker.job_application_tracker.dto.FlashCardDTO;
 import com.tracker.job_application_tracker.dto.UpdateFlashCardRequest;
 import com.tracker.job_application_tracker.enums.Category;
@@ -9,6 +11,7 @@ import com.tracker.job_application_tracker.model.FlashCard;
 import com.tracker.job_application_tracker.model.User;
 import com.tracker.job_application_tracker.repository.FlashCardRepository;
 import com.tracker.job_application_tracker.service.FlashCardService;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +39,19 @@ public class FlashCardServiceImpl implements FlashCardService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<FlashCardDTO> getPageByUser(User user, String cursor, int size) {
+        Cursor after = Cursor.decode(cursor);
+        int pageSize = CursorPage.clampSize(size);
+
+        List<FlashCard> rows = flashCardRepository.findPageByUserId(
+                user.getId(), after.dateTimeKey(), after.getId(), Limit.of(pageSize + 1)
+        );
+        return CursorPage.of(rows, pageSize, this::convertToDTO,
+                flashCard -> Cursor.encode(flashCard.getCreatedAt(), flashCard.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<FlashCardDTO> getByCategory(User user, Category category) {
@@ -115,10 +131,7 @@ public class FlashCardServiceImpl implements FlashCardService {
     @Transactional(readOnly = true)
     public Long countReviewedToday(User user) {
         LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        return flashCardRepository.findByUserIdOrderByLastReviewedAsc(user.getId())
-                .stream()
-                .filter(fc -> fc.getLastReviewed() != null && fc.getLastReviewed().isAfter(startOfDay))
-                .count();
+        return flashCardRepository.countReviewsForUser(user.getId(), startOfDay).getReviewedSince();
     }
 
     private FlashCardDTO convertToDTO(FlashCard flashCard) {
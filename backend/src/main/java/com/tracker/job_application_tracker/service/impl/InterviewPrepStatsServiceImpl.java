@@ -0,0 +1,125 @@
+package com.tracker.job_application_tracker.service.impl;
+
+import com.tracker.job_application_tracker.dto.InterviewPrepStatsDTO;
+import com.tracker.job_application_tracker.enums.ChallengeStatus;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.repository.CodingChallengeRepository;
+import com.tracker.job_application_tracker.repository.FlashCardRepository;
+import com.tracker.job_application_tracker.repository.SkillRepository;
+import com.tracker.job_application_tracker.repository.StudySessionRepository;
+import com.tracker.job_application_tracker.service.InterviewPrepStatsService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of InterviewPrepStatsService
+ *
+ * Four aggregate queries (challenges GROUP BY status, flashcard COUNT + conditional SUM,
+ * SUM of the week's study minutes, AVG skill level) replace the eight calls the
+ * controller used to make. They are independent, so they run in parallel on
+ * virtual threads: the response time is the slowest query, not their sum.
+ *
+ * Each query holds a pooled connection while it runs, so the queries in flight,
+ * all requests together, are capped by interview-prep.stats.query-concurrency
+ * (kept well below the connection pool size, 10 by default); a query waiting
+ * for a permit parks its virtual thread, not a connection.
+ *
+ * Not @Transactional on purpose: each query runs in its own read-only
+ * repository transaction on its own thread.
+ */
+@Service
+public class InterviewPrepStatsServiceImpl implements InterviewPrepStatsService {
+
+    private final CodingChallengeRepository codingChallengeRepository;
+    private final FlashCardRepository flashCardRepository;
+    private final StudySessionRepository studySessionRepository;
+    private final SkillRepository skillRepository;
+    private final Semaphore queryPermits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public InterviewPrepStatsServiceImpl(
+            CodingChallengeRepository codingChallengeRepository,
+            FlashCardRepository flashCardRepository,
+            StudySessionRepository studySessionRepository,
+            SkillRepository skillRepository,
+            @Value("${interview-prep.stats.query-concurrency:4}") int queryConcurrency
+    ) {
+        this.codingChallengeRepository = codingChallengeRepository;
+        this.flashCardRepository = flashCardRepository;
+        this.studySessionRepository = studySessionRepository;
+        this.skillRepository = skillRepository;
+        this.queryPermits = new Semaphore(queryConcurrency);
+    }
+
+    @Override
+    public InterviewPrepStatsDTO getStats(User user) {
+        Long userId = user.getId();
+        LocalDate today = LocalDate.now();
+        LocalDate startOfWeek = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate endOfWeek = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+
+        CompletableFuture<List<CodingChallengeRepository.StatusCount>> challenges =
+                async(() -> codingChallengeRepository.countByStatusForUser(userId));
+        CompletableFuture<FlashCardRepository.ReviewCounts> flashCards =
+                async(() -> flashCardRepository.countReviewsForUser(userId, today.atStartOfDay()));
+        CompletableFuture<Long> studyMinutes =
+                async(() -> studySessionRepository.sumDurationMinutes(userId, startOfWeek, endOfWeek));
+        CompletableFuture<Double> averageLevel =
+                async(() -> skillRepository.averageLevel(userId));
+
+        try {
+            CompletableFuture.allOf(challenges, flashCards, studyMinutes, averageLevel).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+
+        long challengesCompleted = 0;
+        long challengesTotal = 0;
+        for (CodingChallengeRepository.StatusCount count : challenges.join()) {
+            challengesTotal += count.getTotal();
+            if (count.getStatus() == ChallengeStatus.COMPLETED) {
+                challengesCompleted = count.getTotal();
+            }
+        }
+
+        InterviewPrepStatsDTO stats = new InterviewPrepStatsDTO();
+        stats.setTotalFlashCards(flashCards.join().getTotal());
+        stats.setCardsReviewedToday(flashCards.join().getReviewedSince());
+        stats.setChallengesCompleted(challengesCompleted);
+        stats.setChallengesTotal(challengesTotal);
+        stats.setTotalStudyTimeThisWeek(studyMinutes.join().intValue());
+        stats.setAverageSkillLevel(averageLevel.join() != null ? averageLevel.join() : 0.0);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> {
+            queryPermits.acquireUninterruptibly();
+            try {
+                return query.get();
+            } finally {
+                queryPermits.release();
+            }
+        }, executor);
+    }
+}
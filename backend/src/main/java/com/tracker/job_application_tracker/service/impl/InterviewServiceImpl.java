@@ -0,0 +1,159 @@
+package com.tracker.job_application_tracker.service.impl;
+
+import com.tracker.job_application_tracker.dto.InterviewDTO;
+import com.tracker.job_application_tracker.dto.InterviewRequest;
+import com.tracker.job_application_tracker.exception.ResourceNotFoundException;
+import com.tracker.job_application_tracker.model.Application;
+import com.tracker.job_application_tracker.model.Interview;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.repository.ApplicationRepository;
+import com.tracker.job_application_tracker.repository.InterviewRepository;
+import com.tracker.job_application_tracker.service.EmailService;
+import com.tracker.job_application_tracker.service.InterviewReminderWheel;
+import com.tracker.job_application_tracker.service.InterviewService;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@Transactional
+public class InterviewServiceImpl implements InterviewService {
+
+    private final InterviewRepository interviewRepository;
+    private final ApplicationRepository applicationRepository;
+    private final EmailService emailService;
+    private final InterviewReminderWheel reminderWheel;
+
+    public InterviewServiceImpl(InterviewRepository interviewRepository,
+                                ApplicationRepository applicationRepository,
+                                EmailService emailService,
+                                InterviewReminderWheel reminderWheel) {
+        this.interviewRepository = interviewRepository;
+        this.applicationRepository = applicationRepository;
+        this.emailService = emailService;
+        this.reminderWheel = reminderWheel;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<InterviewDTO> getInterviews(User user, Long applicationId) {
+        return interviewRepository.findByApplicationIdAndApplicationUserIdOrderByScheduledAt(applicationId, user.getId())
+                .stream()
+                .map(this::convertToDTO)
+                .toList();
+    }
+
+    @Override
+    public InterviewDTO createInterview(User user, Long applicationId, InterviewRequest request) {
+        Application application = applicationRepository.findByIdAndUserId(applicationId, user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Application", "id", applicationId));
+
+        Interview interview = interviewRepository.save(
+                new Interview(application, request.getScheduledAt(), request.getLocation(), request.getNotes()));
+
+        Long interviewId = interview.getId();
+        LocalDateTime scheduledAt = interview.getScheduledAt();
+        afterCommit(() -> reminderWheel.schedule(interviewId, scheduledAt));
+        return convertToDTO(interview);
+    }
+
+    @Override
+    public InterviewDTO updateInterview(User user, Long applicationId, Long interviewId, InterviewRequest request) {
+        Interview interview = findInterview(user, applicationId, interviewId);
+
+        if (!interview.getScheduledAt().equals(request.getScheduledAt())) {
+            // Moved: a new reminder, even if the previous one was sent
+            interview.setScheduledAt(request.getScheduledAt());
+            interview.setReminderSentAt(null);
+            LocalDateTime scheduledAt = request.getScheduledAt();
+            afterCommit(() -> reminderWheel.schedule(interviewId, scheduledAt));
+        }
+        interview.setLocation(request.getLocation());
+        interview.setNotes(request.getNotes());
+
+        return convertToDTO(interview);
+    }
+
+    @Override
+    public void deleteInterview(User user, Long applicationId, Long interviewId) {
+        Interview interview = findInterview(user, applicationId, interviewId);
+        interviewRepository.delete(interview);
+        afterCommit(() -> reminderWheel.cancel(interviewId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UpcomingInterview> getInterviewsAwaitingReminder(LocalDateTime afterScheduledAt, Long afterId,
+                                                                 LocalDateTime until, int batchSize) {
+        return interviewRepository.findAwaitingReminder(afterScheduledAt, afterId, until, Limit.of(batchSize))
+                .stream()
+                .map(interview -> new UpcomingInterview(interview.getId(), interview.getScheduledAt()))
+                .toList();
+    }
+
+    @Override
+    public int sendReminders(Collection<Long> interviewIds) {
+        LocalDateTime now = LocalDateTime.now();
+        int sent = 0;
+
+        for (Interview interview : interviewRepository.findWithApplicationAndUserByIdIn(interviewIds)) {
+            // The timer may be stale (interview moved on another node): the row decides
+            if (!reminderWheel.isDue(interview.getScheduledAt(), now)
+                    || interviewRepository.markReminderSent(interview.getId(), now) == 0) {
+                continue;
+            }
+
+            Application application = interview.getApplication();
+            emailService.sendInterviewReminderEmail(
+                    application.getUser().getEmail(),
+                    application.getCompany(),
+                    application.getPosition(),
+                    interview.getScheduledAt(),
+                    interview.getLocation()
+            );
+            sent++;
+        }
+        return sent;
+    }
+
+    // === HELPER METHODS ===
+
+    private Interview findInterview(User user, Long applicationId, Long interviewId) {
+        return interviewRepository.findByIdAndApplicationIdAndApplicationUserId(interviewId, applicationId, user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Interview", "id", interviewId));
+    }
+
+    /**
+     * Timers follow committed rows only: a rolled back change leaves the wheel as it was
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private InterviewDTO convertToDTO(Interview interview) {
+        return new InterviewDTO(
+                interview.getId(),
+                interview.getApplication().getId(),
+                interview.getScheduledAt(),
+                interview.getLocation(),
+                interview.getNotes(),
+                interview.getReminderSentAt()
+        );
+    }
+}
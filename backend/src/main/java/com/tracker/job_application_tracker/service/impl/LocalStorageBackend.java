@@ -0,0 +1,113 @@
+package com.tracker.job_application_tracker.service.impl;
+
+import com.tracker.job_application_tracker.config.FileStorageProperties;
+import com.tracker.job_application_tracker.exception.ResourceNotFoundException;
+import com.tracker.job_application_tracker.service.StorageBackend;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * StorageBackend on a directory (file.upload-dir)
+ * Several nodes can share it through a network filesystem; otherwise use the s3 backend
+ */
+@Service
+@ConditionalOnProperty(prefix = "file", name = "backend", havingValue = "local", matchIfMissing = true)
+public class LocalStorageBackend implements StorageBackend {
+
+    private final Path root;
+
+    public LocalStorageBackend(FileStorageProperties fileStorageProperties) {
+        this.root = Paths.get(fileStorageProperties.getUploadDir())
+                .toAbsolutePath()
+                .normalize();
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public void store(String key, Path source, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        // Uploads are spooled inside the upload directory, so this is a rename: never half-written
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (NoSuchFileException ex) {
+            throw new ResourceNotFoundException("File not found: " + key);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public boolean move(String source, String target) throws IOException {
+        Path sourcePath = resolve(source);
+        if (!Files.isRegularFile(sourcePath)) {
+            return false;
+        }
+
+        Path targetPath = resolve(target);
+        Files.createDirectories(targetPath.getParent());
+        Files.move(sourcePath, targetPath, StandardCopyOption.ATOMIC_MOVE);
+        return true;
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        Path path = resolve(key);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    @Override
+    public Optional<URI> presignedUrl(String key, String downloadFilename, String contentType) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Stream<StoredObject> list() throws IOException {
+        return Files.walk(root)
+                .filter(Files::isRegularFile)
+                .map(this::toStoredObject)
+                .flatMap(Optional::stream);
+    }
+
+    private Optional<StoredObject> toStoredObject(Path path) {
+        try {
+            String key = root.relativize(path).toString().replace(File.separatorChar, '/');
+            return Optional.of(new StoredObject(key, Files.getLastModifiedTime(path).toInstant()));
+        } catch (IOException ex) {
+            return Optional.empty(); // Deleted while walking
+        }
+    }
+
+    private Path resolve(String key) {
+        Path path = this.root.resolve(key).normalize();
+
+        if (!path.startsWith(this.root)) {
+            throw new ResourceNotFoundException("File not found: " + key);
+        }
+        return path;
+    }
+}
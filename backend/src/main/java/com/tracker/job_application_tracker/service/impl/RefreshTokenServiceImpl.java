@@ -6,10 +6,13 @@ import com.tracker.job_application_tracker.model.RefreshToken;
 import com.tracker.job_application_tracker.model.User;
 import com.tracker.job_application_tracker.repository.RefreshTokenRepository;
 import com.tracker.job_application_tracker.service.RefreshTokenService;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -55,4 +58,21 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
     public void deleteByUser(User user) {
         tokenRepository.deleteByUser(user);
     }
+
+    @Override
+    public int purgeExpiredTokens(LocalDateTime expiredBefore, int batchSize) {
+        List<Long> ids = tokenRepository.findExpiredForUpdate(expiredBefore, Limit.of(batchSize)).stream()
+                .map(RefreshToken::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return tokenRepository.deleteByIdIn(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findOldestExpiry() {
+        return tokenRepository.findOldestExpiry();
+    }
 }
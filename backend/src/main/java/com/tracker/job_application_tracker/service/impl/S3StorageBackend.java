@@ -0,0 +1,267 @@
+package com.tracker.job_application_tracker.service.impl;
+
+import com.tracker.job_application_tracker.config.FileStorageProperties;
+import com.tracker.job_application_tracker.exception.ResourceNotFoundException;
+import com.tracker.job_application_tracker.service.StorageBackend;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * StorageBackend on an S3-compatible object store (file.s3.*)
+ *
+ * - Files up to file.s3.part-size: one PUT; larger files: multipart upload,
+ *   file.s3.upload-concurrency parts in flight, aborted on the first failure
+ * - Reads are streamed from the GET response, never buffered whole
+ * - Downloads are redirected to presigned GET URLs, so the bytes skip the application
+ */
+@Service
+@ConditionalOnProperty(prefix = "file", name = "backend", havingValue = "s3")
+public class S3StorageBackend implements StorageBackend {
+
+    private final S3Client s3;
+    private final S3Presigner presigner;
+    private final String bucket;
+    private final long partSize;
+    private final int uploadConcurrency;
+    private final Duration presignTtl;
+
+    public S3StorageBackend(FileStorageProperties fileStorageProperties) {
+        FileStorageProperties.S3 properties = fileStorageProperties.getS3();
+
+        // No static keys: environment, profile or instance role, as the AWS SDK resolves them
+        AwsCredentialsProvider credentials = properties.getAccessKey() != null && !properties.getAccessKey().isBlank()
+                ? StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(properties.getAccessKey(), properties.getSecretKey()))
+                : DefaultCredentialsProvider.builder().build();
+        S3Configuration configuration = S3Configuration.builder()
+                .pathStyleAccessEnabled(properties.isPathStyleAccess())
+                .build();
+
+        S3ClientBuilder clientBuilder = S3Client.builder()
+                .region(Region.of(properties.getRegion()))
+                .credentialsProvider(credentials)
+                .serviceConfiguration(configuration);
+        S3Presigner.Builder presignerBuilder = S3Presigner.builder()
+                .region(Region.of(properties.getRegion()))
+                .credentialsProvider(credentials)
+                .serviceConfiguration(configuration);
+
+        if (properties.getEndpoint() != null && !properties.getEndpoint().isBlank()) {
+            clientBuilder.endpointOverride(URI.create(properties.getEndpoint()));
+            presignerBuilder.endpointOverride(URI.create(properties.getEndpoint()));
+        }
+
+        this.s3 = clientBuilder.build();
+        this.presigner = presignerBuilder.build();
+        this.bucket = properties.getBucket();
+        this.partSize = properties.getPartSize();
+        this.uploadConcurrency = properties.getUploadConcurrency();
+        this.presignTtl = properties.getPresignTtl();
+    }
+
+    @PreDestroy
+    public void close() {
+        presigner.close();
+        s3.close();
+    }
+
+    @Override
+    public boolean exists(String key) {
+        try {
+            s3.headObject(request -> request.bucket(bucket).key(key));
+            return true;
+        } catch (NoSuchKeyException ex) {
+            return false;
+        } catch (S3Exception ex) {
+            // HEAD has no body: some stores answer a bare 404 instead of NoSuchKey
+            if (ex.statusCode() == 404) {
+                return false;
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    public void store(String key, Path source, String contentType) throws IOException {
+        long size = Files.size(source);
+
+        if (size <= partSize) {
+            s3.putObject(request -> request.bucket(bucket).key(key).contentType(contentType),
+                    RequestBody.fromFile(source));
+            return;
+        }
+        storeMultipart(key, source, size, contentType);
+    }
+
+    @Override
+    public InputStream open(String key) {
+        try {
+            return s3.getObject(request -> request.bucket(bucket).key(key));
+        } catch (NoSuchKeyException ex) {
+            throw new ResourceNotFoundException("File not found: " + key);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        s3.deleteObject(request -> request.bucket(bucket).key(key));
+    }
+
+    @Override
+    public boolean move(String source, String target) {
+        // No rename in S3: server-side copy, then delete
+        try {
+            s3.copyObject(request -> request
+                    .sourceBucket(bucket).sourceKey(source)
+                    .destinationBucket(bucket).destinationKey(target));
+        } catch (NoSuchKeyException ex) {
+            return false;
+        }
+        s3.deleteObject(request -> request.bucket(bucket).key(source));
+        return true;
+    }
+
+    @Override
+    public Stream<StoredObject> list() {
+        // 1000 keys per request, fetched as the stream is consumed
+        return s3.listObjectsV2Paginator(request -> request.bucket(bucket))
+                .contents()
+                .stream()
+                .map(object -> new StoredObject(object.key(), object.lastModified()));
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<URI> presignedUrl(String key, String downloadFilename, String contentType) {
+        String contentDisposition = ContentDisposition.attachment()
+                .filename(downloadFilename, StandardCharsets.UTF_8)
+                .build()
+                .toString();
+
+        URI url = URI.create(presigner.presignGetObject(presign -> presign
+                        .signatureDuration(presignTtl)
+                        .getObjectRequest(request -> request
+                                .bucket(bucket)
+                                .key(key)
+                                .responseContentType(contentType)
+                                .responseContentDisposition(contentDisposition)))
+                .url()
+                .toString());
+        return Optional.of(url);
+    }
+
+    private void storeMultipart(String key, Path source, long size, String contentType) throws IOException {
+        String uploadId = s3.createMultipartUpload(request -> request
+                .bucket(bucket).key(key).contentType(contentType)).uploadId();
+        int partCount = (int) ((size + partSize - 1) / partSize);
+
+        try {
+            List<CompletedPart> parts = new ArrayList<>(partCount);
+
+            // Positional reads on one channel are thread-safe: each part reads its own range
+            try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ);
+                 ExecutorService executor = Executors.newFixedThreadPool(
+                         Math.min(uploadConcurrency, partCount), Thread.ofVirtual().factory())) {
+                // Taken in completion order: a failed part is seen as soon as it fails
+                CompletionService<CompletedPart> completion = new ExecutorCompletionService<>(executor);
+                for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+                    long offset = (partNumber - 1) * partSize;
+                    long length = Math.min(partSize, size - offset);
+                    int number = partNumber;
+                    completion.submit(() -> uploadPart(key, uploadId, number, channel, offset, length));
+                }
+                try {
+                    for (int i = 0; i < partCount; i++) {
+                        parts.add(completion.take().get());
+                    }
+                } catch (InterruptedException | ExecutionException | RuntimeException ex) {
+                    // Queued parts are dropped and running ones interrupted: otherwise close() would
+                    // wait for the rest of the file to be uploaded, only for the abort to discard it
+                    executor.shutdownNow();
+                    throw ex;
+                }
+            }
+
+            parts.sort(Comparator.comparingInt(CompletedPart::partNumber));
+            s3.completeMultipartUpload(request -> request
+                    .bucket(bucket).key(key).uploadId(uploadId)
+                    .multipartUpload(upload -> upload.parts(parts)));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            abort(key, uploadId);
+            throw new IOException("Interrupted while uploading " + key, ex);
+        } catch (ExecutionException ex) {
+            abort(key, uploadId);
+            throw new IOException("Could not upload " + key, ex.getCause());
+        } catch (RuntimeException | IOException ex) {
+            abort(key, uploadId);
+            throw ex;
+        }
+    }
+
+    private CompletedPart uploadPart(String key, String uploadId, int partNumber,
+                                     FileChannel channel, long offset, long length) throws IOException {
+        // At most upload-concurrency parts of part-size bytes in memory per upload
+        ByteBuffer buffer = ByteBuffer.allocate((int) length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new EOFException("File truncated while uploading " + key);
+            }
+        }
+
+        String etag = s3.uploadPart(request -> request
+                        .bucket(bucket).key(key).uploadId(uploadId)
+                        .partNumber(partNumber).contentLength(length),
+                RequestBody.fromBytes(buffer.array())).eTag();
+        return CompletedPart.builder().partNumber(partNumber).eTag(etag).build();
+    }
+
+    private void abort(String key, String uploadId) {
+        try {
+            s3.abortMultipartUpload(request -> request.bucket(bucket).key(key).uploadId(uploadId));
+        } catch (RuntimeException ignored) {
+            // Best effort: a bucket lifecycle rule should expire incomplete uploads anyway
+        }
+    }
+}
@@ -74,14 +74,8 @@ public class SkillServiceImpl implements SkillService {
     @Override
     @Transactional(readOnly = true)
     public Double getAverageLevel(User user) {
-        List<Skill> skills = skillRepository.findByUserIdOrderByCategoryAsc(user.getId());
-        if (skills.isEmpty()) {
-            return 0.0;
-        }
-        return skills.stream()
-                .mapToInt(Skill::getLevel)
-                .average()
-                .orElse(0.0);
+        Double average = skillRepository.averageLevel(user.getId());
+        return average != null ? average : 0.0;
     }
 
     private SkillDTO convertToDTO(Skill skill) {
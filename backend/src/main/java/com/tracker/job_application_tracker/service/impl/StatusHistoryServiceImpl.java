@@ -1,17 +1,24 @@
 package com.tracker.job_application_tracker.service.impl;
 
+import com.tracker.job_application_tracker.dto.Cursor;
+import com.tracker.job_application_tracker.dto.CursorPage;
 import com.tracker.job_application_tracker.dto.StatusHistoryDTO;
 import com.tracker.job_application_tracker.enums.ApplicationStatus;
 import com.tracker.job_application_tracker.exception.ResourceNotFoundException;
 import com.tracker.job_application_tracker.model.Application;
 import com.tracker.job_application_tracker.model.StatusHistory;
+import com.tracker.job_application_tracker.model.User;
 import com.tracker.job_application_tracker.repository.ApplicationRepository;
 import com.tracker.job_application_tracker.repository.StatusHistoryRepository;
 import com.tracker.job_application_tracker.service.StatusHistoryService;
+import com.tracker.job_application_tracker.service.UserStatsService;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -23,13 +30,16 @@ public class StatusHistoryServiceImpl implements StatusHistoryService {
     
     private final StatusHistoryRepository statusHistoryRepository;
     private final ApplicationRepository applicationRepository;
+    private final UserStatsService userStatsService;
     
     public StatusHistoryServiceImpl(
             StatusHistoryRepository statusHistoryRepository,
-            ApplicationRepository applicationRepository
+            ApplicationRepository applicationRepository,
+            UserStatsService userStatsService
     ) {
         this.statusHistoryRepository = statusHistoryRepository;
         this.applicationRepository = applicationRepository;
+        this.userStatsService = userStatsService;
     }
     
     @Override
@@ -45,6 +55,39 @@ public class StatusHistoryServiceImpl implements StatusHistoryService {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public Map<Long, List<StatusHistoryDTO>> getHistoryByApplicationIds(Collection<Long> applicationIds) {
+        if (applicationIds.isEmpty()) {
+            return Map.of();
+        }
+        
+        // groupingBy keeps the encounter order, so each list stays sorted by changedAt DESC
+        return statusHistoryRepository.findByApplicationIdInOrderByChangedAtDesc(applicationIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        history -> history.getApplication().getId(),
+                        Collectors.mapping(this::convertToDTO, Collectors.toList())
+                ));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<StatusHistoryDTO> getHistoryPage(User user, Long applicationId, String cursor, int size) {
+        // Verify application exists and belongs to the user
+        if (!applicationRepository.existsByIdAndUserId(applicationId, user.getId())) {
+            throw new ResourceNotFoundException("Application", "id", applicationId);
+        }
+        
+        Cursor after = Cursor.decode(cursor);
+        int pageSize = CursorPage.clampSize(size);
+        
+        List<StatusHistory> rows = statusHistoryRepository.findPageByApplicationId(
+                applicationId, after.dateTimeKey(), after.getId(), Limit.of(pageSize + 1)
+        );
+        return CursorPage.of(rows, pageSize, this::convertToDTO,
+                history -> Cursor.encode(history.getChangedAt(), history.getId()));
+    }
+    
     @Override
     public void createStatusHistory(Long applicationId, ApplicationStatus status, String notes) {
         // Find application
@@ -56,6 +99,7 @@ public class StatusHistoryServiceImpl implements StatusHistoryService {
         
         // Save
         statusHistoryRepository.save(history);
+        userStatsService.onStatusHistoryCreated(application, status);
     }
     
     // === HELPER METHOD ===
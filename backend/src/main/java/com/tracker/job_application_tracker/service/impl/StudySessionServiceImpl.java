@@ -1,12 +1,15 @@
 package com.tracker.job_application_tracker.service.impl;
 
 import com.tracker.job_application_tracker.dto.CreateStudySessionRequest;
+import com.tracker.job_application_tracker.dto.Cursor;
+import com.tracker.job_application_tracker.dto.CursorPage;
 import com.tracker.job_application_tracker.dto.StudySessionDTO;
 import com.tracker.job_application_tracker.exception.ResourceNotFoundException;
 import com.tracker.job_application_tracker.model.StudySession;
 import com.tracker.job_application_tracker.model.User;
 import com.tracker.job_application_tracker.repository.StudySessionRepository;
 import com.tracker.job_application_tracker.service.StudySessionService;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +38,19 @@ public class StudySessionServiceImpl implements StudySessionService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<StudySessionDTO> getPageByUser(User user, String cursor, int size) {
+        Cursor after = Cursor.decode(cursor);
+        int pageSize = CursorPage.clampSize(size);
+
+        List<StudySession> rows = studySessionRepository.findPageByUserId(
+                user.getId(), after.dateKey(), after.getId(), Limit.of(pageSize + 1)
+        );
+        return CursorPage.of(rows, pageSize, this::convertToDTO,
+                session -> Cursor.encode(session.getDate(), session.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<StudySessionDTO> getByDateRange(User user, LocalDate start, LocalDate end) {
@@ -96,10 +112,7 @@ public class StudySessionServiceImpl implements StudySessionService {
         LocalDate startOfWeek = now.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
         LocalDate endOfWeek = now.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
 
-        return studySessionRepository.findByUserIdAndDateBetween(user.getId(), startOfWeek, endOfWeek)
-                .stream()
-                .mapToInt(StudySession::getDurationMinutes)
-                .sum();
+        return (int) studySessionRepository.sumDurationMinutes(user.getId(), startOfWeek, endOfWeek);
     }
 
     @Override
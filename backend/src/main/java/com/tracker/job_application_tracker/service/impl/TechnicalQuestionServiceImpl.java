@@ -1,6 +1,8 @@
 package com.tracker.job_application_tracker.service.impl;
 
 import com.tracker.job_application_tracker.dto.CreateTechnicalQuestionRequest;
+import com.tracker.job_application_tracker.dto.Cursor;
+import com.tracker.job_application_tracker.dto.CursorPage;
 import com.tracker.job_application_tracker.dto.TechnicalQuestionDTO;
 import com.tracker.job_application_tracker.dto.UpdateTechnicalQuestionRequest;
 import com.tracker.job_application_tracker.enums.Category;
@@ -9,6 +11,7 @@ import com.tracker.job_application_tracker.model.TechnicalQuestion;
 import com.tracker.job_application_tracker.model.User;
 import com.tracker.job_application_tracker.repository.TechnicalQuestionRepository;
 import com.tracker.job_application_tracker.service.TechnicalQuestionService;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +38,19 @@ public class TechnicalQuestionServiceImpl implements TechnicalQuestionService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<TechnicalQuestionDTO> getPageByUser(User user, String cursor, int size) {
+        Cursor after = Cursor.decode(cursor);
+        int pageSize = CursorPage.clampSize(size);
+
+        List<TechnicalQuestion> rows = technicalQuestionRepository.findPageByUserId(
+                user.getId(), after.dateTimeKey(), after.getId(), Limit.of(pageSize + 1)
+        );
+        return CursorPage.of(rows, pageSize, this::convertToDTO,
+                question -> Cursor.encode(question.getCreatedAt(), question.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<TechnicalQuestionDTO> getByCategory(User user, Category category) {
@@ -1,16 +1,19 @@
 package com.tracker.job_application_tracker.service.impl;
 
+import com.tracker.job_application_tracker.config.PrincipalCache;
 import com.tracker.job_application_tracker.dto.RegisterRequest;
 import com.tracker.job_application_tracker.dto.UserDTO;
 import com.tracker.job_application_tracker.enums.Role;
+import com.tracker.job_application_tracker.exception.PasswordHashingBusyException;
 import com.tracker.job_application_tracker.exception.ResourceNotFoundException;
 import com.tracker.job_application_tracker.exception.UserAlreadyExistsException;
 import com.tracker.job_application_tracker.model.User;
 import com.tracker.job_application_tracker.repository.UserRepository;
+import com.tracker.job_application_tracker.service.PasswordHasher;
 import com.tracker.job_application_tracker.service.UserService;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -18,22 +21,24 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final PrincipalCache principalCache;
 
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserServiceImpl(UserRepository userRepository, PasswordHasher passwordHasher, PrincipalCache principalCache) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.principalCache = principalCache;
     }
 
     @Override
-    public User createUser(RegisterRequest request) {
+    public User createUser(RegisterRequest request, String passwordHash) {
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new UserAlreadyExistsException(request.getEmail());
         }
 
         User user = new User();
         user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHash);
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
         user.setEnabled(false);
@@ -54,20 +59,31 @@ public class UserServiceImpl implements UserService {
         User user = findByEmail(email);
         user.setEnabled(true);
         userRepository.save(user);
+        principalCache.evict(email);
     }
 
     @Override
-    public void updatePassword(String email, String newPassword) {
+    public void updatePassword(String email, String passwordHash) {
         User user = findByEmail(email);
-        user.setPassword(passwordEncoder.encode(newPassword));
+        user.setPassword(passwordHash);
         userRepository.save(user);
+        principalCache.evict(email);
     }
 
+    /**
+     * No transaction around the hash check: it takes ~250 ms of CPU and must not hold
+     * a database connection meanwhile
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void verifyPassword(User user, String rawPassword) {
-        if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
+        String storedHash = user.getPassword();
+        if (!passwordHasher.matches(rawPassword, storedHash)) {
             throw new BadCredentialsException("Invalid email or password");
         }
+        if (passwordHasher.upgradeEncoding(storedHash)) {
+            rehash(user, storedHash, rawPassword);
+        }
     }
 
     @Override
@@ -80,4 +96,23 @@ public class UserServiceImpl implements UserService {
                 user.getRole().name()
         );
     }
+
+    // === HELPER METHODS ===
+
+    /**
+     * Store the password again with the current encoder ({bcrypt} prefix, configured cost)
+     * Best effort: skipped while the hashing pool is saturated (done on a later login)
+     */
+    private void rehash(User user, String storedHash, String rawPassword) {
+        String newHash;
+        try {
+            newHash = passwordHasher.encode(rawPassword);
+        } catch (PasswordHashingBusyException ex) {
+            return;
+        }
+        if (userRepository.updatePasswordIfUnchanged(user.getId(), storedHash, newHash) == 1) {
+            user.setPassword(newHash);
+            principalCache.evict(user.getEmail());
+        }
+    }
 }
@@ -0,0 +1,200 @@
+package com.tracker.job_application_tracker.service.impl;
+
+import com.tracker.job_application_tracker.dto.DashboardDTO;
+import com.tracker.job_application_tracker.dto.MonthlyStatsDTO;
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+import com.tracker.job_application_tracker.model.Application;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.model.UserMonthlyStats;
+import com.tracker.job_application_tracker.model.UserStats;
+import com.tracker.job_application_tracker.repository.ApplicationRepository;
+import com.tracker.job_application_tracker.repository.StatusHistoryRepository;
+import com.tracker.job_application_tracker.repository.UserMonthlyStatsRepository;
+import com.tracker.job_application_tracker.repository.UserRepository;
+import com.tracker.job_application_tracker.repository.UserStatsRepository;
+import com.tracker.job_application_tracker.service.UserStatsService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of UserStatsService
+ *
+ * Counters are changed with one upsert per row ("INSERT ... ON DUPLICATE KEY
+ * UPDATE count = count + delta" on MySQL): the first application of a status or
+ * a month creates the row, concurrent first writes end up as updates instead of
+ * failing on the unique key. Any drift left by a bug or a manual change is
+ * repaired by rebuild(), run nightly by UserStatsRebuildJob.
+ */
+@Service
+@Transactional
+public class UserStatsServiceImpl implements UserStatsService {
+
+    /**
+     * Applications still in this status have not received any answer yet
+     */
+    private static final ApplicationStatus AWAITING_RESPONSE = ApplicationStatus.SENT;
+
+    private final UserStatsRepository userStatsRepository;
+    private final UserMonthlyStatsRepository userMonthlyStatsRepository;
+    private final ApplicationRepository applicationRepository;
+    private final StatusHistoryRepository statusHistoryRepository;
+    private final UserRepository userRepository;
+
+    public UserStatsServiceImpl(
+            UserStatsRepository userStatsRepository,
+            UserMonthlyStatsRepository userMonthlyStatsRepository,
+            ApplicationRepository applicationRepository,
+            StatusHistoryRepository statusHistoryRepository,
+            UserRepository userRepository
+    ) {
+        this.userStatsRepository = userStatsRepository;
+        this.userMonthlyStatsRepository = userMonthlyStatsRepository;
+        this.applicationRepository = applicationRepository;
+        this.statusHistoryRepository = statusHistoryRepository;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public void onApplicationCreated(Application application) {
+        User user = application.getUser();
+        addToStatus(user, application.getCurrentStatus(), 1, 0);
+        addToMonth(user, monthOf(application.getApplicationDate()), 1, responded(application.getCurrentStatus()));
+    }
+
+    @Override
+    public void onApplicationUpdated(Application application, ApplicationStatus previousStatus, LocalDate previousApplicationDate) {
+        User user = application.getUser();
+        ApplicationStatus status = application.getCurrentStatus();
+
+        if (status != previousStatus) {
+            addToStatus(user, previousStatus, -1, 0);
+            addToStatus(user, status, 1, 0);
+        }
+
+        LocalDate previousMonth = monthOf(previousApplicationDate);
+        LocalDate month = monthOf(application.getApplicationDate());
+        long previousResponse = responded(previousStatus);
+        long response = responded(status);
+
+        if (!month.equals(previousMonth)) {
+            addToMonth(user, previousMonth, -1, -previousResponse);
+            addToMonth(user, month, 1, response);
+        } else if (response != previousResponse) {
+            addToMonth(user, month, 0, response - previousResponse);
+        }
+    }
+
+    @Override
+    public void onApplicationDeleted(Application application) {
+        User user = application.getUser();
+        addToStatus(user, application.getCurrentStatus(), -1, 0);
+
+        // The history rows go away with the application (ON DELETE CASCADE)
+        statusHistoryRepository.countByStatusForApplication(application.getId())
+                .forEach(count -> addToStatus(user, count.getStatus(), 0, -count.getTotal()));
+
+        addToMonth(user, monthOf(application.getApplicationDate()), -1, -responded(application.getCurrentStatus()));
+    }
+
+    @Override
+    public void onStatusHistoryCreated(Application application, ApplicationStatus status) {
+        addToStatus(application.getUser(), status, 0, 1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DashboardDTO getDashboard(User user) {
+        Map<ApplicationStatus, Long> breakdown = new EnumMap<>(ApplicationStatus.class);
+        Map<ApplicationStatus, Long> reached = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            breakdown.put(status, 0L);
+            reached.put(status, 0L);
+        }
+        for (UserStats stats : userStatsRepository.findByUserId(user.getId())) {
+            breakdown.put(stats.getStatus(), stats.getApplicationCount());
+            reached.put(stats.getStatus(), stats.getStatusEntries());
+        }
+
+        List<MonthlyStatsDTO> months = userMonthlyStatsRepository.findByUserIdOrderByMonthAsc(user.getId())
+                .stream()
+                .filter(stats -> stats.getApplications() > 0)
+                .map(stats -> new MonthlyStatsDTO(
+                        YearMonth.from(stats.getMonth()), stats.getApplications(), stats.getResponses()))
+                .collect(Collectors.toList());
+
+        long totalApplications = breakdown.values().stream().mapToLong(Long::longValue).sum();
+        long totalResponses = months.stream().mapToLong(MonthlyStatsDTO::getResponses).sum();
+
+        DashboardDTO dashboard = new DashboardDTO();
+        dashboard.setTotalApplications(totalApplications);
+        dashboard.setTotalResponses(totalResponses);
+        dashboard.setResponseRate(totalApplications > 0 ? (double) totalResponses / totalApplications : 0.0);
+        dashboard.setStatusBreakdown(breakdown);
+        dashboard.setStatusReached(reached);
+        dashboard.setApplicationsPerMonth(months);
+        return dashboard;
+    }
+
+    /**
+     * The deletes come first and lock the user's counter rows (on MySQL, the gaps between them too):
+     * an increment made meanwhile waits for this transaction then applies on top of the rebuilt rows,
+     * and the counts below, read once the locks are held, include every increment committed before
+     */
+    @Override
+    public void rebuild(Long userId) {
+        User user = userRepository.getReferenceById(userId);
+
+        userStatsRepository.deleteAllByUserId(userId);
+        userMonthlyStatsRepository.deleteAllByUserId(userId);
+
+        Map<ApplicationStatus, Long> entries = statusHistoryRepository.countByStatusForUser(userId)
+                .stream()
+                .collect(Collectors.toMap(ApplicationRepository.StatusCount::getStatus,
+                        ApplicationRepository.StatusCount::getTotal));
+        Map<ApplicationStatus, Long> applications = applicationRepository.countByStatusForUser(userId)
+                .stream()
+                .collect(Collectors.toMap(ApplicationRepository.StatusCount::getStatus,
+                        ApplicationRepository.StatusCount::getTotal));
+
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            long applicationCount = applications.getOrDefault(status, 0L);
+            long statusEntries = entries.getOrDefault(status, 0L);
+            if (applicationCount > 0 || statusEntries > 0) {
+                userStatsRepository.save(new UserStats(user, status, applicationCount, statusEntries));
+            }
+        }
+
+        applicationRepository.countByMonthForUser(userId, AWAITING_RESPONSE)
+                .forEach(count -> userMonthlyStatsRepository.save(new UserMonthlyStats(
+                        user,
+                        LocalDate.of(count.getApplicationYear(), count.getApplicationMonth(), 1),
+                        count.getApplications(),
+                        count.getResponses()
+                )));
+    }
+
+    // === HELPER METHODS ===
+
+    private void addToStatus(User user, ApplicationStatus status, long delta, long entriesDelta) {
+        userStatsRepository.increment(user, status, delta, entriesDelta);
+    }
+
+    private void addToMonth(User user, LocalDate month, long applicationsDelta, long responsesDelta) {
+        userMonthlyStatsRepository.increment(user, month, applicationsDelta, responsesDelta);
+    }
+
+    private static LocalDate monthOf(LocalDate date) {
+        return date.withDayOfMonth(1);
+    }
+
+    private static long responded(ApplicationStatus status) {
+        return status != AWAITING_RESPONSE ? 1 : 0;
+    }
+}
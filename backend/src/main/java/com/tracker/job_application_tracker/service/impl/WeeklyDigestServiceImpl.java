@@ -0,0 +1,96 @@
+package com.tracker.job_application_tracker.service.impl;
+
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.repository.ApplicationRepository;
+import com.tracker.job_application_tracker.repository.ApplicationRepository.UserCount;
+import com.tracker.job_application_tracker.repository.ApplicationRepository.UserStatusCount;
+import com.tracker.job_application_tracker.repository.FlashCardRepository;
+import com.tracker.job_application_tracker.repository.StatusHistoryRepository;
+import com.tracker.job_application_tracker.repository.StudySessionRepository;
+import com.tracker.job_application_tracker.repository.UserRepository;
+import com.tracker.job_application_tracker.service.EmailService;
+import com.tracker.job_application_tracker.service.WeeklyDigestService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class WeeklyDigestServiceImpl implements WeeklyDigestService {
+
+    private final UserRepository userRepository;
+    private final ApplicationRepository applicationRepository;
+    private final StatusHistoryRepository statusHistoryRepository;
+    private final StudySessionRepository studySessionRepository;
+    private final FlashCardRepository flashCardRepository;
+    private final EmailService emailService;
+
+    public WeeklyDigestServiceImpl(UserRepository userRepository,
+                                   ApplicationRepository applicationRepository,
+                                   StatusHistoryRepository statusHistoryRepository,
+                                   StudySessionRepository studySessionRepository,
+                                   FlashCardRepository flashCardRepository,
+                                   EmailService emailService) {
+        this.userRepository = userRepository;
+        this.applicationRepository = applicationRepository;
+        this.statusHistoryRepository = statusHistoryRepository;
+        this.studySessionRepository = studySessionRepository;
+        this.flashCardRepository = flashCardRepository;
+        this.emailService = emailService;
+    }
+
+    @Override
+    public int sendDigests(List<Long> userIds, LocalDate weekStart) {
+        // Claimed in this transaction: marked now, emails queued below, all or nothing
+        List<User> users = userRepository.findAwaitingDigestForUpdate(userIds, weekStart);
+        if (users.isEmpty()) {
+            return 0;
+        }
+        List<Long> claimedIds = users.stream().map(User::getId).toList();
+        userRepository.markDigestSent(claimedIds, weekStart);
+
+        LocalDate weekEnd = weekStart.plusWeeks(1);
+        Map<Long, Long> applicationsSent = toMap(
+                applicationRepository.countByUserInPeriod(claimedIds, weekStart, weekEnd));
+        Map<Long, Long> studyMinutes = toMap(
+                studySessionRepository.sumDurationMinutesByUser(claimedIds, weekStart, weekEnd));
+        Map<Long, Long> flashcardsDue = toMap(
+                flashCardRepository.countDueByUser(claimedIds, LocalDateTime.now().minusWeeks(1)));
+        Map<Long, Map<ApplicationStatus, Long>> statusChanges = new HashMap<>();
+        for (UserStatusCount count : statusHistoryRepository.countByUserAndStatusInPeriod(
+                claimedIds, weekStart.atStartOfDay(), weekEnd.atStartOfDay())) {
+            statusChanges.computeIfAbsent(count.getUserId(), id -> new EnumMap<>(ApplicationStatus.class))
+                    .put(count.getStatus(), count.getTotal());
+        }
+
+        int queued = 0;
+        for (User user : users) {
+            WeeklyDigest digest = new WeeklyDigest(
+                    user.getEmail(),
+                    user.getFirstName(),
+                    weekStart,
+                    applicationsSent.getOrDefault(user.getId(), 0L),
+                    statusChanges.getOrDefault(user.getId(), Map.of()),
+                    studyMinutes.getOrDefault(user.getId(), 0L),
+                    flashcardsDue.getOrDefault(user.getId(), 0L)
+            );
+            if (!digest.isEmpty()) {
+                emailService.sendWeeklyDigestEmail(digest);
+                queued++;
+            }
+        }
+        return queued;
+    }
+
+    private static Map<Long, Long> toMap(List<UserCount> counts) {
+        return counts.stream().collect(Collectors.toMap(UserCount::getUserId, UserCount::getTotal));
+    }
+}
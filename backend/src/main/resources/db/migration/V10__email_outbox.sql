@@ -0,0 +1,28 @@
+-- =============================================================================
+-- V10 : Outbox des emails (email_outbox)
+--
+-- Les emails (confirmation, réinitialisation du mot de passe) sont écrits dans
+-- la transaction de la requête au lieu d'être envoyés en SMTP pendant celle-ci.
+-- EmailOutboxDispatcher les envoie par lots (SELECT ... FOR UPDATE SKIP LOCKED),
+-- avec de nouvelles tentatives espacées exponentiellement, puis les marque DEAD
+-- après la dernière tentative.
+--
+-- next_attempt_at sert à la fois de date de la prochaine tentative et de fin du
+-- bail pris par le dispatcher qui envoie l'email.
+-- Index (status, next_attempt_at) pour la recherche des emails à envoyer.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id              BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    recipient       VARCHAR(255) NOT NULL,
+    subject         VARCHAR(255) NOT NULL,
+    html_body       TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6)  NOT NULL,
+    sent_at         DATETIME(6)
+);
+
+CREATE INDEX idx_email_outbox_status_next_attempt ON email_outbox (status, next_attempt_at);
@@ -0,0 +1,25 @@
+-- =============================================================================
+-- V11 : Entretiens (interviews) et rappels par email
+--
+-- Un entretien daté par candidature (plusieurs possibles). Le rappel est envoyé
+-- interview.reminder.lead avant scheduled_at ; reminder_sent_at est renseigné
+-- par une mise à jour conditionnelle, pour qu'un seul nœud envoie le rappel.
+--
+-- InterviewReminderJob charge les rappels proches dans une roue temporelle en
+-- mémoire, par lots (reminder_sent_at IS NULL, scheduled_at) : index dédié.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS interviews (
+    id               BIGINT        NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    application_id   BIGINT        NOT NULL,
+    scheduled_at     DATETIME(6)   NOT NULL,
+    location         VARCHAR(255),
+    notes            VARCHAR(2000),
+    reminder_sent_at DATETIME(6),
+    created_at       DATETIME(6)   NOT NULL,
+    CONSTRAINT fk_interview_application FOREIGN KEY (application_id)
+        REFERENCES applications (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_interviews_reminder ON interviews (reminder_sent_at, scheduled_at);
+CREATE INDEX idx_interviews_application ON interviews (application_id, scheduled_at);
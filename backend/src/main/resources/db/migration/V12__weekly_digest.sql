@@ -0,0 +1,15 @@
+-- =============================================================================
+-- V12 : Récapitulatif hebdomadaire par email
+--
+-- digest_sent_week : lundi de la dernière semaine récapitulée pour l'utilisateur.
+-- Renseigné dans la transaction qui écrit l'email dans l'outbox : une seconde
+-- exécution du job (ou un autre nœud) ignore les utilisateurs déjà traités.
+--
+-- Pas de nouvel index : les lots sont réclamés par clé primaire, et les
+-- agrégats par utilisateur utilisent les index de V3 (applications
+-- (user_id, application_date), status_history (application_id, changed_at),
+-- study_sessions (user_id, date, duration_minutes), flashcards
+-- (user_id, last_reviewed)).
+-- =============================================================================
+
+ALTER TABLE users ADD COLUMN digest_sent_week DATE NULL;
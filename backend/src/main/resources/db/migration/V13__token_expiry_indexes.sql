@@ -0,0 +1,11 @@
+-- =============================================================================
+-- V13 : Index d'expiration des jetons, pour la purge périodique (TokenPurgeJob)
+--
+-- Les lots sont lus par expiration croissante (WHERE expiration < :seuil
+-- ORDER BY expiration LIMIT n ... FOR UPDATE SKIP LOCKED) puis supprimés par
+-- clé primaire : parcours de plage sur l'index, verrous limités au lot.
+-- MIN(expiration) (retard de la purge) est lu sur le même index.
+-- =============================================================================
+
+CREATE INDEX idx_confirmation_tokens_expires_at ON confirmation_tokens (expires_at);
+CREATE INDEX idx_refresh_tokens_expiry_date ON refresh_tokens (expiry_date);
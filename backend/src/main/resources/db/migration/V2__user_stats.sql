@@ -0,0 +1,51 @@
+-- =============================================================================
+-- V2 : Compteurs du dashboard, maintenus à chaque écriture
+--
+-- user_stats         : nombre de candidatures par statut courant, et nombre
+--                      d'entrées d'historique par statut (entonnoir)
+-- user_monthly_stats : candidatures et réponses par mois de candidature
+--
+-- Remplis à la volée par UserStatsService ; le job de reconstruction
+-- (UserStatsRebuildJob) les recalcule depuis applications / status_history.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS user_stats (
+    id                BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id           BIGINT      NOT NULL,
+    status            VARCHAR(20) NOT NULL,
+    application_count BIGINT      NOT NULL DEFAULT 0,
+    status_entries    BIGINT      NOT NULL DEFAULT 0,
+    CONSTRAINT uk_user_stats_user_status UNIQUE (user_id, status),
+    CONSTRAINT fk_user_stats_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS user_monthly_stats (
+    id           BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id      BIGINT NOT NULL,
+    month_start  DATE   NOT NULL,
+    applications BIGINT NOT NULL DEFAULT 0,
+    responses    BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_user_monthly_stats_user_month UNIQUE (user_id, month_start),
+    CONSTRAINT fk_user_monthly_stats_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+-- Remplissage initial depuis les données existantes
+INSERT INTO user_stats (user_id, status, application_count, status_entries)
+SELECT a.user_id, a.current_status, COUNT(*), 0
+FROM applications a
+WHERE a.user_id IS NOT NULL
+GROUP BY a.user_id, a.current_status;
+
+INSERT INTO user_stats (user_id, status, application_count, status_entries)
+SELECT a.user_id, h.status, 0, COUNT(*)
+FROM status_history h
+JOIN applications a ON a.id = h.application_id
+WHERE a.user_id IS NOT NULL
+GROUP BY a.user_id, h.status
+ON DUPLICATE KEY UPDATE status_entries = VALUES(status_entries);
+
+INSERT INTO user_monthly_stats (user_id, month_start, applications, responses)
+SELECT a.user_id, DATE_FORMAT(a.application_date, '%Y-%m-01'), COUNT(*), SUM(a.current_status <> 'SENT')
+FROM applications a
+WHERE a.user_id IS NOT NULL
+GROUP BY a.user_id, DATE_FORMAT(a.application_date, '%Y-%m-01');
@@ -0,0 +1,62 @@
+-- =============================================================================
+-- V3 : Index secondaires composites, un par forme de requête des repositories
+--
+-- Règle : colonnes d'égalité d'abord (user_id / application_id, puis le filtre),
+-- colonne de tri ou de plage ensuite. InnoDB ajoute implicitement la clé primaire
+-- (id) à la fin de chaque index secondaire, ce qui couvre aussi le départage
+-- "ORDER BY ..., id DESC" de la pagination par curseur.
+--
+-- Vérifié par RepositoryIndexUsageTest (EXPLAIN sur MySQL via Testcontainers).
+-- =============================================================================
+
+-- applications
+--   findByUserIdOrderByApplicationDateDesc, findByUserId(Pageable), findPageByUserId
+CREATE INDEX idx_applications_user_date
+    ON applications (user_id, application_date);
+--   findByUserIdAndCurrentStatus (liste + Pageable), findPageByUserIdAndCurrentStatus,
+--   countByStatusForUser (GROUP BY current_status)
+CREATE INDEX idx_applications_user_status_date
+    ON applications (user_id, current_status, application_date);
+
+-- status_history
+--   findByApplicationIdOrderByChangedAtDesc, findPageByApplicationId
+CREATE INDEX idx_status_history_application_changed
+    ON status_history (application_id, changed_at);
+
+-- flashcards
+--   findByUserIdOrderByLastReviewedAsc, countReviewsForUser (COUNT + SUM sur last_reviewed, couvrant)
+CREATE INDEX idx_flashcards_user_last_reviewed
+    ON flashcards (user_id, last_reviewed);
+--   findByUserIdAndCategory
+CREATE INDEX idx_flashcards_user_category
+    ON flashcards (user_id, category);
+--   findPageByUserId (created_at, id)
+CREATE INDEX idx_flashcards_user_created
+    ON flashcards (user_id, created_at);
+
+-- coding_challenges
+--   findByUserIdOrderByCreatedAtDesc, findPageByUserId
+CREATE INDEX idx_coding_challenges_user_created
+    ON coding_challenges (user_id, created_at);
+--   findByUserIdAndStatus, countByUserIdAndStatus, countByStatusForUser (GROUP BY status, couvrant)
+CREATE INDEX idx_coding_challenges_user_status
+    ON coding_challenges (user_id, status);
+
+-- technical_questions
+--   findByUserIdOrderByCreatedAtDesc, findPageByUserId
+CREATE INDEX idx_technical_questions_user_created
+    ON technical_questions (user_id, created_at);
+--   findByUserIdAndCategory
+CREATE INDEX idx_technical_questions_user_category
+    ON technical_questions (user_id, category);
+
+-- skills
+--   findByUserIdOrderByCategoryAsc, averageLevel (AVG(level), couvrant)
+CREATE INDEX idx_skills_user_category_level
+    ON skills (user_id, category, level);
+
+-- study_sessions
+--   findByUserIdOrderByDateDesc, findByUserIdAndDateBetween, findPageByUserId,
+--   sumDurationMinutes (SUM(duration_minutes) sur une plage de dates, couvrant)
+CREATE INDEX idx_study_sessions_user_date_duration
+    ON study_sessions (user_id, date, duration_minutes);
@@ -0,0 +1,23 @@
+-- =============================================================================
+-- V4 : Recherche plein texte sur les candidatures (GET /api/applications/search)
+--
+-- search_text regroupe entreprise, poste, notes et noms des documents joints.
+-- La colonne est tenue à jour par ApplicationServiceImpl et DocumentServiceImpl ;
+-- l'index FULLTEXT est maintenu par InnoDB à chaque écriture.
+-- La première création d'un index FULLTEXT reconstruit la table (colonne FTS_DOC_ID).
+-- =============================================================================
+
+ALTER TABLE applications ADD COLUMN search_text TEXT;
+
+-- Remplissage initial : même normalisation que ApplicationSearch.searchText
+-- (la ponctuation des noms de fichiers devient un séparateur)
+UPDATE applications a
+SET a.search_text = CONCAT_WS(' ',
+        a.company,
+        a.position,
+        a.notes,
+        (SELECT REGEXP_REPLACE(GROUP_CONCAT(d.original_filename SEPARATOR ' '), '[^[:alnum:]]+', ' ')
+         FROM documents d
+         WHERE d.application_id = a.id));
+
+CREATE FULLTEXT INDEX ft_applications_search_text ON applications (search_text);
@@ -0,0 +1,8 @@
+-- =============================================================================
+-- V5 : Empreinte SHA-256 du contenu des documents
+--
+-- Calculée pendant l'écriture de l'upload (FileStorageService.storeStream).
+-- NULL pour les documents existants, envoyés avant cette migration.
+-- =============================================================================
+
+ALTER TABLE documents ADD COLUMN sha256 VARCHAR(64);
@@ -0,0 +1,26 @@
+-- =============================================================================
+-- V6 : Stockage des fichiers par contenu (déduplication)
+--
+-- Un fichier physique par contenu distinct, identifié par son SHA-256.
+-- Chaque document pointe vers son blob ; ref_count = nombre de documents
+-- qui le référencent. Le fichier n'est supprimé qu'avec la dernière référence.
+--
+-- Les documents envoyés avant cette migration gardent leur propre fichier
+-- (blob_id NULL) ; ils deviennent un blob partagé lorsqu'on les rattache
+-- à une autre candidature.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS document_blobs (
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    sha256          VARCHAR(64)  NOT NULL,
+    stored_filename VARCHAR(255) NOT NULL,
+    file_size       BIGINT       NOT NULL,
+    content_type    VARCHAR(255),
+    ref_count       INT          NOT NULL DEFAULT 0,
+    created_at      DATETIME(6)  NOT NULL,
+    CONSTRAINT uk_document_blobs_sha256 UNIQUE (sha256)
+);
+
+ALTER TABLE documents
+    ADD COLUMN blob_id BIGINT,
+    ADD CONSTRAINT fk_document_blob FOREIGN KEY (blob_id) REFERENCES document_blobs (id);
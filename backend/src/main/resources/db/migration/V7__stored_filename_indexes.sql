@@ -0,0 +1,13 @@
+-- =============================================================================
+-- V7 : Répertoire d'upload partitionné (ab/cd/<fichier>)
+--
+-- Les nouveaux fichiers sont rangés sur deux niveaux de 256 répertoires.
+-- Les fichiers existants sont déplacés en ligne par StorageLayoutMigrationJob,
+-- qui parcourt documents.stored_filename par lots (keyset) et renomme les
+-- lignes de documents et de document_blobs portant l'ancien nom.
+-- Ces index servent ce parcours et ces renommages.
+-- =============================================================================
+
+CREATE INDEX idx_documents_stored_filename ON documents (stored_filename);
+
+CREATE INDEX idx_document_blobs_stored_filename ON document_blobs (stored_filename);
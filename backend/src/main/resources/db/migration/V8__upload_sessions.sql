@@ -0,0 +1,35 @@
+-- =============================================================================
+-- V8 : Uploads reprenables par morceaux (chunked upload)
+--
+-- Une session par fichier en cours d'envoi, rattachée à une candidature.
+-- Le fichier est découpé en morceaux de chunk_size octets (le dernier peut
+-- être plus court), écrits à leur offset dans un fichier préalloué du
+-- répertoire d'upload. Chaque morceau écrit et synchronisé sur disque est
+-- enregistré dans upload_chunks : insertions seulement, aucune ligne partagée
+-- n'est mise à jour par des morceaux envoyés en parallèle.
+--
+-- Les sessions abandonnées sont supprimées par UploadSessionCleanupJob
+-- (index sur expires_at).
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS upload_sessions (
+    id                VARCHAR(36)  NOT NULL PRIMARY KEY,
+    application_id    BIGINT       NOT NULL,
+    original_filename VARCHAR(255) NOT NULL,
+    total_size        BIGINT       NOT NULL,
+    chunk_size        INT          NOT NULL,
+    created_at        DATETIME(6)  NOT NULL,
+    expires_at        DATETIME(6)  NOT NULL,
+    CONSTRAINT fk_upload_session_application FOREIGN KEY (application_id)
+        REFERENCES applications (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_upload_sessions_expires_at ON upload_sessions (expires_at);
+
+CREATE TABLE IF NOT EXISTS upload_chunks (
+    upload_id   VARCHAR(36) NOT NULL,
+    chunk_index INT         NOT NULL,
+    PRIMARY KEY (upload_id, chunk_index),
+    CONSTRAINT fk_upload_chunk_session FOREIGN KEY (upload_id)
+        REFERENCES upload_sessions (id) ON DELETE CASCADE
+);
@@ -0,0 +1,15 @@
+-- =============================================================================
+-- V9 : Suppression différée des fichiers (StorageGarbageCollector)
+--
+-- Quand un blob perd sa dernière référence, il n'est plus supprimé dans la
+-- transaction de l'utilisateur : released_at est renseigné, et le ramasse-
+-- miettes supprime la ligne puis le fichier une fois le délai de grâce écoulé,
+-- sauf si un upload du même contenu a entre-temps réutilisé le blob
+-- (released_at remis à NULL).
+--
+-- Index sur released_at pour la recherche des blobs à purger.
+-- =============================================================================
+
+ALTER TABLE document_blobs ADD COLUMN released_at DATETIME(6) NULL;
+
+CREATE INDEX idx_document_blobs_released_at ON document_blobs (released_at);
@@ -0,0 +1,110 @@
+package com.tracker.job_application_tracker.config;
+
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.repository.UserRepository;
+import com.tracker.job_application_tracker.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/*
+ * Tests unitaires du JwtAuthenticationFilter.
+ *
+ * On vérifie que le token n'est parsé qu'une fois par requête
+ * et que l'utilisateur est servi par le PrincipalCache :
+ * une seule requête en base pour plusieurs appels authentifiés.
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final String EMAIL = "thomas@example.com";
+
+    @Mock private JwtService jwtService;
+    @Mock private UserRepository userRepository;
+
+    private PrincipalCache principalCache;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(60, 100);
+        filter = new JwtAuthenticationFilter(jwtService, userRepository, principalCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_shouldLoadUserOnceForSeveralRequests() throws Exception {
+        // Arrange
+        User user = new User(EMAIL, "hashed", "Thomas", "Bulens");
+        Claims claims = Jwts.claims().subject(EMAIL).build();
+        when(jwtService.parseToken(TOKEN)).thenReturn(claims);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        // Act
+        authenticate();
+        SecurityContextHolder.clearContext();
+        authenticate();
+
+        // Assert
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isSameAs(user);
+        verify(jwtService, times(2)).parseToken(TOKEN);
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void doFilter_shouldReloadUserAfterEviction() throws Exception {
+        // Arrange
+        User user = new User(EMAIL, "hashed", "Thomas", "Bulens");
+        Claims claims = Jwts.claims().subject(EMAIL).build();
+        when(jwtService.parseToken(TOKEN)).thenReturn(claims);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        // Act — changement de mot de passe entre deux requêtes
+        authenticate();
+        SecurityContextHolder.clearContext();
+        principalCache.evict(EMAIL);
+        authenticate();
+
+        // Assert
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void doFilter_shouldNotAuthenticateWithExpiredToken() throws Exception {
+        // Arrange
+        when(jwtService.parseToken(TOKEN)).thenThrow(new ExpiredJwtException(null, null, "expired"));
+
+        // Act
+        authenticate();
+
+        // Assert
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(userRepository);
+    }
+
+    private void authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/applications");
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+}
@@ -0,0 +1,164 @@
+package com.tracker.job_application_tracker.controller;
+
+import com.tracker.job_application_tracker.dto.ApplicationSummaryDTO;
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+import com.tracker.job_application_tracker.exception.GlobalExceptionHandler;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.service.ApplicationService;
+import com.tracker.job_application_tracker.service.DocumentArchiveService;
+import com.tracker.job_application_tracker.service.DocumentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/*
+ * Tests de GET /api/applications?view=summary (ApplicationController, MockMvc standalone).
+ *
+ * Le service est mocké : on vérifie le routage (avec ou sans filtre de statut),
+ * la pagination transmise au service (valeurs par défaut, page, taille, tri)
+ * et le JSON renvoyé, dont le nombre de documents (0 compris).
+ */
+@ExtendWith(MockitoExtension.class)
+class ApplicationControllerSummaryTest {
+
+    @Mock private ApplicationService applicationService;
+    @Mock private DocumentService documentService;
+    @Mock private DocumentArchiveService documentArchiveService;
+
+    @InjectMocks
+    private ApplicationController applicationController;
+
+    private MockMvc mockMvc;
+    private User user;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        // Résolution du Pageable (et de @PageableDefault) comme dans l'application
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(applicationController)
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        user = new User("thomas@example.com", "hashed", "Thomas", "Bulens");
+        user.setId(1L);
+        authentication = new UsernamePasswordAuthenticationToken(user, null, List.of());
+    }
+
+    @Test
+    void getSummaries_shouldReturnSummariesWithDocumentCount() throws Exception {
+        // Arrange
+        when(applicationService.getApplicationSummaries(eq(user), any(Pageable.class))).thenReturn(new PageImpl<>(
+                List.of(
+                        summary(10L, "Acme", ApplicationStatus.INTERVIEW, 2),
+                        summary(11L, "Globex", ApplicationStatus.SENT, 0)
+                ),
+                PageRequest.of(0, 20),
+                2
+        ));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/applications").param("view", "summary").principal(authentication))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(10))
+                .andExpect(jsonPath("$.content[0].company").value("Acme"))
+                .andExpect(jsonPath("$.content[0].currentStatus").value("INTERVIEW"))
+                .andExpect(jsonPath("$.content[0].documentCount").value(2))
+                .andExpect(jsonPath("$.content[1].documentCount").value(0))
+                .andExpect(jsonPath("$.content[0].notes").doesNotExist())
+                .andExpect(jsonPath("$.content[0].documents").doesNotExist());
+
+        verify(applicationService, never()).getAllApplications(any(), any());
+    }
+
+    @Test
+    void getSummaries_shouldUseDefaultPageSortedByMostRecentApplication() throws Exception {
+        // Arrange
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        when(applicationService.getApplicationSummaries(eq(user), pageable.capture())).thenReturn(new PageImpl<>(List.of()));
+
+        // Act
+        mockMvc.perform(get("/api/applications").param("view", "summary").principal(authentication))
+                .andExpect(status().isOk());
+
+        // Assert — @PageableDefault(size = 20, sort = "applicationDate", direction = DESC)
+        assertThat(pageable.getValue().getPageNumber()).isZero();
+        assertThat(pageable.getValue().getPageSize()).isEqualTo(20);
+        assertThat(pageable.getValue().getSort()).isEqualTo(Sort.by(Sort.Direction.DESC, "applicationDate"));
+    }
+
+    @Test
+    void getSummaries_shouldPassPageSizeAndSortToService() throws Exception {
+        // Arrange
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        when(applicationService.getApplicationSummaries(eq(user), pageable.capture())).thenReturn(new PageImpl<>(
+                List.of(summary(12L, "Initech", ApplicationStatus.SENT, 1)),
+                PageRequest.of(2, 5, Sort.by(Sort.Direction.ASC, "company")),
+                11
+        ));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/applications")
+                        .param("view", "summary")
+                        .param("page", "2")
+                        .param("size", "5")
+                        .param("sort", "company,asc")
+                        .principal(authentication))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(12))
+                .andExpect(jsonPath("$.totalElements").value(11))
+                .andExpect(jsonPath("$.totalPages").value(3));
+
+        assertThat(pageable.getValue().getPageNumber()).isEqualTo(2);
+        assertThat(pageable.getValue().getPageSize()).isEqualTo(5);
+        assertThat(pageable.getValue().getSort()).isEqualTo(Sort.by(Sort.Direction.ASC, "company"));
+    }
+
+    @Test
+    void getSummaries_shouldFilterByStatusWhenGiven() throws Exception {
+        // Arrange
+        when(applicationService.getApplicationSummariesByStatus(eq(user), eq(ApplicationStatus.REJECTED), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(summary(13L, "Umbrella", ApplicationStatus.REJECTED, 0))));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/applications")
+                        .param("view", "summary")
+                        .param("status", "REJECTED")
+                        .principal(authentication))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].currentStatus").value("REJECTED"));
+
+        verify(applicationService, never()).getApplicationSummaries(any(), any());
+    }
+
+    private static ApplicationSummaryDTO summary(Long id, String company, ApplicationStatus status, long documentCount) {
+        return new ApplicationSummaryDTO(id, company, "Developer", LocalDate.of(2026, 1, 15), status, documentCount);
+    }
+}
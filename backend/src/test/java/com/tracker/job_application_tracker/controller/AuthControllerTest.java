@@ -3,6 +3,7 @@ package com.tracker.job_application_tracker.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tracker.job_application_tracker.dto.*;
 import com.tracker.job_application_tracker.exception.GlobalExceptionHandler;
+import com.tracker.job_application_tracker.exception.PasswordHashingBusyException;
 import com.tracker.job_application_tracker.exception.UserAlreadyExistsException;
 import com.tracker.job_application_tracker.model.ConfirmationToken;
 import com.tracker.job_application_tracker.model.RefreshToken;
@@ -18,6 +19,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.LocalDateTime;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -38,8 +41,9 @@ class AuthControllerTest {
     // === MOCKS des dépendances du controller ===
 
     @Mock private UserService userService;
+    @Mock private AccountService accountService;
+    @Mock private PasswordHasher passwordHasher;
     @Mock private JwtService jwtService;
-    @Mock private EmailService emailService;
     @Mock private ConfirmationTokenService confirmationTokenService;
     @Mock private RefreshTokenService refreshTokenService;
 
@@ -73,13 +77,7 @@ class AuthControllerTest {
         request.setFirstName("Thomas");
         request.setLastName("Bulens");
 
-        User user = new User("thomas@example.com", "hashed", "Thomas", "Bulens");
-        ConfirmationToken token = new ConfirmationToken();
-        token.setToken("confirm-token-abc");
-
-        when(userService.createUser(any(RegisterRequest.class))).thenReturn(user);
-        when(confirmationTokenService.createToken(user)).thenReturn(token);
-        doNothing().when(emailService).sendConfirmationEmail(anyString(), anyString());
+        when(passwordHasher.encode("Password123!")).thenReturn("{bcrypt}hashed");
 
         // Act & Assert
         mockMvc.perform(post("/api/auth/register")
@@ -88,8 +86,8 @@ class AuthControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.message").exists());
 
-        // Vérifie que l'email de confirmation a bien été envoyé
-        verify(emailService, times(1)).sendConfirmationEmail(anyString(), eq("confirm-token-abc"));
+        // Le mot de passe est haché avant la transaction, qui reçoit le hachage
+        verify(accountService, times(1)).register(any(RegisterRequest.class), eq("{bcrypt}hashed"));
     }
 
     @Test
@@ -101,8 +99,8 @@ class AuthControllerTest {
         request.setFirstName("Thomas");
         request.setLastName("Bulens");
 
-        when(userService.createUser(any()))
-                .thenThrow(new UserAlreadyExistsException("Email already in use"));
+        doThrow(new UserAlreadyExistsException("Email already in use"))
+                .when(accountService).register(any(), any());
 
         // Act & Assert — l'API doit retourner 409 Conflict
         mockMvc.perform(post("/api/auth/register")
@@ -169,6 +167,99 @@ class AuthControllerTest {
         verify(jwtService, never()).generateToken(anyString());
     }
 
+    @Test
+    void login_shouldReturn503WithRetryAfterWhenHashingPoolIsSaturated() throws Exception {
+        // Arrange — le pool de hachage refuse la vérification (rafale de connexions)
+        LoginRequest request = new LoginRequest();
+        request.setEmail("thomas@example.com");
+        request.setPassword("Password123!");
+
+        User user = new User("thomas@example.com", "hashed", "Thomas", "Bulens");
+        user.setEnabled(true);
+
+        when(userService.findByEmail("thomas@example.com")).thenReturn(user);
+        doThrow(new PasswordHashingBusyException()).when(userService).verifyPassword(any(), anyString());
+
+        // Act & Assert — 503 immédiat, le client réessaie après Retry-After
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+
+        verify(jwtService, never()).generateToken(anyString());
+    }
+
+    // =========================================================
+    // POST /api/auth/forgot-password
+    // =========================================================
+
+    @Test
+    void forgotPassword_shouldReturn200AndQueueResetEmail() throws Exception {
+        // Arrange
+        ForgotPasswordRequest request = new ForgotPasswordRequest();
+        request.setEmail("thomas@example.com");
+
+        // Act & Assert
+        mockMvc.perform(post("/api/auth/forgot-password")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").exists());
+
+        // Token et email écrits ensemble par le service
+        verify(accountService, times(1)).requestPasswordReset("thomas@example.com");
+    }
+
+    // =========================================================
+    // POST /api/auth/reset-password
+    // =========================================================
+
+    @Test
+    void resetPassword_shouldHashBeforeUpdatingPasswordAndToken() throws Exception {
+        // Arrange
+        ResetPasswordRequest request = new ResetPasswordRequest();
+        request.setToken("reset-token-abc");
+        request.setNewPassword("NewPassword123!");
+
+        User user = new User("thomas@example.com", "hashed", "Thomas", "Bulens");
+        ConfirmationToken token = new ConfirmationToken("reset-token-abc", LocalDateTime.now().plusMinutes(10), user);
+
+        when(confirmationTokenService.getToken("reset-token-abc")).thenReturn(token);
+        when(passwordHasher.encode("NewPassword123!")).thenReturn("{bcrypt}new");
+
+        // Act & Assert
+        mockMvc.perform(post("/api/auth/reset-password")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // Mot de passe et token mis à jour ensemble, avec le hachage calculé avant
+        verify(accountService, times(1)).resetPassword("reset-token-abc", "{bcrypt}new");
+    }
+
+    @Test
+    void resetPassword_shouldRejectExpiredTokenWithoutHashing() throws Exception {
+        // Arrange — token expiré : aucun hachage ne doit être calculé pour rien
+        ResetPasswordRequest request = new ResetPasswordRequest();
+        request.setToken("reset-token-old");
+        request.setNewPassword("NewPassword123!");
+
+        User user = new User("thomas@example.com", "hashed", "Thomas", "Bulens");
+        ConfirmationToken token = new ConfirmationToken("reset-token-old", LocalDateTime.now().minusMinutes(1), user);
+
+        when(confirmationTokenService.getToken("reset-token-old")).thenReturn(token);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/auth/reset-password")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnauthorized());
+
+        verify(passwordHasher, never()).encode(any());
+        verify(accountService, never()).resetPassword(any(), any());
+    }
+
     // =========================================================
     // POST /api/auth/logout
     // =========================================================
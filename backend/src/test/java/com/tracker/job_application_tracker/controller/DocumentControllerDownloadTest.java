@@ -0,0 +1,148 @@
+package com.tracker.job_application_tracker.controller;
+
+import com.tracker.job_application_tracker.exception.GlobalExceptionHandler;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.service.DocumentService;
+import com.tracker.job_application_tracker.service.DocumentService.DocumentFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/*
+ * Tests du téléchargement de documents (DocumentController + FileResponseWriter).
+ *
+ * MockMvc standalone, fichier réel dans un @TempDir : on vérifie les réponses
+ * 200 / 206 / 304 / 416, l'ETag fort, le format multipart/byteranges et la
+ * redirection vers une URL présignée quand le fichier est sur un stockage distant.
+ */
+@ExtendWith(MockitoExtension.class)
+class DocumentControllerDownloadTest {
+
+    private static final String CONTENT = "%PDF-1.7 0123456789abcdefghij";
+    private static final String SHA = "ab".repeat(32);
+    private static final String URL = "/api/applications/1/documents/5/download";
+
+    @Mock
+    private DocumentService documentService;
+
+    @InjectMocks
+    private DocumentController documentController;
+
+    @TempDir
+    private Path tempDir;
+
+    private MockMvc mockMvc;
+    private User user;
+    private UsernamePasswordAuthenticationToken authentication;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(documentController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        user = new User("thomas@example.com", "hashed", "Thomas", "Bulens");
+        authentication = new UsernamePasswordAuthenticationToken(user, null, List.of());
+
+        // lenient : le test de redirection S3 utilise un autre document
+        Path file = Files.writeString(tempDir.resolve("5_cv.pdf"), CONTENT, StandardCharsets.US_ASCII);
+        lenient().when(documentService.getDocumentFile(user, 1L, 5L)).thenReturn(new DocumentFile(
+                file, null, "cv.pdf", "application/pdf", SHA, LocalDateTime.of(2026, 1, 15, 10, 0)));
+    }
+
+    @Test
+    void download_shouldReturnWholeFileWithValidators() throws Exception {
+        mockMvc.perform(get(URL).principal(authentication))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + SHA + "\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length()))
+                .andExpect(content().contentType("application/pdf"))
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    void download_shouldReturn304WhenETagMatches() throws Exception {
+        mockMvc.perform(get(URL).principal(authentication).header(HttpHeaders.IF_NONE_MATCH, "\"" + SHA + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void download_shouldReturnSingleRangeAs206() throws Exception {
+        mockMvc.perform(get(URL).principal(authentication).header(HttpHeaders.RANGE, "bytes=9-13"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 9-13/" + CONTENT.length()))
+                .andExpect(content().string("01234"));
+    }
+
+    @Test
+    void download_shouldReturnSeveralRangesAsMultipartByteranges() throws Exception {
+        // Act
+        MvcResult result = mockMvc.perform(get(URL).principal(authentication).header(HttpHeaders.RANGE, "bytes=0-3, -4"))
+                .andExpect(status().isPartialContent())
+                .andReturn();
+
+        // Assert — une partie par plage, chacune avec son Content-Range
+        assertThat(result.getResponse().getContentType()).startsWith("multipart/byteranges; boundary=");
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).contains("Content-Range: bytes 0-3/" + CONTENT.length() + "\r\n\r\n%PDF");
+        assertThat(body).contains("Content-Range: bytes " + (CONTENT.length() - 4) + "-" + (CONTENT.length() - 1)
+                + "/" + CONTENT.length() + "\r\n\r\nghij");
+    }
+
+    @Test
+    void download_shouldIgnoreRangeWhenIfRangeDoesNotMatch() throws Exception {
+        mockMvc.perform(get(URL).principal(authentication)
+                        .header(HttpHeaders.RANGE, "bytes=0-3")
+                        .header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    void download_shouldReturn416WhenRangeStartsAfterEndOfFile() throws Exception {
+        mockMvc.perform(get(URL).principal(authentication).header(HttpHeaders.RANGE, "bytes=1000-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + CONTENT.length()));
+    }
+
+    @Test
+    void download_shouldRedirectToPresignedUrlWhenFileIsNotLocal() throws Exception {
+        // Arrange — document stocké sur S3 : pas de chemin local
+        String presigned = "https://s3.example.com/documents/ab/cd/" + SHA + "?X-Amz-Signature=abc";
+        when(documentService.getDocumentFile(user, 1L, 6L)).thenReturn(new DocumentFile(
+                null, URI.create(presigned), "cv.pdf", "application/pdf", SHA, LocalDateTime.of(2026, 1, 15, 10, 0)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/applications/1/documents/6/download").principal(authentication))
+                .andExpect(status().isFound())
+                .andExpect(header().string(HttpHeaders.LOCATION, presigned))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + SHA + "\""));
+    }
+}
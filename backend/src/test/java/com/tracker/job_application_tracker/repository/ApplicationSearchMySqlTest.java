@@ -0,0 +1,122 @@
+package com.tracker.job_application_tracker.repository;
+
+import com.tracker.job_application_tracker.dto.ApplicationSummaryDTO;
+import com.tracker.job_application_tracker.dto.CreateApplicationRequest;
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.service.ApplicationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Recherche plein texte sur un vrai MySQL (Testcontainers, schéma créé par Flyway, validé par Hibernate) :
+ * H2 ne connaît ni MATCH ... AGAINST ni l'index FULLTEXT.
+ *
+ * On vérifie le mode booléen (tous les mots requis, recherche par préfixe, pertinence),
+ * le cloisonnement par utilisateur, et le repli sur une expression régulière pour les mots
+ * que l'index ne contient pas (plus courts que innodb_ft_min_token_size, mots vides).
+ *
+ * Pas de @Transactional : InnoDB n'intègre les lignes à l'index FULLTEXT qu'au commit.
+ * Ignoré automatiquement si Docker n'est pas disponible.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true"
+})
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class ApplicationSearchMySqlTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer mysql = new MySQLContainer("mysql:8.4");
+
+    @Autowired private ApplicationService applicationService;
+    @Autowired private ApplicationRepository applicationRepository;
+    @Autowired private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        // Données créées une seule fois pour la classe (le conteneur est partagé entre les tests)
+        user = userRepository.findByEmail("search@example.com").orElse(null);
+        if (user != null) {
+            return;
+        }
+        user = userRepository.save(new User("search@example.com", "hashed", "Search", "User"));
+        User otherUser = userRepository.save(new User("other-search@example.com", "hashed", "Other", "User"));
+
+        create(user, "Acme", "Java Developer", LocalDate.of(2026, 1, 10), "Spring Boot, REST");
+        create(user, "Acme Labs", "QA Engineer", LocalDate.of(2026, 2, 10), null);
+        create(user, "Globex", "QA Analyst", LocalDate.of(2026, 3, 10), "Cypress and Node.js");
+        create(user, "Initech", "Developer", LocalDate.of(2026, 4, 10), "Developer developer developer");
+        create(otherUser, "Acme", "Java Developer", LocalDate.of(2026, 5, 10), null);
+    }
+
+    @Test
+    void searchIds_shouldRequireEveryTermAsAPrefixInBooleanMode() {
+        // Act
+        List<String> acmeDevelopers = companies(applicationRepository.searchIds(user.getId(), "+acm* +dev*", 20));
+        List<String> developers = companies(applicationRepository.searchIds(user.getId(), "+develop*", 20));
+
+        // Assert — "Acme Labs" n'a pas "dev…", la candidature de l'autre utilisateur est exclue ;
+        // Initech répète le mot : plus pertinente, elle passe en premier
+        assertThat(acmeDevelopers).containsExactly("Acme");
+        assertThat(developers).containsExactly("Initech", "Acme");
+    }
+
+    @Test
+    void searchIds_shouldNotFindWordsShorterThanTheMinimumTokenSize() {
+        // Act — "QA" n'est jamais entré dans l'index FULLTEXT (innodb_ft_min_token_size = 3)
+        List<Long> ids = applicationRepository.searchIds(user.getId(), "+QA*", 20);
+
+        // Assert — d'où le repli sur une expression régulière dans searchApplications
+        assertThat(ids).isEmpty();
+    }
+
+    @Test
+    void searchApplications_shouldFindShortWordsThroughThePattern() {
+        // Act
+        List<ApplicationSummaryDTO> qa = applicationService.searchApplications(user, "QA", 20);
+        List<ApplicationSummaryDTO> js = applicationService.searchApplications(user, "js", 20);
+
+        // Assert — plus récentes d'abord, "js" trouvé en début de mot dans "Node.js"
+        assertThat(qa).extracting(ApplicationSummaryDTO::getCompany).containsExactly("Globex", "Acme Labs");
+        assertThat(js).extracting(ApplicationSummaryDTO::getCompany).containsExactly("Globex");
+    }
+
+    @Test
+    void searchApplications_shouldCombineFullTextAndPatternForMixedTerms() {
+        // Act — "acme" passe par MATCH, "QA" par le motif : les deux sont requis
+        List<ApplicationSummaryDTO> result = applicationService.searchApplications(user, "QA acme", 20);
+
+        // Assert
+        assertThat(result).extracting(ApplicationSummaryDTO::getCompany).containsExactly("Acme Labs");
+    }
+
+    private void create(User owner, String company, String position, LocalDate date, String notes) {
+        applicationService.createApplication(owner,
+                new CreateApplicationRequest(company, position, date, ApplicationStatus.SENT, notes));
+    }
+
+    private List<String> companies(List<Long> ids) {
+        return ids.stream()
+                .map(id -> applicationRepository.findById(id).orElseThrow().getCompany())
+                .toList();
+    }
+}
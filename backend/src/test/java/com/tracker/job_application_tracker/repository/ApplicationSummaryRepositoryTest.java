@@ -0,0 +1,141 @@
+package com.tracker.job_application_tracker.repository;
+
+import com.tracker.job_application_tracker.dto.ApplicationSummaryDTO;
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+import com.tracker.job_application_tracker.model.Application;
+import com.tracker.job_application_tracker.model.Document;
+import com.tracker.job_application_tracker.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/*
+ * Test d'intégration des projections de liste (findSummariesByUserId /
+ * findSummariesByUserIdAndCurrentStatus), sur H2.
+ *
+ * Jeu de données : 3 candidatures avec 2, 0 et 1 documents, plus une candidature
+ * d'un autre utilisateur. On vérifie le nombre de documents (0 compris, grâce au
+ * LEFT JOIN), le filtre de statut, la pagination (COUNT séparé) et le tri.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ApplicationSummaryRepositoryTest {
+
+    @Autowired private ApplicationRepository applicationRepository;
+    @Autowired private DocumentRepository documentRepository;
+    @Autowired private UserRepository userRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private User user;
+    private Application acme;
+    private Application globex;
+    private Application initech;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("summary@example.com", "hashed", "Sum", "Mary"));
+        User otherUser = userRepository.save(new User("other-summary@example.com", "hashed", "Other", "User"));
+
+        acme = application(user, "Acme", LocalDate.of(2026, 1, 10), ApplicationStatus.INTERVIEW);
+        globex = application(user, "Globex", LocalDate.of(2026, 2, 10), ApplicationStatus.SENT);
+        initech = application(user, "Initech", LocalDate.of(2026, 3, 10), ApplicationStatus.SENT);
+        Application foreign = application(otherUser, "Umbrella", LocalDate.of(2026, 4, 10), ApplicationStatus.SENT);
+
+        documentRepository.save(new Document(acme, "cv.pdf", "acme_cv.pdf", "application/pdf", 1024L));
+        documentRepository.save(new Document(acme, "letter.pdf", "acme_letter.pdf", "application/pdf", 2048L));
+        documentRepository.save(new Document(initech, "cv.pdf", "initech_cv.pdf", "application/pdf", 1024L));
+        documentRepository.save(new Document(foreign, "cv.pdf", "umbrella_cv.pdf", "application/pdf", 1024L));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findSummariesByUserId_shouldCountDocumentsIncludingZero() {
+        // Act
+        Page<ApplicationSummaryDTO> page = applicationRepository.findSummariesByUserId(
+                user.getId(), PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "applicationDate")));
+
+        // Assert — la candidature sans document reste dans la liste avec 0
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent())
+                .extracting(ApplicationSummaryDTO::getId, ApplicationSummaryDTO::getCompany,
+                        ApplicationSummaryDTO::getCurrentStatus, ApplicationSummaryDTO::getDocumentCount)
+                .containsExactly(
+                        tuple(initech.getId(), "Initech", ApplicationStatus.SENT, 1L),
+                        tuple(globex.getId(), "Globex", ApplicationStatus.SENT, 0L),
+                        tuple(acme.getId(), "Acme", ApplicationStatus.INTERVIEW, 2L)
+                );
+    }
+
+    @Test
+    void findSummariesByUserIdAndCurrentStatus_shouldKeepOnlyThatStatus() {
+        // Act
+        Page<ApplicationSummaryDTO> sent = applicationRepository.findSummariesByUserIdAndCurrentStatus(
+                user.getId(), ApplicationStatus.SENT, PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "applicationDate")));
+        Page<ApplicationSummaryDTO> rejected = applicationRepository.findSummariesByUserIdAndCurrentStatus(
+                user.getId(), ApplicationStatus.REJECTED, PageRequest.of(0, 20));
+
+        // Assert — la candidature SENT de l'autre utilisateur n'apparaît pas
+        assertThat(sent.getTotalElements()).isEqualTo(2);
+        assertThat(sent.getContent())
+                .extracting(ApplicationSummaryDTO::getId, ApplicationSummaryDTO::getDocumentCount)
+                .containsExactly(tuple(initech.getId(), 1L), tuple(globex.getId(), 0L));
+        assertThat(rejected.getContent()).isEmpty();
+        assertThat(rejected.getTotalElements()).isZero();
+    }
+
+    @Test
+    void findSummariesByUserId_shouldPageWithTotalFromCountQuery() {
+        // Act — pages de 2, plus récentes d'abord
+        Sort byDate = Sort.by(Sort.Direction.DESC, "applicationDate");
+        Page<ApplicationSummaryDTO> first = applicationRepository.findSummariesByUserId(user.getId(), PageRequest.of(0, 2, byDate));
+        Page<ApplicationSummaryDTO> second = applicationRepository.findSummariesByUserId(user.getId(), PageRequest.of(1, 2, byDate));
+
+        // Assert — le total compte les candidatures, pas les lignes de la jointure (acme a 2 documents)
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(first.getTotalPages()).isEqualTo(2);
+        assertThat(first.getContent()).extracting(ApplicationSummaryDTO::getId)
+                .containsExactly(initech.getId(), globex.getId());
+        assertThat(second.getContent()).extracting(ApplicationSummaryDTO::getId, ApplicationSummaryDTO::getDocumentCount)
+                .containsExactly(tuple(acme.getId(), 2L));
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void findSummariesByUserId_shouldApplyRequestedSort() {
+        // Act
+        Page<ApplicationSummaryDTO> byCompany = applicationRepository.findSummariesByUserId(
+                user.getId(), PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "company")));
+        Page<ApplicationSummaryDTO> byStatusThenCompany = applicationRepository.findSummariesByUserId(
+                user.getId(), PageRequest.of(0, 20, Sort.by("currentStatus").and(Sort.by(Sort.Direction.DESC, "company"))));
+
+        // Assert
+        assertThat(byCompany.getContent()).extracting(ApplicationSummaryDTO::getCompany)
+                .containsExactly("Acme", "Globex", "Initech");
+        assertThat(byStatusThenCompany.getContent()).extracting(ApplicationSummaryDTO::getCompany)
+                .containsExactly("Acme", "Initech", "Globex");
+    }
+
+    private Application application(User owner, String company, LocalDate date, ApplicationStatus status) {
+        Application application = new Application(company, "Developer", date, status);
+        application.setUser(owner);
+        return applicationRepository.save(application);
+    }
+}
@@ -0,0 +1,366 @@
+package com.tracker.job_application_tracker.repository;
+
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+import com.tracker.job_application_tracker.enums.Category;
+import com.tracker.job_application_tracker.enums.ChallengeStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Vérifie que chaque requête des repositories est servie par un index (V3__query_indexes.sql).
+ *
+ * Le test tourne sur un vrai MySQL (Testcontainers, schéma créé par Flyway et validé par
+ * Hibernate contre les entités) : H2 n'a pas le même optimiseur. Chaque méthode de repository est appelée, le SQL réellement généré
+ * par Hibernate et ses paramètres sont capturés au niveau JDBC, puis rejoués avec EXPLAIN.
+ *
+ * Échec si une table est lue en entier (type ALL / index) ou si MySQL doit trier (Using filesort),
+ * sauf pour la recherche FULLTEXT : le tri par pertinence porte sur les seules lignes trouvées.
+ * Ignoré automatiquement si Docker n'est pas disponible.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true"
+})
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Import(RepositoryIndexUsageTest.StatementCaptureConfig.class)
+class RepositoryIndexUsageTest {
+
+    private static final int USERS = 50;
+
+    private static final List<CapturedQuery> CAPTURED = new CopyOnWriteArrayList<>();
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer mysql = new MySQLContainer("mysql:8.4");
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private ApplicationRepository applicationRepository;
+    @Autowired private StatusHistoryRepository statusHistoryRepository;
+    @Autowired private DocumentRepository documentRepository;
+    @Autowired private FlashCardRepository flashCardRepository;
+    @Autowired private CodingChallengeRepository codingChallengeRepository;
+    @Autowired private TechnicalQuestionRepository technicalQuestionRepository;
+    @Autowired private SkillRepository skillRepository;
+    @Autowired private StudySessionRepository studySessionRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ConfirmationTokenRepository confirmationTokenRepository;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+
+    private Long userId;
+    private Long applicationId;
+
+    @BeforeEach
+    void setUp() {
+        // Assez de lignes pour que l'optimiseur préfère un index à un parcours complet
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class) == 0) {
+            seed();
+        }
+        userId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        applicationId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM applications WHERE user_id = ?", Long.class, userId);
+    }
+
+    @Test
+    void everyRepositoryQuery_shouldUseAnIndexWithoutFilesort() {
+        LocalDate date = LocalDate.of(2026, 3, 1);
+        LocalDateTime dateTime = date.atStartOfDay();
+        Limit limit = Limit.of(20);
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+
+        // applications
+        queries.put("applications.findByUserIdOrderByApplicationDateDesc",
+                () -> applicationRepository.findByUserIdOrderByApplicationDateDesc(userId));
+        queries.put("applications.findByUserIdAndCurrentStatus",
+                () -> applicationRepository.findByUserIdAndCurrentStatus(userId, ApplicationStatus.INTERVIEW));
+        queries.put("applications.findByUserId(Pageable)",
+                () -> applicationRepository.findByUserId(userId,
+                        PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "applicationDate"))));
+        queries.put("applications.findByUserIdAndCurrentStatus(Pageable)",
+                () -> applicationRepository.findByUserIdAndCurrentStatus(userId, ApplicationStatus.SENT,
+                        PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "applicationDate"))));
+        queries.put("applications.findPageByUserId",
+                () -> applicationRepository.findPageByUserId(userId, date, Long.MAX_VALUE, limit));
+        queries.put("applications.findPageByUserIdAndCurrentStatus",
+                () -> applicationRepository.findPageByUserIdAndCurrentStatus(
+                        userId, ApplicationStatus.SENT, date, Long.MAX_VALUE, limit));
+        queries.put("applications.existsByIdAndUserId",
+                () -> applicationRepository.existsByIdAndUserId(applicationId, userId));
+        queries.put("applications.countByStatusForUser",
+                () -> applicationRepository.countByStatusForUser(userId));
+        queries.put("applications.countByMonthForUser",
+                () -> applicationRepository.countByMonthForUser(userId, ApplicationStatus.SENT));
+        queries.put("applications.searchIds",
+                () -> applicationRepository.searchIds(userId, "+compan* +develop*", 20));
+        queries.put("applications.searchIdsMatchingPattern",
+                () -> applicationRepository.searchIdsMatchingPattern(userId, "+compan*", "^(?=.*\\bdev)", 20));
+        queries.put("applications.searchIdsByPattern",
+                () -> applicationRepository.searchIdsByPattern(userId, "^(?=.*\\bqa)", 20));
+
+        // status_history
+        // findByApplicationIdInOrderByChangedAtDesc n'est pas vérifié : IN (...) sur plusieurs
+        // candidatures + ORDER BY changed_at impose un tri, borné par la taille de la page
+        queries.put("status_history.findByApplicationIdOrderByChangedAtDesc",
+                () -> statusHistoryRepository.findByApplicationIdOrderByChangedAtDesc(applicationId));
+        queries.put("status_history.findPageByApplicationId",
+                () -> statusHistoryRepository.findPageByApplicationId(applicationId, dateTime, Long.MAX_VALUE, limit));
+        queries.put("status_history.countByStatusForApplication",
+                () -> statusHistoryRepository.countByStatusForApplication(applicationId));
+        queries.put("status_history.countByStatusForUser",
+                () -> statusHistoryRepository.countByStatusForUser(userId));
+
+        // documents
+        queries.put("documents.findByApplicationId",
+                () -> documentRepository.findByApplicationId(applicationId));
+        queries.put("documents.findByApplicationIdIn",
+                () -> documentRepository.findByApplicationIdIn(List.of(applicationId, applicationId + 1)));
+
+        // flashcards
+        queries.put("flashcards.findByUserIdOrderByLastReviewedAsc",
+                () -> flashCardRepository.findByUserIdOrderByLastReviewedAsc(userId));
+        queries.put("flashcards.findByUserIdAndCategory",
+                () -> flashCardRepository.findByUserIdAndCategory(userId, Category.JAVA));
+        queries.put("flashcards.countByUserId",
+                () -> flashCardRepository.countByUserId(userId));
+        queries.put("flashcards.findPageByUserId",
+                () -> flashCardRepository.findPageByUserId(userId, dateTime, Long.MAX_VALUE, limit));
+        queries.put("flashcards.countReviewsForUser",
+                () -> flashCardRepository.countReviewsForUser(userId, dateTime));
+
+        // coding_challenges
+        queries.put("coding_challenges.findByUserIdOrderByCreatedAtDesc",
+                () -> codingChallengeRepository.findByUserIdOrderByCreatedAtDesc(userId));
+        queries.put("coding_challenges.findByUserIdAndStatus",
+                () -> codingChallengeRepository.findByUserIdAndStatus(userId, ChallengeStatus.TODO));
+        queries.put("coding_challenges.countByUserIdAndStatus",
+                () -> codingChallengeRepository.countByUserIdAndStatus(userId, ChallengeStatus.COMPLETED));
+        queries.put("coding_challenges.findPageByUserId",
+                () -> codingChallengeRepository.findPageByUserId(userId, dateTime, Long.MAX_VALUE, limit));
+        queries.put("coding_challenges.countByStatusForUser",
+                () -> codingChallengeRepository.countByStatusForUser(userId));
+
+        // technical_questions
+        queries.put("technical_questions.findByUserIdOrderByCreatedAtDesc",
+                () -> technicalQuestionRepository.findByUserIdOrderByCreatedAtDesc(userId));
+        queries.put("technical_questions.findByUserIdAndCategory",
+                () -> technicalQuestionRepository.findByUserIdAndCategory(userId, Category.SQL));
+        queries.put("technical_questions.findPageByUserId",
+                () -> technicalQuestionRepository.findPageByUserId(userId, dateTime, Long.MAX_VALUE, limit));
+
+        // skills
+        queries.put("skills.findByUserIdOrderByCategoryAsc",
+                () -> skillRepository.findByUserIdOrderByCategoryAsc(userId));
+        queries.put("skills.averageLevel",
+                () -> skillRepository.averageLevel(userId));
+
+        // study_sessions
+        queries.put("study_sessions.findByUserIdOrderByDateDesc",
+                () -> studySessionRepository.findByUserIdOrderByDateDesc(userId));
+        queries.put("study_sessions.findByUserIdAndDateBetween",
+                () -> studySessionRepository.findByUserIdAndDateBetween(userId, date.minusDays(7), date));
+        queries.put("study_sessions.findPageByUserId",
+                () -> studySessionRepository.findPageByUserId(userId, date, Long.MAX_VALUE, limit));
+        queries.put("study_sessions.sumDurationMinutes",
+                () -> studySessionRepository.sumDurationMinutes(userId, date.minusDays(7), date));
+
+        // users
+        queries.put("users.findIdsAfter",
+                () -> userRepository.findIdsAfter(0L, Limit.of(10)));
+
+        // confirmation_tokens / refresh_tokens (retard de la purge, V13)
+        queries.put("confirmation_tokens.findOldestExpiry",
+                () -> confirmationTokenRepository.findOldestExpiry());
+        queries.put("refresh_tokens.findOldestExpiry",
+                () -> refreshTokenRepository.findOldestExpiry());
+
+        // Act
+        List<String> violations = new ArrayList<>();
+        queries.forEach((name, query) -> violations.addAll(explain(name, query)));
+
+        // Assert — liste lisible de toutes les requêtes fautives
+        assertThat(violations).isEmpty();
+    }
+
+    private List<String> explain(String name, Runnable query) {
+        CAPTURED.clear();
+        query.run();
+        List<CapturedQuery> statements = List.copyOf(CAPTURED);
+        assertThat(statements).as("aucune requête capturée pour %s", name).isNotEmpty();
+
+        List<String> violations = new ArrayList<>();
+        for (CapturedQuery statement : statements) {
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+                    "EXPLAIN " + statement.sql(), statement.parameters().toArray());
+
+            for (Map<String, Object> row : plan) {
+                Object type = row.get("type");
+                Object extra = row.get("Extra");
+                boolean fullScan = "ALL".equals(type) || "index".equals(type);
+                // ORDER BY MATCH ... DESC : tri en mémoire des seules lignes renvoyées par l'index FULLTEXT
+                boolean filesort = extra != null && extra.toString().contains("Using filesort")
+                        && !"fulltext".equals(type);
+                if (fullScan || filesort) {
+                    violations.add(name + " -> table=" + row.get("table") + " type=" + type
+                            + " key=" + row.get("key") + " extra=" + extra + "\n    " + statement.sql());
+                }
+            }
+        }
+        return violations;
+    }
+
+    private void seed() {
+        jdbcTemplate.update("INSERT INTO users (email, password, first_name, last_name, enabled, role, created_at) "
+                + sequence(USERS)
+                + "SELECT CONCAT('explain-', n, '@example.com'), 'hashed', 'Explain', 'User', TRUE, 'USER', NOW(6) "
+                + "FROM seq");
+
+        insertPerUser("applications", "company, position, application_date, current_status, created_at",
+                "CONCAT('Company ', n), 'Developer', DATE_SUB('2026-06-30', INTERVAL n DAY), "
+                        + "ELT(n % 4 + 1, 'SENT', 'INTERVIEW', 'REJECTED', 'ACCEPTED'), NOW(6)", 40);
+
+        jdbcTemplate.update("UPDATE applications SET search_text = CONCAT_WS(' ', company, position)");
+        jdbcTemplate.update("INSERT INTO status_history (status, changed_at, application_id) "
+                + "SELECT 'SENT', TIMESTAMP(application_date), id FROM applications");
+        jdbcTemplate.update("INSERT INTO status_history (status, changed_at, application_id) "
+                + "SELECT current_status, TIMESTAMP(application_date) + INTERVAL 1 DAY, id FROM applications");
+        jdbcTemplate.update("INSERT INTO documents (original_filename, stored_filename, content_type, file_size, uploaded_at, application_id) "
+                + "SELECT 'cv.pdf', CONCAT(id, '_cv.pdf'), 'application/pdf', 1024, NOW(6), id FROM applications");
+
+        insertPerUser("flashcards", "question, answer, category, difficulty, last_reviewed, created_at",
+                "CONCAT('Question ', n), 'Answer', ELT(n % 4 + 1, 'JAVA', 'SPRING', 'SQL', 'GIT'), 'EASY', "
+                        + "IF(n % 3 = 0, NULL, TIMESTAMP('2026-03-01') - INTERVAL n DAY), "
+                        + "TIMESTAMP('2026-03-01') - INTERVAL n HOUR", 20);
+        insertPerUser("coding_challenges", "name, platform, difficulty, status, created_at",
+                "CONCAT('Challenge ', n), 'LeetCode', 'MEDIUM', "
+                        + "ELT(n % 4 + 1, 'TODO', 'IN_PROGRESS', 'COMPLETED', 'REVIEW'), "
+                        + "TIMESTAMP('2026-03-01') - INTERVAL n HOUR", 20);
+        insertPerUser("technical_questions", "question, answer, category, created_at",
+                "CONCAT('Question ', n), 'Answer', ELT(n % 4 + 1, 'JAVA', 'SPRING', 'SQL', 'GIT'), "
+                        + "TIMESTAMP('2026-03-01') - INTERVAL n HOUR", 20);
+        insertPerUser("skills", "name, category, level",
+                "CONCAT('Skill ', n), ELT(n % 4 + 1, 'JAVA', 'SPRING', 'SQL', 'GIT'), n % 5", 10);
+        insertPerUser("study_sessions", "date, topic, duration_minutes, created_at",
+                "DATE_SUB('2026-03-01', INTERVAL n DAY), 'JAVA', 30 + n, NOW(6)", 30);
+
+        insertPerUser("confirmation_tokens", "token, created_at, expires_at",
+                "UUID(), TIMESTAMP('2026-03-01') - INTERVAL n HOUR, "
+                        + "TIMESTAMP('2026-03-01') - INTERVAL n HOUR + INTERVAL 15 MINUTE", 5);
+        insertPerUser("refresh_tokens", "token, expiry_date",
+                "UUID(), TIMESTAMP('2026-03-01') + INTERVAL n DAY", 2);
+
+        jdbcTemplate.execute("ANALYZE TABLE users, applications, status_history, documents, flashcards, "
+                + "coding_challenges, technical_questions, skills, study_sessions, confirmation_tokens, refresh_tokens");
+    }
+
+    private void insertPerUser(String table, String columns, String values, int rowsPerUser) {
+        jdbcTemplate.update("INSERT INTO " + table + " (" + columns + ", user_id) "
+                + sequence(rowsPerUser)
+                + "SELECT " + values + ", u.id FROM users u CROSS JOIN seq");
+    }
+
+    private static String sequence(int size) {
+        return "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + size + ") ";
+    }
+
+    record CapturedQuery(String sql, List<Object> parameters) {
+    }
+
+    /*
+     * Enveloppe le DataSource pour enregistrer chaque requête préparée exécutée
+     * (SQL + valeurs des paramètres), afin de pouvoir la rejouer avec EXPLAIN
+     */
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor statementCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? capturing(dataSource) : bean;
+                }
+            };
+        }
+
+        private static DataSource capturing(DataSource target) {
+            return proxy(DataSource.class, (proxy, method, args) -> {
+                Object result = invoke(target, method, args);
+                return result instanceof Connection connection ? capturing(connection) : result;
+            });
+        }
+
+        private static Connection capturing(Connection target) {
+            return proxy(Connection.class, (proxy, method, args) -> {
+                Object result = invoke(target, method, args);
+                if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                    return capturing(statement, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement capturing(PreparedStatement target, String sql) {
+            Map<Integer, Object> parameters = new TreeMap<>();
+            return proxy(PreparedStatement.class, (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    parameters.put(index, name.equals("setNull") ? null : args[1]);
+                } else if (name.equals("clearParameters")) {
+                    parameters.clear();
+                } else if (name.equals("executeQuery")) {
+                    CAPTURED.add(new CapturedQuery(sql, new ArrayList<>(parameters.values())));
+                }
+                return invoke(target, method, args);
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.dto.ApplicationDTO;
+import com.tracker.job_application_tracker.dto.CursorPage;
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+import com.tracker.job_application_tracker.exception.InvalidCursorException;
+import com.tracker.job_application_tracker.model.Application;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.repository.ApplicationRepository;
+import com.tracker.job_application_tracker.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ * Pagination par curseur (keyset) sur GET /api/applications/scroll.
+ *
+ * Plusieurs candidatures partagent la même date : l'id sert de départage,
+ * aucune ligne ne doit être sautée ni répétée d'une page à l'autre.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ApplicationCursorPaginationTest {
+
+    private static final int APPLICATION_COUNT = 25;
+
+    @Autowired private ApplicationService applicationService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ApplicationRepository applicationRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("cursor@example.com", "hashed", "Cursor", "Page"));
+
+        // 3 candidatures par date pour forcer les égalités sur applicationDate
+        for (int i = 0; i < APPLICATION_COUNT; i++) {
+            Application application = new Application(
+                    "Company " + i, "Developer", LocalDate.of(2026, 1, 1).plusDays(i / 3), ApplicationStatus.SENT
+            );
+            application.setUser(user);
+            applicationRepository.save(application);
+        }
+    }
+
+    @Test
+    void getApplicationsPage_shouldWalkAllRowsWithoutDuplicates() {
+        // Arrange
+        List<ApplicationDTO> collected = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+
+        // Act — on suit nextCursor jusqu'à la dernière page
+        CursorPage<ApplicationDTO> page;
+        do {
+            page = applicationService.getApplicationsPage(user, null, cursor, 10);
+            collected.addAll(page.getContent());
+            pageSizes.add(page.getContent().size());
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+
+        // Assert
+        assertThat(pageSizes).containsExactly(10, 10, 5);
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(collected).extracting(ApplicationDTO::getId).doesNotHaveDuplicates().hasSize(APPLICATION_COUNT);
+        assertThat(collected).isSortedAccordingTo(
+                Comparator.comparing(ApplicationDTO::getApplicationDate)
+                        .thenComparing(ApplicationDTO::getId)
+                        .reversed()
+        );
+    }
+
+    @Test
+    void getApplicationsPage_shouldRejectMalformedCursor() {
+        // Act & Assert
+        assertThatThrownBy(() -> applicationService.getApplicationsPage(user, null, "not-a-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,114 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.dto.ApplicationDTO;
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+import com.tracker.job_application_tracker.model.Application;
+import com.tracker.job_application_tracker.model.Document;
+import com.tracker.job_application_tracker.model.StatusHistory;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.repository.ApplicationRepository;
+import com.tracker.job_application_tracker.repository.DocumentRepository;
+import com.tracker.job_application_tracker.repository.StatusHistoryRepository;
+import com.tracker.job_application_tracker.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Test de non-régression N+1 sur GET /api/applications.
+ *
+ * On compte les requêtes SQL préparées par Hibernate (statistics)
+ * pour une page de 5 puis de 20 candidatures : le nombre doit rester
+ * identique, quelle que soit la taille de la page.
+ *
+ * Attendu : 1 requête pour la page + 1 COUNT + 1 IN (...) documents + 1 IN (...) historique.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class ApplicationListQueryCountTest {
+
+    private static final int APPLICATION_COUNT = 30;
+
+    @Autowired private ApplicationService applicationService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ApplicationRepository applicationRepository;
+    @Autowired private DocumentRepository documentRepository;
+    @Autowired private StatusHistoryRepository statusHistoryRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        // Un utilisateur avec 30 candidatures, chacune avec 2 documents et 2 entrées d'historique
+        user = userRepository.save(new User("query-count@example.com", "hashed", "Query", "Count"));
+
+        for (int i = 0; i < APPLICATION_COUNT; i++) {
+            Application application = new Application(
+                    "Company " + i, "Developer", LocalDate.of(2026, 1, 1).plusDays(i), ApplicationStatus.INTERVIEW
+            );
+            application.setUser(user);
+            application = applicationRepository.save(application);
+
+            documentRepository.save(new Document(application, "cv.pdf", i + "_cv.pdf", "application/pdf", 1024L));
+            documentRepository.save(new Document(application, "letter.pdf", i + "_letter.pdf", "application/pdf", 2048L));
+
+            statusHistoryRepository.save(new StatusHistory(application, ApplicationStatus.SENT, "Application created"));
+            statusHistoryRepository.save(new StatusHistory(application, ApplicationStatus.INTERVIEW, "Status changed"));
+        }
+
+        entityManager.flush();
+    }
+
+    @Test
+    void getAllApplications_shouldUseConstantNumberOfQueriesWhateverThePageSize() {
+        // Act
+        long smallPageStatements = countStatementsForPage(5);
+        long largePageStatements = countStatementsForPage(20);
+
+        // Assert — pas de requête supplémentaire par ligne
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+        assertThat(largePageStatements).isLessThanOrEqualTo(4);
+    }
+
+    private long countStatementsForPage(int pageSize) {
+        // Vide le contexte de persistance pour forcer le rechargement depuis la base
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<ApplicationDTO> page = applicationService.getAllApplications(
+                user, PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "applicationDate"))
+        );
+
+        assertThat(page.getContent()).hasSize(pageSize);
+        assertThat(page.getTotalElements()).isEqualTo(APPLICATION_COUNT);
+        assertThat(page.getContent()).allSatisfy(dto -> {
+            assertThat(dto.getDocuments()).hasSize(2);
+            assertThat(dto.getDocumentCount()).isEqualTo(2);
+            assertThat(dto.getStatusHistory()).hasSize(2);
+        });
+
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -1,11 +1,13 @@
 package com.tracker.job_application_tracker.service;
 
 import com.tracker.job_application_tracker.dto.ApplicationDTO;
+import com.tracker.job_application_tracker.dto.ApplicationSummaryDTO;
 import com.tracker.job_application_tracker.dto.CreateApplicationRequest;
 import com.tracker.job_application_tracker.dto.UpdateApplicationRequest;
 import com.tracker.job_application_tracker.enums.ApplicationStatus;
 import com.tracker.job_application_tracker.exception.ResourceNotFoundException;
 import com.tracker.job_application_tracker.model.Application;
+import com.tracker.job_application_tracker.model.Document;
 import com.tracker.job_application_tracker.model.User;
 import com.tracker.job_application_tracker.repository.ApplicationRepository;
 import com.tracker.job_application_tracker.service.impl.ApplicationServiceImpl;
@@ -18,6 +20,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -53,6 +56,9 @@ class ApplicationServiceImplTest {
     @Mock
     private StatusHistoryService statusHistoryService;
 
+    @Mock
+    private UserStatsService userStatsService;
+
     // === CLASSE TESTÉE — reçoit les mocks ci-dessus automatiquement ===
 
     @InjectMocks
@@ -88,8 +94,8 @@ class ApplicationServiceImplTest {
         // Arrange
         when(applicationRepository.findByUserIdOrderByApplicationDateDesc(1L))
                 .thenReturn(List.of(application));
-        when(documentService.getDocumentsByApplicationId(1L)).thenReturn(List.of());
-        when(statusHistoryService.getHistoryByApplicationId(1L)).thenReturn(List.of());
+        when(documentService.getDocumentsByApplicationIds(any())).thenReturn(Map.of());
+        when(statusHistoryService.getHistoryByApplicationIds(any())).thenReturn(Map.of());
 
         // Act
         List<ApplicationDTO> result = applicationService.getAllApplications(user);
@@ -122,8 +128,8 @@ class ApplicationServiceImplTest {
         // Arrange
         when(applicationRepository.findByIdAndUserId(1L, 1L))
                 .thenReturn(Optional.of(application));
-        when(documentService.getDocumentsByApplicationId(1L)).thenReturn(List.of());
-        when(statusHistoryService.getHistoryByApplicationId(1L)).thenReturn(List.of());
+        when(documentService.getDocumentsByApplicationIds(any())).thenReturn(Map.of());
+        when(statusHistoryService.getHistoryByApplicationIds(any())).thenReturn(Map.of());
 
         // Act
         ApplicationDTO result = applicationService.getApplicationById(user, 1L);
@@ -155,8 +161,8 @@ class ApplicationServiceImplTest {
                 "Google", "Software Engineer", LocalDate.of(2026, 1, 15), ApplicationStatus.SENT, null
         );
         when(applicationRepository.save(any(Application.class))).thenReturn(application);
-        when(documentService.getDocumentsByApplicationId(1L)).thenReturn(List.of());
-        when(statusHistoryService.getHistoryByApplicationId(1L)).thenReturn(List.of());
+        when(documentService.getDocumentsByApplicationIds(any())).thenReturn(Map.of());
+        when(statusHistoryService.getHistoryByApplicationIds(any())).thenReturn(Map.of());
 
         // Act
         ApplicationDTO result = applicationService.createApplication(user, request);
@@ -164,6 +170,7 @@ class ApplicationServiceImplTest {
         // Assert — le DTO est bien retourné et save() a bien été appelé
         assertThat(result.getCompany()).isEqualTo("Google");
         verify(applicationRepository, times(1)).save(any(Application.class));
+        verify(userStatsService, times(1)).onApplicationCreated(application);
     }
 
     @Test
@@ -173,8 +180,8 @@ class ApplicationServiceImplTest {
                 "Google", "Software Engineer", LocalDate.of(2026, 1, 15), ApplicationStatus.SENT, null
         );
         when(applicationRepository.save(any(Application.class))).thenReturn(application);
-        when(documentService.getDocumentsByApplicationId(any())).thenReturn(List.of());
-        when(statusHistoryService.getHistoryByApplicationId(any())).thenReturn(List.of());
+        when(documentService.getDocumentsByApplicationIds(any())).thenReturn(Map.of());
+        when(statusHistoryService.getHistoryByApplicationIds(any())).thenReturn(Map.of());
 
         // Act
         applicationService.createApplication(user, request);
@@ -197,8 +204,8 @@ class ApplicationServiceImplTest {
         when(applicationRepository.findByIdAndUserId(1L, 1L))
                 .thenReturn(Optional.of(application));
         when(applicationRepository.save(any())).thenReturn(application);
-        when(documentService.getDocumentsByApplicationId(any())).thenReturn(List.of());
-        when(statusHistoryService.getHistoryByApplicationId(any())).thenReturn(List.of());
+        when(documentService.getDocumentsByApplicationIds(any())).thenReturn(Map.of());
+        when(statusHistoryService.getHistoryByApplicationIds(any())).thenReturn(Map.of());
 
         // Act
         applicationService.updateApplication(user, 1L, request);
@@ -208,6 +215,26 @@ class ApplicationServiceImplTest {
                 .createStatusHistory(any(), eq(ApplicationStatus.INTERVIEW), anyString());
     }
 
+    @Test
+    void updateApplication_shouldUpdateDashboardCountersWithPreviousValues() {
+        // Arrange — on change le statut de SENT à INTERVIEW
+        UpdateApplicationRequest request = new UpdateApplicationRequest();
+        request.setCurrentStatus(ApplicationStatus.INTERVIEW);
+
+        when(applicationRepository.findByIdAndUserId(1L, 1L))
+                .thenReturn(Optional.of(application));
+        when(applicationRepository.save(any())).thenReturn(application);
+        when(documentService.getDocumentsByApplicationIds(any())).thenReturn(Map.of());
+        when(statusHistoryService.getHistoryByApplicationIds(any())).thenReturn(Map.of());
+
+        // Act
+        applicationService.updateApplication(user, 1L, request);
+
+        // Assert — les compteurs reçoivent l'ancien statut et l'ancienne date
+        verify(userStatsService, times(1))
+                .onApplicationUpdated(application, ApplicationStatus.SENT, LocalDate.of(2026, 1, 15));
+    }
+
     @Test
     void updateApplication_shouldNotRecordHistoryWhenStatusUnchanged() {
         // Arrange — le nouveau statut est identique à l'ancien (SENT → SENT)
@@ -217,8 +244,8 @@ class ApplicationServiceImplTest {
         when(applicationRepository.findByIdAndUserId(1L, 1L))
                 .thenReturn(Optional.of(application));
         when(applicationRepository.save(any())).thenReturn(application);
-        when(documentService.getDocumentsByApplicationId(any())).thenReturn(List.of());
-        when(statusHistoryService.getHistoryByApplicationId(any())).thenReturn(List.of());
+        when(documentService.getDocumentsByApplicationIds(any())).thenReturn(Map.of());
+        when(statusHistoryService.getHistoryByApplicationIds(any())).thenReturn(Map.of());
 
         // Act
         applicationService.updateApplication(user, 1L, request);
@@ -238,6 +265,85 @@ class ApplicationServiceImplTest {
                 .isInstanceOf(ResourceNotFoundException.class);
     }
 
+    @Test
+    void updateApplication_shouldRefreshSearchTextWhenTextFieldsChange() {
+        // Arrange — nouveau nom d'entreprise, un document déjà joint
+        application.addDocument(new Document(application, "cover-letter_google.pdf", "1_cover.pdf", "application/pdf", 10L));
+        UpdateApplicationRequest request = new UpdateApplicationRequest();
+        request.setCompany("Alphabet");
+
+        when(applicationRepository.findByIdAndUserId(1L, 1L))
+                .thenReturn(Optional.of(application));
+        when(applicationRepository.save(any())).thenReturn(application);
+        when(documentService.getDocumentsByApplicationIds(any())).thenReturn(Map.of());
+        when(statusHistoryService.getHistoryByApplicationIds(any())).thenReturn(Map.of());
+
+        // Act
+        applicationService.updateApplication(user, 1L, request);
+
+        // Assert — la ponctuation du nom de fichier devient un séparateur de mots
+        assertThat(application.getSearchText())
+                .isEqualTo("Alphabet Software Engineer cover letter google pdf");
+    }
+
+    // =========================================================
+    // searchApplications
+    // =========================================================
+
+    @Test
+    void searchApplications_shouldSendPrefixTermsAndKeepRelevanceOrder() {
+        // Arrange — la base renvoie les ids par pertinence, le IN (...) dans un autre ordre
+        ApplicationSummaryDTO first = new ApplicationSummaryDTO(7L, "Acme", "Developer", LocalDate.of(2026, 1, 1), ApplicationStatus.SENT, 0L);
+        ApplicationSummaryDTO second = new ApplicationSummaryDTO(3L, "Acme Labs", "Tester", LocalDate.of(2026, 1, 2), ApplicationStatus.SENT, 1L);
+
+        when(applicationRepository.searchIds(1L, "+acm* +dev*", 20)).thenReturn(List.of(7L, 3L));
+        when(applicationRepository.findSummariesByIdIn(List.of(7L, 3L))).thenReturn(List.of(second, first));
+
+        // Act — les opérateurs tapés par l'utilisateur sont ignorés
+        List<ApplicationSummaryDTO> result = applicationService.searchApplications(user, "acm -dev\"", 20);
+
+        // Assert
+        assertThat(result).extracting(ApplicationSummaryDTO::getId).containsExactly(7L, 3L);
+    }
+
+    @Test
+    void searchApplications_shouldMatchWordsTooShortForTheIndexWithAPattern() {
+        // Arrange — "QA" et "js" (< innodb_ft_min_token_size) ne sont pas dans l'index FULLTEXT
+        when(applicationRepository.searchIdsByPattern(1L, "^(?=.*\\bQA)(?=.*\\bjs)", 20)).thenReturn(List.of());
+
+        // Act
+        List<ApplicationSummaryDTO> result = applicationService.searchApplications(user, "QA js", 20);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(applicationRepository, never()).searchIds(anyLong(), anyString(), anyInt());
+    }
+
+    @Test
+    void searchApplications_shouldCombineFullTextAndPatternForMixedTerms() {
+        // Arrange — "the" est un mot vide InnoDB : il passe par le motif, comme "QA"
+        when(applicationRepository.searchIdsMatchingPattern(1L, "+acme*", "^(?=.*\\bQA)(?=.*\\bthe)", 20))
+                .thenReturn(List.of(4L));
+        when(applicationRepository.findSummariesByIdIn(List.of(4L))).thenReturn(List.of(
+                new ApplicationSummaryDTO(4L, "Acme", "QA Engineer", LocalDate.of(2026, 1, 1), ApplicationStatus.SENT, 0L)));
+
+        // Act
+        List<ApplicationSummaryDTO> result = applicationService.searchApplications(user, "QA acme the", 20);
+
+        // Assert
+        assertThat(result).extracting(ApplicationSummaryDTO::getId).containsExactly(4L);
+    }
+
+    @Test
+    void searchApplications_shouldNotQueryWhenThereIsNothingToSearch() {
+        // Act
+        List<ApplicationSummaryDTO> result = applicationService.searchApplications(user, " +-*\" ", 20);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verifyNoInteractions(applicationRepository);
+    }
+
     // =========================================================
     // deleteApplication
     // =========================================================
@@ -254,6 +360,7 @@ class ApplicationServiceImplTest {
         // Assert — les documents doivent être supprimés AVANT la candidature
         verify(documentService, times(1)).deleteAllDocumentsByApplicationId(1L);
         verify(applicationRepository, times(1)).deleteById(1L);
+        verify(userStatsService, times(1)).onApplicationDeleted(application);
     }
 
     @Test
@@ -269,5 +376,6 @@ class ApplicationServiceImplTest {
         // Rien ne doit être supprimé si la candidature n'existe pas
         verify(applicationRepository, never()).deleteById(any());
         verify(documentService, never()).deleteAllDocumentsByApplicationId(any());
+        verify(userStatsService, never()).onApplicationDeleted(any());
     }
 }
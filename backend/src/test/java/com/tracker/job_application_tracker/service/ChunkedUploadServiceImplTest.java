@@ -0,0 +1,216 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.config.FileStorageProperties;
+import com.tracker.job_application_tracker.dto.DocumentDTO;
+import com.tracker.job_application_tracker.dto.UploadSessionDTO;
+import com.tracker.job_application_tracker.exception.InvalidFileException;
+import com.tracker.job_application_tracker.model.Application;
+import com.tracker.job_application_tracker.model.UploadSession;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.repository.ApplicationRepository;
+import com.tracker.job_application_tracker.repository.UploadChunkRepository;
+import com.tracker.job_application_tracker.repository.UploadSessionRepository;
+import com.tracker.job_application_tracker.service.FileStorageService.StagedFile;
+import com.tracker.job_application_tracker.service.FileStorageService.StoredFile;
+import com.tracker.job_application_tracker.service.impl.ChunkedUploadServiceImpl;
+import com.tracker.job_application_tracker.service.impl.LocalStorageBackend;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+ * Tests unitaires des uploads par morceaux (ChunkedUploadServiceImpl).
+ *
+ * Repositories simulés, fichiers réels (FileStorageService sur un répertoire temporaire) :
+ * on vérifie que des morceaux envoyés dans le désordre, dont un renvoyé deux fois,
+ * reconstituent exactement le fichier, que les morceaux invalides sont refusés, que
+ * le fichier reste en place tant que le document n'est pas créé, et que les plafonds
+ * par utilisateur (nombre d'uploads, octets réservés) sont appliqués.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChunkedUploadServiceImplTest {
+
+    private static final int CHUNK_SIZE = 8;
+    private static final byte[] PDF = "%PDF-1.7\nportfolio: 30 bytes!!".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    private Path uploadDir;
+
+    @Mock
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Mock
+    private UploadChunkRepository uploadChunkRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private DocumentService documentService;
+
+    private LocalStorageBackend storageBackend;
+    private ChunkedUploadService chunkedUploadService;
+    private User user;
+    private UploadSession session;
+
+    @BeforeEach
+    void setUp() {
+        FileStorageProperties properties = new FileStorageProperties();
+        properties.setUploadDir(uploadDir.toString());
+        properties.getChunked().setChunkSize(CHUNK_SIZE);
+        storageBackend = new LocalStorageBackend(properties);
+
+        chunkedUploadService = new ChunkedUploadServiceImpl(
+                uploadSessionRepository,
+                uploadChunkRepository,
+                applicationRepository,
+                new FileStorageService(properties, storageBackend),
+                documentService,
+                properties
+        );
+
+        user = new User("chunks@example.com", "hashed", "Chunk", "User");
+        user.setId(7L);
+    }
+
+    @Test
+    void chunksInAnyOrder_shouldRebuildTheFile() throws IOException {
+        // Arrange — 30 octets en morceaux de 8 : 4 morceaux, le dernier de 6
+        UploadSessionDTO upload = createUpload();
+        assertThat(upload.getMissingChunks()).containsExactly(0, 1, 2, 3);
+        when(uploadChunkRepository.countByUploadId(upload.getId())).thenReturn(4L);
+        when(documentService.createDocument(eq(1L), eq("portfolio.pdf"), any())).thenAnswer(invocation -> {
+            // Le service documents publie le fichier une fois la ligne du blob écrite
+            StagedFile stagedFile = invocation.getArgument(2);
+            stagedFile.publish(stagedFile.storedFile().filename());
+            return new DocumentDTO(10L, "portfolio.pdf", "application/pdf", (long) PDF.length, null);
+        });
+
+        // Act — ordre 3, 0, 2, 1, et le morceau 2 renvoyé après une "coupure"
+        for (int chunk : new int[] {3, 0, 2, 2, 1}) {
+            long end = sendChunk(upload.getId(), chunk);
+            assertThat(end).isEqualTo(Math.min((chunk + 1L) * CHUNK_SIZE, PDF.length));
+        }
+        DocumentDTO document = chunkedUploadService.completeUpload(user, 1L, upload.getId());
+
+        // Assert — même contenu, stocké sous son SHA-256 comme un upload classique
+        ArgumentCaptor<StagedFile> stagedFile = ArgumentCaptor.forClass(StagedFile.class);
+        verify(documentService).createDocument(eq(1L), eq("portfolio.pdf"), stagedFile.capture());
+        StoredFile storedFile = stagedFile.getValue().storedFile();
+        assertThat(document.getId()).isEqualTo(10L);
+        assertThat(storedFile.contentType()).isEqualTo("application/pdf");
+        assertThat(storedFile.size()).isEqualTo(PDF.length);
+        try (InputStream content = storageBackend.open(storedFile.filename())) {
+            assertThat(content.readAllBytes()).isEqualTo(PDF);
+        }
+        assertThat(uploadDir.resolve(".chunked-" + upload.getId() + ".part")).doesNotExist();
+    }
+
+    @Test
+    void completeUpload_shouldKeepUploadFileWhenDocumentCannotBeCreated() {
+        // Arrange — tous les morceaux reçus, puis échec (rollback) à la création du document
+        UploadSessionDTO upload = createUpload();
+        for (int chunk = 0; chunk < 4; chunk++) {
+            sendChunk(upload.getId(), chunk);
+        }
+        when(uploadChunkRepository.countByUploadId(upload.getId())).thenReturn(4L);
+        when(documentService.createDocument(eq(1L), eq("portfolio.pdf"), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate sha256"))
+                .thenReturn(new DocumentDTO(10L, "portfolio.pdf", "application/pdf", (long) PDF.length, null));
+
+        // Act & Assert — le fichier reste en place...
+        assertThatThrownBy(() -> chunkedUploadService.completeUpload(user, 1L, upload.getId()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(uploadDir.resolve(".chunked-" + upload.getId() + ".part")).hasBinaryContent(PDF);
+
+        // ...et la finalisation peut être relancée
+        assertThat(chunkedUploadService.completeUpload(user, 1L, upload.getId()).getId()).isEqualTo(10L);
+    }
+
+    @Test
+    void createUpload_shouldEnforcePerUserCaps() {
+        // Arrange — 3 uploads en cours au plus, 1 GB réservé au plus
+        Application application = new Application();
+        application.setId(1L);
+        when(applicationRepository.findByIdAndUserId(1L, 7L)).thenReturn(Optional.of(application));
+        when(uploadSessionRepository.countByApplicationUserIdAndExpiresAtAfter(eq(7L), any()))
+                .thenReturn(3L, 1L);
+        when(uploadSessionRepository.sumTotalSizeOfActiveUploads(eq(7L), any()))
+                .thenReturn(1024L * 1024 * 1024 - 10);
+
+        // Act & Assert — trop d'uploads, puis trop d'octets réservés
+        assertThatThrownBy(() -> chunkedUploadService.createUpload(user, 1L, "portfolio.pdf", PDF.length))
+                .isInstanceOf(InvalidFileException.class)
+                .hasMessageContaining("Too many uploads");
+        assertThatThrownBy(() -> chunkedUploadService.createUpload(user, 1L, "portfolio.pdf", PDF.length))
+                .isInstanceOf(InvalidFileException.class)
+                .hasMessageContaining("1024MB");
+        verify(uploadSessionRepository, never()).save(any());
+    }
+
+    @Test
+    void writeChunk_shouldRejectMisalignedOffsetAndWrongLength() {
+        // Arrange
+        UploadSessionDTO upload = createUpload();
+
+        // Act & Assert — offset hors grille, puis morceau trop court
+        assertThatThrownBy(() -> chunkedUploadService.writeChunk(user, 1L, upload.getId(), 3,
+                new ByteArrayInputStream(new byte[CHUNK_SIZE])))
+                .isInstanceOf(InvalidFileException.class);
+        assertThatThrownBy(() -> chunkedUploadService.writeChunk(user, 1L, upload.getId(), 0,
+                new ByteArrayInputStream(new byte[CHUNK_SIZE - 1])))
+                .isInstanceOf(InvalidFileException.class);
+    }
+
+    @Test
+    void completeUpload_shouldRejectMissingChunks() {
+        // Arrange — 3 morceaux sur 4
+        UploadSessionDTO upload = createUpload();
+        when(uploadChunkRepository.countByUploadId(upload.getId())).thenReturn(3L);
+
+        // Act & Assert
+        assertThatThrownBy(() -> chunkedUploadService.completeUpload(user, 1L, upload.getId()))
+                .isInstanceOf(InvalidFileException.class)
+                .hasMessageContaining("3 of 4");
+    }
+
+    private UploadSessionDTO createUpload() {
+        Application application = new Application();
+        application.setId(1L);
+        when(applicationRepository.findByIdAndUserId(1L, 7L)).thenReturn(Optional.of(application));
+        when(uploadSessionRepository.save(any(UploadSession.class)))
+                .thenAnswer(invocation -> session = invocation.getArgument(0));
+        when(uploadSessionRepository.findByIdAndApplicationIdAndApplicationUserId(anyString(), eq(1L), eq(7L)))
+                .thenAnswer(invocation -> Optional.ofNullable(session));
+
+        return chunkedUploadService.createUpload(user, 1L, "portfolio.pdf", PDF.length);
+    }
+
+    private long sendChunk(String uploadId, int chunk) {
+        int from = chunk * CHUNK_SIZE;
+        byte[] bytes = Arrays.copyOfRange(PDF, from, Math.min(from + CHUNK_SIZE, PDF.length));
+        return chunkedUploadService.writeChunk(user, 1L, uploadId, from, new ByteArrayInputStream(bytes));
+    }
+}
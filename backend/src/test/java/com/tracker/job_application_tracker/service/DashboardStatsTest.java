@@ -0,0 +1,146 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.dto.ApplicationDTO;
+import com.tracker.job_application_tracker.dto.CreateApplicationRequest;
+import com.tracker.job_application_tracker.dto.DashboardDTO;
+import com.tracker.job_application_tracker.dto.MonthlyStatsDTO;
+import com.tracker.job_application_tracker.dto.UpdateApplicationRequest;
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+import com.tracker.job_application_tracker.model.Application;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.model.UserStats;
+import com.tracker.job_application_tracker.repository.UserRepository;
+import com.tracker.job_application_tracker.repository.UserStatsRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/*
+ * Test d'intégration des compteurs du dashboard (user_stats / user_monthly_stats).
+ *
+ * On passe par ApplicationService (création, modification, suppression) puis on vérifie :
+ *   1. les valeurs lues depuis les compteurs maintenus au fil de l'eau ;
+ *   2. qu'une reconstruction complète (rebuild) donne exactement le même résultat.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class DashboardStatsTest {
+
+    @Autowired private ApplicationService applicationService;
+    @Autowired private UserStatsService userStatsService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private UserStatsRepository userStatsRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("dashboard@example.com", "hashed", "Dash", "Board"));
+    }
+
+    @Test
+    void dashboard_shouldFollowApplicationLifecycleAndMatchRebuild() {
+        // Arrange — 2 candidatures en janvier, 1 en février
+        applicationService.createApplication(user, request(LocalDate.of(2026, 1, 10), ApplicationStatus.SENT));
+        ApplicationDTO interview = applicationService.createApplication(
+                user, request(LocalDate.of(2026, 1, 20), ApplicationStatus.INTERVIEW));
+        ApplicationDTO february = applicationService.createApplication(
+                user, request(LocalDate.of(2026, 2, 5), ApplicationStatus.SENT));
+
+        // Act — février passe en mars et reçoit une réponse, l'entretien de janvier est supprimé
+        UpdateApplicationRequest update = new UpdateApplicationRequest();
+        update.setApplicationDate(LocalDate.of(2026, 3, 1));
+        update.setCurrentStatus(ApplicationStatus.REJECTED);
+        applicationService.updateApplication(user, february.getId(), update);
+
+        // Comme en production (une transaction par requête) : la suppression recharge la candidature
+        // et son historique depuis la base pour que le cascade REMOVE les retrouve
+        entityManager.flush();
+        entityManager.clear();
+        applicationService.deleteApplication(user, interview.getId());
+
+        DashboardDTO incremental = readDashboard();
+
+        // Assert — compteurs incrémentaux
+        assertThat(incremental.getTotalApplications()).isEqualTo(2);
+        assertThat(incremental.getTotalResponses()).isEqualTo(1);
+        assertThat(incremental.getResponseRate()).isEqualTo(0.5);
+        assertThat(incremental.getStatusBreakdown())
+                .containsEntry(ApplicationStatus.SENT, 1L)
+                .containsEntry(ApplicationStatus.REJECTED, 1L)
+                .containsEntry(ApplicationStatus.INTERVIEW, 0L);
+        assertThat(incremental.getStatusReached())
+                .containsEntry(ApplicationStatus.SENT, 2L)
+                .containsEntry(ApplicationStatus.REJECTED, 1L)
+                .containsEntry(ApplicationStatus.INTERVIEW, 0L);
+        assertThat(incremental.getApplicationsPerMonth())
+                .extracting(MonthlyStatsDTO::getMonth, MonthlyStatsDTO::getApplications, MonthlyStatsDTO::getResponses)
+                .containsExactly(
+                        tuple(YearMonth.of(2026, 1), 1L, 0L),
+                        tuple(YearMonth.of(2026, 3), 1L, 1L)
+                );
+
+        // Assert — la reconstruction ne détecte aucune dérive
+        userStatsService.rebuild(user.getId());
+        DashboardDTO rebuilt = readDashboard();
+
+        assertThat(rebuilt).usingRecursiveComparison().isEqualTo(incremental);
+    }
+
+    @Test
+    void increment_shouldCreateMissingRowsThenAddToThem() {
+        // Arrange — aucune ligne de compteur pour cet utilisateur
+        Application application = new Application();
+        application.setUser(user);
+        application.setApplicationDate(LocalDate.of(2026, 4, 2));
+        application.setCurrentStatus(ApplicationStatus.ACCEPTED);
+
+        // Act — première écriture (insertion), deuxième (mise à jour), puis une sortie de statut
+        // sur une ligne absente : le upsert crée la ligne à 0 au lieu de passer sous zéro
+        userStatsService.onApplicationCreated(application);
+        userStatsService.onApplicationCreated(application);
+        userStatsService.onStatusHistoryCreated(application, ApplicationStatus.ACCEPTED);
+        userStatsRepository.increment(user, ApplicationStatus.REJECTED, -1, 0);
+
+        DashboardDTO dashboard = readDashboard();
+
+        // Assert
+        assertThat(dashboard.getStatusBreakdown()).containsEntry(ApplicationStatus.ACCEPTED, 2L);
+        assertThat(userStatsRepository.findByUserId(user.getId()))
+                .extracting(UserStats::getStatus, UserStats::getApplicationCount)
+                .containsExactlyInAnyOrder(
+                        tuple(ApplicationStatus.ACCEPTED, 2L),
+                        tuple(ApplicationStatus.REJECTED, 0L)
+                );
+        assertThat(dashboard.getStatusReached()).containsEntry(ApplicationStatus.ACCEPTED, 1L);
+        assertThat(dashboard.getApplicationsPerMonth())
+                .extracting(MonthlyStatsDTO::getMonth, MonthlyStatsDTO::getApplications, MonthlyStatsDTO::getResponses)
+                .containsExactly(tuple(YearMonth.of(2026, 4), 2L, 2L));
+    }
+
+    private DashboardDTO readDashboard() {
+        // Les upserts relatifs contournent le contexte de persistance : on relit depuis la base
+        entityManager.flush();
+        entityManager.clear();
+        return userStatsService.getDashboard(user);
+    }
+
+    private static CreateApplicationRequest request(LocalDate date, ApplicationStatus status) {
+        return new CreateApplicationRequest("Company", "Developer", date, status, null);
+    }
+}
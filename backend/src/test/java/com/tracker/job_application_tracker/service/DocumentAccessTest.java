@@ -0,0 +1,144 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.dto.CreateApplicationRequest;
+import com.tracker.job_application_tracker.dto.DocumentDTO;
+import com.tracker.job_application_tracker.dto.DocumentLinkDTO;
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+import com.tracker.job_application_tracker.exception.ResourceNotFoundException;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ * Test d'intégration du cloisonnement des documents entre utilisateurs.
+ *
+ * Les liens signés contournent la chaîne de sécurité (/files/**), l'aperçu et le
+ * téléchargement ne sont protégés que par l'authentification : le service doit
+ * refuser (404, comme un document inexistant) un document ou une candidature d'un
+ * autre utilisateur, ou un document demandé sous une autre candidature.
+ * Un upload vers la candidature d'un autre utilisateur est refusé de la même façon,
+ * avant la lecture du corps.
+ */
+@SpringBootTest(properties = "file.upload-dir=target/test-uploads")
+@ActiveProfiles("test")
+@Transactional
+class DocumentAccessTest {
+
+    private static final byte[] PDF = "%PDF-1.7\nprivate resume".getBytes(StandardCharsets.US_ASCII);
+
+    @Autowired private ApplicationService applicationService;
+    @Autowired private DocumentService documentService;
+    @Autowired private UserRepository userRepository;
+
+    private User owner;
+    private User intruder;
+    private Long ownerApplication;
+    private DocumentDTO ownerDocument;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User("owner@example.com", "hashed", "Owner", "User"));
+        intruder = userRepository.save(new User("intruder@example.com", "hashed", "Intruder", "User"));
+        ownerApplication = applicationService.createApplication(owner, request("Acme")).getId();
+        ownerDocument = documentService.uploadDocument(owner, ownerApplication, "cv.pdf", new ByteArrayInputStream(PDF));
+    }
+
+    @Test
+    void getDocumentLink_shouldServeOwner() {
+        // Act
+        DocumentLinkDTO link = documentService.getDocumentLink(owner, ownerApplication, ownerDocument.getId());
+
+        // Assert
+        assertThat(link.getDocumentId()).isEqualTo(ownerDocument.getId());
+        assertThat(documentService.getDocumentLinks(owner, ownerApplication)).hasSize(1);
+    }
+
+    @Test
+    void getDocumentLink_shouldReturn404ForDocumentOfAnotherUser() {
+        // Arrange — l'intrus passe sa propre candidature dans l'URL
+        Long intruderApplication = applicationService.createApplication(intruder, request("Initech")).getId();
+
+        // Act & Assert
+        assertThatThrownBy(() -> documentService.getDocumentLink(intruder, ownerApplication, ownerDocument.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> documentService.getDocumentLink(intruder, intruderApplication, ownerDocument.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void getDocumentLinks_shouldReturn404ForApplicationOfAnotherUser() {
+        assertThatThrownBy(() -> documentService.getDocumentLinks(intruder, ownerApplication))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void getDocumentFile_shouldReturn404ForDocumentOfAnotherUser() {
+        // Arrange — l'intrus passe sa propre candidature dans l'URL
+        Long intruderApplication = applicationService.createApplication(intruder, request("Initech")).getId();
+        Long otherOwnerApplication = applicationService.createApplication(owner, request("Globex")).getId();
+
+        // Act & Assert — le téléchargement avec le JWT vérifie comme le lien signé
+        assertThat(documentService.getDocumentFile(owner, ownerApplication, ownerDocument.getId()).originalFilename())
+                .isEqualTo("cv.pdf");
+        assertThatThrownBy(() -> documentService.getDocumentFile(intruder, ownerApplication, ownerDocument.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> documentService.getDocumentFile(intruder, intruderApplication, ownerDocument.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> documentService.getDocumentFile(owner, otherOwnerApplication, ownerDocument.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void getDocumentPreview_shouldReturn404ForDocumentOfAnotherUser() {
+        // Arrange — l'intrus passe sa propre candidature dans l'URL
+        Long intruderApplication = applicationService.createApplication(intruder, request("Initech")).getId();
+
+        // Act & Assert
+        assertThatThrownBy(() -> documentService.getDocumentPreview(intruder, ownerApplication, ownerDocument.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> documentService.getDocumentPreview(intruder, intruderApplication, ownerDocument.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void uploadDocument_shouldReturn404ForApplicationOfAnotherUser() {
+        // Arrange — le corps ne doit pas être lu
+        InputStream body = new InputStream() {
+            @Override
+            public int read() {
+                throw new AssertionError("Body read for an application of another user");
+            }
+        };
+
+        // Act & Assert
+        assertThatThrownBy(() -> documentService.uploadDocument(intruder, ownerApplication, "malware.pdf", body))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        // Assert — la candidature du propriétaire n'a pas changé
+        assertThat(documentService.getDocumentsByApplicationId(ownerApplication))
+                .extracting(DocumentDTO::getId)
+                .containsExactly(ownerDocument.getId());
+    }
+
+    private static CreateApplicationRequest request(String company) {
+        CreateApplicationRequest request = new CreateApplicationRequest();
+        request.setCompany(company);
+        request.setPosition("Backend Developer");
+        request.setApplicationDate(LocalDate.of(2026, 3, 2));
+        request.setCurrentStatus(ApplicationStatus.SENT);
+        return request;
+    }
+}
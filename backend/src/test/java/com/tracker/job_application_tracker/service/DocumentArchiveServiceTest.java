@@ -0,0 +1,108 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.config.FileStorageProperties;
+import com.tracker.job_application_tracker.service.DocumentService.ArchiveEntry;
+import com.tracker.job_application_tracker.service.impl.LocalStorageBackend;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Tests de l'export ZIP des documents (DocumentArchiveService) sur un vrai répertoire de stockage.
+ *
+ * On relit l'archive produite : contenus identiques, PDF stockés tels quels (STORED, CRC exact),
+ * autres types compressés (DEFLATED).
+ */
+class DocumentArchiveServiceTest {
+
+    private static final LocalDateTime UPLOADED_AT = LocalDateTime.of(2026, 1, 15, 10, 0);
+
+    @TempDir
+    private Path uploadDir;
+
+    private LocalStorageBackend storageBackend;
+    private DocumentArchiveService documentArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        FileStorageProperties properties = new FileStorageProperties();
+        properties.setUploadDir(uploadDir.toString());
+        storageBackend = new LocalStorageBackend(properties);
+        documentArchiveService = new DocumentArchiveService(new FileStorageService(properties, storageBackend));
+    }
+
+    @Test
+    void writeZip_shouldStoreCompressedTypesAndDeflateOthers() throws IOException {
+        // Arrange — un "PDF" aléatoire (incompressible) et une lettre très compressible
+        byte[] pdf = new byte[200_000];
+        new Random(42).nextBytes(pdf);
+        byte[] letter = "Madame, Monsieur, ".repeat(5_000).getBytes(StandardCharsets.UTF_8);
+        store("ab/cd/cv", pdf);
+        store("ef/01/letter", letter);
+
+        List<ArchiveEntry> entries = List.of(
+                new ArchiveEntry("Acme - Developer/cv.pdf", "ab/cd/cv", "application/pdf", UPLOADED_AT),
+                new ArchiveEntry("Acme - Developer/letter.docx", "ef/01/letter",
+                        "application/vnd.openxmlformats-officedocument.wordprocessingml.document", UPLOADED_AT));
+
+        // Act
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        documentArchiveService.writeZip(entries, out);
+
+        // Assert
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry first = zip.getNextEntry();
+            assertThat(first.getName()).isEqualTo("Acme - Developer/cv.pdf");
+            assertThat(first.getMethod()).isEqualTo(ZipEntry.STORED);
+            assertThat(first.getCrc()).isEqualTo(crc32(pdf));
+            assertThat(zip.readAllBytes()).isEqualTo(pdf);
+
+            ZipEntry second = zip.getNextEntry();
+            assertThat(second.getName()).isEqualTo("Acme - Developer/letter.docx");
+            assertThat(second.getMethod()).isEqualTo(ZipEntry.DEFLATED);
+            assertThat(zip.readAllBytes()).isEqualTo(letter);
+
+            assertThat(zip.getNextEntry()).isNull();
+        }
+        // La lettre est compressée, le PDF non
+        assertThat(out.size()).isLessThan(pdf.length + letter.length / 10);
+    }
+
+    @Test
+    void writeZip_shouldProduceValidEmptyArchive() throws IOException {
+        // Act
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        documentArchiveService.writeZip(List.of(), out);
+
+        // Assert
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(zip.getNextEntry()).isNull();
+        }
+    }
+
+    private void store(String key, byte[] content) throws IOException {
+        Path source = Files.write(uploadDir.resolve("upload.part"), content);
+        storageBackend.store(key, source, "application/octet-stream");
+    }
+
+    private static long crc32(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,220 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.dto.ApplicationDTO;
+import com.tracker.job_application_tracker.dto.CreateApplicationRequest;
+import com.tracker.job_application_tracker.dto.DocumentDTO;
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+import com.tracker.job_application_tracker.exception.ResourceNotFoundException;
+import com.tracker.job_application_tracker.model.DocumentBlob;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.repository.DocumentBlobRepository;
+import com.tracker.job_application_tracker.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ * Test d'intégration du stockage par contenu (document_blobs).
+ *
+ * Deux uploads du même contenu et un rattachement à une autre candidature
+ * doivent partager un seul blob, dont le compteur de références suit les
+ * créations et suppressions de documents. Un upload qui recrée un blob pendant
+ * sa purge doit retrouver son fichier, quel que soit l'ordre des deux. Un utilisateur
+ * ne peut pas supprimer (ni déréférencer) le document d'un autre.
+ */
+@SpringBootTest(properties = "file.upload-dir=target/test-uploads")
+@ActiveProfiles("test")
+@Transactional
+class DocumentDeduplicationTest {
+
+    private static final byte[] PDF = "%PDF-1.7\nsame resume everywhere".getBytes(StandardCharsets.US_ASCII);
+
+    @Autowired private ApplicationService applicationService;
+    @Autowired private DocumentService documentService;
+    @Autowired private DocumentBlobRepository documentBlobRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private FileStorageService fileStorageService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("dedup@example.com", "hashed", "Dedup", "User"));
+    }
+
+    @Test
+    void identicalContent_shouldShareOneReferenceCountedBlob() {
+        // Arrange
+        Long acme = createApplication("Acme");
+        Long globex = createApplication("Globex");
+
+        // Act — deux uploads du même CV, puis rattachement à une seconde candidature
+        DocumentDTO first = upload(acme, "cv.pdf");
+        upload(acme, "cv-copy.pdf");
+        documentService.attachDocument(user, globex, first.getId());
+
+        // Assert — un seul blob, trois références
+        DocumentBlob blob = reloadBlob();
+        assertThat(documentBlobRepository.count()).isEqualTo(1);
+        assertThat(blob.getRefCount()).isEqualTo(3);
+
+        // Act — suppression d'un document : le blob reste pour les deux autres
+        documentService.deleteDocument(user, acme, first.getId());
+
+        // Assert
+        assertThat(reloadBlob().getRefCount()).isEqualTo(2);
+        assertThat(documentService.getDocumentsByApplicationId(globex))
+                .extracting(DocumentDTO::getOriginalFilename)
+                .containsExactly("cv.pdf");
+    }
+
+    @Test
+    void deleteApplication_shouldReleaseBlobAndLeaveFileToGarbageCollector() {
+        // Arrange — le même CV sur une seule candidature, deux fois
+        Long acme = createApplication("Acme");
+        upload(acme, "cv.pdf");
+        upload(acme, "cv-copy.pdf");
+        String storedFilename = reloadBlob().getStoredFilename();
+
+        // Act
+        applicationService.deleteApplication(user, acme);
+
+        // Assert — blob libéré, fichier toujours présent
+        DocumentBlob blob = reloadBlob();
+        assertThat(blob.getRefCount()).isZero();
+        assertThat(blob.getReleasedAt()).isNotNull();
+        assertThat(fileStorageService.isStored(storedFilename)).isTrue();
+        assertThat(documentService.getDocumentsByApplicationId(acme)).isEmpty();
+
+        // Act — purge avec une date limite postérieure à la libération
+        List<String> purged = documentService.purgeReleasedBlobs(LocalDateTime.now().plusMinutes(1), 10);
+
+        // Assert — la ligne est supprimée, le fichier est laissé au ramasse-miettes
+        assertThat(purged).containsExactly(storedFilename);
+        assertThat(documentBlobRepository.count()).isZero();
+        assertThat(documentService.deleteFileIfUnreferenced(storedFilename)).isTrue();
+        assertThat(fileStorageService.isStored(storedFilename)).isFalse();
+    }
+
+    @Test
+    void uploadRacingPurge_shouldStoreFileForTheNewBlob() {
+        // Arrange — blob libéré puis purgé : la ligne est supprimée, le fichier pas encore
+        Long acme = createApplication("Acme");
+        DocumentDTO first = upload(acme, "cv.pdf");
+        documentService.deleteDocument(user, acme, first.getId());
+        String storedFilename = documentService.purgeReleasedBlobs(LocalDateTime.now().plusMinutes(1), 10).get(0);
+        assertThat(fileStorageService.isStored(storedFilename)).isTrue();
+
+        // Act — le même contenu est renvoyé ; le ramasse-miettes supprime le fichier
+        // une fois le corps lu, avant que la ligne du nouveau blob ne soit écrite
+        AtomicBoolean deletedDuringUpload = new AtomicBoolean();
+        InputStream body = new SequenceInputStream(new ByteArrayInputStream(PDF),
+                onEndOfStream(() -> deletedDuringUpload.set(documentService.deleteFileIfUnreferenced(storedFilename))));
+        documentService.uploadDocument(user, acme, "cv.pdf", body);
+
+        // Assert — le fichier est réécrit pour la nouvelle ligne...
+        assertThat(deletedDuringUpload).isTrue();
+        assertThat(reloadBlob().getStoredFilename()).isEqualTo(storedFilename);
+        assertThat(fileStorageService.isStored(storedFilename)).isTrue();
+
+        // ...et une suppression arrivant après l'écriture de la ligne est abandonnée
+        assertThat(documentService.deleteFileIfUnreferenced(storedFilename)).isFalse();
+        assertThat(fileStorageService.isStored(storedFilename)).isTrue();
+    }
+
+    @Test
+    void attachDocument_shouldRejectDocumentOfAnotherUser() {
+        // Arrange — un document appartenant à un autre utilisateur
+        User other = userRepository.save(new User("other@example.com", "hashed", "Other", "User"));
+        Long foreignApplication = applicationService.createApplication(other, request("Initech")).getId();
+        DocumentDTO foreignDocument = documentService.uploadDocument(
+                other, foreignApplication, "cv.pdf", new ByteArrayInputStream(PDF));
+        Long mine = createApplication("Acme");
+
+        // Act & Assert — même réponse que pour un document inexistant
+        assertThatThrownBy(() -> documentService.attachDocument(user, mine, foreignDocument.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void deleteDocument_shouldRejectDocumentOfAnotherUserAndKeepItsReference() {
+        // Arrange — le même CV chez un autre utilisateur : un seul blob, deux références
+        User other = userRepository.save(new User("other@example.com", "hashed", "Other", "User"));
+        Long foreignApplication = applicationService.createApplication(other, request("Initech")).getId();
+        DocumentDTO foreignDocument = documentService.uploadDocument(
+                other, foreignApplication, "cv.pdf", new ByteArrayInputStream(PDF));
+        Long mine = createApplication("Acme");
+        upload(mine, "cv.pdf");
+
+        // Act & Assert — sous la candidature de l'autre comme sous la sienne
+        assertThatThrownBy(() -> documentService.deleteDocument(user, foreignApplication, foreignDocument.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> documentService.deleteDocument(user, mine, foreignDocument.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        // Assert — aucune référence perdue
+        assertThat(reloadBlob().getRefCount()).isEqualTo(2);
+        assertThat(documentService.getDocumentsByApplicationId(foreignApplication)).hasSize(1);
+    }
+
+    private DocumentDTO upload(Long applicationId, String filename) {
+        return documentService.uploadDocument(user, applicationId, filename, new ByteArrayInputStream(PDF));
+    }
+
+    // Flux vide qui exécute action à la première lecture, quand le corps est entièrement lu
+    private static InputStream onEndOfStream(Runnable action) {
+        return new InputStream() {
+            private boolean done;
+
+            @Override
+            public int read() {
+                if (!done) {
+                    done = true;
+                    action.run();
+                }
+                return -1;
+            }
+        };
+    }
+
+    private DocumentBlob reloadBlob() {
+        // Les compteurs sont mis à jour en requêtes directes : on relit depuis la base
+        entityManager.flush();
+        entityManager.clear();
+        return documentBlobRepository.findAll().get(0);
+    }
+
+    private Long createApplication(String company) {
+        ApplicationDTO application = applicationService.createApplication(user, request(company));
+        return application.getId();
+    }
+
+    private static CreateApplicationRequest request(String company) {
+        CreateApplicationRequest request = new CreateApplicationRequest();
+        request.setCompany(company);
+        request.setPosition("Backend Developer");
+        request.setApplicationDate(LocalDate.of(2026, 3, 2));
+        request.setCurrentStatus(ApplicationStatus.SENT);
+        return request;
+    }
+}
@@ -0,0 +1,99 @@
+package com.tracker.job_application_tracker.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.tracker.job_application_tracker.enums.EmailStatus;
+import com.tracker.job_application_tracker.model.EmailOutbox;
+import com.tracker.job_application_tracker.repository.EmailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Test d'intégration de l'outbox des emails contre un serveur SMTP en mémoire (GreenMail).
+ *
+ * Pas de @Transactional : le dispatcher doit voir les emails validés, comme en production.
+ * On vérifie qu'un lot est envoyé puis marqué SENT, et qu'un serveur SMTP injoignable
+ * donne une nouvelle tentative, puis DEAD après la dernière.
+ */
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "mail.outbox.max-attempts=2",
+        "mail.outbox.initial-backoff=PT0S"
+})
+@ActiveProfiles("test")
+class EmailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired private EmailService emailService;
+    @Autowired private EmailOutboxService emailOutboxService;
+    @Autowired private EmailOutboxDispatcher emailOutboxDispatcher;
+    @Autowired private EmailOutboxRepository emailOutboxRepository;
+
+    @AfterEach
+    void tearDown() {
+        emailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    void dispatch_shouldSendQueuedEmailsAndMarkThemSent() throws Exception {
+        // Arrange — rien n'est envoyé à l'écriture dans l'outbox
+        emailService.sendConfirmationEmail("alice@example.com", "confirm-token");
+        emailService.sendPasswordResetEmail("bob@example.com", "reset-token");
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+
+        // Act
+        emailOutboxDispatcher.dispatch();
+
+        // Assert
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(2);
+        assertThat(received)
+                .extracting(MimeMessage::getSubject)
+                .containsExactlyInAnyOrder("Confirm your email", "Reset your password");
+        assertThat(emailOutboxRepository.findAll())
+                .allSatisfy(email -> {
+                    assertThat(email.getStatus()).isEqualTo(EmailStatus.SENT);
+                    assertThat(email.getAttempts()).isEqualTo(1);
+                    assertThat(email.getSentAt()).isNotNull();
+                });
+    }
+
+    @Test
+    void dispatch_shouldRetryThenDeadLetterWhenSmtpIsDown() {
+        // Arrange — un dispatcher branché sur un port où rien n'écoute
+        JavaMailSenderImpl unreachable = new JavaMailSenderImpl();
+        unreachable.setHost("localhost");
+        unreachable.setPort(1);
+        EmailOutboxDispatcher dispatcher = new EmailOutboxDispatcher(emailOutboxService, unreachable, 50);
+        emailService.sendConfirmationEmail("carol@example.com", "confirm-token");
+
+        // Act — première tentative
+        dispatcher.dispatch();
+
+        // Assert — toujours en attente, erreur conservée
+        EmailOutbox email = emailOutboxRepository.findAll().get(0);
+        assertThat(email.getStatus()).isEqualTo(EmailStatus.PENDING);
+        assertThat(email.getAttempts()).isEqualTo(1);
+        assertThat(email.getLastError()).isNotBlank();
+
+        // Act — seconde et dernière tentative (backoff nul en test)
+        dispatcher.dispatch();
+
+        // Assert
+        email = emailOutboxRepository.findAll().get(0);
+        assertThat(email.getStatus()).isEqualTo(EmailStatus.DEAD);
+        assertThat(email.getAttempts()).isEqualTo(2);
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+}
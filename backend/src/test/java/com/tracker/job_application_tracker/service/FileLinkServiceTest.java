@@ -0,0 +1,118 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.config.FileStorageProperties;
+import com.tracker.job_application_tracker.dto.DocumentLinkDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/*
+ * Tests des liens de téléchargement signés (FileLinkService).
+ *
+ * Horloge fixe : on vérifie qu'un lien émis est accepté tel quel, refusé dès
+ * qu'un paramètre est modifié ou qu'il a expiré, et stable sur une fenêtre de ttl.
+ */
+@ExtendWith(MockitoExtension.class)
+class FileLinkServiceTest {
+
+    private static final String KEY = "ab/cd/" + "ab".repeat(32);
+    private static final String SHA = "ab".repeat(32);
+    private static final Instant NOW = Instant.parse("2026-03-02T10:00:30Z");
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    private FileStorageProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FileStorageProperties();
+        properties.getLinks().setSecret("test-secret-for-signed-links");
+        properties.getLinks().setTtl(Duration.ofMinutes(5));
+    }
+
+    @Test
+    void createLink_shouldProduceLinkThatVerifies() {
+        // Arrange
+        when(fileStorageService.localPath(KEY)).thenReturn(Optional.of(Path.of("/uploads", KEY)));
+
+        // Act
+        UriComponents link = issue(NOW);
+
+        // Assert
+        assertThat(link.getPath()).isEqualTo("/files/" + KEY);
+        assertThat(verify(at(NOW), link, link.getQueryParams().getFirst("n"))).isTrue();
+    }
+
+    @Test
+    void verify_shouldRejectAlteredParameter() {
+        // Arrange
+        when(fileStorageService.localPath(KEY)).thenReturn(Optional.of(Path.of("/uploads", KEY)));
+        UriComponents link = issue(NOW);
+
+        // Act & Assert — même signature, autre nom de fichier
+        assertThat(verify(at(NOW), link, "payslip.pdf")).isFalse();
+    }
+
+    @Test
+    void verify_shouldRejectExpiredLink() {
+        // Arrange
+        when(fileStorageService.localPath(KEY)).thenReturn(Optional.of(Path.of("/uploads", KEY)));
+        UriComponents link = issue(NOW);
+
+        // Act & Assert — valable au moins un ttl, au plus deux
+        assertThat(verify(at(NOW.plus(Duration.ofMinutes(5))), link, "cv.pdf")).isTrue();
+        assertThat(verify(at(NOW.plus(Duration.ofMinutes(10))), link, "cv.pdf")).isFalse();
+    }
+
+    @Test
+    void createLink_shouldReturnSameUrlWithinTtlWindow() {
+        // Arrange
+        when(fileStorageService.localPath(KEY)).thenReturn(Optional.of(Path.of("/uploads", KEY)));
+
+        // Act — deux rendus de la même page, à une minute d'intervalle
+        UriComponents first = issue(NOW);
+        UriComponents second = issue(NOW.plus(Duration.ofMinutes(1)));
+
+        // Assert — URL identique : le navigateur réutilise sa copie en cache
+        assertThat(second.toUriString()).isEqualTo(first.toUriString());
+    }
+
+    private UriComponents issue(Instant now) {
+        DocumentLinkDTO link = at(now).createLink(
+                5L, KEY, "cv.pdf", "application/pdf", SHA, LocalDateTime.of(2026, 1, 15, 10, 0));
+        return UriComponentsBuilder.fromUriString(link.getUrl()).build();
+    }
+
+    private boolean verify(FileLinkService service, UriComponents link, String filename) {
+        return service.verify(
+                KEY,
+                filename,
+                UriUtils.decode(link.getQueryParams().getFirst("t"), StandardCharsets.UTF_8),
+                link.getQueryParams().getFirst("v"),
+                Long.parseLong(link.getQueryParams().getFirst("m")),
+                Long.parseLong(link.getQueryParams().getFirst("e")),
+                link.getQueryParams().getFirst("s"));
+    }
+
+    private FileLinkService at(Instant now) {
+        return new FileLinkService(properties, fileStorageService, Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,186 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.config.FileStorageProperties;
+import com.tracker.job_application_tracker.exception.InvalidFileException;
+import com.tracker.job_application_tracker.service.FileStorageService.StagedFile;
+import com.tracker.job_application_tracker.service.FileStorageService.StoredFile;
+import com.tracker.job_application_tracker.service.impl.LocalStorageBackend;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ * Tests de l'upload en streaming (FileStorageService.stageStream).
+ *
+ * Vrai système de fichiers (@TempDir) : on vérifie le contenu écrit,
+ * la taille et le SHA-256 calculés en une passe, la détection du type
+ * par les magic bytes, le stockage par contenu (un fichier par SHA-256)
+ * et qu'aucun fichier partiel ne reste en cas de rejet.
+ */
+class FileStorageServiceTest {
+
+    private static final byte[] PDF = "%PDF-1.7\nhello resume".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    private Path uploadDir;
+
+    private FileStorageService fileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        FileStorageProperties properties = new FileStorageProperties();
+        properties.setUploadDir(uploadDir.toString());
+        fileStorageService = new FileStorageService(properties, new LocalStorageBackend(properties));
+        fileStorageService.init();
+    }
+
+    @Test
+    void stageStream_shouldWriteContentWithSizeHashAndDetectedType() throws Exception {
+        // Act
+        StoredFile stored = store(PDF, "cv.pdf");
+
+        // Assert — le fichier est rangé sous son SHA-256, dans le répertoire ab/cd/
+        String expectedSha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(PDF));
+        assertThat(stored.sha256()).isEqualTo(expectedSha256);
+        assertThat(stored.filename()).isEqualTo(
+                expectedSha256.substring(0, 2) + "/" + expectedSha256.substring(2, 4) + "/" + expectedSha256);
+        assertThat(stored.size()).isEqualTo(PDF.length);
+        assertThat(stored.contentType()).isEqualTo("application/pdf");
+        assertThat(uploadDir.resolve(stored.filename())).hasBinaryContent(PDF);
+        assertThat(listUploadDir()).containsExactly(stored.filename());
+    }
+
+    @Test
+    void stageStream_shouldKeepOneFileForIdenticalContent() throws IOException {
+        // Act — même contenu envoyé deux fois sous deux noms différents
+        StoredFile first = store(PDF, "cv.pdf");
+        StoredFile second = store(PDF, "resume-2026.pdf");
+
+        // Assert — un seul fichier physique, pas de fichier temporaire restant
+        assertThat(second.filename()).isEqualTo(first.filename());
+        assertThat(listUploadDir()).containsExactly(first.filename());
+    }
+
+    @Test
+    void stageStream_shouldRejectContentThatIsNotAnAllowedType() throws IOException {
+        // Arrange — un exécutable renommé en .pdf
+        byte[] executable = {'M', 'Z', (byte) 0x90, 0x00, 0x03, 0x00, 0x00, 0x00};
+
+        // Act & Assert
+        assertThatThrownBy(() -> fileStorageService.stageStream(new ByteArrayInputStream(executable), "cv.pdf"))
+                .isInstanceOf(InvalidFileException.class);
+
+        // Ni fichier final, ni fichier temporaire
+        assertThat(listUploadDir()).isEmpty();
+    }
+
+    @Test
+    void stageStream_shouldStopAndCleanUpWhenContentExceedsMaximumSize() throws IOException {
+        // Arrange — en-tête PDF valide suivi de 10 MB
+        InputStream oversized = new SequenceInputStream(
+                new ByteArrayInputStream(PDF), new ByteArrayInputStream(new byte[10 * 1024 * 1024]));
+
+        // Act & Assert
+        assertThatThrownBy(() -> fileStorageService.stageStream(oversized, "cv.pdf"))
+                .isInstanceOf(InvalidFileException.class)
+                .hasMessageContaining("10MB");
+
+        assertThat(listUploadDir()).isEmpty();
+    }
+
+    @Test
+    void stageStream_shouldRejectPathTraversalInFilename() {
+        // Act & Assert
+        assertThatThrownBy(() -> fileStorageService.stageStream(new ByteArrayInputStream(PDF), "../../etc/cv.pdf"))
+                .isInstanceOf(InvalidFileException.class);
+    }
+
+    @Test
+    void stageStream_shouldAcceptMp4ButNotOtherIsoMediaFiles() {
+        // Arrange — même conteneur ISO (boîte ftyp), marques majeures différentes
+        byte[] mp4 = isoMedia("isom");
+        byte[] heic = isoMedia("heic");
+        byte[] quickTime = isoMedia("qt  ");
+
+        // Act & Assert
+        assertThat(store(mp4, "clip.mp4").contentType()).isEqualTo("video/mp4");
+        assertThatThrownBy(() -> fileStorageService.stageStream(new ByteArrayInputStream(heic), "photo.mp4"))
+                .isInstanceOf(InvalidFileException.class);
+        assertThatThrownBy(() -> fileStorageService.stageStream(new ByteArrayInputStream(quickTime), "movie.mp4"))
+                .isInstanceOf(InvalidFileException.class);
+    }
+
+    @Test
+    void stageStream_shouldKeepContentOutOfStorageUntilPublished() throws IOException {
+        // Act — préparé, puis fermé sans publication (ligne du blob non écrite)
+        StoredFile stored;
+        try (StagedFile stagedFile = fileStorageService.stageStream(new ByteArrayInputStream(PDF), "cv.pdf")) {
+            stored = stagedFile.storedFile();
+            assertThat(fileStorageService.exists(stored.filename())).isFalse();
+        }
+
+        // Assert — le fichier temporaire est supprimé à la fermeture
+        assertThat(listUploadDir()).isEmpty();
+    }
+
+    @Test
+    void moveToShard_shouldMoveLegacyFileAndKeepFlatNameReadable() throws IOException {
+        // Arrange — fichier envoyé avant le partitionnement, à la racine
+        String legacyName = "7_0f8fad5b_cv.pdf";
+        Files.write(uploadDir.resolve(legacyName), PDF);
+
+        // Act
+        String shardedName = fileStorageService.moveToShard(legacyName);
+
+        // Assert — déplacé sous ab/cd/, et l'ancien nom (encore en base) se lit toujours
+        assertThat(shardedName).matches("[0-9a-f]{2}/[0-9a-f]{2}/" + legacyName);
+        assertThat(listUploadDir()).containsExactly(shardedName);
+        assertThat(fileStorageService.locate(legacyName)).isEqualTo(shardedName);
+        assertThat(uploadDir.resolve(shardedName)).hasBinaryContent(PDF);
+
+        // Une seconde passe (migration interrompue puis relancée) ne change rien
+        assertThat(fileStorageService.moveToShard(legacyName)).isEqualTo(shardedName);
+    }
+
+    // Boîte ftyp de 24 octets : taille, type, marque majeure, version mineure, une marque compatible
+    private static byte[] isoMedia(String majorBrand) {
+        byte[] box = new byte[24];
+        box[3] = 24;
+        System.arraycopy("ftyp".getBytes(StandardCharsets.US_ASCII), 0, box, 4, 4);
+        System.arraycopy(majorBrand.getBytes(StandardCharsets.US_ASCII), 0, box, 8, 4);
+        System.arraycopy(majorBrand.getBytes(StandardCharsets.US_ASCII), 0, box, 16, 4);
+        return box;
+    }
+
+    // Préparé puis publié sous son SHA-256, comme le fait DocumentServiceImpl pour un nouveau blob
+    private StoredFile store(byte[] content, String filename) {
+        try (StagedFile stagedFile = fileStorageService.stageStream(new ByteArrayInputStream(content), filename)) {
+            stagedFile.publish(stagedFile.storedFile().filename());
+            return stagedFile.storedFile();
+        }
+    }
+
+    // Fichiers réguliers, en chemins relatifs au répertoire d'upload
+    private List<String> listUploadDir() throws IOException {
+        try (Stream<Path> files = Files.walk(uploadDir)) {
+            return files.filter(Files::isRegularFile)
+                    .map(path -> uploadDir.relativize(path).toString())
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.tracker.job_application_tracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Tests unitaires de la roue temporelle hiérarchique (HierarchicalTimingWheel).
+ *
+ * Horloge simulée (millisecondes passées en paramètre) : on vérifie que chaque timer
+ * expire à son tick, y compris ceux rangés dans les niveaux supérieurs, et qu'un timer
+ * annulé ou déplacé n'expire pas à son ancienne date.
+ */
+class HierarchicalTimingWheelTest {
+
+    // Ticks de 1 s, 10 cases : niveaux de 10 s, 100 s, 1000 s...
+    private static final long TICK = 1000;
+    private static final int WHEEL_SIZE = 10;
+
+    private final HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, 0);
+
+    @Test
+    void advanceTo_shouldFireEachTimerAtItsTickAcrossLevels() {
+        // Arrange — niveau 0, niveau 1 et niveau 3
+        wheel.schedule("soon", 3_500);
+        wheel.schedule("minute", 42_000);
+        wheel.schedule("hour", 3_600_000);
+
+        // Act & Assert
+        assertThat(wheel.advanceTo(2_999)).isEmpty();
+        assertThat(wheel.advanceTo(3_000)).containsExactly("soon");
+        assertThat(wheel.advanceTo(41_999)).isEmpty();
+        assertThat(wheel.advanceTo(42_000)).containsExactly("minute");
+        assertThat(wheel.advanceTo(3_599_999)).isEmpty();
+        assertThat(wheel.advanceTo(3_600_000)).containsExactly("hour");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cancelAndReschedule_shouldOnlyFireTheLatestTimer() {
+        // Arrange
+        wheel.schedule("cancelled", 5_000);
+        wheel.schedule("moved", 5_000);
+        wheel.schedule("moved", 250_000);
+
+        // Act
+        boolean cancelled = wheel.cancel("cancelled");
+
+        // Assert
+        assertThat(cancelled).isTrue();
+        assertThat(wheel.cancel("unknown")).isFalse();
+        assertThat(wheel.advanceTo(249_999)).isEmpty();
+        assertThat(wheel.advanceTo(250_000)).containsExactly("moved");
+    }
+
+    @Test
+    void schedule_shouldFirePastTimersOnNextAdvance() {
+        // Arrange — horloge déjà avancée
+        wheel.advanceTo(10_000);
+
+        // Act
+        wheel.schedule("missed", 2_000);
+
+        // Assert
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advanceTo(10_000)).containsExactly("missed");
+    }
+
+    @Test
+    void advanceTo_shouldFireManyRandomTimersNeitherEarlyNorLate() {
+        // Arrange — 5000 timers sur ~3 heures, horloge avancée par pas irréguliers
+        Random random = new Random(7);
+        long[] expirations = new long[5_000];
+        for (int i = 0; i < expirations.length; i++) {
+            expirations[i] = 1 + random.nextInt(10_000_000);
+            wheel.schedule("t" + i, expirations[i]);
+        }
+
+        // Act
+        List<String> fired = new ArrayList<>();
+        long now = 0;
+        while (now < 10_001_000) {
+            now += 1 + random.nextInt(20_000);
+            for (String key : wheel.advanceTo(now)) {
+                long expiration = expirations[Integer.parseInt(key.substring(1))];
+                // Précision d'un tick : jamais plus d'un tick en avance, jamais après l'appel qui l'atteint
+                assertThat(expiration).isLessThan(now + TICK);
+                fired.add(key);
+            }
+        }
+
+        // Assert
+        assertThat(fired).hasSize(expirations.length).doesNotHaveDuplicates();
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,172 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.dto.InterviewPrepStatsDTO;
+import com.tracker.job_application_tracker.enums.ChallengeStatus;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.repository.CodingChallengeRepository;
+import com.tracker.job_application_tracker.repository.FlashCardRepository;
+import com.tracker.job_application_tracker.repository.SkillRepository;
+import com.tracker.job_application_tracker.repository.StudySessionRepository;
+import com.tracker.job_application_tracker.service.impl.InterviewPrepStatsServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/*
+ * Tests unitaires de InterviewPrepStatsServiceImpl.
+ *
+ * Les 4 agrégats SQL sont mockés : on vérifie l'assemblage du DTO
+ * (total des challenges toutes statuts confondus, valeurs par défaut
+ * quand l'utilisateur n'a aucune donnée), la propagation des erreurs
+ * levées sur les threads virtuels et le plafond de requêtes simultanées
+ * (une connexion du pool chacune).
+ */
+@ExtendWith(MockitoExtension.class)
+class InterviewPrepStatsServiceImplTest {
+
+    @Mock private CodingChallengeRepository codingChallengeRepository;
+    @Mock private FlashCardRepository flashCardRepository;
+    @Mock private StudySessionRepository studySessionRepository;
+    @Mock private SkillRepository skillRepository;
+
+    private InterviewPrepStatsServiceImpl statsService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statsService = new InterviewPrepStatsServiceImpl(
+                codingChallengeRepository, flashCardRepository, studySessionRepository, skillRepository, 2
+        );
+        user = new User("thomas@example.com", "hashed", "Thomas", "Bulens");
+        user.setId(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statsService.shutdown();
+    }
+
+    @Test
+    void getStats_shouldAssembleAllAggregates() {
+        // Arrange
+        when(codingChallengeRepository.countByStatusForUser(1L)).thenReturn(List.of(
+                statusCount(ChallengeStatus.TODO, 4),
+                statusCount(ChallengeStatus.COMPLETED, 3),
+                statusCount(ChallengeStatus.REVIEW, 1)
+        ));
+        when(flashCardRepository.countReviewsForUser(eq(1L), any())).thenReturn(reviewCounts(50, 7));
+        when(studySessionRepository.sumDurationMinutes(eq(1L), any(), any())).thenReturn(135L);
+        when(skillRepository.averageLevel(1L)).thenReturn(2.5);
+
+        // Act
+        InterviewPrepStatsDTO stats = statsService.getStats(user);
+
+        // Assert
+        assertThat(stats.getChallengesTotal()).isEqualTo(8L);
+        assertThat(stats.getChallengesCompleted()).isEqualTo(3L);
+        assertThat(stats.getTotalFlashCards()).isEqualTo(50L);
+        assertThat(stats.getCardsReviewedToday()).isEqualTo(7L);
+        assertThat(stats.getTotalStudyTimeThisWeek()).isEqualTo(135);
+        assertThat(stats.getAverageSkillLevel()).isEqualTo(2.5);
+    }
+
+    @Test
+    void getStats_shouldReturnZerosForUserWithoutData() {
+        // Arrange — AVG renvoie NULL quand il n'y a aucune compétence
+        when(codingChallengeRepository.countByStatusForUser(1L)).thenReturn(List.of());
+        when(flashCardRepository.countReviewsForUser(eq(1L), any())).thenReturn(reviewCounts(0, 0));
+        when(studySessionRepository.sumDurationMinutes(eq(1L), any(), any())).thenReturn(0L);
+        when(skillRepository.averageLevel(1L)).thenReturn(null);
+
+        // Act
+        InterviewPrepStatsDTO stats = statsService.getStats(user);
+
+        // Assert
+        assertThat(stats.getChallengesTotal()).isZero();
+        assertThat(stats.getChallengesCompleted()).isZero();
+        assertThat(stats.getAverageSkillLevel()).isZero();
+    }
+
+    @Test
+    void getStats_shouldRethrowQueryFailure() {
+        // Arrange
+        when(codingChallengeRepository.countByStatusForUser(1L)).thenThrow(new IllegalStateException("DB down"));
+        when(flashCardRepository.countReviewsForUser(eq(1L), any())).thenReturn(reviewCounts(0, 0));
+        when(studySessionRepository.sumDurationMinutes(eq(1L), any(), any())).thenReturn(0L);
+        when(skillRepository.averageLevel(1L)).thenReturn(null);
+
+        // Act & Assert — l'exception d'origine, pas une CompletionException
+        assertThatThrownBy(() -> statsService.getStats(user))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("DB down");
+    }
+
+    @Test
+    void getStats_shouldRunAtMostQueryConcurrencyQueriesAtOnce() {
+        // Arrange — chaque requête dure 50 ms et note combien tournent en même temps (plafond : 2)
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(codingChallengeRepository.countByStatusForUser(1L))
+                .thenAnswer(invocation -> slowQuery(running, maxRunning, List.of()));
+        when(flashCardRepository.countReviewsForUser(eq(1L), any()))
+                .thenAnswer(invocation -> slowQuery(running, maxRunning, reviewCounts(0, 0)));
+        when(studySessionRepository.sumDurationMinutes(eq(1L), any(), any()))
+                .thenAnswer(invocation -> slowQuery(running, maxRunning, 0L));
+        when(skillRepository.averageLevel(1L))
+                .thenAnswer(invocation -> slowQuery(running, maxRunning, null));
+
+        // Act
+        statsService.getStats(user);
+
+        // Assert
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    private static <T> T slowQuery(AtomicInteger running, AtomicInteger maxRunning, T result)
+            throws InterruptedException {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        Thread.sleep(50);
+        running.decrementAndGet();
+        return result;
+    }
+
+    private static CodingChallengeRepository.StatusCount statusCount(ChallengeStatus status, long total) {
+        return new CodingChallengeRepository.StatusCount() {
+            @Override
+            public ChallengeStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+
+    private static FlashCardRepository.ReviewCounts reviewCounts(long total, long reviewedSince) {
+        return new FlashCardRepository.ReviewCounts() {
+            @Override
+            public long getTotal() {
+                return total;
+            }
+
+            @Override
+            public long getReviewedSince() {
+                return reviewedSince;
+            }
+        };
+    }
+}
@@ -0,0 +1,170 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.dto.CreateApplicationRequest;
+import com.tracker.job_application_tracker.dto.InterviewDTO;
+import com.tracker.job_application_tracker.dto.InterviewRequest;
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+import com.tracker.job_application_tracker.exception.ResourceNotFoundException;
+import com.tracker.job_application_tracker.model.EmailOutbox;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.repository.EmailOutboxRepository;
+import com.tracker.job_application_tracker.repository.InterviewRepository;
+import com.tracker.job_application_tracker.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/*
+ * Test d'intégration des entretiens et de leurs rappels (InterviewService, H2).
+ *
+ * On vérifie :
+ *   1. le cloisonnement : un entretien d'un autre utilisateur répond comme s'il n'existait pas (404) ;
+ *   2. le rappel « une seule fois » : markReminderSent ne laisse qu'un envoi, même si deux nœuds
+ *      (ou deux passages) reçoivent le même entretien de leur roue ;
+ *   3. qu'un entretien déplacé ou supprimé après être entré dans la roue n'est pas rappelé.
+ *
+ * Les emails sont comptés dans l'outbox (email_outbox), où sendReminders les dépose.
+ * Délai de rappel par défaut : 24 h avant l'entretien (interview.reminder.lead).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class InterviewServiceTest {
+
+    @Autowired private InterviewService interviewService;
+    @Autowired private ApplicationService applicationService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private InterviewRepository interviewRepository;
+    @Autowired private EmailOutboxRepository emailOutboxRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private User owner;
+    private User intruder;
+    private Long ownerApplication;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User("interview-owner@example.com", "hashed", "Owner", "User"));
+        intruder = userRepository.save(new User("interview-intruder@example.com", "hashed", "Intruder", "User"));
+        ownerApplication = applicationService.createApplication(owner, new CreateApplicationRequest(
+                "Acme", "Developer", LocalDate.now(), ApplicationStatus.INTERVIEW, null)).getId();
+    }
+
+    // =========================================================
+    // Cloisonnement
+    // =========================================================
+
+    @Test
+    void interviews_shouldBeInvisibleToAnotherUser() {
+        // Arrange
+        InterviewDTO interview = interviewService.createInterview(owner, ownerApplication, request(LocalDateTime.now().plusDays(3)));
+        Long intruderApplication = applicationService.createApplication(intruder, new CreateApplicationRequest(
+                "Initech", "Developer", LocalDate.now(), ApplicationStatus.SENT, null)).getId();
+        Long interviewId = interview.getId();
+
+        // Act & Assert — lecture : liste vide, comme une candidature sans entretien
+        assertThat(interviewService.getInterviews(intruder, ownerApplication)).isEmpty();
+
+        // Act & Assert — écriture : 404, y compris sous la propre candidature de l'intrus
+        assertThatThrownBy(() -> interviewService.createInterview(intruder, ownerApplication, request(LocalDateTime.now().plusDays(1))))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> interviewService.updateInterview(intruder, ownerApplication, interviewId, request(LocalDateTime.now().plusDays(5))))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> interviewService.updateInterview(intruder, intruderApplication, interviewId, request(LocalDateTime.now().plusDays(5))))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> interviewService.deleteInterview(intruder, ownerApplication, interviewId))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> interviewService.deleteInterview(intruder, intruderApplication, interviewId))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        // Assert — l'entretien du propriétaire est intact
+        assertThat(interviewService.getInterviews(owner, ownerApplication))
+                .extracting(InterviewDTO::getId, InterviewDTO::getScheduledAt)
+                .containsExactly(tuple(interviewId, interview.getScheduledAt()));
+    }
+
+    // =========================================================
+    // Rappels
+    // =========================================================
+
+    @Test
+    void sendReminders_shouldQueueOneEmailWhenTwoNodesFireTheSameReminder() {
+        // Arrange — entretien dans 23 h : le rappel (24 h avant) est dû
+        Long interviewId = interviewService.createInterview(
+                owner, ownerApplication, request(LocalDateTime.now().plusHours(23))).getId();
+
+        // Act — la même roue sur deux nœuds : le second passage trouve le rappel déjà réclamé
+        int firstNode = interviewService.sendReminders(List.of(interviewId));
+        int secondNode = interviewService.sendReminders(List.of(interviewId));
+
+        // Assert
+        assertThat(firstNode).isEqualTo(1);
+        assertThat(secondNode).isZero();
+        assertThat(reminderEmails()).hasSize(1);
+
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(interviewRepository.findById(interviewId).orElseThrow().getReminderSentAt()).isNotNull();
+    }
+
+    @Test
+    void sendReminders_shouldSkipInterviewMovedAfterBeingWheeled() {
+        // Arrange — le rappel est dans la roue, puis l'entretien est repoussé de trois jours
+        Long interviewId = interviewService.createInterview(
+                owner, ownerApplication, request(LocalDateTime.now().plusHours(23))).getId();
+        interviewService.updateInterview(owner, ownerApplication, interviewId, request(LocalDateTime.now().plusDays(3)));
+
+        // Act — l'ancien minuteur se déclenche quand même (nœud qui n'a pas vu le déplacement)
+        int sent = interviewService.sendReminders(List.of(interviewId));
+
+        // Assert — la ligne fait foi : pas de rappel, et il reste à envoyer pour la nouvelle date
+        assertThat(sent).isZero();
+        assertThat(reminderEmails()).isEmpty();
+
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(interviewRepository.findById(interviewId).orElseThrow().getReminderSentAt()).isNull();
+    }
+
+    @Test
+    void sendReminders_shouldSkipInterviewDeletedAfterBeingWheeled() {
+        // Arrange
+        Long interviewId = interviewService.createInterview(
+                owner, ownerApplication, request(LocalDateTime.now().plusHours(23))).getId();
+        interviewService.deleteInterview(owner, ownerApplication, interviewId);
+        entityManager.flush();
+
+        // Act
+        int sent = interviewService.sendReminders(List.of(interviewId));
+
+        // Assert
+        assertThat(sent).isZero();
+        assertThat(reminderEmails()).isEmpty();
+    }
+
+    private List<EmailOutbox> reminderEmails() {
+        return emailOutboxRepository.findAll().stream()
+                .filter(email -> email.getRecipient().equals(owner.getEmail()))
+                .filter(email -> email.getSubject().startsWith("Interview reminder"))
+                .toList();
+    }
+
+    private static InterviewRequest request(LocalDateTime scheduledAt) {
+        return new InterviewRequest(scheduledAt, "Paris", null);
+    }
+}
@@ -0,0 +1,92 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ * Tests unitaires du JwtService : émission, vérification et rotation des clés (kid).
+ */
+class JwtServiceTest {
+
+    private static final String OLD_SECRET = "old-secret-key-for-unit-tests-only-0123456789abcdef";
+    private static final String NEW_SECRET = "new-secret-key-for-unit-tests-only-0123456789abcdef";
+
+    @Test
+    void generateToken_shouldBeVerifiedAndCarryTheActiveKeyId() {
+        // Arrange
+        JwtService jwtService = new JwtService(properties(NEW_SECRET, "2026-10", Map.of()));
+
+        // Act
+        String token = jwtService.generateToken("thomas@example.com");
+        Claims claims = jwtService.parseToken(token);
+
+        // Assert
+        assertThat(claims.getSubject()).isEqualTo("thomas@example.com");
+        assertThat(jwtService.validateToken(token, "thomas@example.com")).isTrue();
+        assertThat(Jwts.parser().verifyWith(key(NEW_SECRET)).build().parseSignedClaims(token).getHeader().getKeyId())
+                .isEqualTo("2026-10");
+    }
+
+    @Test
+    void parseToken_shouldAcceptTokensSignedWithARetiredKey() {
+        // Arrange — token émis avant la rotation
+        JwtService before = new JwtService(properties(OLD_SECRET, "2026-09", Map.of()));
+        String token = before.generateToken("thomas@example.com");
+
+        JwtService after = new JwtService(properties(NEW_SECRET, "2026-10", Map.of("2026-09", OLD_SECRET)));
+
+        // Act & Assert
+        assertThat(after.parseToken(token).getSubject()).isEqualTo("thomas@example.com");
+    }
+
+    @Test
+    void parseToken_shouldAcceptLegacyTokensWithoutKeyId() {
+        // Arrange — token émis avant l'introduction du header kid
+        String token = Jwts.builder()
+                .subject("thomas@example.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key(NEW_SECRET))
+                .compact();
+        JwtService jwtService = new JwtService(properties(NEW_SECRET, "2026-10", Map.of()));
+
+        // Act & Assert
+        assertThat(jwtService.parseToken(token).getSubject()).isEqualTo("thomas@example.com");
+    }
+
+    @Test
+    void parseToken_shouldRejectUnknownKeyId() {
+        // Arrange — la clé 2026-09 a été retirée du trousseau
+        JwtService before = new JwtService(properties(OLD_SECRET, "2026-09", Map.of()));
+        String token = before.generateToken("thomas@example.com");
+
+        JwtService after = new JwtService(properties(NEW_SECRET, "2026-10", Map.of()));
+
+        // Act & Assert
+        assertThatThrownBy(() -> after.parseToken(token)).isInstanceOf(JwtException.class);
+    }
+
+    private static JwtProperties properties(String secret, String keyId, Map<String, String> retiredKeys) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(secret);
+        properties.setKeyId(keyId);
+        properties.setExpiration(3600000);
+        properties.setRetiredKeys(retiredKeys);
+        return properties;
+    }
+
+    private static SecretKey key(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+}
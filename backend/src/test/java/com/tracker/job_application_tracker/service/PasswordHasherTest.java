@@ -0,0 +1,127 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.config.SecurityConfig;
+import com.tracker.job_application_tracker.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ * Tests unitaires du pool de hachage des mots de passe (PasswordHasher).
+ *
+ * Encodeur réel (coût BCrypt minimal) pour le format des hachages et leur mise à niveau ;
+ * encodeur bloquant pour saturer le pool : au-delà des threads et de la file, ou après
+ * le délai d'attente, l'appel échoue tout de suite (503) au lieu d'attendre.
+ */
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    void encodeAndMatches_shouldUseThePrefixedBcryptFormat() {
+        // Arrange
+        passwordHasher = hasher(SecurityConfig.delegatingPasswordEncoder(5), 2, 4, Duration.ofSeconds(5));
+
+        // Act
+        String hash = passwordHasher.encode("s3cret!");
+
+        // Assert
+        assertThat(hash).startsWith("{bcrypt}$2a$05$");
+        assertThat(passwordHasher.matches("s3cret!", hash)).isTrue();
+        assertThat(passwordHasher.matches("wrong", hash)).isFalse();
+        assertThat(passwordHasher.upgradeEncoding(hash)).isFalse();
+    }
+
+    @Test
+    void upgradeEncoding_shouldFlagLegacyAndWeakerHashes() {
+        // Arrange — hachage d'avant le préfixe {id}, et hachage préfixé d'un coût inférieur
+        passwordHasher = hasher(SecurityConfig.delegatingPasswordEncoder(5), 1, 1, Duration.ofSeconds(5));
+        String legacy = new BCryptPasswordEncoder(5).encode("s3cret!");
+        String weaker = SecurityConfig.delegatingPasswordEncoder(4).encode("s3cret!");
+
+        // Act & Assert — les anciens hachages restent valides
+        assertThat(passwordHasher.matches("s3cret!", legacy)).isTrue();
+        assertThat(passwordHasher.upgradeEncoding(legacy)).isTrue();
+        assertThat(passwordHasher.matches("s3cret!", weaker)).isTrue();
+        assertThat(passwordHasher.upgradeEncoding(weaker)).isTrue();
+    }
+
+    @Test
+    void encode_shouldFailFastWhenThreadsAndQueueAreFull() throws InterruptedException {
+        // Arrange — 1 thread occupé, 1 place en file occupée
+        CountDownLatch started = new CountDownLatch(1);
+        passwordHasher = hasher(blockingEncoder(started), 1, 1, Duration.ofSeconds(5));
+        Thread.ofVirtual().start(() -> passwordHasher.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.ofVirtual().start(() -> passwordHasher.encode("queued"));
+        waitForQueuedTasks(1);
+
+        // Act & Assert
+        assertThatThrownBy(() -> passwordHasher.encode("rejected"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(meterRegistry.counter("password.hashing.rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    void encode_shouldGiveUpAfterTheTimeout() {
+        // Arrange — le hachage ne se termine jamais pendant le test
+        passwordHasher = hasher(blockingEncoder(new CountDownLatch(1)), 1, 1, Duration.ofMillis(100));
+
+        // Act & Assert
+        assertThatThrownBy(() -> passwordHasher.encode("slow"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(meterRegistry.counter("password.hashing.rejected").count()).isEqualTo(1);
+    }
+
+    private PasswordHasher hasher(PasswordEncoder encoder, int threads, int queueCapacity, Duration timeout) {
+        return new PasswordHasher(encoder, meterRegistry, threads, queueCapacity, timeout);
+    }
+
+    /*
+     * Encodeur qui signale son démarrage puis attend la fin du test
+     */
+    private PasswordEncoder blockingEncoder(CountDownLatch started) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+    }
+
+    private void waitForQueuedTasks(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge().value() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
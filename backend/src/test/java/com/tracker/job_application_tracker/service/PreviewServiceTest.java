@@ -0,0 +1,146 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.config.FileStorageProperties;
+import com.tracker.job_application_tracker.service.impl.LocalStorageBackend;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Tests de la génération des aperçus (PreviewService) sur un vrai répertoire de stockage.
+ *
+ * On vérifie qu'une image et un PDF produisent un PNG d'au plus 320 px de large,
+ * rangé à côté du fichier, et qu'un type sans aperçu ne produit rien. Un PDF sur un
+ * stockage distant passe par un fichier temporaire, supprimé une fois l'aperçu rendu.
+ */
+class PreviewServiceTest {
+
+    @TempDir
+    private Path uploadDir;
+
+    private LocalStorageBackend storageBackend;
+    private PreviewService previewService;
+
+    @BeforeEach
+    void setUp() {
+        storageBackend = new LocalStorageBackend(properties());
+        previewService = new PreviewService(properties(), storageBackend);
+    }
+
+    @AfterEach
+    void tearDown() {
+        previewService.shutdown();
+    }
+
+    @Test
+    void generate_shouldDownscaleLargeImage() throws IOException {
+        // Arrange — photo 2560x1280 stockée sous sa clé
+        BufferedImage photo = new BufferedImage(2560, 1280, BufferedImage.TYPE_INT_RGB);
+        Path source = uploadDir.resolve("photo.png");
+        ImageIO.write(photo, "png", source.toFile());
+        storageBackend.store("ab/cd/photo", source, "image/png");
+
+        // Act
+        boolean generated = previewService.generate("ab/cd/photo", "image/png");
+
+        // Assert — même ratio, 320 px de large
+        BufferedImage preview = readPreview("ab/cd/photo");
+        assertThat(generated).isTrue();
+        assertThat(preview.getWidth()).isEqualTo(320);
+        assertThat(preview.getHeight()).isEqualTo(160);
+    }
+
+    @Test
+    void generate_shouldRenderFirstPdfPage() throws IOException {
+        // Arrange — PDF d'une page blanche (format Letter)
+        Path source = uploadDir.resolve("cv.pdf");
+        try (PDDocument document = new PDDocument()) {
+            document.addPage(new PDPage());
+            document.save(source.toFile());
+        }
+        storageBackend.store("ef/01/cv", source, "application/pdf");
+
+        // Act
+        boolean generated = previewService.generate("ef/01/cv", "application/pdf");
+
+        // Assert
+        BufferedImage preview = readPreview("ef/01/cv");
+        assertThat(generated).isTrue();
+        assertThat(preview.getWidth()).isLessThanOrEqualTo(320);
+        assertThat(preview.getHeight()).isGreaterThan(preview.getWidth());
+    }
+
+    @Test
+    void generate_shouldRenderRemotePdfThroughAScratchFile() throws IOException {
+        // Arrange — même stockage, sans chemin local : comme S3, le contenu n'est lisible que par open()
+        LocalStorageBackend remoteBackend = new LocalStorageBackend(properties()) {
+            @Override
+            public Optional<Path> localPath(String key) {
+                return Optional.empty();
+            }
+        };
+        PreviewService remotePreviewService = new PreviewService(properties(), remoteBackend);
+        Path source = uploadDir.resolve("cv.pdf");
+        try (PDDocument document = new PDDocument()) {
+            document.addPage(new PDPage());
+            document.save(source.toFile());
+        }
+        storageBackend.store("ef/02/cv", source, "application/pdf");
+
+        try {
+            // Act
+            boolean generated = remotePreviewService.generate("ef/02/cv", "application/pdf");
+
+            // Assert — aperçu rendu, aucun fichier temporaire laissé derrière
+            assertThat(generated).isTrue();
+            assertThat(readPreview("ef/02/cv").getWidth()).isLessThanOrEqualTo(320);
+            try (Stream<Path> files = Files.list(uploadDir)) {
+                assertThat(files.map(path -> path.getFileName().toString()))
+                        .noneMatch(name -> name.startsWith(".preview-"));
+            }
+        } finally {
+            remotePreviewService.shutdown();
+        }
+    }
+
+    @Test
+    void generateAfterCommit_shouldIgnoreTypeWithoutPreview() throws IOException {
+        // Arrange
+        Path source = uploadDir.resolve("letter.docx");
+        Files.writeString(source, "not an image");
+        storageBackend.store("12/34/letter", source, "application/msword");
+
+        // Act — hors transaction : soumis immédiatement s'il était pris en charge
+        previewService.generateAfterCommit("12/34/letter", "application/msword");
+
+        // Assert
+        assertThat(PreviewService.supports("application/msword")).isFalse();
+        assertThat(storageBackend.exists(FileStorageService.previewName("12/34/letter"))).isFalse();
+    }
+
+    private FileStorageProperties properties() {
+        FileStorageProperties properties = new FileStorageProperties();
+        properties.setUploadDir(uploadDir.toString());
+        return properties;
+    }
+
+    private BufferedImage readPreview(String key) throws IOException {
+        try (InputStream content = storageBackend.open(FileStorageService.previewName(key))) {
+            return ImageIO.read(content);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.config.FileStorageProperties;
+import com.tracker.job_application_tracker.service.impl.S3StorageBackend;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.minio.MinIOContainer;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Tests du backend S3 contre un vrai MinIO (Testcontainers).
+ *
+ * On vérifie l'upload simple et l'upload multipart (parties envoyées en parallèle),
+ * la relecture en streaming, le renommage et le téléchargement par URL présignée.
+ * Ignoré automatiquement si Docker n'est pas disponible.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3StorageBackendTest {
+
+    private static final String BUCKET = "documents";
+    private static final long PART_SIZE = 5 * 1024 * 1024;
+
+    @Container
+    static MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z");
+
+    private static S3StorageBackend backend;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeAll
+    static void setUp() {
+        try (S3Client admin = S3Client.builder()
+                .endpointOverride(URI.create(minio.getS3URL()))
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(minio.getUserName(), minio.getPassword())))
+                .forcePathStyle(true)
+                .build()) {
+            admin.createBucket(request -> request.bucket(BUCKET));
+        }
+
+        FileStorageProperties properties = new FileStorageProperties();
+        properties.setBackend("s3");
+        properties.getS3().setEndpoint(minio.getS3URL());
+        properties.getS3().setBucket(BUCKET);
+        properties.getS3().setAccessKey(minio.getUserName());
+        properties.getS3().setSecretKey(minio.getPassword());
+        properties.getS3().setPartSize(PART_SIZE);
+        backend = new S3StorageBackend(properties);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        backend.close();
+    }
+
+    @Test
+    void store_shouldUploadSmallFileInOneRequest() throws Exception {
+        // Arrange
+        byte[] content = randomBytes(1024);
+        Path source = Files.write(tempDir.resolve("small.part"), content);
+
+        // Act
+        backend.store("ab/cd/small", source, "application/pdf");
+
+        // Assert
+        assertThat(backend.exists("ab/cd/small")).isTrue();
+        assertThat(read("ab/cd/small")).isEqualTo(content);
+    }
+
+    @Test
+    void store_shouldUploadLargeFileAsParallelMultipart() throws Exception {
+        // Arrange — 3 parties : 5 MB + 5 MB + 1 MB
+        byte[] content = randomBytes((int) (2 * PART_SIZE + 1024 * 1024));
+        Path source = Files.write(tempDir.resolve("large.part"), content);
+
+        // Act
+        backend.store("ef/01/large", source, "application/pdf");
+
+        // Assert — contenu identique, parties réassemblées dans l'ordre
+        assertThat(read("ef/01/large")).isEqualTo(content);
+    }
+
+    @Test
+    void move_shouldRenameKey() throws Exception {
+        // Arrange
+        byte[] content = randomBytes(2048);
+        backend.store("7_legacy_cv.pdf", Files.write(tempDir.resolve("legacy.part"), content), "application/pdf");
+
+        // Act
+        boolean moved = backend.move("7_legacy_cv.pdf", "12/34/7_legacy_cv.pdf");
+
+        // Assert — l'ancienne clé a disparu ; une clé absente ne se déplace pas
+        assertThat(moved).isTrue();
+        assertThat(backend.exists("7_legacy_cv.pdf")).isFalse();
+        assertThat(read("12/34/7_legacy_cv.pdf")).isEqualTo(content);
+        assertThat(backend.move("7_legacy_cv.pdf", "12/34/other")).isFalse();
+    }
+
+    @Test
+    void presignedUrl_shouldDownloadWithoutCredentials() throws Exception {
+        // Arrange
+        byte[] content = randomBytes(4096);
+        backend.store("56/78/shared", Files.write(tempDir.resolve("shared.part"), content), "application/pdf");
+
+        // Act — simple GET HTTP, comme le navigateur après la redirection
+        URI url = backend.presignedUrl("56/78/shared", "cv.pdf", "application/pdf").orElseThrow();
+        HttpResponse<byte[]> response;
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            response = client.send(HttpRequest.newBuilder(url).build(), HttpResponse.BodyHandlers.ofByteArray());
+        }
+
+        // Assert
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo(content);
+        assertThat(response.headers().firstValue("Content-Disposition")).hasValueSatisfying(
+                disposition -> assertThat(disposition).contains("attachment").contains("cv.pdf"));
+    }
+
+    private static byte[] read(String key) throws Exception {
+        try (InputStream content = backend.open(key)) {
+            return content.readAllBytes();
+        }
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
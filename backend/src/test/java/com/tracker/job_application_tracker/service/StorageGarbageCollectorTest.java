@@ -0,0 +1,145 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.config.FileStorageProperties;
+import com.tracker.job_application_tracker.service.DocumentService.DanglingScan;
+import com.tracker.job_application_tracker.service.impl.LocalStorageBackend;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+ * Tests unitaires du ramasse-miettes du stockage (StorageGarbageCollector).
+ *
+ * Service documents simulé, fichiers réels (répertoire temporaire) : seul un fichier ancien,
+ * référencé par aucune ligne, est supprimé avec son aperçu ; les fichiers référencés, récents
+ * ou en cours d'upload restent, comme ceux qu'une ligne référence de nouveau au moment
+ * de la suppression.
+ */
+@ExtendWith(MockitoExtension.class)
+class StorageGarbageCollectorTest {
+
+    private static final Instant TWO_HOURS_AGO = Instant.now().minus(Duration.ofHours(2));
+
+    @TempDir
+    private Path uploadDir;
+
+    @Mock
+    private DocumentService documentService;
+
+    private LocalStorageBackend storageBackend;
+    private FileStorageService fileStorageService;
+    private SimpleMeterRegistry meterRegistry;
+    private StorageGarbageCollector storageGarbageCollector;
+
+    @BeforeEach
+    void setUp() {
+        FileStorageProperties properties = new FileStorageProperties();
+        properties.setUploadDir(uploadDir.toString());
+        properties.getGc().setDeletesPerSecond(1000);
+        storageBackend = new LocalStorageBackend(properties);
+        meterRegistry = new SimpleMeterRegistry();
+        fileStorageService = new FileStorageService(properties, storageBackend);
+
+        storageGarbageCollector = new StorageGarbageCollector(
+                documentService,
+                fileStorageService,
+                properties,
+                meterRegistry
+        );
+    }
+
+    @Test
+    void deleteOrphans_shouldOnlyDeleteOldUnreferencedFiles() throws IOException {
+        // Arrange — un fichier orphelin (et son aperçu), un fichier référencé, un récent, un upload en cours
+        store("ab/cd/orphan", TWO_HOURS_AGO);
+        store("ab/cd/orphan.preview.png", TWO_HOURS_AGO);
+        store("ef/01/used", TWO_HOURS_AGO);
+        store("ef/01/used.preview.png", TWO_HOURS_AGO);
+        store("12/34/fresh", Instant.now());
+        store(".chunked-42.part", TWO_HOURS_AGO);
+        when(documentService.findReferencedFilenames(any())).thenReturn(Set.of("ef/01/used"));
+        when(documentService.deleteKeyIfUnreferenced(any())).thenAnswer(invocation -> {
+            fileStorageService.deleteKey(invocation.getArgument(0));
+            return true;
+        });
+
+        // Act
+        storageGarbageCollector.deleteOrphans();
+
+        // Assert
+        assertThat(storageBackend.exists("ab/cd/orphan")).isFalse();
+        assertThat(storageBackend.exists("ab/cd/orphan.preview.png")).isFalse();
+        assertThat(storageBackend.exists("ef/01/used")).isTrue();
+        assertThat(storageBackend.exists("ef/01/used.preview.png")).isTrue();
+        assertThat(storageBackend.exists("12/34/fresh")).isTrue();
+        assertThat(storageBackend.exists(".chunked-42.part")).isTrue();
+        assertThat(meterRegistry.counter("storage.gc.orphans.deleted").count()).isEqualTo(2);
+    }
+
+    @Test
+    void deleteOrphans_shouldKeepFileReferencedAgainBeforeItsDelete() throws IOException {
+        // Arrange — orphelin au listage, mais un upload a recréé son blob depuis
+        store("ab/cd/revived", TWO_HOURS_AGO);
+        when(documentService.findReferencedFilenames(any())).thenReturn(Set.of());
+        when(documentService.deleteKeyIfUnreferenced("ab/cd/revived")).thenReturn(false);
+
+        // Act
+        storageGarbageCollector.deleteOrphans();
+
+        // Assert
+        assertThat(storageBackend.exists("ab/cd/revived")).isTrue();
+        assertThat(meterRegistry.counter("storage.gc.orphans.deleted").count()).isZero();
+    }
+
+    @Test
+    void collect_shouldPurgeReleasedBlobsAndReportDanglingDocuments() {
+        // Arrange — un lot plein de 200 blobs puis un lot partiel ; deux lots de documents
+        when(documentService.purgeReleasedBlobs(any(), eq(200)))
+                .thenReturn(filenames(200), filenames(3));
+        when(documentService.findDanglingDocuments(eq(0L), anyInt()))
+                .thenReturn(new DanglingScan(List.of(5L), 200L));
+        when(documentService.findDanglingDocuments(eq(200L), anyInt()))
+                .thenReturn(new DanglingScan(List.of(250L, 260L), null));
+
+        // Act
+        storageGarbageCollector.collect();
+
+        // Assert
+        assertThat(meterRegistry.counter("storage.gc.blobs.deleted").count()).isEqualTo(203);
+        assertThat(meterRegistry.get("storage.gc.dangling.documents").gauge().value()).isEqualTo(3);
+        verify(documentService, times(203)).deleteFileIfUnreferenced(any());
+    }
+
+    private static List<String> filenames(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "00/00/blob-" + i).toList();
+    }
+
+    private void store(String key, Instant lastModified) throws IOException {
+        Path file = uploadDir.resolve(key);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, key);
+        Files.setLastModifiedTime(file, FileTime.from(lastModified));
+    }
+}
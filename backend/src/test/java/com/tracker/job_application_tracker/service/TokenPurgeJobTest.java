@@ -0,0 +1,81 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.model.ConfirmationToken;
+import com.tracker.job_application_tracker.model.RefreshToken;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.repository.ConfirmationTokenRepository;
+import com.tracker.job_application_tracker.repository.RefreshTokenRepository;
+import com.tracker.job_application_tracker.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Test d'intégration de la purge des jetons expirés (TokenPurgeJob).
+ *
+ * Seuls les jetons expirés depuis plus longtemps que la rétention (24 h) sont supprimés :
+ * un jeton expiré récemment (ou déjà utilisé) reste pour répondre "déjà utilisé",
+ * les jetons valides restent. Après la purge, le retard mesuré est nul.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TokenPurgeJobTest {
+
+    @Autowired private TokenPurgeJob tokenPurgeJob;
+    @Autowired private ConfirmationTokenRepository confirmationTokenRepository;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private MeterRegistry meterRegistry;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("purge@example.com", "hashed", "Purge", "User"));
+    }
+
+    @Test
+    void purge_shouldDeleteOnlyTokensExpiredBeyondRetention() {
+        // Arrange — confirmation : ancien, utilisé il y a 2 jours, expiré il y a 1 h, valide
+        LocalDateTime now = LocalDateTime.now();
+        ConfirmationToken old = confirmationToken("old", now.minusDays(3));
+        ConfirmationToken used = confirmationToken("used", now.minusDays(2));
+        used.setConfirmedAt(now.minusDays(2).minusMinutes(10));
+        ConfirmationToken recent = confirmationToken("recent", now.minusHours(1));
+        ConfirmationToken valid = confirmationToken("valid", now.plusMinutes(15));
+        confirmationTokenRepository.saveAll(List.of(old, used, recent, valid));
+
+        // refresh : expiré il y a 8 jours, valide
+        refreshTokenRepository.save(new RefreshToken("refresh-old", now.minusDays(8), user));
+        refreshTokenRepository.save(new RefreshToken("refresh-valid", now.plusDays(7), user));
+
+        // Act
+        tokenPurgeJob.purge();
+
+        // Assert
+        assertThat(confirmationTokenRepository.findAll())
+                .extracting(ConfirmationToken::getToken)
+                .containsExactlyInAnyOrder("recent", "valid");
+        assertThat(refreshTokenRepository.findAll())
+                .extracting(RefreshToken::getToken)
+                .containsExactly("refresh-valid");
+        assertThat(meterRegistry.get("token.purge.lag").tag("table", "confirmation_tokens").gauge().value())
+                .isZero();
+        assertThat(meterRegistry.get("token.purge.lag").tag("table", "refresh_tokens").gauge().value())
+                .isZero();
+    }
+
+    private ConfirmationToken confirmationToken(String token, LocalDateTime expiresAt) {
+        return new ConfirmationToken(token, expiresAt, user);
+    }
+}
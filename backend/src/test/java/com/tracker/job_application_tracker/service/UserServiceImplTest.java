@@ -0,0 +1,110 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.config.PrincipalCache;
+import com.tracker.job_application_tracker.config.SecurityConfig;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.repository.UserRepository;
+import com.tracker.job_application_tracker.service.impl.UserServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+ * Tests unitaires de la vérification du mot de passe (UserServiceImpl.verifyPassword).
+ *
+ * Hachage réel (coût BCrypt 5, pool de PasswordHasher) et repository simulé : un hachage
+ * ancien (sans préfixe {bcrypt}) ou d'un coût inférieur est remplacé après une connexion
+ * réussie, jamais après un échec ni quand il est déjà à jour.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserServiceImplTest {
+
+    private static final String PASSWORD = "s3cret!";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    private PasswordHasher passwordHasher;
+    private UserServiceImpl userService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        passwordHasher = new PasswordHasher(SecurityConfig.delegatingPasswordEncoder(5), new SimpleMeterRegistry(),
+                1, 4, Duration.ofSeconds(5));
+        userService = new UserServiceImpl(userRepository, passwordHasher, principalCache);
+
+        user = new User("login@example.com", null, "Login", "User");
+        user.setId(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    void verifyPassword_shouldRehashLegacyHashOnSuccessfulLogin() {
+        // Arrange — hachage stocké avant le préfixe {bcrypt}, à un coût inférieur
+        String legacy = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        user.setPassword(legacy);
+        when(userRepository.updatePasswordIfUnchanged(eq(1L), eq(legacy), anyString())).thenReturn(1);
+
+        // Act
+        userService.verifyPassword(user, PASSWORD);
+
+        // Assert — nouveau hachage au format et au coût courants, cache invalidé
+        ArgumentCaptor<String> newHash = ArgumentCaptor.forClass(String.class);
+        verify(userRepository).updatePasswordIfUnchanged(eq(1L), eq(legacy), newHash.capture());
+        assertThat(newHash.getValue()).startsWith("{bcrypt}$2a$05$");
+        assertThat(passwordHasher.matches(PASSWORD, newHash.getValue())).isTrue();
+        assertThat(user.getPassword()).isEqualTo(newHash.getValue());
+        verify(principalCache).evict("login@example.com");
+    }
+
+    @Test
+    void verifyPassword_shouldKeepCurrentHash() {
+        // Arrange
+        user.setPassword(passwordHasher.encode(PASSWORD));
+
+        // Act
+        userService.verifyPassword(user, PASSWORD);
+
+        // Assert
+        verify(userRepository, never()).updatePasswordIfUnchanged(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void verifyPassword_shouldRejectWrongPasswordWithoutRehash() {
+        // Arrange
+        user.setPassword(new BCryptPasswordEncoder(4).encode(PASSWORD));
+
+        // Act & Assert
+        assertThatThrownBy(() -> userService.verifyPassword(user, "wrong"))
+                .isInstanceOf(BadCredentialsException.class);
+        verify(userRepository, never()).updatePasswordIfUnchanged(anyLong(), anyString(), anyString());
+        verify(principalCache, never()).evict(any());
+    }
+}
@@ -0,0 +1,88 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+ * Tests unitaires de la reprise des lots en échec du récapitulatif hebdomadaire (WeeklyDigestJob).
+ *
+ * Dépôt et service simulés : un lot annulé est repris dans la même exécution, un utilisateur
+ * par transaction, pour la même semaine. Seul l'utilisateur qui échoue encore est perdu
+ * (compté dans digest.users.failed), les autres reçoivent leur récapitulatif.
+ */
+@ExtendWith(MockitoExtension.class)
+class WeeklyDigestJobRetryTest {
+
+    // Lundi 19 octobre 2026 : le job récapitule la semaine du 12
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 19);
+    private static final LocalDate WEEK_START = LocalDate.of(2026, 10, 12);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private WeeklyDigestService weeklyDigestService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WeeklyDigestJob weeklyDigestJob;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        weeklyDigestJob = new WeeklyDigestJob(userRepository, weeklyDigestService, meterRegistry, 2);
+    }
+
+    @Test
+    void run_shouldRetryAFailedBatchUserByUserInTheSameRun() {
+        // Arrange — un lot de trois utilisateurs échoue à cause du 2 ; seul, le 2 échoue encore
+        when(userRepository.findIdsAfter(anyLong(), any())).thenReturn(List.of(1L, 2L, 3L));
+        when(weeklyDigestService.sendDigests(List.of(1L, 2L, 3L), WEEK_START))
+                .thenThrow(new IllegalStateException("Deadlock found when trying to get lock"));
+        when(weeklyDigestService.sendDigests(List.of(1L), WEEK_START)).thenReturn(1);
+        when(weeklyDigestService.sendDigests(List.of(2L), WEEK_START))
+                .thenThrow(new IllegalStateException("Template rendering failed"));
+        when(weeklyDigestService.sendDigests(List.of(3L), WEEK_START)).thenReturn(1);
+
+        // Act
+        int queued = weeklyDigestJob.run(MONDAY);
+
+        // Assert
+        assertThat(queued).isEqualTo(2);
+        verify(weeklyDigestService).sendDigests(eq(List.of(1L)), eq(WEEK_START));
+        verify(weeklyDigestService).sendDigests(eq(List.of(3L)), eq(WEEK_START));
+        assertThat(meterRegistry.counter("digest.batches.failed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("digest.users.failed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("digest.emails.queued").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("digest.users.scanned").count()).isEqualTo(3);
+    }
+
+    @Test
+    void run_shouldNotRetryWhenEveryBatchSucceeds() {
+        // Arrange
+        when(userRepository.findIdsAfter(anyLong(), any())).thenReturn(List.of(1L, 2L));
+        when(weeklyDigestService.sendDigests(List.of(1L, 2L), WEEK_START)).thenReturn(2);
+
+        // Act
+        int queued = weeklyDigestJob.run(MONDAY);
+
+        // Assert
+        assertThat(queued).isEqualTo(2);
+        assertThat(meterRegistry.counter("digest.batches.failed").count()).isZero();
+        assertThat(meterRegistry.counter("digest.users.failed").count()).isZero();
+    }
+}
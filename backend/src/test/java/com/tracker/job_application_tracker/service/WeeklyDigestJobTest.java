@@ -0,0 +1,130 @@
+package com.tracker.job_application_tracker.service;
+
+import com.tracker.job_application_tracker.enums.ApplicationStatus;
+import com.tracker.job_application_tracker.enums.Category;
+import com.tracker.job_application_tracker.enums.Difficulty;
+import com.tracker.job_application_tracker.model.Application;
+import com.tracker.job_application_tracker.model.EmailOutbox;
+import com.tracker.job_application_tracker.model.FlashCard;
+import com.tracker.job_application_tracker.model.StatusHistory;
+import com.tracker.job_application_tracker.model.StudySession;
+import com.tracker.job_application_tracker.model.User;
+import com.tracker.job_application_tracker.repository.ApplicationRepository;
+import com.tracker.job_application_tracker.repository.EmailOutboxRepository;
+import com.tracker.job_application_tracker.repository.FlashCardRepository;
+import com.tracker.job_application_tracker.repository.StudySessionRepository;
+import com.tracker.job_application_tracker.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Test d'intégration du récapitulatif hebdomadaire (WeeklyDigestJob).
+ *
+ * Pas de @Transactional : chaque lot s'exécute dans sa propre transaction, sur un thread virtuel.
+ * On vérifie qu'un seul email est écrit dans l'outbox pour l'utilisateur actif (ni l'inactif,
+ * ni le compte désactivé), avec ses chiffres de la semaine, et qu'une seconde exécution
+ * n'en écrit aucun.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class WeeklyDigestJobTest {
+
+    // Le job récapitule la semaine précédente : exécuté la semaine prochaine, il couvre celle-ci
+    private static final LocalDate NEXT_WEEK = LocalDate.now().plusWeeks(1);
+
+    @Autowired private WeeklyDigestJob weeklyDigestJob;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ApplicationRepository applicationRepository;
+    @Autowired private StudySessionRepository studySessionRepository;
+    @Autowired private FlashCardRepository flashCardRepository;
+    @Autowired private EmailOutboxRepository emailOutboxRepository;
+
+    @AfterEach
+    void tearDown() {
+        emailOutboxRepository.deleteAll();
+        flashCardRepository.deleteAll();
+        studySessionRepository.deleteAll();
+        applicationRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void run_shouldQueueOneDigestPerActiveUserAndOnlyOnce() {
+        // Arrange — un utilisateur actif, un sans activité, un compte désactivé
+        User active = createUser("active@example.com", true);
+        createUser("idle@example.com", true);
+        User disabled = createUser("disabled@example.com", false);
+
+        createApplication(active, "Acme");
+        createApplication(active, "Globex");
+        createApplication(disabled, "Initech");
+        createStudySession(active, 45);
+        createFlashCard(active);
+
+        // Act
+        weeklyDigestJob.run(NEXT_WEEK);
+
+        // Assert
+        List<EmailOutbox> emails = emailOutboxRepository.findAll();
+        assertThat(emails)
+                .extracting(EmailOutbox::getRecipient)
+                .contains("active@example.com")
+                .doesNotContain("idle@example.com", "disabled@example.com");
+        EmailOutbox digest = emails.stream()
+                .filter(email -> email.getRecipient().equals("active@example.com"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(digest.getHtmlBody())
+                .contains("Applications sent: 2")
+                .contains("Status changes to Interview: 2")
+                .contains("Study time: 45 min")
+                .contains("Flashcards to review: 1");
+
+        // Act — seconde exécution pour la même semaine
+        int queuedAgain = weeklyDigestJob.run(NEXT_WEEK);
+
+        // Assert
+        assertThat(queuedAgain).isZero();
+        assertThat(emailOutboxRepository.count()).isEqualTo(emails.size());
+    }
+
+    private User createUser(String email, boolean enabled) {
+        User user = new User(email, "hashed", "Digest", "User");
+        user.setEnabled(enabled);
+        return userRepository.save(user);
+    }
+
+    private void createApplication(User user, String company) {
+        Application application = new Application(company, "Developer", LocalDate.now(), ApplicationStatus.INTERVIEW);
+        application.setUser(user);
+        application.addStatusHistory(new StatusHistory(application, ApplicationStatus.INTERVIEW, null));
+        applicationRepository.save(application);
+    }
+
+    private void createStudySession(User user, int minutes) {
+        StudySession session = new StudySession();
+        session.setUser(user);
+        session.setDate(LocalDate.now());
+        session.setTopic(Category.JAVA);
+        session.setDurationMinutes(minutes);
+        studySessionRepository.save(session);
+    }
+
+    private void createFlashCard(User user) {
+        FlashCard card = new FlashCard();
+        card.setUser(user);
+        card.setQuestion("What is a virtual thread?");
+        card.setAnswer("A thread scheduled by the JVM");
+        card.setCategory(Category.JAVA);
+        card.setDifficulty(Difficulty.EASY);
+        flashCardRepository.save(card);
+    }
+}
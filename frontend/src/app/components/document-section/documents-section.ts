@@ -56,14 +56,13 @@ export class DocumentsSectionComponent {
   }
 
   downloadDocument(doc: Document): void {
-    this.documentService.downloadDocument(this.applicationId, doc.id).subscribe({
-      next: (blob) => {
-        const url = window.URL.createObjectURL(blob);
+    // The browser fetches the signed URL itself: no blob held in memory
+    this.documentService.getDocumentLink(this.applicationId, doc.id).subscribe({
+      next: ({ url }) => {
         const link = document.createElement('a');
         link.href = url;
         link.download = doc.originalFilename;
         link.click();
-        window.URL.revokeObjectURL(url);
         this.showToast('Document downloaded', 'success');
       },
       error: () => this.showToast('Failed to download document', 'error'),
@@ -5,3 +5,10 @@ export interface Document {
   fileSize: number;
   uploadedAt: string;
 }
+
+export interface DocumentLink {
+  documentId: number;
+  url: string;
+  previewUrl: string | null;
+  expiresAt: string;
+}
@@ -1,7 +1,7 @@
 import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
 import { Observable } from 'rxjs';
-import { Document } from '../models/document';
+import { Document, DocumentLink } from '../models/document';
 
 @Injectable({
   providedIn: 'root',
@@ -27,6 +27,15 @@ export class DocumentService {
     });
   }
 
+  // Signed, short-lived URL: usable directly in <a href> / <img src>, no Authorization header needed
+  getDocumentLink(applicationId: number, documentId: number): Observable<DocumentLink> {
+    return this.http.get<DocumentLink>(`${this.apiUrl}/${applicationId}/documents/${documentId}/link`);
+  }
+
+  getDocumentLinks(applicationId: number): Observable<DocumentLink[]> {
+    return this.http.get<DocumentLink[]>(`${this.apiUrl}/${applicationId}/documents/links`);
+  }
+
   deleteDocument(applicationId: number, documentId: number): Observable<void> {
     return this.http.delete<void>(`${this.apiUrl}/${applicationId}/documents/${documentId}`);
   }